@@ -0,0 +1,11 @@
+package com.jobflow.job_tracker_service.exception;
+
+public class InvalidStatsRangeException extends RuntimeException {
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+
+    public InvalidStatsRangeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobflow.job_tracker_service.exception;
+
+public class PlatformStatsNotFoundException extends RuntimeException {
+    public PlatformStatsNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Locally stored exchange rate: how many units of the base currency one unit of {@code currency} costs.
+ */
+@Entity
+@Table(name = "exchange_rates")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRate {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false)
+    private Currency currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "base", nullable = false)
+    private Currency base;
+
+    @Column(name = "rate", nullable = false, precision = 19, scale = 8)
+    private BigDecimal rate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
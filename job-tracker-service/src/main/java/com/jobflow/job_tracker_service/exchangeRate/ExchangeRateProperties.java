@@ -0,0 +1,22 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "exchange-rates")
+@Getter
+@Setter
+public class ExchangeRateProperties {
+
+    private Currency base;
+
+    private Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+}
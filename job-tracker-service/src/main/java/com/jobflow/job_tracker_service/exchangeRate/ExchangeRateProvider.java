@@ -0,0 +1,16 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Source of up-to-date exchange rates, stored locally by {@link ExchangeRateService}.
+ */
+public interface ExchangeRateProvider {
+
+    Currency getBase();
+
+    Map<Currency, BigDecimal> fetchRates();
+}
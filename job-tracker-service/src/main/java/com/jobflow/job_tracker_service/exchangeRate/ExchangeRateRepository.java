@@ -0,0 +1,7 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Currency> {
+}
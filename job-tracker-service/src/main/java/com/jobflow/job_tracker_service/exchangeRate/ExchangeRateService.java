@@ -0,0 +1,78 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Periodically copies exchange rates from the {@link ExchangeRateProvider} into the local table
+ * and keeps an in-memory snapshot of it for readers. If the provider fails, the stored rates stay in use.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExchangeRateService.class);
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final ExchangeRateRepository exchangeRateRepository;
+    private volatile ExchangeRates exchangeRates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${exchange-rates.update-cron}")
+    public void update() {
+        try {
+            Currency base = exchangeRateProvider.getBase();
+            Map<Currency, BigDecimal> rates = exchangeRateProvider.fetchRates();
+            LocalDateTime now = LocalDateTime.now();
+
+            List<ExchangeRate> exchangeRateEntities = new ArrayList<>();
+            rates.forEach((currency, rate) -> exchangeRateEntities.add(new ExchangeRate(currency, base, rate, now)));
+            exchangeRateRepository.saveAll(exchangeRateEntities);
+
+            exchangeRates = new ExchangeRates(base, rates, now);
+            LOGGER.info("Updated: {} exchange rates to base: {}", rates.size(), base);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to update exchange rates, keeping the stored ones", e);
+        }
+    }
+
+    public ExchangeRates getExchangeRates() {
+        ExchangeRates current = exchangeRates;
+        if (current == null) {
+            current = loadStored();
+            exchangeRates = current;
+        }
+
+        return current;
+    }
+
+    private ExchangeRates loadStored() {
+        List<ExchangeRate> stored = exchangeRateRepository.findAll();
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        LocalDateTime updatedAt = null;
+        Currency base = exchangeRateProvider.getBase();
+        for (ExchangeRate exchangeRate : stored) {
+            if (exchangeRate.getBase() != base) {
+                continue;
+            }
+
+            rates.put(exchangeRate.getCurrency(), exchangeRate.getRate());
+            if (updatedAt == null || exchangeRate.getUpdatedAt().isBefore(updatedAt)) {
+                updatedAt = exchangeRate.getUpdatedAt();
+            }
+        }
+
+        LOGGER.debug("Loaded: {} stored exchange rates to base: {}", rates.size(), base);
+        return new ExchangeRates(base, rates, updatedAt);
+    }
+}
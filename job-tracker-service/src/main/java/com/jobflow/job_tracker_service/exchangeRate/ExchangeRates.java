@@ -0,0 +1,25 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Snapshot of the locally stored exchange rates.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRates {
+
+    private Currency base;
+
+    private Map<Currency, BigDecimal> rates;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PropertiesExchangeRateProvider implements ExchangeRateProvider {
+
+    private final ExchangeRateProperties exchangeRateProperties;
+
+    @Override
+    public Currency getBase() {
+        return exchangeRateProperties.getBase();
+    }
+
+    @Override
+    public Map<Currency, BigDecimal> fetchRates() {
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        rates.putAll(exchangeRateProperties.getRates());
+        rates.put(exchangeRateProperties.getBase(), BigDecimal.ONE);
+
+        return rates;
+    }
+}
@@ -1,7 +1,10 @@
 package com.jobflow.job_tracker_service.handler;
 
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
+import com.jobflow.job_tracker_service.exception.InvalidStatsRangeException;
 import com.jobflow.job_tracker_service.exception.JobApplicationNotFoundException;
 import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.exception.PlatformStatsNotFoundException;
 import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
 import com.jobflow.job_tracker_service.exception.UserDontHavePermissionException;
 import org.slf4j.Logger;
@@ -27,6 +30,14 @@ public class GlobalHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseError);
     }
 
+    @ExceptionHandler(PlatformStatsNotFoundException.class)
+    public ResponseEntity<ResponseError> platformStatsNotFoundExcHandler(PlatformStatsNotFoundException exc) {
+        LOGGER.error("[Platform Stats Not Found Exception]: {}", exc.getMessage());
+        ResponseError responseError = ResponseError.buildResponseError(exc.getMessage(), HttpStatus.NOT_FOUND.value());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseError);
+    }
+
     @ExceptionHandler(JobApplicationServiceException.class)
     public ResponseEntity<ResponseError> jobApplicationServiceExcHandler(JobApplicationServiceException exc) {
         LOGGER.error("[Job Application Service Exception]: {}", exc.getMessage());
@@ -51,6 +62,22 @@ public class GlobalHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(responseError);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseError> invalidCursorExcHandler(InvalidCursorException exc) {
+        LOGGER.error("[Invalid Cursor Exception]: {}", exc.getMessage());
+        ResponseError responseError = ResponseError.buildResponseError(exc.getMessage(), HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseError);
+    }
+
+    @ExceptionHandler(InvalidStatsRangeException.class)
+    public ResponseEntity<ResponseError> invalidStatsRangeExcHandler(InvalidStatsRangeException exc) {
+        LOGGER.error("[Invalid Stats Range Exception]: {}", exc.getMessage());
+        ResponseError responseError = ResponseError.buildResponseError(exc.getMessage(), HttpStatus.BAD_REQUEST.value());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responseError);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ResponseError> methodArgumentNotValidExcHandler(MethodArgumentNotValidException exc) {
         String errorMessages = exc.getFieldErrors().stream()
@@ -0,0 +1,29 @@
+package com.jobflow.job_tracker_service.jobApplication;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Slice of items fetched by cursor. Does not contain the total number of elements")
+public class CursorPageDto<T> {
+
+    @Schema(description = "Items of the current slice")
+    private List<T> content;
+
+    @Schema(description = "Requested slice size", example = "10")
+    private int size;
+
+    @Schema(description = "Whether there are more items after the current slice", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque token to fetch the next slice. Null if there are no more items", example = "VVBEQVRFRF9BVHxERVNDfDIwMjMtMDEtMDFUMTI6MDB8MQ")
+    private String nextCursor;
+}
@@ -12,9 +12,15 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "job_applications")
+@Table(
+        name = "job_applications",
+        indexes = {
+                @Index(name = "idx_job_applications_user_updated_at", columnList = "user_id, updated_at, id"),
+                @Index(name = "idx_job_applications_user_created_at", columnList = "user_id, created_at, id")
+        }
+)
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobApplication {
@@ -1,6 +1,7 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
 import com.jobflow.job_tracker_service.handler.ResponseError;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -53,6 +54,34 @@ public class JobApplicationController {
         return ResponseEntity.ok(jobApplicationService.findMy(pageable));
     }
 
+    @Operation(
+            summary = "Find job applications of the current user by cursor",
+            description = "Searches job applications of the current user with keyset pagination. " +
+                          "Does not count the total number of elements, so deep scrolling costs the same as the first slice",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Job applications successfully received"),
+
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or cursor does not match the requested sorting",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> findMyByCursor(
+            @RequestParam(value = "cursor", required = false) @Parameter(description = "Cursor from the previous slice. Omit to fetch the first slice") String cursor,
+            @RequestParam(value = "pageSize", defaultValue = "10") @Parameter(description = "Page size", example = "10") int pageSize,
+            @RequestParam(value = "sortBy", defaultValue = "UPDATED_AT") @Parameter(description = "Sorting field", example = "UPDATED_AT") SortField sortBy,
+            @RequestParam(value = "direction", defaultValue = "DESC") @Parameter(description = "Sorting direction", example = "DESC") Direction direction
+    ) {
+        LOGGER.info("[GET] Request for find job applications of the current user by cursor - pageSize: {}, sortBy: {}, direction: {}", pageSize, sortBy, direction);
+
+        return ResponseEntity.ok(jobApplicationService.findMyByCursor(cursor, pageSize, sortBy, direction));
+    }
+
     @Operation(
             summary = "Find job application by ID",
             responses = {
@@ -99,6 +128,7 @@ public class JobApplicationController {
                             @Schema(implementation = ResponseError.class)))
             }
     )
+    @RateLimited(type = JobApplicationRateLimiterAction.class, action = "CREATE")
     @PostMapping
     public ResponseEntity<JobApplicationDto> create(
             @RequestBody @Valid @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -137,6 +167,7 @@ public class JobApplicationController {
                             @Schema(implementation = ResponseError.class)))
             }
     )
+    @RateLimited(type = JobApplicationRateLimiterAction.class, action = "UPDATE")
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(
             @PathVariable("id") @Parameter(description = "Job application ID", example = "1", required = true) Long id,
@@ -170,6 +201,7 @@ public class JobApplicationController {
                             @Schema(implementation = ResponseError.class)))
             }
     )
+    @RateLimited(type = JobApplicationRateLimiterAction.class, action = "UPDATE_STATUS")
     @PatchMapping("/{id}")
     public ResponseEntity<Void> updateStatus(
             @PathVariable("id") @Parameter(description = "Job application ID", example = "1", required = true) Long id,
@@ -201,6 +233,7 @@ public class JobApplicationController {
                             @Schema(implementation = ResponseError.class)))
             }
     )
+    @RateLimited(type = JobApplicationRateLimiterAction.class, action = "DELETE")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
             @PathVariable("id") @Parameter(description = "Job application ID", example = "1", required = true) Long id
@@ -0,0 +1,25 @@
+package com.jobflow.job_tracker_service.jobApplication;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decoded position of the last job application in a slice.
+ * The next slice starts strictly after the ({@code sortValue}, {@code id}) pair
+ * in the given sorting.
+ */
+@Data
+@AllArgsConstructor
+public class JobApplicationCursor {
+
+    private SortField sortBy;
+
+    private Direction direction;
+
+    private LocalDateTime sortValue;
+
+    private Long id;
+}
@@ -0,0 +1,48 @@
+package com.jobflow.job_tracker_service.jobApplication;
+
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public final class JobApplicationCursorUtils {
+
+    private static final String SEPARATOR = "|";
+    private static final String CURSOR_FORMAT = "%s" + SEPARATOR + "%s" + SEPARATOR + "%s" + SEPARATOR + "%d";
+
+    private JobApplicationCursorUtils() {
+
+    }
+
+    public static String encode(JobApplication last, SortField sortBy, Direction direction) {
+        LocalDateTime sortValue = sortBy == SortField.CREATED_AT ? last.getCreatedAt() : last.getUpdatedAt();
+        String rawCursor = String.format(CURSOR_FORMAT, sortBy, direction, sortValue, last.getId());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static JobApplicationCursor decode(String cursor) {
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = rawCursor.split("\\" + SEPARATOR);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+
+            return new JobApplicationCursor(
+                    SortField.valueOf(parts[0]),
+                    Direction.valueOf(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.valueOf(parts[3])
+            );
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -1,25 +1,28 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
 import com.jobflow.job_tracker_service.rateLimiter.RateLimiterAction;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimiterAlgorithm;
 
 import java.time.Duration;
 
 public enum JobApplicationRateLimiterAction implements RateLimiterAction {
 
-    CREATE("create", 5, Duration.ofMinutes(1), "Too many job applications created. Try again in a minute"),
-    UPDATE("update", 10, Duration.ofMinutes(1), "Too many updates. Try again in a minute"),
-    UPDATE_STATUS("updateStatus", 10, Duration.ofMinutes(1), "Too many status updates. Try again in a minute"),
-    DELETE("delete", 3, Duration.ofMinutes(1), "Too many delete attempts. Try again in a minute");
+    CREATE("create", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "Too many job applications created. Try again in a minute"),
+    UPDATE("update", 10, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "Too many updates. Try again in a minute"),
+    UPDATE_STATUS("updateStatus", 10, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "Too many status updates. Try again in a minute"),
+    DELETE("delete", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "Too many delete attempts. Try again in a minute");
 
     private final String action;
     private final int limit;
     private final Duration timeout;
+    private final RateLimiterAlgorithm algorithm;
     private final String message;
 
-    JobApplicationRateLimiterAction(String action, int limit, Duration timeout, String message) {
+    JobApplicationRateLimiterAction(String action, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message) {
         this.action = action;
         this.limit = limit;
         this.timeout = timeout;
+        this.algorithm = algorithm;
         this.message = message;
     }
 
@@ -39,6 +42,11 @@ public enum JobApplicationRateLimiterAction implements RateLimiterAction {
         return timeout;
     }
 
+    @Override
+    public RateLimiterAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
     @Override
     public String getMessage() {
         return message;
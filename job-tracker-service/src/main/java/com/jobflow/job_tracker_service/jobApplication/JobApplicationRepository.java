@@ -1,10 +1,88 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
+import com.jobflow.job_tracker_service.jobApplication.stats.PlatformStatsRowProjection;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
     Page<JobApplication> findByUserId(Long userId, Pageable pageable);
+
+    Slice<JobApplication> findAllByUserId(Long userId, Pageable pageable);
+
+    List<JobApplication> findAllByUserId(Long userId);
+
+    // Keyset queries. The outer "<=" / ">=" bound lets the index (user_id, sort_field, id)
+    // seek straight to the cursor, so every slice costs the same as the first one.
+
+    @Query("""
+            SELECT j FROM JobApplication j
+            WHERE j.userId = :userId
+              AND j.updatedAt <= :sortValue
+              AND (j.updatedAt < :sortValue OR j.id < :id)
+            """)
+    Slice<JobApplication> findNextByUpdatedAtDesc(@Param("userId") Long userId,
+                                                  @Param("sortValue") LocalDateTime sortValue,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("""
+            SELECT j FROM JobApplication j
+            WHERE j.userId = :userId
+              AND j.updatedAt >= :sortValue
+              AND (j.updatedAt > :sortValue OR j.id > :id)
+            """)
+    Slice<JobApplication> findNextByUpdatedAtAsc(@Param("userId") Long userId,
+                                                 @Param("sortValue") LocalDateTime sortValue,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("""
+            SELECT j FROM JobApplication j
+            WHERE j.userId = :userId
+              AND j.createdAt <= :sortValue
+              AND (j.createdAt < :sortValue OR j.id < :id)
+            """)
+    Slice<JobApplication> findNextByCreatedAtDesc(@Param("userId") Long userId,
+                                                  @Param("sortValue") LocalDateTime sortValue,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("""
+            SELECT j FROM JobApplication j
+            WHERE j.userId = :userId
+              AND j.createdAt >= :sortValue
+              AND (j.createdAt > :sortValue OR j.id > :id)
+            """)
+    Slice<JobApplication> findNextByCreatedAtAsc(@Param("userId") Long userId,
+                                                 @Param("sortValue") LocalDateTime sortValue,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("SELECT MIN(j.id) FROM JobApplication j")
+    Long findMinId();
+
+    @Query("SELECT MAX(j.id) FROM JobApplication j")
+    Long findMaxId();
+
+    // Rows are read from the cursor in batches of the fetch size instead of being loaded at once.
+    // Must be consumed inside a transaction: PostgreSQL ignores the fetch size in autocommit mode.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT j.source AS source, j.status AS status, j.company AS company FROM JobApplication j
+            WHERE j.id >= :fromId AND j.id < :toId
+            """)
+    Stream<PlatformStatsRowProjection> streamPlatformStatsRows(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
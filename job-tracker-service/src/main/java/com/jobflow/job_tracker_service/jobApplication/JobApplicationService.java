@@ -2,6 +2,7 @@ package com.jobflow.job_tracker_service.jobApplication;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 
 public interface JobApplicationService {
 
@@ -9,6 +10,8 @@ public interface JobApplicationService {
 
     Page<JobApplicationDto> findMy(Pageable pageable);
 
+    CursorPageDto<JobApplicationDto> findMyByCursor(String cursor, int pageSize, SortField sortBy, Direction direction);
+
     JobApplicationDto findById(Long id);
 
     void update(Long id, JobApplicationCreateUpdateDto dto);
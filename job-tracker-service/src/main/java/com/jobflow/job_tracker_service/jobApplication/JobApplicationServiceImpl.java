@@ -1,20 +1,31 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
 import com.jobflow.job_tracker_service.exception.JobApplicationNotFoundException;
 import com.jobflow.job_tracker_service.exception.UserDontHavePermissionException;
-import com.jobflow.job_tracker_service.jobApplication.stats.StatsCacheKeyUtils;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistoryService;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsChangedEvent;
+import com.jobflow.job_tracker_service.jobApplication.live.JobApplicationChangedEvent;
+import com.jobflow.job_tracker_service.jobApplication.live.LiveEventType;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationUserStatsService;
 import com.jobflow.job_tracker_service.notification.EventPublisher;
 import com.jobflow.job_tracker_service.notification.NotificationEvent;
 import com.jobflow.job_tracker_service.notification.NotificationEventFactory;
-import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
 import com.jobflow.job_tracker_service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +38,9 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     private final JobApplicationRepository jobApplicationRepository;
     private final EventPublisher<NotificationEvent> eventPublisher;
     private final NotificationEventFactory eventFactory;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final RateLimiterValidator rateLimiterValidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final JobApplicationUserStatsService userStatsService;
+    private final JobApplicationStatusHistoryService statusHistoryService;
 
     @Override
     public Page<JobApplicationDto> findMy(Pageable pageable) {
@@ -41,6 +53,30 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         return jobApplications.map(jobApplicationMapper::toDto);
     }
 
+    @Override
+    public CursorPageDto<JobApplicationDto> findMyByCursor(String cursor, int pageSize, SortField sortBy, Direction direction) {
+        Long currentUserId = userService.getCurrentUserId();
+        LOGGER.debug("Fetching job applications slice of the current user with id: {} by cursor", currentUserId);
+
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by(direction, sortBy.getField(), "id"));
+        Slice<JobApplication> jobApplications = cursor == null
+                ? jobApplicationRepository.findAllByUserId(currentUserId, pageable)
+                : findNextSlice(currentUserId, JobApplicationCursorUtils.decode(cursor), sortBy, direction, pageable);
+
+        List<JobApplication> content = jobApplications.getContent();
+        String nextCursor = jobApplications.hasNext()
+                ? JobApplicationCursorUtils.encode(content.get(content.size() - 1), sortBy, direction)
+                : null;
+
+        LOGGER.debug("Fetched: {} job applications slice of the current user with id: {}", content.size(), currentUserId);
+        return CursorPageDto.<JobApplicationDto>builder()
+                .content(content.stream().map(jobApplicationMapper::toDto).toList())
+                .size(pageSize)
+                .hasNext(jobApplications.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public JobApplicationDto findById(Long id) {
         Long currentUserId = userService.getCurrentUserId();
@@ -54,38 +90,44 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     }
 
     @Override
+    @Transactional
     public JobApplicationDto create(JobApplicationCreateUpdateDto dto) {
         Long currentUserId = userService.getCurrentUserId();
         LOGGER.debug("Creating a new job application by userId: {}", currentUserId);
 
-        rateLimiterValidator.validate(JobApplicationRateLimiterAction.CREATE, String.valueOf(currentUserId));
-
         JobApplication jobApplication = jobApplicationMapper.toEntity(dto, currentUserId);
         JobApplication savedJobApplication = jobApplicationRepository.save(jobApplication);
+        userStatsService.onCreate(savedJobApplication);
+        statusHistoryService.onCreate(savedJobApplication);
 
-        deleteFromCache(StatsCacheKeyUtils.keyForUser(currentUserId));
+        JobApplicationDto savedJobApplicationDto = jobApplicationMapper.toDto(savedJobApplication);
+        publishStatsChanged(currentUserId);
+        publishJobApplicationChanged(currentUserId, LiveEventType.JOB_APPLICATION_CREATED, savedJobApplication.getId(), savedJobApplicationDto);
         eventPublisher.publish(
                 eventFactory.buildForCreation(savedJobApplication)
         );
 
         LOGGER.debug("Successfully created job application with id: {} by userId: {}", savedJobApplication.getId(), currentUserId);
-        return jobApplicationMapper.toDto(savedJobApplication);
+        return savedJobApplicationDto;
     }
 
     @Override
+    @Transactional
     public void update(Long id, JobApplicationCreateUpdateDto dto) {
         Long currentUserId = userService.getCurrentUserId();
         LOGGER.debug("Updating job application with id: {} by userId: {}", id, currentUserId);
 
-        rateLimiterValidator.validate(JobApplicationRateLimiterAction.UPDATE, String.valueOf(currentUserId));
-
         JobApplication jobApplication = findByIdOrThrow(id);
         checkUserPermissions(currentUserId, jobApplication);
 
+        JobApplication before = jobApplication.toBuilder().build();
         updateFields(jobApplication, dto);
         jobApplicationRepository.save(jobApplication);
+        userStatsService.onUpdate(before, jobApplication);
+        statusHistoryService.onUpdate(before, jobApplication);
 
-        deleteFromCache(StatsCacheKeyUtils.keyForUser(currentUserId));
+        publishStatsChanged(currentUserId);
+        publishJobApplicationChanged(currentUserId, LiveEventType.JOB_APPLICATION_UPDATED, id, jobApplicationMapper.toDto(jobApplication));
         eventPublisher.publish(
                 eventFactory.buildForStatusUpdate(jobApplication)
         );
@@ -94,19 +136,22 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     }
 
     @Override
+    @Transactional
     public void updateStatus(Long id, Status status) {
         Long currentUserId = userService.getCurrentUserId();
         LOGGER.debug("Updating the job application status with id: {} by userId: {}", id, currentUserId);
 
-        rateLimiterValidator.validate(JobApplicationRateLimiterAction.UPDATE_STATUS, String.valueOf(currentUserId));
-
         JobApplication jobApplication = findByIdOrThrow(id);
         checkUserPermissions(currentUserId, jobApplication);
 
+        JobApplication before = jobApplication.toBuilder().build();
         jobApplication.setStatus(status);
         jobApplicationRepository.save(jobApplication);
+        userStatsService.onUpdate(before, jobApplication);
+        statusHistoryService.onUpdate(before, jobApplication);
 
-        deleteFromCache(StatsCacheKeyUtils.keyForUser(currentUserId));
+        publishStatsChanged(currentUserId);
+        publishJobApplicationChanged(currentUserId, LiveEventType.JOB_APPLICATION_UPDATED, id, jobApplicationMapper.toDto(jobApplication));
         eventPublisher.publish(
                 eventFactory.buildForStatusUpdate(jobApplication)
         );
@@ -115,18 +160,20 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         Long currentUserId = userService.getCurrentUserId();
         LOGGER.debug("Deleting the job application with id: {} by userId: {}", id, userService);
 
-        rateLimiterValidator.validate(JobApplicationRateLimiterAction.DELETE, String.valueOf(currentUserId));
-
         JobApplication jobApplication = findByIdOrThrow(id);
         checkUserPermissions(currentUserId, jobApplication);
 
         jobApplicationRepository.delete(jobApplication);
+        userStatsService.onDelete(jobApplication);
+        statusHistoryService.onDelete(jobApplication);
 
-        deleteFromCache(StatsCacheKeyUtils.keyForUser(currentUserId));
+        publishStatsChanged(currentUserId);
+        publishJobApplicationChanged(currentUserId, LiveEventType.JOB_APPLICATION_DELETED, id, null);
         LOGGER.debug("Successfully deleted the job application with id: {} by userId: {}", id, userService);
     }
 
@@ -135,8 +182,28 @@ public class JobApplicationServiceImpl implements JobApplicationService {
                 .orElseThrow(() -> new JobApplicationNotFoundException("Job application with id: " + id + " not found"));
     }
 
-    private void deleteFromCache(String cacheKey) {
-        redisTemplate.delete(cacheKey);
+    private Slice<JobApplication> findNextSlice(Long userId, JobApplicationCursor cursor, SortField sortBy, Direction direction, Pageable pageable) {
+        if (cursor.getSortBy() != sortBy || cursor.getDirection() != direction) {
+            throw new InvalidCursorException("Cursor was issued for sorting by: " + cursor.getSortBy() + " " + cursor.getDirection()
+                                             + ", but requested: " + sortBy + " " + direction);
+        }
+
+        return switch (sortBy) {
+            case UPDATED_AT -> direction.isDescending()
+                    ? jobApplicationRepository.findNextByUpdatedAtDesc(userId, cursor.getSortValue(), cursor.getId(), pageable)
+                    : jobApplicationRepository.findNextByUpdatedAtAsc(userId, cursor.getSortValue(), cursor.getId(), pageable);
+            case CREATED_AT -> direction.isDescending()
+                    ? jobApplicationRepository.findNextByCreatedAtDesc(userId, cursor.getSortValue(), cursor.getId(), pageable)
+                    : jobApplicationRepository.findNextByCreatedAtAsc(userId, cursor.getSortValue(), cursor.getId(), pageable);
+        };
+    }
+
+    private void publishStatsChanged(Long userId) {
+        applicationEventPublisher.publishEvent(new JobApplicationStatsChangedEvent(userId));
+    }
+
+    private void publishJobApplicationChanged(Long userId, LiveEventType type, Long jobApplicationId, JobApplicationDto jobApplication) {
+        applicationEventPublisher.publishEvent(new JobApplicationChangedEvent(userId, type, jobApplicationId, jobApplication));
     }
 
     private void updateFields(JobApplication jobApplication, JobApplicationCreateUpdateDto dto) {
@@ -0,0 +1,52 @@
+package com.jobflow.job_tracker_service.jobApplication.history;
+
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Append-only record of a job application status change. The first record of an application
+ * has no {@code fromStatus}. Records are never updated and outlive deleted applications.
+ */
+@Entity
+@Table(
+        name = "job_application_status_history",
+        indexes = {
+                @Index(name = "idx_job_application_status_history_job_application", columnList = "job_application_id, changed_at, id"),
+                @Index(name = "idx_job_application_status_history_user", columnList = "user_id")
+        }
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "job_application_id", nullable = false)
+    private Long jobApplicationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = true)
+    private Status fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private Status toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,12 @@
+package com.jobflow.job_tracker_service.jobApplication.history;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobApplicationStatusHistoryRepository extends JpaRepository<JobApplicationStatusHistory, Long> {
+
+    List<JobApplicationStatusHistory> findAllByJobApplicationIdOrderByChangedAtAscIdAsc(Long jobApplicationId);
+
+    List<JobApplicationStatusHistory> findAllByUserIdOrderByChangedAtAscIdAsc(Long userId);
+}
@@ -0,0 +1,87 @@
+package com.jobflow.job_tracker_service.jobApplication.history;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import com.jobflow.job_tracker_service.jobApplication.stats.FunnelStatsUtils;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationFunnelStatsService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Appends status transitions of job applications to the history and folds every change
+ * of an application's timeline into the funnel counters of its owner.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobApplicationStatusHistoryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationStatusHistoryService.class);
+
+    private final JobApplicationStatusHistoryRepository historyRepository;
+    private final JobApplicationFunnelStatsService funnelStatsService;
+
+    @Transactional(propagation = MANDATORY)
+    public void onCreate(JobApplication jobApplication) {
+        JobApplicationStatusHistory entry = historyRepository.save(
+                buildEntry(jobApplication, null, LocalDateTime.now())
+        );
+
+        funnelStatsService.onChange(null, FunnelStatsUtils.contribution(jobApplication, List.of(entry)));
+        LOGGER.debug("Recorded initial status: {} of job application with id: {}", jobApplication.getStatus(), jobApplication.getId());
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onUpdate(JobApplication before, JobApplication after) {
+        boolean statusChanged = before.getStatus() != after.getStatus();
+        if (!statusChanged
+            && before.getSource() == after.getSource()
+            && Objects.equals(before.getAppliedAt(), after.getAppliedAt())) {
+            LOGGER.debug("Job application with id: {} changed no funnel dimensions, skipping history update", after.getId());
+            return;
+        }
+
+        List<JobApplicationStatusHistory> history = new ArrayList<>(
+                historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(after.getId())
+        );
+        if (history.isEmpty()) {
+            // Applications created before the history was introduced start their timeline from the current status
+            LocalDateTime createdAt = before.getCreatedAt() != null ? before.getCreatedAt() : LocalDateTime.now();
+            history.add(historyRepository.save(buildEntry(before, null, createdAt)));
+        }
+
+        var beforeContribution = FunnelStatsUtils.contribution(before, history);
+        if (statusChanged) {
+            history.add(historyRepository.save(buildEntry(after, before.getStatus(), LocalDateTime.now())));
+            LOGGER.debug("Recorded status transition: {} -> {} of job application with id: {}", before.getStatus(), after.getStatus(), after.getId());
+        }
+
+        funnelStatsService.onChange(beforeContribution, FunnelStatsUtils.contribution(after, history));
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onDelete(JobApplication jobApplication) {
+        List<JobApplicationStatusHistory> history = historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(jobApplication.getId());
+
+        funnelStatsService.onChange(FunnelStatsUtils.contribution(jobApplication, history), null);
+    }
+
+    private JobApplicationStatusHistory buildEntry(JobApplication jobApplication, Status fromStatus, LocalDateTime changedAt) {
+        return JobApplicationStatusHistory.builder()
+                .jobApplicationId(jobApplication.getId())
+                .userId(jobApplication.getUserId())
+                .fromStatus(fromStatus)
+                .toStatus(jobApplication.getStatus())
+                .changedAt(changedAt)
+                .build();
+    }
+}
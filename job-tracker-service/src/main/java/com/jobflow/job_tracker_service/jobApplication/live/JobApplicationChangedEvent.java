@@ -0,0 +1,20 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationChangedEvent {
+
+    private Long userId;
+
+    private LiveEventType type;
+
+    private Long jobApplicationId;
+
+    private JobApplicationDto jobApplication;
+}
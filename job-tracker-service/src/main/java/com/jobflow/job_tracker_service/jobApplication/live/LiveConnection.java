@@ -0,0 +1,102 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection with a bounded buffer of pending events. Events are written by a single drain task
+ * at a time on the shared executor, so a slow client never blocks the publisher. A client that lets its buffer
+ * fill up is disconnected and expected to reconnect and refetch the current state.
+ */
+public class LiveConnection {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveConnection.class);
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final Executor executor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public LiveConnection(Long userId, SseEmitter emitter, int bufferSize, Executor executor) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public void send(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return;
+        }
+
+        if (!buffer.offer(event)) {
+            LOGGER.warn("Live updates buffer of userId: {} is full, closing the connection", userId);
+            close();
+            return;
+        }
+
+        scheduleDrain();
+    }
+
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Live updates executor rejected the drain of userId: {}, closing the connection", userId);
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.debug("Failed to send live update to userId: {}, closing the connection", userId);
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        // An event may have been buffered after the last poll but before the flag was cleared
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
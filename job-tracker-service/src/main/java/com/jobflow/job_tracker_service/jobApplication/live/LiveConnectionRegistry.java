@@ -0,0 +1,94 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Live update connections open on this instance, grouped by user.
+ */
+@Component
+public class LiveConnectionRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveConnectionRegistry.class);
+
+    private final LiveUpdatesProperties liveUpdatesProperties;
+    private final Executor liveUpdatesExecutor;
+    private final ConcurrentMap<Long, Deque<LiveConnection>> connections = new ConcurrentHashMap<>();
+
+    public LiveConnectionRegistry(LiveUpdatesProperties liveUpdatesProperties,
+                                  @Qualifier(LiveUpdatesConfig.LIVE_UPDATES_EXECUTOR) Executor liveUpdatesExecutor) {
+        this.liveUpdatesProperties = liveUpdatesProperties;
+        this.liveUpdatesExecutor = liveUpdatesExecutor;
+    }
+
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(liveUpdatesProperties.getTimeout().toMillis());
+        LiveConnection connection = new LiveConnection(userId, emitter, liveUpdatesProperties.getBufferSize(), liveUpdatesExecutor);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        // compute() is atomic with the removal of an emptied deque, so the connection is never added to a discarded one
+        Deque<LiveConnection> userConnections = connections.compute(userId, (id, existing) -> {
+            Deque<LiveConnection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        while (userConnections.size() > liveUpdatesProperties.getMaxConnectionsPerUser()) {
+            LiveConnection oldest = userConnections.pollFirst();
+            if (oldest != null) {
+                LOGGER.debug("Too many live update connections of userId: {}, closing the oldest one", userId);
+                oldest.close();
+            }
+        }
+
+        LOGGER.debug("Registered live updates connection of userId: {}", userId);
+        return emitter;
+    }
+
+    public void dispatch(LiveEvent event) {
+        Deque<LiveConnection> userConnections = connections.get(event.getUserId());
+        if (userConnections == null) {
+            return;
+        }
+
+        userConnections.removeIf(LiveConnection::isClosed);
+        userConnections.forEach(connection -> connection.send(
+                SseEmitter.event().name(event.getType().name()).data(event)
+        ));
+    }
+
+    public int countConnections(Long userId) {
+        Deque<LiveConnection> userConnections = connections.get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies and detects clients that are gone.
+     */
+    @Scheduled(fixedRateString = "${job-application.live.heartbeat-interval}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections -> {
+            userConnections.removeIf(LiveConnection::isClosed);
+            userConnections.forEach(connection -> connection.send(SseEmitter.event().comment("heartbeat")));
+        });
+    }
+
+    private void remove(LiveConnection connection) {
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        LOGGER.debug("Removed live updates connection of userId: {}", connection.getUserId());
+    }
+}
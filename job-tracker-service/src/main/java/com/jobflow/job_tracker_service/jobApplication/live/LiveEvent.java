@@ -0,0 +1,32 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationDto;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Change pushed to the live updates stream, the SSE event name is its type")
+public class LiveEvent {
+
+    @Schema(description = "ID of the user the change belongs to", example = "1")
+    private Long userId;
+
+    @Schema(description = "Type of the change", example = "JOB_APPLICATION_UPDATED")
+    private LiveEventType type;
+
+    @Schema(description = "ID of the changed job application, null for stats updates", example = "1")
+    private Long jobApplicationId;
+
+    @Schema(description = "Job application after the change, null for deletions and stats updates")
+    private JobApplicationDto jobApplication;
+
+    @Schema(description = "Stats after the change, set for stats updates only")
+    private JobApplicationStatsDto stats;
+}
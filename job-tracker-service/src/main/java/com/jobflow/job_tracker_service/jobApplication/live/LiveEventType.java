@@ -0,0 +1,8 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+public enum LiveEventType {
+    JOB_APPLICATION_CREATED,
+    JOB_APPLICATION_UPDATED,
+    JOB_APPLICATION_DELETED,
+    STATS_UPDATED
+}
@@ -0,0 +1,40 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class LiveUpdatesConfig {
+
+    public static final String LIVE_UPDATES_CHANNEL = "jobApplications:live";
+    public static final String LIVE_UPDATES_EXECUTOR = "liveUpdatesExecutor";
+
+    @Bean
+    public RedisMessageListenerContainer liveUpdatesListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      LiveUpdatesSubscriber liveUpdatesSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(liveUpdatesSubscriber, new ChannelTopic(LIVE_UPDATES_CHANNEL));
+
+        return container;
+    }
+
+    @Bean(name = LIVE_UPDATES_EXECUTOR)
+    public Executor liveUpdatesExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        // Every connection has at most one pending drain task, so the queue is bounded by the number of connections
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("live-updates-");
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.jobflow.job_tracker_service.handler.ResponseError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/job-applications/live")
+@RequiredArgsConstructor
+public class LiveUpdatesController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdatesController.class);
+
+    private final LiveUpdatesService liveUpdatesService;
+
+    @Operation(
+            summary = "Subscribe to live updates",
+            description = "Opens a Server-Sent Events stream of the current user's changes: created, updated and deleted " +
+                          "job applications and recomputed stats. Heartbeat comments are sent periodically. " +
+                          "A client that falls behind is disconnected and should reconnect",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Stream opened successfully",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema =
+                            @Schema(implementation = LiveEvent.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        LOGGER.info("[GET] Request for subscribe to live updates");
+
+        return liveUpdatesService.subscribe();
+    }
+}
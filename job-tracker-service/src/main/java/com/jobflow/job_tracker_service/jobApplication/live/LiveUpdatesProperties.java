@@ -0,0 +1,21 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "job-application.live")
+@Getter
+@Setter
+public class LiveUpdatesProperties {
+
+    private Duration timeout;
+
+    private int bufferSize;
+
+    private int maxConnectionsPerUser;
+}
@@ -0,0 +1,53 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Publishes committed changes to the Redis channel every instance listens to,
+ * so a change reaches the user's connections wherever they are open.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdatesPublisher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdatesPublisher.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobApplicationChanged(JobApplicationChangedEvent event) {
+        publish(LiveEvent.builder()
+                .userId(event.getUserId())
+                .type(event.getType())
+                .jobApplicationId(event.getJobApplicationId())
+                .jobApplication(event.getJobApplication())
+                .build());
+    }
+
+    public void publishStats(Long userId, JobApplicationStatsDto stats) {
+        publish(LiveEvent.builder()
+                .userId(userId)
+                .type(LiveEventType.STATS_UPDATED)
+                .stats(stats)
+                .build());
+    }
+
+    private void publish(LiveEvent event) {
+        try {
+            redisTemplate.convertAndSend(LiveUpdatesConfig.LIVE_UPDATES_CHANNEL, objectMapper.writeValueAsString(event));
+            LOGGER.debug("Published live event: {} of userId: {}", event.getType(), event.getUserId());
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Live updates are best effort, the change itself is already committed
+            LOGGER.warn("Failed to publish live event: {} of userId: {}", event.getType(), event.getUserId(), e);
+        }
+    }
+}
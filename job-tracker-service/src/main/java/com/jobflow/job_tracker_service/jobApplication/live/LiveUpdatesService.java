@@ -0,0 +1,8 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveUpdatesService {
+
+    SseEmitter subscribe();
+}
@@ -0,0 +1,26 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.jobflow.job_tracker_service.user.UserService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+@RequiredArgsConstructor
+public class LiveUpdatesServiceImpl implements LiveUpdatesService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdatesServiceImpl.class);
+
+    private final UserService userService;
+    private final LiveConnectionRegistry connectionRegistry;
+
+    @Override
+    public SseEmitter subscribe() {
+        Long currentUserId = userService.getCurrentUserId();
+        LOGGER.debug("Subscribing the current user with id: {} to live updates", currentUserId);
+
+        return connectionRegistry.register(currentUserId);
+    }
+}
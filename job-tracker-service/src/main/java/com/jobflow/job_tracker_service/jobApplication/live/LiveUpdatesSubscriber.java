@@ -0,0 +1,36 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Receives live events published by any instance and hands them to the connections open on this one.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdatesSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiveUpdatesSubscriber.class);
+
+    private final LiveConnectionRegistry connectionRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            LiveEvent event = objectMapper.readValue(message.getBody(), LiveEvent.class);
+            LOGGER.debug("Received live event: {} of userId: {}", event.getType(), event.getUserId());
+
+            connectionRegistry.dispatch(event);
+        } catch (IOException e) {
+            LOGGER.error("Failed to deserialize live event", e);
+        }
+    }
+}
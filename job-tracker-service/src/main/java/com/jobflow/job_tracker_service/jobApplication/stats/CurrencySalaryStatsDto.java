@@ -0,0 +1,36 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Salary distribution of job applications in one currency")
+public class CurrencySalaryStatsDto {
+
+    @Schema(description = "Currency of the salaries", example = "USD")
+    private Currency currency;
+
+    @Schema(description = "Number of job applications with a salary", example = "12")
+    private Long count;
+
+    @Schema(description = "25th percentile of salaries", example = "90000")
+    private Long p25;
+
+    @Schema(description = "Median salary", example = "110000")
+    private Long p50;
+
+    @Schema(description = "90th percentile of salaries", example = "150000")
+    private Long p90;
+
+    @Schema(description = "Histogram of salaries with equal-width bins")
+    private List<SalaryHistogramBucketDto> histogram;
+}
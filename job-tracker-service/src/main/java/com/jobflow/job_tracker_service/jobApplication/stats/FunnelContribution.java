@@ -0,0 +1,27 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What one job application adds to the funnel counters of its owner: the stages it reached
+ * and, for stages entered by a status change, the days since the previous reached stage.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelContribution {
+
+    private Long userId;
+
+    private Source source;
+
+    private Set<FunnelStage> reached;
+
+    private Map<FunnelStage, Long> daysToReach;
+}
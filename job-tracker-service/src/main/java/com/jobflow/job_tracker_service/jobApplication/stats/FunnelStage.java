@@ -0,0 +1,25 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Status;
+
+/**
+ * Stages of the application funnel in the order they are passed. Reaching a stage implies
+ * reaching all previous ones. ACCEPTED counts as a reached offer, REJECTED and WITHDRAWN
+ * end the funnel without moving it.
+ */
+public enum FunnelStage {
+    APPLIED,
+    VIEWED,
+    INTERVIEW,
+    OFFER;
+
+    public static FunnelStage fromStatus(Status status) {
+        return switch (status) {
+            case APPLIED -> APPLIED;
+            case VIEWED -> VIEWED;
+            case INTERVIEW -> INTERVIEW;
+            case OFFER, ACCEPTED -> OFFER;
+            case REJECTED, WITHDRAWN -> null;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One stage of the job application funnel")
+public class FunnelStageDto {
+
+    @Schema(description = "Funnel stage", example = "INTERVIEW")
+    private FunnelStage stage;
+
+    @Schema(description = "Number of job applications that reached the stage", example = "4")
+    private Long reached;
+
+    @Schema(description = "Share of job applications of the previous stage that reached this one, null for the first stage", example = "0.5")
+    private Double conversionRate;
+
+    @Schema(description = "Median number of days between the previous reached stage and this one, null if unknown", example = "6.5")
+    private Double medianDays;
+}
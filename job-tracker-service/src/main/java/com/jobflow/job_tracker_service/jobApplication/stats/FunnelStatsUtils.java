@@ -0,0 +1,141 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistory;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+public final class FunnelStatsUtils {
+
+    private FunnelStatsUtils() {
+    }
+
+    /**
+     * Replays the status history of the job application. Every application is in the APPLIED stage
+     * from its applied date, a later stage is reached by the first transition to it or to any stage after it.
+     * The initial status has no duration, it only tells which stages were passed before tracking.
+     * An empty history is treated as the current status set on creation.
+     */
+    public static FunnelContribution contribution(JobApplication jobApplication, List<JobApplicationStatusHistory> history) {
+        Set<FunnelStage> reached = EnumSet.of(FunnelStage.APPLIED);
+        Map<FunnelStage, Long> daysToReach = new EnumMap<>(FunnelStage.class);
+
+        FunnelStage current = FunnelStage.APPLIED;
+        LocalDate currentReachedAt = jobApplication.getAppliedAt();
+        if (history.isEmpty()) {
+            current = advance(current, FunnelStage.fromStatus(jobApplication.getStatus()), reached);
+        }
+
+        for (int i = 0; i < history.size(); i++) {
+            FunnelStage stage = FunnelStage.fromStatus(history.get(i).getToStatus());
+            if (stage == null || stage.ordinal() <= current.ordinal()) {
+                continue;
+            }
+
+            LocalDate reachedAt = i == 0 ? jobApplication.getAppliedAt() : history.get(i).getChangedAt().toLocalDate();
+            if (i > 0) {
+                daysToReach.put(stage, Math.max(0L, ChronoUnit.DAYS.between(currentReachedAt, reachedAt)));
+            }
+
+            current = advance(current, stage, reached);
+            currentReachedAt = reachedAt;
+        }
+
+        return new FunnelContribution(jobApplication.getUserId(), jobApplication.getSource(), reached, daysToReach);
+    }
+
+    public static JobApplicationFunnelDto buildFunnel(List<JobApplicationFunnelStats> reachedRows,
+                                                      List<JobApplicationFunnelDuration> durationRows) {
+        FunnelAccumulator overall = new FunnelAccumulator();
+        Map<Source, FunnelAccumulator> bySource = new EnumMap<>(Source.class);
+
+        for (JobApplicationFunnelStats row : reachedRows) {
+            overall.addReached(row.getStage(), row.getReached());
+            bySource.computeIfAbsent(row.getSource(), source -> new FunnelAccumulator())
+                    .addReached(row.getStage(), row.getReached());
+        }
+        for (JobApplicationFunnelDuration row : durationRows) {
+            overall.addDuration(row.getStage(), row.getDays(), row.getTotal());
+            bySource.computeIfAbsent(row.getSource(), source -> new FunnelAccumulator())
+                    .addDuration(row.getStage(), row.getDays(), row.getTotal());
+        }
+
+        List<SourceFunnelDto> sourceFunnels = new ArrayList<>();
+        bySource.forEach((source, accumulator) -> sourceFunnels.add(new SourceFunnelDto(source, accumulator.toStages())));
+
+        return new JobApplicationFunnelDto(overall.toStages(), sourceFunnels);
+    }
+
+    /**
+     * Median of a histogram of whole days: the middle value, or the mean of the two middle values.
+     */
+    public static Double median(NavigableMap<Long, Long> histogram) {
+        long count = histogram.values().stream().mapToLong(Long::longValue).sum();
+        if (count == 0) {
+            return null;
+        }
+
+        long lowerPosition = (count + 1) / 2;
+        long upperPosition = count / 2 + 1;
+        Long lower = null;
+        Long upper = null;
+        long seen = 0;
+        for (Map.Entry<Long, Long> bucket : histogram.entrySet()) {
+            seen += bucket.getValue();
+            if (lower == null && seen >= lowerPosition) {
+                lower = bucket.getKey();
+            }
+            if (seen >= upperPosition) {
+                upper = bucket.getKey();
+                break;
+            }
+        }
+
+        return (lower + upper) / 2.0;
+    }
+
+    private static FunnelStage advance(FunnelStage current, FunnelStage target, Set<FunnelStage> reached) {
+        if (target == null || target.ordinal() <= current.ordinal()) {
+            return current;
+        }
+
+        for (FunnelStage stage : FunnelStage.values()) {
+            if (stage.ordinal() <= target.ordinal()) {
+                reached.add(stage);
+            }
+        }
+        return target;
+    }
+
+    private static class FunnelAccumulator {
+
+        private final long[] reached = new long[FunnelStage.values().length];
+        private final Map<FunnelStage, NavigableMap<Long, Long>> durations = new EnumMap<>(FunnelStage.class);
+
+        void addReached(FunnelStage stage, long count) {
+            reached[stage.ordinal()] += count;
+        }
+
+        void addDuration(FunnelStage stage, long days, long count) {
+            durations.computeIfAbsent(stage, s -> new TreeMap<>()).merge(days, count, Long::sum);
+        }
+
+        List<FunnelStageDto> toStages() {
+            List<FunnelStageDto> stages = new ArrayList<>();
+            for (FunnelStage stage : FunnelStage.values()) {
+                long previous = stage.ordinal() == 0 ? 0L : reached[stage.ordinal() - 1];
+
+                stages.add(FunnelStageDto.builder()
+                        .stage(stage)
+                        .reached(reached[stage.ordinal()])
+                        .conversionRate(previous == 0 ? null : (double) reached[stage.ordinal()] / previous)
+                        .medianDays(median(durations.getOrDefault(stage, Collections.emptyNavigableMap())))
+                        .build());
+            }
+            return stages;
+        }
+    }
+}
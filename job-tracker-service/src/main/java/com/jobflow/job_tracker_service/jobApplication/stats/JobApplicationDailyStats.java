@@ -0,0 +1,53 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Daily rollup of the user's job applications: number of applications applied on {@code day}
+ * with the given status and source. The unique key doubles as the index for date range scans.
+ */
+@Entity
+@Table(
+        name = "job_application_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_job_application_daily_stats_user_day_status_source",
+                columnNames = {"user_id", "day", "status", "source"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false)
+    private Source source;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+}
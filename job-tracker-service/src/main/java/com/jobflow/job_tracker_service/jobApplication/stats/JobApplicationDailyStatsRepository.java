@@ -0,0 +1,81 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JobApplicationDailyStatsRepository extends JpaRepository<JobApplicationDailyStats, Long> {
+
+    /**
+     * Sums the user's daily rollup rows per bucket and status. {@code granularity} is a
+     * PostgreSQL DATE_TRUNC field ('day', 'week' or 'month'), buckets are returned as ISO dates.
+     */
+    @Query(
+            value = """
+                    SELECT TO_CHAR(DATE_TRUNC(:granularity, CAST(day AS timestamp)), 'YYYY-MM-DD') AS bucket,
+                           status AS status,
+                           CAST(SUM(total) AS bigint) AS total
+                    FROM job_application_daily_stats
+                    WHERE user_id = :userId
+                      AND day BETWEEN :from AND :to
+                      AND (CAST(:source AS text) IS NULL OR source = CAST(:source AS text))
+                      AND total > 0
+                    GROUP BY 1, 2
+                    ORDER BY 1
+                    """,
+            nativeQuery = true
+    )
+    List<TimeseriesRowProjection> findTimeseriesRows(@Param("userId") Long userId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to,
+                                                     @Param("granularity") String granularity,
+                                                     @Param("source") String source);
+
+    /**
+     * Adds {@code delta} to the rollup row the job application contributes to, creating it if missing.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_daily_stats (user_id, day, status, source, total)
+                    VALUES (:userId, :day, :status, :source, :delta)
+                    ON CONFLICT (user_id, day, status, source)
+                    DO UPDATE SET total = job_application_daily_stats.total + EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("day") LocalDate day,
+                    @Param("status") String status,
+                    @Param("source") String source,
+                    @Param("delta") long delta);
+
+    @Modifying
+    @Query(
+            value = "DELETE FROM job_application_daily_stats WHERE user_id = :userId",
+            nativeQuery = true
+    )
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Recounts the user's rollup rows from job applications, overwriting rows created concurrently by {@link #applyDelta}.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_daily_stats (user_id, day, status, source, total)
+                    SELECT user_id, applied_at, status, source, COUNT(*)
+                    FROM job_applications
+                    WHERE user_id = :userId
+                    GROUP BY user_id, applied_at, status, source
+                    ON CONFLICT (user_id, day, status, source)
+                    DO UPDATE SET total = EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void rebuildForUser(@Param("userId") Long userId);
+}
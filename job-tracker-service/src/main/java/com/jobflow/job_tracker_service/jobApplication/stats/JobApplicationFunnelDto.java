@@ -0,0 +1,23 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO representing the APPLIED -> VIEWED -> INTERVIEW -> OFFER funnel of job applications")
+public class JobApplicationFunnelDto {
+
+    @Schema(description = "Funnel stages over all sources")
+    private List<FunnelStageDto> overall;
+
+    @Schema(description = "Funnels of every source that has job applications")
+    private List<SourceFunnelDto> bySource;
+}
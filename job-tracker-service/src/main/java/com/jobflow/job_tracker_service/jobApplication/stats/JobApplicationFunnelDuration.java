@@ -0,0 +1,51 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Histogram bucket of the time it took to reach a funnel stage: number of the user's job applications
+ * from {@code source} that entered {@code stage} {@code days} days after the previous reached stage.
+ * Whole days keep the histogram small and the median computed from it exact.
+ */
+@Entity
+@Table(
+        name = "job_application_funnel_durations",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_job_application_funnel_durations_user_source_stage_days",
+                columnNames = {"user_id", "source", "stage", "days"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationFunnelDuration {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false)
+    private Source source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false)
+    private FunnelStage stage;
+
+    @Column(name = "days", nullable = false)
+    private Long days;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+}
@@ -0,0 +1,56 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobApplicationFunnelDurationRepository extends JpaRepository<JobApplicationFunnelDuration, Long> {
+
+    @Query("SELECT d FROM JobApplicationFunnelDuration d WHERE d.userId = :userId AND d.total > 0")
+    List<JobApplicationFunnelDuration> findAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_funnel_durations (user_id, source, stage, days, total)
+                    VALUES (:userId, :source, :stage, :days, :delta)
+                    ON CONFLICT (user_id, source, stage, days)
+                    DO UPDATE SET total = job_application_funnel_durations.total + EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("source") String source,
+                    @Param("stage") String stage,
+                    @Param("days") long days,
+                    @Param("delta") long delta);
+
+    /**
+     * Sets the counter to its rebuilt value, overwriting a row created concurrently by {@link #applyDelta}.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_funnel_durations (user_id, source, stage, days, total)
+                    VALUES (:userId, :source, :stage, :days, :total)
+                    ON CONFLICT (user_id, source, stage, days)
+                    DO UPDATE SET total = EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void setTotal(@Param("userId") Long userId,
+                  @Param("source") String source,
+                  @Param("stage") String stage,
+                  @Param("days") long days,
+                  @Param("total") long total);
+
+    @Modifying
+    @Query(
+            value = "DELETE FROM job_application_funnel_durations WHERE user_id = :userId",
+            nativeQuery = true
+    )
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,46 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Number of the user's job applications from {@code source} that reached the funnel {@code stage}.
+ */
+@Entity
+@Table(
+        name = "job_application_funnel_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_job_application_funnel_stats_user_source_stage",
+                columnNames = {"user_id", "source", "stage"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationFunnelStats {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false)
+    private Source source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false)
+    private FunnelStage stage;
+
+    @Column(name = "reached", nullable = false)
+    private Long reached;
+}
@@ -0,0 +1,54 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobApplicationFunnelStatsRepository extends JpaRepository<JobApplicationFunnelStats, Long> {
+
+    @Query("SELECT f FROM JobApplicationFunnelStats f WHERE f.userId = :userId AND f.reached > 0")
+    List<JobApplicationFunnelStats> findAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_funnel_stats (user_id, source, stage, reached)
+                    VALUES (:userId, :source, :stage, :delta)
+                    ON CONFLICT (user_id, source, stage)
+                    DO UPDATE SET reached = job_application_funnel_stats.reached + EXCLUDED.reached
+                    """,
+            nativeQuery = true
+    )
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("source") String source,
+                    @Param("stage") String stage,
+                    @Param("delta") long delta);
+
+    /**
+     * Sets the counter to its rebuilt value, overwriting a row created concurrently by {@link #applyDelta}.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_funnel_stats (user_id, source, stage, reached)
+                    VALUES (:userId, :source, :stage, :reached)
+                    ON CONFLICT (user_id, source, stage)
+                    DO UPDATE SET reached = EXCLUDED.reached
+                    """,
+            nativeQuery = true
+    )
+    void setReached(@Param("userId") Long userId,
+                    @Param("source") String source,
+                    @Param("stage") String stage,
+                    @Param("reached") long reached);
+
+    @Modifying
+    @Query(
+            value = "DELETE FROM job_application_funnel_stats WHERE user_id = :userId",
+            nativeQuery = true
+    )
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
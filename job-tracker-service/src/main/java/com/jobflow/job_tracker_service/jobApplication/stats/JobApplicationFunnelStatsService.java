@@ -0,0 +1,129 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistory;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Keeps the per-user funnel counters in sync with the status history. A change of a job application
+ * only touches the counters its contribution differs in, so the history is never rescanned on write.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobApplicationFunnelStatsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationFunnelStatsService.class);
+
+    private final JobApplicationFunnelStatsRepository funnelStatsRepository;
+    private final JobApplicationFunnelDurationRepository funnelDurationRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final JobApplicationStatusHistoryRepository historyRepository;
+
+    /**
+     * Replaces the {@code before} contribution with the {@code after} one. {@code null} stands for
+     * an application that did not exist before or does not exist anymore.
+     */
+    @Transactional(propagation = MANDATORY)
+    public void onChange(FunnelContribution before, FunnelContribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+
+        if (before != null && after != null && before.getSource() == after.getSource()) {
+            applyDiff(before, after);
+        } else {
+            if (before != null) {
+                apply(before, -1L);
+            }
+            if (after != null) {
+                apply(after, 1L);
+            }
+        }
+
+        LOGGER.debug("Applied funnel changes of userId: {}", after != null ? after.getUserId() : before.getUserId());
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        LOGGER.debug("Rebuilding funnel counters for userId: {}", userId);
+
+        funnelStatsRepository.deleteAllByUserId(userId);
+        funnelDurationRepository.deleteAllByUserId(userId);
+
+        Map<Long, List<JobApplicationStatusHistory>> historyByJobApplication = historyRepository.findAllByUserIdOrderByChangedAtAscIdAsc(userId)
+                .stream()
+                .collect(Collectors.groupingBy(JobApplicationStatusHistory::getJobApplicationId));
+
+        // Contributions are summed in memory, so the rebuild writes one row per counter instead of upserting per application
+        Map<Source, Map<FunnelStage, Long>> reached = new EnumMap<>(Source.class);
+        Map<Source, Map<FunnelStage, Map<Long, Long>>> durations = new EnumMap<>(Source.class);
+        for (JobApplication jobApplication : jobApplicationRepository.findAllByUserId(userId)) {
+            FunnelContribution contribution = FunnelStatsUtils.contribution(
+                    jobApplication,
+                    historyByJobApplication.getOrDefault(jobApplication.getId(), List.of())
+            );
+
+            contribution.getReached().forEach(stage -> reached
+                    .computeIfAbsent(contribution.getSource(), source -> new EnumMap<>(FunnelStage.class))
+                    .merge(stage, 1L, Long::sum));
+            contribution.getDaysToReach().forEach((stage, days) -> durations
+                    .computeIfAbsent(contribution.getSource(), source -> new EnumMap<>(FunnelStage.class))
+                    .computeIfAbsent(stage, s -> new HashMap<>())
+                    .merge(days, 1L, Long::sum));
+        }
+
+        reached.forEach((source, byStage) -> byStage.forEach((stage, total) ->
+                funnelStatsRepository.setReached(userId, source.name(), stage.name(), total)));
+        durations.forEach((source, byStage) -> byStage.forEach((stage, byDays) -> byDays.forEach((days, total) ->
+                funnelDurationRepository.setTotal(userId, source.name(), stage.name(), days, total))));
+
+        LOGGER.debug("Successfully rebuilt funnel counters for userId: {}", userId);
+    }
+
+    private void applyDiff(FunnelContribution before, FunnelContribution after) {
+        Long userId = after.getUserId();
+        String source = after.getSource().name();
+
+        for (FunnelStage stage : FunnelStage.values()) {
+            long reachedDelta = (after.getReached().contains(stage) ? 1L : 0L) - (before.getReached().contains(stage) ? 1L : 0L);
+            if (reachedDelta != 0) {
+                funnelStatsRepository.applyDelta(userId, source, stage.name(), reachedDelta);
+            }
+
+            Long daysBefore = before.getDaysToReach().get(stage);
+            Long daysAfter = after.getDaysToReach().get(stage);
+            if (Objects.equals(daysBefore, daysAfter)) {
+                continue;
+            }
+            if (daysBefore != null) {
+                funnelDurationRepository.applyDelta(userId, source, stage.name(), daysBefore, -1L);
+            }
+            if (daysAfter != null) {
+                funnelDurationRepository.applyDelta(userId, source, stage.name(), daysAfter, 1L);
+            }
+        }
+    }
+
+    private void apply(FunnelContribution contribution, long delta) {
+        String source = contribution.getSource().name();
+
+        for (FunnelStage stage : contribution.getReached()) {
+            funnelStatsRepository.applyDelta(contribution.getUserId(), source, stage.name(), delta);
+        }
+        contribution.getDaysToReach().forEach((stage, days) ->
+                funnelDurationRepository.applyDelta(contribution.getUserId(), source, stage.name(), days, delta)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * One bucket of the per-user, per-currency {@link SalarySketch}: number of the user's job applications
+ * whose salary in {@code currency} falls into the logarithmic {@code bucket}.
+ */
+@Entity
+@Table(
+        name = "job_application_salary_sketches",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_job_application_salary_sketches_user_currency_bucket",
+                columnNames = {"user_id", "currency", "bucket"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationSalarySketch {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false)
+    private Currency currency;
+
+    @Column(name = "bucket", nullable = false)
+    private Integer bucket;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+}
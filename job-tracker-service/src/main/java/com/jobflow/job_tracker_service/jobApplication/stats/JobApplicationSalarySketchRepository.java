@@ -0,0 +1,54 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobApplicationSalarySketchRepository extends JpaRepository<JobApplicationSalarySketch, Long> {
+
+    @Query("SELECT s FROM JobApplicationSalarySketch s WHERE s.userId = :userId AND s.total > 0")
+    List<JobApplicationSalarySketch> findAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_salary_sketches (user_id, currency, bucket, total)
+                    VALUES (:userId, :currency, :bucket, :delta)
+                    ON CONFLICT (user_id, currency, bucket)
+                    DO UPDATE SET total = job_application_salary_sketches.total + EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("currency") String currency,
+                    @Param("bucket") int bucket,
+                    @Param("delta") long delta);
+
+    /**
+     * Sets the bucket to its rebuilt value, overwriting a row created concurrently by {@link #applyDelta}.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    INSERT INTO job_application_salary_sketches (user_id, currency, bucket, total)
+                    VALUES (:userId, :currency, :bucket, :total)
+                    ON CONFLICT (user_id, currency, bucket)
+                    DO UPDATE SET total = EXCLUDED.total
+                    """,
+            nativeQuery = true
+    )
+    void setTotal(@Param("userId") Long userId,
+                  @Param("currency") String currency,
+                  @Param("bucket") int bucket,
+                  @Param("total") long total);
+
+    @Modifying
+    @Query(
+            value = "DELETE FROM job_application_salary_sketches WHERE user_id = :userId",
+            nativeQuery = true
+    )
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,27 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO representing the salary distribution of job applications. Percentiles are approximate, within 1% of the exact value")
+public class JobApplicationSalaryStatsDto {
+
+    @Schema(description = "Salary distribution of every currency that has job applications")
+    private List<CurrencySalaryStatsDto> byCurrency;
+
+    @Schema(description = "Salary distribution of all job applications converted to the base currency, OTHER currency is excluded, null if there are no salaries")
+    private CurrencySalaryStatsDto normalized;
+
+    @Schema(description = "Time of the exchange rates used for the normalized distribution", example = "2025-05-01T12:00:00")
+    private LocalDateTime exchangeRatesUpdatedAt;
+}
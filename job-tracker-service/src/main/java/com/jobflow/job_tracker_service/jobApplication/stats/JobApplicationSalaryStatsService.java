@@ -0,0 +1,80 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Keeps the per-user salary sketches in sync with job applications. A write moves the salary
+ * between sketch buckets, so percentiles are never computed from the raw salaries.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobApplicationSalaryStatsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationSalaryStatsService.class);
+
+    private final JobApplicationSalarySketchRepository salarySketchRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    @Transactional(propagation = MANDATORY)
+    public void onCreate(JobApplication jobApplication) {
+        applyDelta(jobApplication, 1L);
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onUpdate(JobApplication before, JobApplication after) {
+        if (before.getCurrency() == after.getCurrency()
+            && Objects.equals(SalaryStatsUtils.salaryBucket(before), SalaryStatsUtils.salaryBucket(after))) {
+            return;
+        }
+
+        applyDelta(before, -1L);
+        applyDelta(after, 1L);
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onDelete(JobApplication jobApplication) {
+        applyDelta(jobApplication, -1L);
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        LOGGER.debug("Rebuilding salary sketches for userId: {}", userId);
+
+        salarySketchRepository.deleteAllByUserId(userId);
+
+        Map<Currency, Map<Integer, Long>> buckets = new EnumMap<>(Currency.class);
+        for (JobApplication jobApplication : jobApplicationRepository.findAllByUserId(userId)) {
+            Integer bucket = SalaryStatsUtils.salaryBucket(jobApplication);
+            if (bucket != null) {
+                buckets.computeIfAbsent(jobApplication.getCurrency(), currency -> new HashMap<>())
+                        .merge(bucket, 1L, Long::sum);
+            }
+        }
+
+        buckets.forEach((currency, byBucket) -> byBucket.forEach((bucket, total) ->
+                salarySketchRepository.setTotal(userId, currency.name(), bucket, total)));
+
+        LOGGER.debug("Successfully rebuilt salary sketches for userId: {}", userId);
+    }
+
+    private void applyDelta(JobApplication jobApplication, long delta) {
+        Integer bucket = SalaryStatsUtils.salaryBucket(jobApplication);
+        if (bucket == null) {
+            return;
+        }
+
+        salarySketchRepository.applyDelta(jobApplication.getUserId(), jobApplication.getCurrency().name(), bucket, delta);
+        LOGGER.debug("Applied delta: {} to salary sketch of userId: {}", delta, jobApplication.getUserId());
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationStatsChangedEvent {
+
+    private Long userId;
+}
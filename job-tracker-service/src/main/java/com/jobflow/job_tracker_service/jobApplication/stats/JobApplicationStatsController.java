@@ -1,18 +1,25 @@
 package com.jobflow.job_tracker_service.jobApplication.stats;
 
 import com.jobflow.job_tracker_service.handler.ResponseError;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimited;
+import com.jobflow.job_tracker_service.jobApplication.Source;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/job-applications/stats")
 @RequiredArgsConstructor
@@ -39,10 +46,98 @@ public class JobApplicationStatsController {
                             @Schema(implementation = ResponseError.class)))
             }
     )
+    @RateLimited(type = JobApplicationStatsRateLimiterAction.class, action = "GET_STATS")
     @GetMapping
     public ResponseEntity<JobApplicationStatsDto> getStats() {
         LOGGER.info("[GET] Request for get job application stats");
 
         return ResponseEntity.ok(statsService.getStats());
     }
+
+    @Operation(
+            summary = "Get funnel of the current user",
+            description = "Retrieves the APPLIED -> VIEWED -> INTERVIEW -> OFFER funnel of the current user's job applications " +
+                          "overall and per source, with conversion rates and median days between stages",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Funnel received successfully",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = JobApplicationFunnelDto.class))),
+
+                    @ApiResponse(responseCode = "429", description = "Too many requests",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @RateLimited(type = JobApplicationStatsRateLimiterAction.class, action = "GET_FUNNEL")
+    @GetMapping("/funnel")
+    public ResponseEntity<JobApplicationFunnelDto> getFunnel() {
+        LOGGER.info("[GET] Request for get job application funnel");
+
+        return ResponseEntity.ok(statsService.getFunnel());
+    }
+
+    @Operation(
+            summary = "Get salary stats of the current user",
+            description = "Retrieves p25/p50/p90 and histograms of the current user's salaries per currency " +
+                          "and converted to the base currency by the locally stored exchange rates",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Salary stats received successfully",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = JobApplicationSalaryStatsDto.class))),
+
+                    @ApiResponse(responseCode = "429", description = "Too many requests",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @RateLimited(type = JobApplicationStatsRateLimiterAction.class, action = "GET_SALARY")
+    @GetMapping("/salary")
+    public ResponseEntity<JobApplicationSalaryStatsDto> getSalaryStats() {
+        LOGGER.info("[GET] Request for get job application salary stats");
+
+        return ResponseEntity.ok(statsService.getSalaryStats());
+    }
+
+    @Operation(
+            summary = "Get time series of the current user",
+            description = "Retrieves the number of job applications of the current user per bucket of applied date, " +
+                          "split by status. Read from the daily rollup, so the cost does not depend on the number of applications",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Time series received successfully",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = JobApplicationTimeseriesDto.class))),
+
+                    @ApiResponse(responseCode = "400", description = "Invalid date range",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "429", description = "Too many requests",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @RateLimited(type = JobApplicationStatsRateLimiterAction.class, action = "GET_TIMESERIES")
+    @GetMapping("/timeseries")
+    public ResponseEntity<JobApplicationTimeseriesDto> getTimeseries(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Parameter(description = "Start of the range (inclusive)", example = "2025-05-01", required = true) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Parameter(description = "End of the range (inclusive)", example = "2025-05-31", required = true) LocalDate to,
+            @RequestParam(value = "granularity", defaultValue = "DAY") @Parameter(description = "Bucket size", example = "WEEK") StatsGranularity granularity,
+            @RequestParam(value = "source", required = false) @Parameter(description = "Source to filter by. Omit for all sources", example = "LINKEDIN") Source source
+    ) {
+        LOGGER.info("[GET] Request for get job application time series - from: {}, to: {}, granularity: {}, source: {}", from, to, granularity, source);
+
+        return ResponseEntity.ok(statsService.getTimeseries(from, to, granularity, source));
+    }
 }
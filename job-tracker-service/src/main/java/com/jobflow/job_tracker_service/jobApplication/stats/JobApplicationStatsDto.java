@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -34,6 +35,12 @@ public class JobApplicationStatsDto {
     @Schema(description = "Most frequently mentioned position in job applications, with total count", implementation = TopItem.class)
     private TopItem topPosition;
 
+    @Schema(description = "Most frequently mentioned companies in job applications, with total count, most frequent first")
+    private List<TopItem> topCompanies;
+
+    @Schema(description = "Most frequently mentioned positions in job applications, with total count, most frequent first")
+    private List<TopItem> topPositions;
+
     @Schema(
             description = "Number of job applications per status",
             example = """
@@ -1,22 +1,28 @@
 package com.jobflow.job_tracker_service.jobApplication.stats;
 
 import com.jobflow.job_tracker_service.rateLimiter.RateLimiterAction;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimiterAlgorithm;
 
 import java.time.Duration;
 
 public enum JobApplicationStatsRateLimiterAction implements RateLimiterAction {
 
-    GET_STATS("stats", 5, Duration.ofMinutes(1), "Too many stats requests. Try again in a minute");
+    GET_STATS("stats", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER, "Too many stats requests. Try again in a minute"),
+    GET_TIMESERIES("stats_timeseries", 10, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER, "Too many stats time series requests. Try again in a minute"),
+    GET_FUNNEL("stats_funnel", 10, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER, "Too many stats funnel requests. Try again in a minute"),
+    GET_SALARY("stats_salary", 10, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER, "Too many stats salary requests. Try again in a minute");
 
     private final String action;
     private final int limit;
     private final Duration timeout;
+    private final RateLimiterAlgorithm algorithm;
     private final String message;
 
-    JobApplicationStatsRateLimiterAction(String action, int limit, Duration timeout, String message) {
+    JobApplicationStatsRateLimiterAction(String action, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message) {
         this.action = action;
         this.limit = limit;
         this.timeout = timeout;
+        this.algorithm = algorithm;
         this.message = message;
     }
 
@@ -36,6 +42,11 @@ public enum JobApplicationStatsRateLimiterAction implements RateLimiterAction {
         return timeout;
     }
 
+    @Override
+    public RateLimiterAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
     @Override
     public String getMessage() {
         return message;
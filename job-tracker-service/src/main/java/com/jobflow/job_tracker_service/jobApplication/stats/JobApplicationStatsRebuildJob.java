@@ -0,0 +1,109 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Periodically recomputes the precomputed stats counters, daily rollup, funnel counters and salary sketches from job applications
+ * to repair any drift (e.g. after manual data fixes). Only one instance rebuilds at a time.
+ */
+@Component
+public class JobApplicationStatsRebuildJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationStatsRebuildJob.class);
+    private static final String REBUILD_LOCK = "rebuild";
+    // Set once the initial backfill has run; bump the version when a new stats table needs one
+    private static final String BACKFILL_DONE_KEY = "stats:backfill-done:v1";
+
+    private final JobApplicationStatsRepository statsRepository;
+    private final JobApplicationUserStatsService userStatsService;
+    private final JobApplicationFunnelStatsService funnelStatsService;
+    private final JobApplicationSalaryStatsService salaryStatsService;
+    private final JobApplicationTopItemsService topItemsService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StatsJobLock statsJobLock;
+    private final Duration lockTtl;
+    private final Executor statsJobExecutor;
+
+    public JobApplicationStatsRebuildJob(JobApplicationStatsRepository statsRepository,
+                                         JobApplicationUserStatsService userStatsService,
+                                         JobApplicationFunnelStatsService funnelStatsService,
+                                         JobApplicationSalaryStatsService salaryStatsService,
+                                         JobApplicationTopItemsService topItemsService,
+                                         RedisTemplate<String, String> redisTemplate,
+                                         StatsJobLock statsJobLock,
+                                         @Value("${job-application.stats.rebuild-lock-ttl}") Duration lockTtl,
+                                         @Qualifier(StatsJobConfig.STATS_JOB_EXECUTOR) Executor statsJobExecutor) {
+        this.statsRepository = statsRepository;
+        this.userStatsService = userStatsService;
+        this.funnelStatsService = funnelStatsService;
+        this.salaryStatsService = salaryStatsService;
+        this.topItemsService = topItemsService;
+        this.redisTemplate = redisTemplate;
+        this.statsJobLock = statsJobLock;
+        this.lockTtl = lockTtl;
+        this.statsJobExecutor = statsJobExecutor;
+    }
+
+    // A stats table may stay empty legitimately (e.g. no status was ever changed), so emptiness does not tell
+    // whether the backfill ran
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        statsJobExecutor.execute(() -> {
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+                    return;
+                }
+
+                LOGGER.info("Stats tables are not backfilled yet, starting initial backfill");
+                if (statsJobLock.runExclusively(REBUILD_LOCK, lockTtl, this::rebuildAll)) {
+                    redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, Instant.now().toString());
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to run initial stats backfill, retrying on next start: {}", e.getMessage());
+            }
+        });
+    }
+
+    @Scheduled(cron = "${job-application.stats.rebuild-cron}")
+    public void scheduleRebuild() {
+        statsJobExecutor.execute(this::rebuildAllExclusively);
+    }
+
+    public void rebuildAllExclusively() {
+        statsJobLock.runExclusively(REBUILD_LOCK, lockTtl, this::rebuildAll);
+    }
+
+    public void rebuildAll() {
+        List<Long> userIds = statsRepository.findAllUserIds();
+        LOGGER.info("Starting stats counters rebuild for: {} users", userIds.size());
+
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                userStatsService.rebuild(userId);
+                funnelStatsService.rebuild(userId);
+                salaryStatsService.rebuild(userId);
+                topItemsService.evict(userId);
+                redisTemplate.delete(StatsCacheKeyUtils.keyForUser(userId));
+            } catch (RuntimeException e) {
+                failed++;
+                LOGGER.error("Failed to rebuild stats counters for userId: {}", userId, e);
+            }
+        }
+
+        LOGGER.info("Finished stats counters rebuild for: {} users, failed: {}", userIds.size(), failed);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.live.LiveUpdatesPublisher;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Recomputes cached stats in the background once a change is committed,
+ * so readers keep getting the previous value instead of all missing the cache at once.
+ * The recomputed stats are pushed to the user's live updates connections.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobApplicationStatsRefreshListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationStatsRefreshListener.class);
+
+    private final JobApplicationStatsService statsService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LiveUpdatesPublisher liveUpdatesPublisher;
+
+    @Async(StatsRefreshConfig.STATS_REFRESH_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(JobApplicationStatsChangedEvent event) {
+        Long userId = event.getUserId();
+        LOGGER.debug("Refreshing job applications stats after change for userId: {}", userId);
+
+        try {
+            JobApplicationStatsDto stats = statsService.refresh(userId);
+            liveUpdatesPublisher.publishStats(userId, stats);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to refresh job applications stats for userId: {}, evicting cached value", userId, e);
+            redisTemplate.delete(StatsCacheKeyUtils.keyForUser(userId));
+        }
+    }
+}
@@ -1,63 +1,109 @@
 package com.jobflow.job_tracker_service.jobApplication.stats;
 
-import com.jobflow.job_tracker_service.jobApplication.JobApplication;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
-public interface JobApplicationStatsRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationUserStats, Long> {
 
+    /**
+     * Reads the user's status counters and daily rollup and returns the stats as typed rows in one roundtrip.
+     * Top companies/positions and the number of unique companies are served from Redis, see {@link JobApplicationTopItemsService}.
+     */
     @Query(
-            value = "SELECT COUNT(*) FROM job_applications WHERE user_id = :userId",
+            value = """
+                    WITH stats AS (
+                        SELECT dimension_key, total
+                        FROM job_application_user_stats
+                        WHERE user_id = :userId AND dimension = 'STATUS' AND total > 0
+                    )
+                    SELECT 'SUMMARY' AS type,
+                           CAST(NULL AS text) AS name,
+                           CAST(COALESCE(SUM(total), 0) AS bigint) AS total,
+                           (SELECT CAST(COALESCE(SUM(d.total), 0) AS bigint)
+                            FROM job_application_daily_stats d
+                            WHERE d.user_id = :userId AND d.day >= :last7DaysFrom) AS "last7Days",
+                           (SELECT CAST(COALESCE(SUM(d.total), 0) AS bigint)
+                            FROM job_application_daily_stats d
+                            WHERE d.user_id = :userId AND d.day >= :last30DaysFrom) AS "last30Days"
+                    FROM stats
+                    UNION ALL
+                    SELECT 'STATUS', dimension_key, total, NULL, NULL
+                    FROM stats
+                    """,
             nativeQuery = true
     )
-    Long countAllByUserId(@Param("userId") Long userId);
+    List<StatsRowProjection> findStatsRows(@Param("userId") Long userId,
+                                           @Param("last7DaysFrom") LocalDate last7DaysFrom,
+                                           @Param("last30DaysFrom") LocalDate last30DaysFrom);
 
-    @Query(
-            value = "SELECT COUNT(*) FROM job_applications WHERE user_id = :userId AND applied_at >= :from",
-            nativeQuery = true
-    )
-    Long countSince(@Param("userId") Long userId, @Param("from") LocalDate from);
+    List<JobApplicationUserStats> findAllByUserIdAndDimensionInAndTotalGreaterThan(Long userId,
+                                                                                  Collection<StatsDimension> dimensions,
+                                                                                  Long total);
 
+    /**
+     * Adds {@code delta} to every counter the job application contributes to, creating missing counters.
+     */
+    @Modifying
     @Query(
-            value = "SELECT COUNT(DISTINCT LOWER(TRIM(company))) FROM job_applications WHERE user_id = :userId",
+            value = """
+                    INSERT INTO job_application_user_stats (user_id, dimension, dimension_key, total)
+                    VALUES (:userId, 'STATUS', :status, :delta),
+                           (:userId, 'COMPANY', LOWER(TRIM(:company)), :delta),
+                           (:userId, 'POSITION', LOWER(TRIM(:position)), :delta)
+                    ON CONFLICT (user_id, dimension, dimension_key)
+                    DO UPDATE SET total = job_application_user_stats.total + EXCLUDED.total
+                    """,
             nativeQuery = true
     )
-    Long countUniqueCompanies(@Param("userId") Long userId);
+    void applyDelta(@Param("userId") Long userId,
+                    @Param("status") String status,
+                    @Param("company") String company,
+                    @Param("position") String position,
+                    @Param("delta") long delta);
 
+    @Modifying
     @Query(
-            value = "SELECT status AS status, COUNT(*) AS total FROM job_applications WHERE user_id = :userId GROUP BY status",
+            value = "DELETE FROM job_application_user_stats WHERE user_id = :userId",
             nativeQuery = true
     )
-    List<StatusCountProjection> countByStatus(@Param("userId") Long userId);
+    void deleteAllByUserId(@Param("userId") Long userId);
 
+    /**
+     * Recounts the user's counters from job applications. A counter created concurrently by {@link #applyDelta}
+     * is overwritten instead of failing the rebuild.
+     */
+    @Modifying
     @Query(
             value = """
-                    SELECT INITCAP(LOWER(TRIM(company))) AS company, COUNT(*) AS total
-                    FROM job_applications
-                    WHERE user_id = :userId
-                    GROUP BY LOWER(TRIM(company))
-                    ORDER BY total DESC
-                    LIMIT 1
+                    INSERT INTO job_application_user_stats (user_id, dimension, dimension_key, total)
+                    SELECT user_id, 'STATUS', status, COUNT(*)
+                    FROM job_applications WHERE user_id = :userId GROUP BY user_id, status
+                    UNION ALL
+                    SELECT user_id, 'COMPANY', LOWER(TRIM(company)), COUNT(*)
+                    FROM job_applications WHERE user_id = :userId GROUP BY user_id, LOWER(TRIM(company))
+                    UNION ALL
+                    SELECT user_id, 'POSITION', LOWER(TRIM(position)), COUNT(*)
+                    FROM job_applications WHERE user_id = :userId GROUP BY user_id, LOWER(TRIM(position))
+                    ON CONFLICT (user_id, dimension, dimension_key)
+                    DO UPDATE SET total = EXCLUDED.total
                     """,
             nativeQuery = true
     )
-    Optional<PopularCompanyProjection> findTopCompany(@Param("userId") Long userId);
+    void rebuildForUser(@Param("userId") Long userId);
 
     @Query(
             value = """
-                    SELECT INITCAP(LOWER(TRIM(position))) AS position, COUNT(*) AS total
-                    FROM job_applications
-                    WHERE user_id = :userId
-                    GROUP BY LOWER(TRIM(position))
-                    ORDER BY total DESC
-                    LIMIT 1
+                    SELECT DISTINCT user_id FROM job_applications
+                    UNION
+                    SELECT DISTINCT user_id FROM job_application_user_stats
                     """,
             nativeQuery = true
     )
-    Optional<PopularPositionProjection> findTopPosition(@Param("userId") Long userId);
+    List<Long> findAllUserIds();
 }
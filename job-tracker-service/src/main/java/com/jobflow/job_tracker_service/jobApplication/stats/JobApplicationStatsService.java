@@ -1,6 +1,18 @@
 package com.jobflow.job_tracker_service.jobApplication.stats;
 
+import com.jobflow.job_tracker_service.jobApplication.Source;
+
+import java.time.LocalDate;
+
 public interface JobApplicationStatsService {
 
     JobApplicationStatsDto getStats();
+
+    JobApplicationTimeseriesDto getTimeseries(LocalDate from, LocalDate to, StatsGranularity granularity, Source source);
+
+    JobApplicationFunnelDto getFunnel();
+
+    JobApplicationSalaryStatsDto getSalaryStats();
+
+    JobApplicationStatsDto refresh(Long userId);
 }
@@ -2,10 +2,12 @@ package com.jobflow.job_tracker_service.jobApplication.stats;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.exception.InvalidStatsRangeException;
 import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.exchangeRate.ExchangeRateService;
 import com.jobflow.job_tracker_service.jobApplication.JobApplicationRateLimiterAction;
+import com.jobflow.job_tracker_service.jobApplication.Source;
 import com.jobflow.job_tracker_service.jobApplication.Status;
-import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
 import com.jobflow.job_tracker_service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -15,31 +17,42 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-
-import static java.util.stream.Collectors.toMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 @RequiredArgsConstructor
 public class JobApplicationStatsServiceImpl implements JobApplicationStatsService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationStatsServiceImpl.class);
+    private static final Period MAX_TIMESERIES_RANGE = Period.ofYears(2);
 
     private final JobApplicationStatsRepository statsRepository;
+    private final JobApplicationDailyStatsRepository dailyStatsRepository;
+    private final JobApplicationFunnelStatsRepository funnelStatsRepository;
+    private final JobApplicationFunnelDurationRepository funnelDurationRepository;
+    private final JobApplicationSalarySketchRepository salarySketchRepository;
+    private final ExchangeRateService exchangeRateService;
     private final UserService userService;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
-    private final RateLimiterValidator rateLimiterValidator;
+    private final JobApplicationTopItemsService topItemsService;
+    private final ConcurrentMap<Long, CompletableFuture<JobApplicationStatsDto>> inFlightLoads = new ConcurrentHashMap<>();
 
     @Override
     public JobApplicationStatsDto getStats() {
         Long currentUserId = userService.getCurrentUserId();
         LOGGER.debug("Fetching job applications stats of the current user with id: {}", currentUserId);
 
-        rateLimiterValidator.validate(JobApplicationStatsRateLimiterAction.GET_STATS, String.valueOf(currentUserId));
-        String cacheKey = StatsCacheKeyUtils.keyForUser(currentUserId);
-
-        String statsFromCache = redisTemplate.opsForValue().get(cacheKey);
+        String statsFromCache = redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(currentUserId));
         if (statsFromCache != null) {
             try {
                 LOGGER.debug("Successfully extracted job applications stats from Redis for userId: {}", currentUserId);
@@ -49,13 +62,128 @@ public class JobApplicationStatsServiceImpl implements JobApplicationStatsServic
             }
         }
 
-        JobApplicationStatsDto stats = buildStats(currentUserId);
+        return loadSingleFlight(currentUserId);
+    }
+
+    @Override
+    public JobApplicationTimeseriesDto getTimeseries(LocalDate from, LocalDate to, StatsGranularity granularity, Source source) {
+        Long currentUserId = userService.getCurrentUserId();
+        LOGGER.debug("Fetching job applications time series of the current user with id: {}, from: {}, to: {}, granularity: {}, source: {}",
+                currentUserId, from, to, granularity, source);
+
+        validateRange(from, to);
+
+        List<TimeseriesRowProjection> rows = dailyStatsRepository.findTimeseriesRows(
+                currentUserId, from, to, granularity.getDateTruncField(), source == null ? null : source.name()
+        );
+
+        Map<LocalDate, TimeseriesPointDto> points = new LinkedHashMap<>();
+        for (LocalDate bucket = granularity.truncate(from); !bucket.isAfter(to); bucket = granularity.next(bucket)) {
+            points.put(bucket, new TimeseriesPointDto(bucket, 0L, new EnumMap<>(Status.class)));
+        }
+        for (TimeseriesRowProjection row : rows) {
+            TimeseriesPointDto point = points.get(LocalDate.parse(row.getBucket()));
+            point.setTotal(point.getTotal() + row.getTotal());
+            point.getByStatus().put(row.getStatus(), row.getTotal());
+        }
+
+        LOGGER.debug("Successfully fetched job applications time series of {} buckets from {} rollup rows for userId: {}",
+                points.size(), rows.size(), currentUserId);
+        return JobApplicationTimeseriesDto.builder()
+                .from(from)
+                .to(to)
+                .granularity(granularity)
+                .source(source)
+                .points(new ArrayList<>(points.values()))
+                .build();
+    }
+
+    @Override
+    public JobApplicationFunnelDto getFunnel() {
+        Long currentUserId = userService.getCurrentUserId();
+        LOGGER.debug("Fetching job applications funnel of the current user with id: {}", currentUserId);
+
+        JobApplicationFunnelDto funnel = FunnelStatsUtils.buildFunnel(
+                funnelStatsRepository.findAllByUserId(currentUserId),
+                funnelDurationRepository.findAllByUserId(currentUserId)
+        );
+
+        LOGGER.debug("Successfully fetched job applications funnel of {} sources for userId: {}", funnel.getBySource().size(), currentUserId);
+        return funnel;
+    }
+
+    @Override
+    public JobApplicationSalaryStatsDto getSalaryStats() {
+        Long currentUserId = userService.getCurrentUserId();
+        LOGGER.debug("Fetching job applications salary stats of the current user with id: {}", currentUserId);
+
+        JobApplicationSalaryStatsDto salaryStats = SalaryStatsUtils.buildSalaryStats(
+                salarySketchRepository.findAllByUserId(currentUserId),
+                exchangeRateService.getExchangeRates()
+        );
+
+        LOGGER.debug("Successfully fetched job applications salary stats of {} currencies for userId: {}", salaryStats.getByCurrency().size(), currentUserId);
+        return salaryStats;
+    }
+
+    @Override
+    public JobApplicationStatsDto refresh(Long userId) {
+        CompletableFuture<JobApplicationStatsDto> inFlight = inFlightLoads.get(userId);
+        if (inFlight != null) {
+            // A load that started before the change was committed may return stale stats: let it finish and load again
+            LOGGER.debug("Waiting for in-flight stats load before refresh for userId: {}", userId);
+            inFlight.exceptionally(e -> null).join();
+        }
+
+        JobApplicationStatsDto stats = loadSingleFlight(userId);
+        LOGGER.debug("Successfully refreshed job applications stats for userId: {}", userId);
+        return stats;
+    }
+
+    /**
+     * Builds and caches stats, making sure that concurrent callers for the same user
+     * share one computation instead of all hitting the database after an invalidation.
+     */
+    private JobApplicationStatsDto loadSingleFlight(Long userId) {
+        CompletableFuture<JobApplicationStatsDto> ownLoad = new CompletableFuture<>();
+        CompletableFuture<JobApplicationStatsDto> inFlight = inFlightLoads.putIfAbsent(userId, ownLoad);
+        if (inFlight != null) {
+            LOGGER.debug("Joining in-flight stats load for userId: {}", userId);
+            return awaitLoad(inFlight);
+        }
+
+        try {
+            JobApplicationStatsDto stats = buildAndCache(userId);
+            ownLoad.complete(stats);
+
+            return stats;
+        } catch (RuntimeException e) {
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(userId, ownLoad);
+        }
+    }
+
+    private JobApplicationStatsDto awaitLoad(CompletableFuture<JobApplicationStatsDto> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private JobApplicationStatsDto buildAndCache(Long userId) {
+        JobApplicationStatsDto stats = buildStats(userId);
 
         try {
             String jobApplicationStatsJson = objectMapper.writeValueAsString(stats);
-            redisTemplate.opsForValue().set(cacheKey, jobApplicationStatsJson, Duration.ofHours(1L));
+            redisTemplate.opsForValue().set(StatsCacheKeyUtils.keyForUser(userId), jobApplicationStatsJson, Duration.ofHours(1L));
 
-            LOGGER.debug("Successfully fetched job applications stats and stored in Redis for userId: {}", currentUserId);
+            LOGGER.debug("Successfully fetched job applications stats and stored in Redis for userId: {}", userId);
         } catch (JsonProcessingException e) {
             throw new JobApplicationServiceException("Failed to serialize job application stats", e);
         }
@@ -64,31 +192,39 @@ public class JobApplicationStatsServiceImpl implements JobApplicationStatsServic
     }
 
     private JobApplicationStatsDto buildStats(Long userId) {
-        Long total = statsRepository.countAllByUserId(userId);
-        Long last7Days = statsRepository.countSince(userId, LocalDate.now().minusDays(7L));
-        Long last30Days = statsRepository.countSince(userId, LocalDate.now().minusDays(30L));
-        Long uniqueCompanies = statsRepository.countUniqueCompanies(userId);
-
-        TopItem topCompany = statsRepository.findTopCompany(userId)
-                .map(el -> new TopItem(el.getCompany(), el.getTotal()))
-                .orElse(null);
-
-        TopItem topPosition = statsRepository.findTopPosition(userId)
-                .map(el -> new TopItem(el.getPosition(), el.getTotal()))
-                .orElse(null);
-
-        Map<Status, Long> byStatus = statsRepository.countByStatus(userId).stream()
-                .collect(toMap(StatusCountProjection::getStatus, StatusCountProjection::getTotal));
-
-        return JobApplicationStatsDto.builder()
-                .total(total)
-                .last7Days(last7Days)
-                .last30Days(last30Days)
-                .uniqueCompanies(uniqueCompanies)
-                .topCompany(topCompany)
-                .topPosition(topPosition)
-                .byStatus(byStatus)
+        LocalDate today = LocalDate.now();
+        List<StatsRowProjection> rows = statsRepository.findStatsRows(userId, today.minusDays(7L), today.minusDays(30L));
+
+        JobApplicationStatsDto stats = JobApplicationStatsDto.builder()
+                .total(0L)
+                .last7Days(0L)
+                .last30Days(0L)
                 .build();
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+
+        for (StatsRowProjection row : rows) {
+            switch (row.getType()) {
+                case SUMMARY -> {
+                    stats.setTotal(row.getTotal());
+                    stats.setLast7Days(row.getLast7Days());
+                    stats.setLast30Days(row.getLast30Days());
+                }
+                case STATUS -> byStatus.put(Status.valueOf(row.getName()), row.getTotal());
+            }
+        }
+
+        stats.setByStatus(byStatus);
+        topItemsService.fill(userId, stats);
+        return stats;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidStatsRangeException("Start of the range: " + from + " is after its end: " + to);
+        }
+        if (from.plus(MAX_TIMESERIES_RANGE).isBefore(to)) {
+            throw new InvalidStatsRangeException("Time series range must not exceed: " + MAX_TIMESERIES_RANGE);
+        }
     }
 
 }
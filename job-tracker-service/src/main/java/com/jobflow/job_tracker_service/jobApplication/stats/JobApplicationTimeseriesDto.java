@@ -0,0 +1,34 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO representing a time series of job applications by applied date")
+public class JobApplicationTimeseriesDto {
+
+    @Schema(description = "Start of the requested range (inclusive)", example = "2025-05-01")
+    private LocalDate from;
+
+    @Schema(description = "End of the requested range (inclusive)", example = "2025-05-31")
+    private LocalDate to;
+
+    @Schema(description = "Bucket size", example = "WEEK")
+    private StatsGranularity granularity;
+
+    @Schema(description = "Source the series is filtered by, null for all sources", example = "LINKEDIN")
+    private Source source;
+
+    @Schema(description = "Buckets in chronological order, including empty ones")
+    private List<TimeseriesPointDto> points;
+}
@@ -0,0 +1,227 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Serves the user's top companies/positions and the number of unique companies from Redis sorted sets
+ * (member - normalized name, score - number of job applications), so reading them needs no aggregation.
+ * The sets are loaded lazily from the stats counters with a TTL and are only incremented while they exist,
+ * so any drift between Redis and the counters lasts at most one TTL.
+ * <p>
+ * A load marks itself with a token before reading the counters. A delta arriving while the sets are missing may or
+ * may not be in the counters being read, so it removes the mark, and the load then answers from the counters without
+ * filling the sets; the next read loads them again.
+ */
+@Service
+public class JobApplicationTopItemsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationTopItemsService.class);
+    private static final Duration TOP_ITEMS_TTL = Duration.ofHours(1L);
+    private static final Duration LOADING_TTL = Duration.ofSeconds(30L);
+    // KEYS - top companies, top positions, load mark. ARGV - delta, company, position
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    local score = tonumber(redis.call('ZINCRBY', KEYS[i], ARGV[1], ARGV[i + 1]))
+                    if score <= 0 then
+                        redis.call('ZREM', KEYS[i], ARGV[i + 1])
+                    end
+                else
+                    redis.call('DEL', KEYS[3])
+                end
+            end
+            return 0
+            """, Long.class);
+    // KEYS - top companies, top positions, load mark. ARGV - load token, TTL in milliseconds, number of companies,
+    // then member/score pairs of the companies followed by the positions.
+    // Fills both sets at once, only if the load is still marked and nobody has filled them meanwhile
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[3])
+            if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+
+            local companies = tonumber(ARGV[3])
+            for i = 4, #ARGV, 2 do
+                local key = (i - 4) / 2 < companies and KEYS[1] or KEYS[2]
+                redis.call('ZADD', key, ARGV[i + 1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JobApplicationStatsRepository statsRepository;
+    private final int topSize;
+
+    public JobApplicationTopItemsService(RedisTemplate<String, String> redisTemplate,
+                                         JobApplicationStatsRepository statsRepository,
+                                         @Value("${job-application.stats.top-size}") int topSize) {
+        this.redisTemplate = redisTemplate;
+        this.statsRepository = statsRepository;
+        this.topSize = topSize;
+    }
+
+    /**
+     * Moves the company and position scores by {@code delta} once the caller's transaction commits.
+     */
+    @Transactional(propagation = MANDATORY)
+    public void onDelta(Long userId, String company, String position, long delta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(userId, company, position, delta);
+            }
+        });
+    }
+
+    public void fill(Long userId, JobApplicationStatsDto stats) {
+        List<Object> results = readTopItems(userId);
+        if ((Long) results.get(2) == 0L) {
+            results = load(userId);
+        }
+
+        stats.setTopCompanies(toTopItems(results.get(0)));
+        stats.setTopPositions(toTopItems(results.get(1)));
+        stats.setUniqueCompanies((Long) results.get(2));
+        stats.setTopCompany(stats.getTopCompanies().isEmpty() ? null : stats.getTopCompanies().get(0));
+        stats.setTopPosition(stats.getTopPositions().isEmpty() ? null : stats.getTopPositions().get(0));
+    }
+
+    public void evict(Long userId) {
+        // A load running now read the counters before they were rebuilt, so it must not fill the sets
+        redisTemplate.delete(topItemsKeys(userId));
+    }
+
+    private void increment(Long userId, String company, String position, long delta) {
+        try {
+            redisTemplate.execute(
+                    INCREMENT_SCRIPT,
+                    topItemsKeys(userId),
+                    String.valueOf(delta), normalize(company), normalize(position)
+            );
+            LOGGER.debug("Applied delta: {} to top items of userId: {}", delta, userId);
+        } catch (RuntimeException e) {
+            // The sets expire and are reloaded from the counters, so a lost increment is not worth failing a committed write
+            LOGGER.warn("Failed to apply delta: {} to top items of userId: {}", delta, userId, e);
+        }
+    }
+
+    private List<Object> readTopItems(Long userId) {
+        String companiesKey = StatsCacheKeyUtils.topCompaniesKey(userId);
+        String positionsKey = StatsCacheKeyUtils.topPositionsKey(userId);
+
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                operations.opsForZSet().reverseRangeWithScores((K) companiesKey, 0, topSize - 1L);
+                operations.opsForZSet().reverseRangeWithScores((K) positionsKey, 0, topSize - 1L);
+                operations.opsForZSet().zCard((K) companiesKey);
+                return null;
+            }
+        });
+    }
+
+    // Returns the same results as readTopItems, computed from the counters
+    private List<Object> load(Long userId) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(StatsCacheKeyUtils.topItemsLoadingKey(userId), token, LOADING_TTL);
+
+        List<JobApplicationUserStats> counters = statsRepository.findAllByUserIdAndDimensionInAndTotalGreaterThan(
+                userId, List.of(StatsDimension.COMPANY, StatsDimension.POSITION), 0L
+        );
+        Map<StatsDimension, List<TypedTuple<String>>> byDimension = counters.stream()
+                .collect(Collectors.groupingBy(
+                        JobApplicationUserStats::getDimension,
+                        Collectors.mapping(counter -> TypedTuple.of(counter.getDimensionKey(), counter.getTotal().doubleValue()), Collectors.toList())
+                ));
+        List<TypedTuple<String>> companies = byDimension.getOrDefault(StatsDimension.COMPANY, List.of());
+        List<TypedTuple<String>> positions = byDimension.getOrDefault(StatsDimension.POSITION, List.of());
+
+        if (!counters.isEmpty()) {
+            List<String> args = new ArrayList<>();
+            args.add(token);
+            args.add(String.valueOf(TOP_ITEMS_TTL.toMillis()));
+            args.add(String.valueOf(companies.size()));
+            Stream.concat(companies.stream(), positions.stream()).forEach(tuple -> {
+                args.add(tuple.getValue());
+                args.add(String.valueOf(tuple.getScore().longValue()));
+            });
+
+            Long filled = redisTemplate.execute(FILL_SCRIPT, topItemsKeys(userId), args.toArray());
+            LOGGER.debug("Loaded top items of userId: {} from: {} counters, filled: {}", userId, counters.size(), filled);
+        }
+
+        return List.of(top(companies), top(positions), (long) companies.size());
+    }
+
+    // Same order as ZREVRANGE: by score, then by member, both descending
+    private Set<TypedTuple<String>> top(List<TypedTuple<String>> tuples) {
+        return tuples.stream()
+                .sorted(Comparator.<TypedTuple<String>>comparingDouble(TypedTuple::getScore)
+                        .thenComparing(TypedTuple::getValue)
+                        .reversed())
+                .limit(topSize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static List<String> topItemsKeys(Long userId) {
+        return List.of(
+                StatsCacheKeyUtils.topCompaniesKey(userId),
+                StatsCacheKeyUtils.topPositionsKey(userId),
+                StatsCacheKeyUtils.topItemsLoadingKey(userId)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TopItem> toTopItems(Object tuples) {
+        if (tuples == null) {
+            return new ArrayList<>();
+        }
+
+        return ((Set<TypedTuple<String>>) tuples).stream()
+                .map(tuple -> new TopItem(initCap(tuple.getValue()), tuple.getScore().longValue()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Same as PostgreSQL INITCAP: the first letter of every word in upper case, the rest in lower case.
+     */
+    static String initCap(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        boolean wordStart = true;
+        for (char c : value.toCharArray()) {
+            result.append(wordStart ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            wordStart = !Character.isLetterOrDigit(c);
+        }
+        return result.toString();
+    }
+}
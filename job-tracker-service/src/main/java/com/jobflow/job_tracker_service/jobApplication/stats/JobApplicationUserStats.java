@@ -0,0 +1,46 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Precomputed counter of the user's job applications for one value of a dimension,
+ * e.g. (STATUS, "APPLIED") or (COMPANY, "google"). Company and position keys are stored
+ * normalized (trimmed and lower-cased).
+ */
+@Entity
+@Table(
+        name = "job_application_user_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_job_application_user_stats_user_dimension_key",
+                columnNames = {"user_id", "dimension", "dimension_key"}
+        )
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationUserStats {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false)
+    private StatsDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 200)
+    private String dimensionKey;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+}
@@ -0,0 +1,103 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Keeps the precomputed per-user stats counters, the daily rollup and the salary sketches in sync with job applications.
+ * Counter updates join the caller's transaction, so they commit or roll back together with the mutation.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobApplicationUserStatsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobApplicationUserStatsService.class);
+
+    private final JobApplicationStatsRepository statsRepository;
+    private final JobApplicationDailyStatsRepository dailyStatsRepository;
+    private final JobApplicationTopItemsService topItemsService;
+    private final JobApplicationSalaryStatsService salaryStatsService;
+
+    @Transactional(propagation = MANDATORY)
+    public void onCreate(JobApplication jobApplication) {
+        applyDelta(jobApplication, 1L);
+        applyTopItemsDelta(jobApplication, 1L);
+        salaryStatsService.onCreate(jobApplication);
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onUpdate(JobApplication before, JobApplication after) {
+        salaryStatsService.onUpdate(before, after);
+
+        if (!affectsStats(before, after)) {
+            LOGGER.debug("Job application with id: {} changed no stats dimensions, skipping counters update", after.getId());
+            return;
+        }
+
+        applyDelta(before, -1L);
+        applyDelta(after, 1L);
+
+        if (!Objects.equals(before.getCompany(), after.getCompany()) || !Objects.equals(before.getPosition(), after.getPosition())) {
+            applyTopItemsDelta(before, -1L);
+            applyTopItemsDelta(after, 1L);
+        }
+    }
+
+    @Transactional(propagation = MANDATORY)
+    public void onDelete(JobApplication jobApplication) {
+        applyDelta(jobApplication, -1L);
+        applyTopItemsDelta(jobApplication, -1L);
+        salaryStatsService.onDelete(jobApplication);
+    }
+
+    @Transactional
+    public void rebuild(Long userId) {
+        LOGGER.debug("Rebuilding stats counters for userId: {}", userId);
+
+        statsRepository.deleteAllByUserId(userId);
+        statsRepository.rebuildForUser(userId);
+        dailyStatsRepository.deleteAllByUserId(userId);
+        dailyStatsRepository.rebuildForUser(userId);
+
+        LOGGER.debug("Successfully rebuilt stats counters for userId: {}", userId);
+    }
+
+    private void applyDelta(JobApplication jobApplication, long delta) {
+        statsRepository.applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getStatus().name(),
+                jobApplication.getCompany(),
+                jobApplication.getPosition(),
+                delta
+        );
+        dailyStatsRepository.applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getAppliedAt(),
+                jobApplication.getStatus().name(),
+                jobApplication.getSource().name(),
+                delta
+        );
+
+        LOGGER.debug("Applied delta: {} to stats counters of userId: {}", delta, jobApplication.getUserId());
+    }
+
+    private void applyTopItemsDelta(JobApplication jobApplication, long delta) {
+        topItemsService.onDelta(jobApplication.getUserId(), jobApplication.getCompany(), jobApplication.getPosition(), delta);
+    }
+
+    private boolean affectsStats(JobApplication before, JobApplication after) {
+        return before.getStatus() != after.getStatus()
+               || !Objects.equals(before.getCompany(), after.getCompany())
+               || !Objects.equals(before.getPosition(), after.getPosition())
+               || before.getSource() != after.getSource()
+               || !Objects.equals(before.getAppliedAt(), after.getAppliedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Partial platform-wide aggregate of one id-range chunk of job applications. Partials of different chunks
+ * are merged into the final snapshot.
+ */
+@Getter
+public class PlatformStatsAccumulator {
+
+    private long total;
+    private final Map<Source, Long> bySource = new EnumMap<>(Source.class);
+    private final Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    private final Map<String, Long> byCompany = new HashMap<>();
+
+    public void add(PlatformStatsRowProjection row) {
+        total++;
+        bySource.merge(row.getSource(), 1L, Long::sum);
+        byStatus.merge(row.getStatus(), 1L, Long::sum);
+        byCompany.merge(row.getCompany().trim().toLowerCase(Locale.ROOT), 1L, Long::sum);
+    }
+
+    public PlatformStatsAccumulator merge(PlatformStatsAccumulator other) {
+        total += other.total;
+        other.bySource.forEach((source, count) -> bySource.merge(source, count, Long::sum));
+        other.byStatus.forEach((status, count) -> byStatus.merge(status, count, Long::sum));
+        other.byCompany.forEach((company, count) -> byCompany.merge(company, count, Long::sum));
+
+        return this;
+    }
+
+    public List<TopItem> topCompanies(int size) {
+        return byCompany.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(size)
+                .map(entry -> new TopItem(JobApplicationTopItemsService.initCap(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class PlatformStatsConfig {
+
+    public static final String PLATFORM_STATS_EXECUTOR = "platformStatsExecutor";
+
+    @Bean(name = PLATFORM_STATS_EXECUTOR)
+    public Executor platformStatsExecutor(PlatformStatsProperties platformStatsProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(platformStatsProperties.getParallelism());
+        executor.setMaxPoolSize(platformStatsProperties.getParallelism());
+        executor.setQueueCapacity(platformStatsProperties.getParallelism());
+        executor.setThreadNamePrefix("platform-stats-");
+        // The job submits at most parallelism chunks at once, so the queue never overflows onto the job thread
+        executor.initialize();
+
+        return executor;
+    }
+}
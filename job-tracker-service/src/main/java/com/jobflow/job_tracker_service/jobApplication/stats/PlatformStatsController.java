@@ -0,0 +1,53 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.handler.ResponseError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/job-applications/stats")
+@RequiredArgsConstructor
+public class PlatformStatsController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlatformStatsController.class);
+
+    private final PlatformStatsService platformStatsService;
+
+    @Operation(
+            summary = "Get platform-wide stats",
+            description = "Retrieves job applications per source, status distribution and most applied companies across all users " +
+                          "from the latest snapshot computed by a scheduled job. Available to administrators only",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Platform stats received successfully",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = PlatformStatsDto.class))),
+
+                    @ApiResponse(responseCode = "404", description = "Platform stats have not been generated yet",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "403", description = "Authorization exception, e.g user is not an administrator",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @GetMapping
+    public ResponseEntity<PlatformStatsDto> getPlatformStats() {
+        LOGGER.info("[GET] Request for get platform stats");
+
+        return ResponseEntity.ok(platformStatsService.getLatest());
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO representing job application stats across all users")
+public class PlatformStatsDto {
+
+    @Schema(description = "Time the snapshot was computed at", example = "2025-05-01T04:30:00")
+    private LocalDateTime generatedAt;
+
+    @Schema(description = "Total number of job applications", example = "125000")
+    private Long totalApplications;
+
+    @Schema(description = "Number of job applications per source", example = "{\"LINKEDIN\": 80000, \"REFERRAL\": 45000}")
+    private Map<Source, Long> bySource;
+
+    @Schema(description = "Number of job applications per status", example = "{\"APPLIED\": 100000, \"REJECTED\": 25000}")
+    private Map<Status, Long> byStatus;
+
+    @Schema(description = "Most applied companies")
+    private List<TopItem> topCompanies;
+}
@@ -0,0 +1,163 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.stream.Stream;
+
+/**
+ * Periodically computes platform-wide stats and stores them as a snapshot. Job applications are scanned
+ * in id-range chunks aggregated in parallel on a bounded executor, every chunk streams its rows
+ * so only the partial aggregates are kept in memory. At most {@code parallelism} chunks are open at once and each
+ * one is merged as soon as it completes. Only one instance generates at a time, and only the latest
+ * {@code snapshots-to-keep} snapshots are kept.
+ */
+@Component
+public class PlatformStatsJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlatformStatsJob.class);
+    private static final String GENERATE_LOCK = "platform-stats";
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final PlatformStatsSnapshotRepository snapshotRepository;
+    private final PlatformStatsProperties platformStatsProperties;
+    private final ObjectMapper objectMapper;
+    private final Executor platformStatsExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StatsJobLock statsJobLock;
+    private final Executor statsJobExecutor;
+
+    public PlatformStatsJob(JobApplicationRepository jobApplicationRepository,
+                            PlatformStatsSnapshotRepository snapshotRepository,
+                            PlatformStatsProperties platformStatsProperties,
+                            ObjectMapper objectMapper,
+                            @Qualifier(PlatformStatsConfig.PLATFORM_STATS_EXECUTOR) Executor platformStatsExecutor,
+                            PlatformTransactionManager transactionManager,
+                            StatsJobLock statsJobLock,
+                            @Qualifier(StatsJobConfig.STATS_JOB_EXECUTOR) Executor statsJobExecutor) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.platformStatsProperties = platformStatsProperties;
+        this.objectMapper = objectMapper;
+        this.platformStatsExecutor = platformStatsExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.statsJobLock = statsJobLock;
+        this.statsJobExecutor = statsJobExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateIfMissing() {
+        if (snapshotRepository.count() == 0) {
+            LOGGER.info("No platform stats snapshot found, generating the initial one");
+            statsJobExecutor.execute(this::generateExclusively);
+        }
+    }
+
+    @Scheduled(cron = "${job-application.platform-stats.cron}")
+    public void scheduleGenerate() {
+        statsJobExecutor.execute(this::generateExclusively);
+    }
+
+    public void generateExclusively() {
+        statsJobLock.runExclusively(GENERATE_LOCK, platformStatsProperties.getLockTtl(), this::generate);
+    }
+
+    public void generate() {
+        long startedAt = System.currentTimeMillis();
+        Long minId = jobApplicationRepository.findMinId();
+        Long maxId = jobApplicationRepository.findMaxId();
+
+        int chunkSize = platformStatsProperties.getChunkSize();
+        long chunks = minId == null ? 0 : (maxId - minId) / chunkSize + 1;
+        LOGGER.info("Starting platform stats generation for ids: [{}, {}] in: {} chunks", minId, maxId, chunks);
+
+        PlatformStatsAccumulator result = new PlatformStatsAccumulator();
+        if (minId != null) {
+            try {
+                aggregateChunks(minId, maxId, result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Platform stats generation interrupted, keeping the previous snapshot");
+                return;
+            } catch (ExecutionException | RuntimeException e) {
+                LOGGER.error("Failed to generate platform stats, keeping the previous snapshot", e);
+                return;
+            }
+        }
+
+        LocalDateTime generatedAt = LocalDateTime.now();
+        PlatformStatsDto platformStats = PlatformStatsDto.builder()
+                .generatedAt(generatedAt)
+                .totalApplications(result.getTotal())
+                .bySource(result.getBySource())
+                .byStatus(result.getByStatus())
+                .topCompanies(result.topCompanies(platformStatsProperties.getTopCompaniesSize()))
+                .build();
+        snapshotRepository.save(new PlatformStatsSnapshot(null, generatedAt, serialize(platformStats)));
+        int deleted = snapshotRepository.deleteAllExceptLatest(platformStatsProperties.getSnapshotsToKeep());
+        if (deleted > 0) {
+            LOGGER.debug("Deleted: {} old platform stats snapshots", deleted);
+        }
+
+        LOGGER.info("Finished platform stats generation of: {} job applications in: {} ms",
+                result.getTotal(), System.currentTimeMillis() - startedAt);
+    }
+
+    // Keeps at most parallelism chunks in flight and merges every chunk on this thread as soon as it completes
+    private void aggregateChunks(long minId, long maxId, PlatformStatsAccumulator result)
+            throws InterruptedException, ExecutionException {
+        CompletionService<PlatformStatsAccumulator> completionService = new ExecutorCompletionService<>(platformStatsExecutor);
+        int chunkSize = platformStatsProperties.getChunkSize();
+        int inFlight = 0;
+        long nextFromId = minId;
+        while (nextFromId <= maxId || inFlight > 0) {
+            if (nextFromId <= maxId && inFlight < platformStatsProperties.getParallelism()) {
+                long fromId = nextFromId;
+                long toId = fromId + chunkSize;
+                completionService.submit(() -> aggregateChunk(fromId, toId));
+                nextFromId = toId;
+                inFlight++;
+            } else {
+                result.merge(completionService.take().get());
+                inFlight--;
+            }
+        }
+    }
+
+    private PlatformStatsAccumulator aggregateChunk(long fromId, long toId) {
+        return readOnlyTransaction.execute(status -> {
+            PlatformStatsAccumulator accumulator = new PlatformStatsAccumulator();
+            try (Stream<PlatformStatsRowProjection> rows = jobApplicationRepository.streamPlatformStatsRows(fromId, toId)) {
+                rows.forEach(accumulator::add);
+            }
+
+            LOGGER.debug("Aggregated: {} job applications with ids: [{}, {})", accumulator.getTotal(), fromId, toId);
+            return accumulator;
+        });
+    }
+
+    private String serialize(PlatformStatsDto platformStats) {
+        try {
+            return objectMapper.writeValueAsString(platformStats);
+        } catch (JsonProcessingException e) {
+            throw new JobApplicationServiceException("Failed to serialize platform stats", e);
+        }
+    }
+}
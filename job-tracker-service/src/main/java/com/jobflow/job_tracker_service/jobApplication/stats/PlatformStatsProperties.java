@@ -0,0 +1,25 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "job-application.platform-stats")
+@Getter
+@Setter
+public class PlatformStatsProperties {
+
+    private int chunkSize;
+
+    private int parallelism;
+
+    private int topCompaniesSize;
+
+    private int snapshotsToKeep;
+
+    private Duration lockTtl;
+}
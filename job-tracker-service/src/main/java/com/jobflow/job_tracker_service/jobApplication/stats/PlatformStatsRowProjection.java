@@ -0,0 +1,13 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+
+public interface PlatformStatsRowProjection {
+
+    Source getSource();
+
+    Status getStatus();
+
+    String getCompany();
+}
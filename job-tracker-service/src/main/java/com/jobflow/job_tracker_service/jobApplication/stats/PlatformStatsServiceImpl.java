@@ -0,0 +1,35 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.exception.PlatformStatsNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PlatformStatsServiceImpl implements PlatformStatsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PlatformStatsServiceImpl.class);
+
+    private final PlatformStatsSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public PlatformStatsDto getLatest() {
+        LOGGER.debug("Fetching the latest platform stats snapshot");
+
+        PlatformStatsSnapshot snapshot = snapshotRepository.findFirstByOrderByGeneratedAtDesc()
+                .orElseThrow(() -> new PlatformStatsNotFoundException("Platform stats have not been generated yet"));
+
+        try {
+            LOGGER.debug("Successfully fetched platform stats snapshot generated at: {}", snapshot.getGeneratedAt());
+            return objectMapper.readValue(snapshot.getPayload(), PlatformStatsDto.class);
+        } catch (JsonProcessingException e) {
+            throw new JobApplicationServiceException("Failed to deserialize platform stats", e);
+        }
+    }
+}
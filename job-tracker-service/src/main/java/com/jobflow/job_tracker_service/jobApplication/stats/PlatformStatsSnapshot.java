@@ -0,0 +1,36 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Platform-wide stats computed by {@link PlatformStatsJob}, stored as the serialized {@link PlatformStatsDto}.
+ */
+@Entity
+@Table(
+        name = "platform_stats_snapshots",
+        indexes = @Index(name = "idx_platform_stats_snapshots_generated_at", columnList = "generated_at")
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlatformStatsSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+}
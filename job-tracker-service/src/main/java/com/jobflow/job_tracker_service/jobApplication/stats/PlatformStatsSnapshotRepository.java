@@ -0,0 +1,25 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface PlatformStatsSnapshotRepository extends JpaRepository<PlatformStatsSnapshot, Long> {
+
+    Optional<PlatformStatsSnapshot> findFirstByOrderByGeneratedAtDesc();
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    DELETE FROM platform_stats_snapshots
+                    WHERE id NOT IN (SELECT id FROM platform_stats_snapshots ORDER BY generated_at DESC LIMIT :keep)
+                    """,
+            nativeQuery = true
+    )
+    int deleteAllExceptLatest(@Param("keep") int keep);
+}
@@ -1,7 +0,0 @@
-package com.jobflow.job_tracker_service.jobApplication.stats;
-
-public interface PopularCompanyProjection {
-    String getCompany();
-
-    Long getTotal();
-}
@@ -1,7 +0,0 @@
-package com.jobflow.job_tracker_service.jobApplication.stats;
-
-public interface PopularPositionProjection {
-    String getPosition();
-
-    Long getTotal();
-}
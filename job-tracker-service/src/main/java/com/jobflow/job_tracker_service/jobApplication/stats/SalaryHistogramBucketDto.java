@@ -0,0 +1,24 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One bin of the salary histogram")
+public class SalaryHistogramBucketDto {
+
+    @Schema(description = "Lower bound of the bin", example = "100000")
+    private Long from;
+
+    @Schema(description = "Upper bound of the bin", example = "120000")
+    private Long to;
+
+    @Schema(description = "Number of job applications with a salary in the bin", example = "3")
+    private Long count;
+}
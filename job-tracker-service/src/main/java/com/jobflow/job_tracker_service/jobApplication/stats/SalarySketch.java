@@ -0,0 +1,79 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Quantile sketch of salaries with relative accuracy (DDSketch): a value is counted in the logarithmic
+ * bucket {@code ceil(log_gamma(value))}, whose representative value is within {@link #RELATIVE_ACCURACY}
+ * of every value in it. Sketches merge by adding bucket counts and, unlike t-digest or KLL, a bucket count
+ * can be decremented, so edits and deletions of salaries are applied exactly.
+ */
+public class SalarySketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final NavigableMap<Integer, Long> buckets = new TreeMap<>();
+    private long count;
+
+    public static int bucketOf(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    public static double valueOf(int bucket) {
+        return 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+    }
+
+    public void add(int bucket, long total) {
+        if (total <= 0) {
+            return;
+        }
+
+        buckets.merge(bucket, total, Long::sum);
+        count += total;
+    }
+
+    public void addValue(double value, long total) {
+        add(bucketOf(value), total);
+    }
+
+    public void merge(SalarySketch other) {
+        other.buckets.forEach(this::add);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public NavigableMap<Integer, Long> getBuckets() {
+        return Collections.unmodifiableNavigableMap(buckets);
+    }
+
+    /**
+     * Returns the value of the given quantile (0..1) rounded to a whole salary, or {@code null} for an empty sketch.
+     */
+    public Long quantile(double quantile) {
+        if (isEmpty()) {
+            return null;
+        }
+
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return Math.round(valueOf(bucket.getKey()));
+            }
+        }
+
+        return Math.round(valueOf(buckets.lastKey()));
+    }
+}
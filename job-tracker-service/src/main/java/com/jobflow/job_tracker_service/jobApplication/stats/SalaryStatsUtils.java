@@ -0,0 +1,100 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.exchangeRate.ExchangeRates;
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+public final class SalaryStatsUtils {
+
+    public static final int HISTOGRAM_BINS = 10;
+
+    private SalaryStatsUtils() {
+    }
+
+    /**
+     * Returns the sketch bucket of the job application's salary: the middle of the range if both bounds are set,
+     * otherwise the one that is set. {@code null} if the application has no positive salary.
+     */
+    public static Integer salaryBucket(JobApplication jobApplication) {
+        Integer salaryMin = jobApplication.getSalaryMin();
+        Integer salaryMax = jobApplication.getSalaryMax();
+        if (jobApplication.getCurrency() == null || (salaryMin == null && salaryMax == null)) {
+            return null;
+        }
+
+        double salary = salaryMin != null && salaryMax != null
+                ? (salaryMin + (double) salaryMax) / 2
+                : salaryMin != null ? salaryMin : salaryMax;
+
+        return salary > 0 ? SalarySketch.bucketOf(salary) : null;
+    }
+
+    public static JobApplicationSalaryStatsDto buildSalaryStats(List<JobApplicationSalarySketch> rows, ExchangeRates exchangeRates) {
+        Map<Currency, SalarySketch> sketches = new EnumMap<>(Currency.class);
+        for (JobApplicationSalarySketch row : rows) {
+            sketches.computeIfAbsent(row.getCurrency(), currency -> new SalarySketch())
+                    .add(row.getBucket(), row.getTotal());
+        }
+
+        List<CurrencySalaryStatsDto> byCurrency = new ArrayList<>();
+        SalarySketch normalized = new SalarySketch();
+        sketches.forEach((currency, sketch) -> {
+            byCurrency.add(toDto(currency, sketch));
+
+            BigDecimal rate = exchangeRates.getRates().get(currency);
+            if (rate == null || rate.signum() <= 0) {
+                return;
+            }
+            // Re-bucketing the representative value keeps the normalized sketch within twice the relative accuracy
+            sketch.getBuckets().forEach((bucket, total) ->
+                    normalized.addValue(SalarySketch.valueOf(bucket) * rate.doubleValue(), total)
+            );
+        });
+
+        return JobApplicationSalaryStatsDto.builder()
+                .byCurrency(byCurrency)
+                .normalized(normalized.isEmpty() ? null : toDto(exchangeRates.getBase(), normalized))
+                .exchangeRatesUpdatedAt(exchangeRates.getUpdatedAt())
+                .build();
+    }
+
+    public static List<SalaryHistogramBucketDto> histogram(SalarySketch sketch, int bins) {
+        if (sketch.isEmpty()) {
+            return List.of();
+        }
+
+        double min = SalarySketch.valueOf(sketch.getBuckets().firstKey());
+        double max = SalarySketch.valueOf(sketch.getBuckets().lastKey());
+        double width = (max - min) / bins;
+        if (width == 0) {
+            return List.of(new SalaryHistogramBucketDto(Math.round(min), Math.round(max), sketch.getCount()));
+        }
+
+        long[] counts = new long[bins];
+        sketch.getBuckets().forEach((bucket, total) -> {
+            int bin = (int) Math.min(bins - 1, (SalarySketch.valueOf(bucket) - min) / width);
+            counts[bin] += total;
+        });
+
+        List<SalaryHistogramBucketDto> histogram = new ArrayList<>(bins);
+        for (int i = 0; i < bins; i++) {
+            histogram.add(new SalaryHistogramBucketDto(Math.round(min + i * width), Math.round(min + (i + 1) * width), counts[i]));
+        }
+
+        return histogram;
+    }
+
+    private static CurrencySalaryStatsDto toDto(Currency currency, SalarySketch sketch) {
+        return CurrencySalaryStatsDto.builder()
+                .currency(currency)
+                .count(sketch.getCount())
+                .p25(sketch.quantile(0.25))
+                .p50(sketch.quantile(0.5))
+                .p90(sketch.quantile(0.9))
+                .histogram(histogram(sketch, HISTOGRAM_BINS))
+                .build();
+    }
+}
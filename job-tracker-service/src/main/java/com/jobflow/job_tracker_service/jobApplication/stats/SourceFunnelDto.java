@@ -0,0 +1,24 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Job application funnel of one source")
+public class SourceFunnelDto {
+
+    @Schema(description = "Source of the job applications", example = "LINKEDIN")
+    private Source source;
+
+    @Schema(description = "Funnel stages in order")
+    private List<FunnelStageDto> stages;
+}
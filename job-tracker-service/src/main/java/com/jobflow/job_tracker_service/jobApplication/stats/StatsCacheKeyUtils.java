@@ -3,6 +3,9 @@ package com.jobflow.job_tracker_service.jobApplication.stats;
 public final class StatsCacheKeyUtils {
 
     private static final String STATS_KEY = "jobAppStats:user:%s";
+    private static final String TOP_COMPANIES_KEY = "jobAppStats:user:%s:topCompanies";
+    private static final String TOP_POSITIONS_KEY = "jobAppStats:user:%s:topPositions";
+    private static final String TOP_ITEMS_LOADING_KEY = "jobAppStats:user:%s:topItemsLoading";
 
     private StatsCacheKeyUtils() {
 
@@ -11,4 +14,16 @@ public final class StatsCacheKeyUtils {
     public static String keyForUser(Long userId) {
         return String.format(STATS_KEY, userId);
     }
+
+    public static String topCompaniesKey(Long userId) {
+        return String.format(TOP_COMPANIES_KEY, userId);
+    }
+
+    public static String topPositionsKey(Long userId) {
+        return String.format(TOP_POSITIONS_KEY, userId);
+    }
+
+    public static String topItemsLoadingKey(Long userId) {
+        return String.format(TOP_ITEMS_LOADING_KEY, userId);
+    }
 }
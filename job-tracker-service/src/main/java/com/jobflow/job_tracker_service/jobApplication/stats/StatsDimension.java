@@ -0,0 +1,7 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+public enum StatsDimension {
+    STATUS,
+    COMPANY,
+    POSITION
+}
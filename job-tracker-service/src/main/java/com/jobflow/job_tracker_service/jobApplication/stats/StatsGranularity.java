@@ -0,0 +1,60 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of the stats time series. Truncation matches PostgreSQL DATE_TRUNC:
+ * weeks start on Monday, months on the first day.
+ */
+public enum StatsGranularity {
+
+    DAY("day") {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucket) {
+            return bucket.plusDays(1L);
+        }
+    },
+    WEEK("week") {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucket) {
+            return bucket.plusWeeks(1L);
+        }
+    },
+    MONTH("month") {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucket) {
+            return bucket.plusMonths(1L);
+        }
+    };
+
+    private final String dateTruncField;
+
+    StatsGranularity(String dateTruncField) {
+        this.dateTruncField = dateTruncField;
+    }
+
+    public String getDateTruncField() {
+        return dateTruncField;
+    }
+
+    public abstract LocalDate truncate(LocalDate date);
+
+    public abstract LocalDate next(LocalDate bucket);
+}
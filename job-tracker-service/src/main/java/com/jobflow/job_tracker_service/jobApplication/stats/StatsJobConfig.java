@@ -0,0 +1,29 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class StatsJobConfig {
+
+    public static final String STATS_JOB_EXECUTOR = "statsJobExecutor";
+
+    // The stats rebuild and the platform stats job take minutes, they run here instead of on the scheduler threads
+    @Bean(name = STATS_JOB_EXECUTOR)
+    public Executor statsJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("stats-job-");
+        // A run that is still queued covers the dropped one
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+}
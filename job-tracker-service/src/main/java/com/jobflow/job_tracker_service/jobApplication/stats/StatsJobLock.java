@@ -0,0 +1,54 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lets only one instance run a stats job at a time. The lock is a Redis key with a TTL, so a crashed holder
+ * releases it eventually, and it is only deleted by the instance that took it.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsJobLock {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatsJobLock.class);
+    private static final String LOCK_KEY = "stats:job-lock:%s";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Runs {@code job} if no other instance holds the lock {@code name}, otherwise skips it.
+     *
+     * @return whether the job was run
+     */
+    public boolean runExclusively(String name, Duration ttl, Runnable job) {
+        String key = String.format(LOCK_KEY, name);
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+            LOGGER.info("Stats job: {} is already running on another instance, skipping", name);
+            return false;
+        }
+
+        try {
+            job.run();
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class StatsRefreshConfig {
+
+    public static final String STATS_REFRESH_EXECUTOR = "statsRefreshExecutor";
+
+    @Bean(name = STATS_REFRESH_EXECUTOR)
+    public Executor statsRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("stats-refresh-");
+        // When the queue is full, refresh on the caller's thread rather than leave a stale value in the cache
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,18 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+/**
+ * A single row of the aggregated stats query.
+ * Which columns are filled depends on {@link #getType()}:
+ * SUMMARY fills the counters, STATUS fills name and total.
+ */
+public interface StatsRowProjection {
+    StatsRowType getType();
+
+    String getName();
+
+    Long getTotal();
+
+    Long getLast7Days();
+
+    Long getLast30Days();
+}
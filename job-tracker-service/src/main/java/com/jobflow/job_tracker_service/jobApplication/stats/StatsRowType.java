@@ -0,0 +1,6 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+public enum StatsRowType {
+    SUMMARY,
+    STATUS
+}
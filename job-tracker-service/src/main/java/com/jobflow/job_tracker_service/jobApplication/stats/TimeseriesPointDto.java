@@ -0,0 +1,36 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of job applications applied within one time series bucket")
+public class TimeseriesPointDto {
+
+    @Schema(description = "First day of the bucket", example = "2025-05-05")
+    private LocalDate bucket;
+
+    @Schema(description = "Number of job applications in the bucket", example = "3")
+    private Long total;
+
+    @Schema(
+            description = "Number of job applications in the bucket per status",
+            example = """
+                        {
+                          "APPLIED": 2,
+                          "REJECTED": 1
+                        }
+                    """
+    )
+    private Map<Status, Long> byStatus;
+}
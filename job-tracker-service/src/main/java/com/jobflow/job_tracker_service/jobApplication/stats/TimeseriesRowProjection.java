@@ -2,7 +2,10 @@ package com.jobflow.job_tracker_service.jobApplication.stats;
 
 import com.jobflow.job_tracker_service.jobApplication.Status;
 
-public interface StatusCountProjection {
+public interface TimeseriesRowProjection {
+
+    String getBucket();
+
     Status getStatus();
 
     Long getTotal();
@@ -1,5 +1,6 @@
 package com.jobflow.job_tracker_service.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -23,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtService jwtService;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -38,14 +41,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring("Bearer ".length());
-        String userId = jwtService.extractUserId(token);
+        Claims claims = jwtService.extractClaims(token);
+        String userId = claims.getSubject();
         LOGGER.debug("Extracting userId: {} from token", userId);
 
+        if (userId != null && isRevoked(claims, userId)) {
+            LOGGER.debug("Token of userId: {} was revoked by logout from all devices", userId);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userId,
                     null,
-                    List.of()
+                    extractAuthorities(claims)
             );
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -55,4 +65,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Tokens without the version claim count as version 0
+    private boolean isRevoked(Claims claims, String userId) {
+        Long tokenVersion = claims.get(JwtService.TOKEN_VERSION_CLAIM, Long.class);
+
+        return (tokenVersion == null ? 0L : tokenVersion) < tokenVersionCache.getVersion(userId);
+    }
+
+    private List<SimpleGrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> roles = claims.get(JwtService.ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+    }
 }
@@ -6,6 +6,10 @@ import java.security.Key;
 
 public interface JwtService {
 
+    String ROLES_CLAIM = "roles";
+
+    String TOKEN_VERSION_CLAIM = "ver";
+
     Claims extractClaims(String token);
 
     String extractUserId(String token);
@@ -1,9 +1,12 @@
 package com.jobflow.job_tracker_service.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,19 +19,33 @@ public class JwtServiceImpl implements JwtService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtServiceImpl.class);
 
-    private final String SECRET_KEY;
-
-    public JwtServiceImpl(@Value("${jwt.secret-key}") String SECRET_KEY) {
-        this.SECRET_KEY = SECRET_KEY;
+    private final Key secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer verificationTimer;
+
+    public JwtServiceImpl(@Value("${jwt.secret-key}") String SECRET_KEY,
+                          VerifiedTokenCache verifiedTokenCache,
+                          MeterRegistry meterRegistry) {
+        // The key and the parser are immutable and thread-safe, so they are built once
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.verificationTimer = Timer.builder("jwt.token.verification").register(meterRegistry);
     }
 
     @Override
     public Claims extractClaims(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims != null) {
+            LOGGER.debug("Extracted claims from cached token for userId: {}", claims.getSubject());
+            return claims;
+        }
+
+        claims = verificationTimer.record(() -> jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokenCache.put(token, claims);
 
         LOGGER.debug("Extracted claims from token for userId: {}", claims.getSubject());
         return claims;
@@ -41,8 +58,6 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public Key getSecretKey() {
-        byte[] decodeKey = Decoders.BASE64.decode(SECRET_KEY);
-
-        return Keys.hmacShaKeyFor(decodeKey);
+        return secretKey;
     }
 }
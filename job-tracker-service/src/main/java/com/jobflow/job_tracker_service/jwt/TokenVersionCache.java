@@ -0,0 +1,64 @@
+package com.jobflow.job_tracker_service.jwt;
+
+import com.jobflow.job_tracker_service.cache.ExpiringCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory copy of the per-user token versions owned by user-service. A token carrying an older version than
+ * the user's current one was issued before a logout-all and is rejected.
+ * <p>
+ * Versions are read from Redis ({@code token_version:<userId>}, absent means 0) on the first request of a user and
+ * then kept in memory; bumps arrive through {@link TokenVersionSubscriber}, and the TTL bounds staleness if a
+ * message is missed. If Redis is unavailable the token is accepted, as before versions existed.
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenVersionCache.class);
+
+    private static final String TOKEN_VERSION_KEY = "token_version:%s";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+    private final ExpiringCache<String, Long> entries;
+
+    public TokenVersionCache(RedisTemplate<String, String> redisTemplate,
+                             @Value("${jwt.token-version.cache-ttl}") Duration ttl,
+                             @Value("${jwt.token-version.cache-max-size}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    public long getVersion(String userId) {
+        Long cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String version;
+        try {
+            version = redisTemplate.opsForValue().get(String.format(TOKEN_VERSION_KEY, userId));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to read token version of userId: {} from Redis: {}", userId, e.getMessage());
+            Long stale = entries.getStale(userId);
+            return stale != null ? stale : 0L;
+        }
+
+        long result = version != null ? Long.parseLong(version) : 0L;
+        update(userId, result);
+
+        return result;
+    }
+
+    public void update(String userId, long version) {
+        // Versions only grow, so a late message or a stale read never moves one back
+        entries.merge(userId, version, System.currentTimeMillis() + ttlMillis, Math::max);
+    }
+}
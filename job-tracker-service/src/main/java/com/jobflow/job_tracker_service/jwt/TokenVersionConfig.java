@@ -0,0 +1,24 @@
+package com.jobflow.job_tracker_service.jwt;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class TokenVersionConfig {
+
+    // Published by user-service on logout-all
+    public static final String TOKEN_VERSION_CHANNEL = "tokenVersion:changed";
+
+    @Bean
+    public RedisMessageListenerContainer tokenVersionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenVersionSubscriber tokenVersionSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenVersionSubscriber, new ChannelTopic(TOKEN_VERSION_CHANNEL));
+
+        return container;
+    }
+}
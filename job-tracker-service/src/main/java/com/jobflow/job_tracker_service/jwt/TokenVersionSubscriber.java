@@ -0,0 +1,38 @@
+package com.jobflow.job_tracker_service.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives token versions bumped by user-service, published as {@code <userId>:<version>}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenVersionSubscriber.class);
+
+    private final TokenVersionCache tokenVersionCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+
+        try {
+            String userId = body.substring(0, separator);
+            long version = Long.parseLong(body.substring(separator + 1));
+            LOGGER.debug("Received token version: {} of userId: {}", version, userId);
+
+            tokenVersionCache.update(userId, version);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to parse token version message: {}", body, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limiter.hybrid")
+@Getter
+@Setter
+public class HybridRateLimiterProperties {
+
+    private int maxKeys;
+
+    private Duration syncInterval;
+
+    private Duration bypassRetryInterval;
+}
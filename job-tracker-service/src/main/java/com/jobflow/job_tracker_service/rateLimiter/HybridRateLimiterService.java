@@ -0,0 +1,175 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decides {@link RateLimiterAlgorithm#HYBRID_TOKEN_BUCKET} checks in-process and delegates every other
+ * algorithm to {@link RedisRateLimiterService}.
+ * <p>
+ * Each instance keeps a token bucket per key and periodically reports the accepted hits to a shared
+ * Redis counter in one pipeline. Once the global count of the current window reaches the limit, the key
+ * is blocked locally until the window ends, so the limit holds across instances within one sync interval.
+ * If Redis is unavailable, enforcement stays local-only until the next retry.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class HybridRateLimiterService implements RateLimiterService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HybridRateLimiterService.class);
+
+    private static final String GLOBAL_KEY = "%s:global:%d";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisRateLimiterService redisRateLimiterService;
+    private final HybridRateLimiterProperties properties;
+
+    private final ConcurrentMap<String, LocalTokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private volatile long bypassUntil;
+
+    @Override
+    public RateLimitResult check(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm) {
+        if (algorithm != RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET) {
+            return redisRateLimiterService.check(key, limit, timeout, algorithm);
+        }
+
+        long now = System.currentTimeMillis();
+        RateLimitResult result;
+        do {
+            LocalTokenBucket bucket = getBucket(key, limit, timeout, now);
+            if (bucket == null) {
+                return checkWithoutBucket(key, limit, timeout, now);
+            }
+
+            result = bucket.tryAcquire(now);
+        } while (result == null);
+
+        LOGGER.debug("Hybrid rate limiter checking for key [{}]: exceeded = {}, remaining = {}, limit = {}, timeout = {}s",
+                key, result.isExceeded(), result.getRemaining(), limit, timeout.getSeconds());
+
+        return result;
+    }
+
+    @Override
+    public void validateOrThrow(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message) {
+        if (isLimitExceeded(key, limit, timeout, algorithm)) {
+            throw new TooManyRequestsException(message);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limiter.hybrid.sync-interval}")
+    public void sync() {
+        long now = System.currentTimeMillis();
+        boolean bypassed = isBypassed(now);
+        if (bypassed) {
+            // Hits accepted while Redis is down are never reported; dropping them lets idle buckets retire
+            buckets.values().forEach(LocalTokenBucket::drainPending);
+        }
+
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> bucket.retireIfIdle(now) ? null : bucket);
+        }
+
+        if (bypassed) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<LocalTokenBucket> dirtyBuckets = new ArrayList<>();
+        List<Integer> hits = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            int pending = bucket.drainPending();
+            if (pending > 0) {
+                keys.add(key);
+                dirtyBuckets.add(bucket);
+                hits.add(pending);
+            }
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (int i = 0; i < keys.size(); i++) {
+                        LocalTokenBucket bucket = dirtyBuckets.get(i);
+                        String globalKey = globalKey(keys.get(i), bucket.getWindowMillis(), now);
+
+                        stringOperations.opsForValue().increment(globalKey, hits.get(i));
+                        stringOperations.expire(globalKey, Duration.ofMillis(bucket.getWindowMillis()));
+                    }
+                    return null;
+                }
+            });
+
+            for (int i = 0; i < dirtyBuckets.size(); i++) {
+                LocalTokenBucket bucket = dirtyBuckets.get(i);
+                Long globalCount = (Long) results.get(i * 2);
+                if (globalCount != null && globalCount >= bucket.getLimit()) {
+                    bucket.blockUntil(windowEnd(bucket.getWindowMillis(), now));
+                }
+            }
+            LOGGER.debug("Synced {} rate limiter keys with Redis", keys.size());
+        } catch (RuntimeException e) {
+            // The drained hits are lost, the local buckets still enforce the limit per instance
+            bypassUntil = now + properties.getBypassRetryInterval().toMillis();
+            LOGGER.warn("Failed to sync rate limiter with Redis, limiting locally for the next {}s: {}",
+                    properties.getBypassRetryInterval().getSeconds(), e.getMessage());
+        }
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    private LocalTokenBucket getBucket(String key, int limit, Duration timeout, long now) {
+        LocalTokenBucket bucket = buckets.get(key);
+        if (bucket != null || buckets.size() >= properties.getMaxKeys()) {
+            return bucket;
+        }
+
+        return buckets.computeIfAbsent(key, k -> new LocalTokenBucket(limit, timeout.toMillis(), now));
+    }
+
+    // The local map is full: the key goes straight to Redis, or is let through while Redis is down
+    private RateLimitResult checkWithoutBucket(String key, int limit, Duration timeout, long now) {
+        if (isBypassed(now)) {
+            LOGGER.warn("Rate limiter map is full and Redis is unavailable, key [{}] is not limited", key);
+            return RateLimitResult.allowed(limit, limit);
+        }
+
+        return redisRateLimiterService.check(key, limit, timeout, RateLimiterAlgorithm.TOKEN_BUCKET);
+    }
+
+    private boolean isBypassed(long now) {
+        return now < bypassUntil;
+    }
+
+    private static String globalKey(String key, long windowMillis, long now) {
+        return String.format(GLOBAL_KEY, RateLimiterKeyUtil.scriptKey(RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, key), now / windowMillis);
+    }
+
+    private static long windowEnd(long windowMillis, long now) {
+        return (now / windowMillis + 1) * windowMillis;
+    }
+}
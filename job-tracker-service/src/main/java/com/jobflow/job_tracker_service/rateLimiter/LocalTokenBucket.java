@@ -0,0 +1,94 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket of a single key. Besides the local decision it counts the accepted hits
+ * that are not reported to Redis yet and holds the block set from the global count.
+ */
+class LocalTokenBucket {
+
+    private final int limit;
+    private final long windowMillis;
+    private final AtomicReference<State> state;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile long blockedUntil;
+    private volatile long lastAccess;
+
+    LocalTokenBucket(int limit, long windowMillis, long now) {
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.state = new AtomicReference<>(new State(limit, now));
+        this.lastAccess = now;
+    }
+
+    // Returns null if the bucket was retired, the caller then takes a new bucket from the map
+    RateLimitResult tryAcquire(long now) {
+        lastAccess = now;
+        if (now < blockedUntil) {
+            return RateLimitResult.exceeded(limit, Duration.ofMillis(blockedUntil - now));
+        }
+
+        while (true) {
+            State current = state.get();
+            if (current == State.RETIRED) {
+                return null;
+            }
+
+            long elapsed = Math.max(0, now - current.timestamp);
+            double tokens = Math.min(limit, current.tokens + elapsed * (double) limit / windowMillis);
+            if (tokens < 1) {
+                return RateLimitResult.exceeded(limit, Duration.ofMillis((long) Math.ceil((1 - tokens) * windowMillis / limit)));
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.timestamp)))) {
+                pending.incrementAndGet();
+                return RateLimitResult.allowed(limit, (long) (tokens - 1));
+            }
+        }
+    }
+
+    int drainPending() {
+        return pending.getAndSet(0);
+    }
+
+    void blockUntil(long until) {
+        blockedUntil = until;
+    }
+
+    // After a whole idle window the bucket is full again, so dropping it loses nothing
+    boolean isIdle(long now) {
+        return now - lastAccess > windowMillis && now >= blockedUntil && pending.get() == 0;
+    }
+
+    // The state is read before the idle check, so a hit accepted after it makes the CAS fail:
+    // a retired bucket never holds hits that were not reported to Redis
+    boolean retireIfIdle(long now) {
+        State current = state.get();
+        return current != State.RETIRED && isIdle(now) && state.compareAndSet(current, State.RETIRED);
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    long getWindowMillis() {
+        return windowMillis;
+    }
+
+    private static final class State {
+
+        private static final State RETIRED = new State(0, 0);
+
+        private final double tokens;
+        private final long timestamp;
+
+        private State(double tokens, long timestamp) {
+            this.tokens = tokens;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
+import com.jobflow.job_tracker_service.user.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Applies {@link RateLimited} to controller methods. The actions of all mapped handlers are resolved once
+ * at startup, so a misspelled action fails the application start instead of every request to that endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    private final RateLimiterValidator rateLimiterValidator;
+    private final UserService userService;
+    private final ApplicationContext applicationContext;
+    private final ConcurrentMap<Method, RateLimiterAction> actions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values().forEach(handlerMapping ->
+                handlerMapping.getHandlerMethods().values().forEach(handlerMethod -> {
+                    RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+                    if (rateLimited != null) {
+                        actions.put(handlerMethod.getMethod(), resolveAction(rateLimited));
+                    }
+                }));
+
+        LOGGER.debug("Resolved rate limiter actions of: {} handler methods", actions.size());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        RateLimiterAction action = actions.computeIfAbsent(handlerMethod.getMethod(), method -> resolveAction(rateLimited));
+        Long currentUserId = userService.getCurrentUserId();
+
+        RateLimitResult result = rateLimiterValidator.check(action, String.valueOf(currentUserId));
+        response.setHeader(LIMIT_HEADER, String.valueOf(result.getLimit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(result.getRemaining()));
+
+        if (result.isExceeded()) {
+            long retryAfterSeconds = Math.max(1, (result.getRetryAfter().toMillis() + 999) / 1000);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+            LOGGER.debug("Rate limit of action: {} exceeded by userId: {}, retry after: {}s", action.getAction(), currentUserId, retryAfterSeconds);
+            throw new TooManyRequestsException(action.getMessage());
+        }
+
+        return true;
+    }
+
+    private RateLimiterAction resolveAction(RateLimited rateLimited) {
+        RateLimiterAction[] constants = rateLimited.type().getEnumConstants();
+        if (constants == null) {
+            throw new IllegalStateException("Rate limiter action type must be an enum: " + rateLimited.type().getSimpleName());
+        }
+
+        return Arrays.stream(constants)
+                .filter(action -> ((Enum<?>) action).name().equals(rateLimited.action()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown rate limiter action: " + rateLimited.type().getSimpleName() + "." + rateLimited.action()));
+    }
+}
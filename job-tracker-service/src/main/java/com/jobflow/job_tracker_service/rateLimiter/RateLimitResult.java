@@ -0,0 +1,27 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitResult {
+
+    private final boolean exceeded;
+
+    private final int limit;
+
+    private final long remaining;
+
+    private final Duration retryAfter;
+
+    public static RateLimitResult allowed(int limit, long remaining) {
+        return new RateLimitResult(false, limit, remaining, Duration.ZERO);
+    }
+
+    public static RateLimitResult exceeded(int limit, Duration retryAfter) {
+        return new RateLimitResult(true, limit, 0, retryAfter);
+    }
+}
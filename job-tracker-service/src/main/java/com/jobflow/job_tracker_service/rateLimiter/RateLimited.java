@@ -0,0 +1,22 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits a controller method by the {@link RateLimiterAction} enum constant named {@link #action()}
+ * of {@link #type()}, per current user. Enforced by {@link RateLimitInterceptor} before the request body
+ * is read and validated. An {@link #action()} that is not a constant of {@link #type()} fails the application start.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    Class<? extends RateLimiterAction> type();
+
+    String action();
+}
@@ -10,5 +10,7 @@ public interface RateLimiterAction {
 
     Duration getTimeout();
 
+    RateLimiterAlgorithm getAlgorithm();
+
     String getMessage();
 }
@@ -7,7 +7,13 @@ public final class RateLimiterKeyUtil {
     }
 
     public static String generateKey(String action, String identifier) {
-        return String.format("rate_limiter:%s:%s", action, identifier);
+        return action + ":" + identifier;
+    }
+
+    // Every algorithm keeps a different Redis type under its key, so the algorithm is part of the prefix:
+    // switching an action to another algorithm never reads a key written by the previous one
+    public static String scriptKey(RateLimiterAlgorithm algorithm, String key) {
+        return String.format("rate_limiter:%s:%s", algorithm.name().toLowerCase(), key);
     }
 }
 
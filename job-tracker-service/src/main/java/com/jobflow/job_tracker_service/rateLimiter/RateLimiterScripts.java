@@ -0,0 +1,66 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RateLimiterScripts {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimiterScripts.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<RateLimiterAlgorithm, RedisScript<List>> scripts = new EnumMap<>(RateLimiterAlgorithm.class);
+
+    public RateLimiterScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+
+        for (RateLimiterAlgorithm algorithm : RateLimiterAlgorithm.values()) {
+            if (algorithm.getScriptPath() == null) {
+                continue;
+            }
+
+            DefaultRedisScript<List> script = new DefaultRedisScript<>();
+            script.setLocation(new ClassPathResource(algorithm.getScriptPath()));
+            script.setResultType(List.class);
+            script.getSha1(); // reads the script and caches its SHA, so every check goes straight to EVALSHA
+            scripts.put(algorithm, script);
+        }
+    }
+
+    public RedisScript<List> getScript(RateLimiterAlgorithm algorithm) {
+        return scripts.get(algorithm);
+    }
+
+    // Preloads the scripts so the first checks don't pay for the NOSCRIPT -> EVAL fallback.
+    // The fallback still covers a Redis restart or SCRIPT FLUSH later on.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scripts.forEach((algorithm, script) -> loadScript(connection, script));
+                return null;
+            });
+            LOGGER.info("Loaded {} rate limiter scripts", scripts.size());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to load rate limiter scripts, they will be loaded on first use: {}", e.getMessage());
+        }
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<List> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,7 +3,19 @@ package com.jobflow.job_tracker_service.rateLimiter;
 import java.time.Duration;
 
 public interface RateLimiterService {
-    boolean isLimitExceeded(String key, int limit, Duration timeout);
+    RateLimitResult check(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm);
 
-    void validateOrThrow(String key, int limit, Duration timeout, String message);
+    void validateOrThrow(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message);
+
+    default boolean isLimitExceeded(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm) {
+        return check(key, limit, timeout, algorithm).isExceeded();
+    }
+
+    default boolean isLimitExceeded(String key, int limit, Duration timeout) {
+        return isLimitExceeded(key, limit, timeout, RateLimiterAlgorithm.FIXED_WINDOW);
+    }
+
+    default void validateOrThrow(String key, int limit, Duration timeout, String message) {
+        validateOrThrow(key, limit, timeout, RateLimiterAlgorithm.FIXED_WINDOW, message);
+    }
 }
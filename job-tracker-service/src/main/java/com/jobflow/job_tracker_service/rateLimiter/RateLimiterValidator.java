@@ -13,6 +13,18 @@ public class RateLimiterValidator {
 
     private final RateLimiterService rateLimiterService;
 
+    public RateLimitResult check(RateLimiterAction action, String identifier) {
+        LOGGER.debug("Starting rate limiter check for action: {}", action.getAction());
+        String key = RateLimiterKeyUtil.generateKey(action.getAction(), identifier);
+
+        return rateLimiterService.check(
+                key,
+                action.getLimit(),
+                action.getTimeout(),
+                action.getAlgorithm()
+        );
+    }
+
     public void validate(RateLimiterAction action, String identifier) {
         LOGGER.debug("Starting rate limiter validation for action: {}", action.getAction());
         String key = RateLimiterKeyUtil.generateKey(action.getAction(), identifier);
@@ -21,6 +33,7 @@ public class RateLimiterValidator {
                 key,
                 action.getLimit(),
                 action.getTimeout(),
+                action.getAlgorithm(),
                 action.getMessage()
         );
     }
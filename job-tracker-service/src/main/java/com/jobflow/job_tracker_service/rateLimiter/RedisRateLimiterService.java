@@ -8,6 +8,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,23 +17,32 @@ public class RedisRateLimiterService implements RateLimiterService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisRateLimiterService.class);
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiterScripts rateLimiterScripts;
 
     @Override
-    public boolean isLimitExceeded(String key, int limit, Duration timeout) {
-        Long count = redisTemplate.opsForValue().increment(key);
-        LOGGER.debug("Rate limiter checking for key [{}]: count = {}, limit = {}, timeout = {}s",
-                key, count, limit, timeout.getSeconds());
-
-        if (count == 1) {
-            redisTemplate.expire(key, timeout);
+    public RateLimitResult check(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm) {
+        // The script returns {exceeded (1/0), remaining, retry after in milliseconds}
+        List<?> reply = redisTemplate.execute(
+                rateLimiterScripts.getScript(algorithm),
+                List.of(RateLimiterKeyUtil.scriptKey(algorithm, key)),
+                String.valueOf(limit),
+                String.valueOf(timeout.toMillis())
+        );
+        LOGGER.debug("Rate limiter checking for key [{}]: algorithm = {}, reply = {}, limit = {}, timeout = {}s",
+                key, algorithm, reply, limit, timeout.getSeconds());
+
+        if (reply == null || reply.size() < 3) {
+            return RateLimitResult.allowed(limit, limit);
         }
-
-        return count > limit;
+        if ((Long) reply.get(0) == 1L) {
+            return RateLimitResult.exceeded(limit, Duration.ofMillis((Long) reply.get(2)));
+        }
+        return RateLimitResult.allowed(limit, (Long) reply.get(1));
     }
 
     @Override
-    public void validateOrThrow(String key, int limit, Duration timeout, String message) {
-        if (isLimitExceeded(key, limit, timeout)) {
+    public void validateOrThrow(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message) {
+        if (isLimitExceeded(key, limit, timeout, algorithm)) {
             throw new TooManyRequestsException(message);
         }
     }
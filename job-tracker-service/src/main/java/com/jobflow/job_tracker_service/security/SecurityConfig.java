@@ -1,5 +1,6 @@
 package com.jobflow.job_tracker_service.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import com.jobflow.job_tracker_service.jwt.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
@@ -28,8 +29,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(httpReq -> httpReq
+                        // Completion of an SSE stream is an async dispatch of the already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .exceptionHandling(exc -> exc
                         .accessDeniedHandler(accessDeniedHandler)
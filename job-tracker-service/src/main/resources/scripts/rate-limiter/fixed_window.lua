@@ -0,0 +1,12 @@
+-- KEYS[1] - counter key, ARGV[1] - limit, ARGV[2] - window in milliseconds.
+-- Returns {exceeded (1/0), remaining, retry after in milliseconds}.
+local limit = tonumber(ARGV[1])
+local count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+if count > limit then
+    return {1, 0, math.max(0, redis.call('PTTL', KEYS[1]))}
+end
+return {0, limit - count, 0}
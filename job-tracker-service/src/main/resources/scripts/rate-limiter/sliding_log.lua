@@ -0,0 +1,19 @@
+-- KEYS[1] - sorted set key, ARGV[1] - limit, ARGV[2] - window in milliseconds.
+-- Keeps the timestamp of every accepted request of the last window. Exact, but stores
+-- up to "limit" entries per key, so it is meant for small limits. Rejected requests are not logged.
+-- Returns {exceeded (1/0), remaining, retry after in milliseconds}.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+if count >= limit then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    return {1, 0, math.max(0, tonumber(oldest[2]) + window - now)}
+end
+
+redis.call('ZADD', KEYS[1], now, time[1] .. '.' .. time[2] .. ':' .. count)
+redis.call('PEXPIRE', KEYS[1], window)
+return {0, limit - count - 1, 0}
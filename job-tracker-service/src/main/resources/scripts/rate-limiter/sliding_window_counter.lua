@@ -0,0 +1,48 @@
+-- KEYS[1] - hash key, ARGV[1] - limit, ARGV[2] - window in milliseconds.
+-- Estimates the number of requests in the last window as the current window count plus
+-- the previous window count weighted by how much of it still overlaps the sliding window.
+-- Rejected requests are not counted.
+-- Returns {exceeded (1/0), remaining, retry after in milliseconds}.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local currentWindow = math.floor(now / window)
+
+local data = redis.call('HMGET', KEYS[1], 'window', 'current', 'previous')
+local storedWindow = tonumber(data[1])
+local current = tonumber(data[2]) or 0
+local previous = tonumber(data[3]) or 0
+
+if storedWindow ~= currentWindow then
+    if storedWindow == currentWindow - 1 then
+        previous = current
+    else
+        previous = 0
+    end
+    current = 0
+end
+
+local elapsed = (now - currentWindow * window) / window
+local exceeded = previous * (1 - elapsed) + current + 1 > limit
+if not exceeded then
+    current = current + 1
+end
+
+redis.call('HSET', KEYS[1], 'window', currentWindow, 'current', current, 'previous', previous)
+redis.call('PEXPIRE', KEYS[1], window * 2)
+
+if not exceeded then
+    return {0, math.max(0, math.floor(limit - previous * (1 - elapsed) - current)), 0}
+end
+
+-- Time until the weighted estimate leaves room for one more request
+local retryAfter
+if current + 1 <= limit then
+    local requiredElapsed = 1 - (limit - current - 1) / previous
+    retryAfter = (requiredElapsed - elapsed) * window
+else
+    local requiredElapsed = 1 - (limit - 1) / current
+    retryAfter = (1 - elapsed) * window + math.max(0, requiredElapsed) * window
+end
+return {1, 0, math.ceil(math.max(0, retryAfter))}
@@ -0,0 +1,26 @@
+-- KEYS[1] - hash key, ARGV[1] - bucket capacity, ARGV[2] - time to refill the whole bucket in milliseconds.
+-- Tokens are refilled continuously, so bursts up to the capacity are allowed after idle periods.
+-- Returns {exceeded (1/0), remaining, retry after in milliseconds}.
+local capacity = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local data = redis.call('HMGET', KEYS[1], 'tokens', 'timestamp')
+local tokens = tonumber(data[1]) or capacity
+local timestamp = tonumber(data[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - timestamp) * capacity / window)
+
+local exceeded = tokens < 1
+if not exceeded then
+    tokens = tokens - 1
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'timestamp', now)
+redis.call('PEXPIRE', KEYS[1], window)
+
+if exceeded then
+    return {1, 0, math.ceil((1 - tokens) * window / capacity)}
+end
+return {0, math.floor(tokens), 0}
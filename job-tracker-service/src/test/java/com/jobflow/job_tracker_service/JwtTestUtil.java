@@ -1,5 +1,6 @@
 package com.jobflow.job_tracker_service;
 
+import com.jobflow.job_tracker_service.jwt.JwtService;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
 
 /**
  * A utility class for generating a JWT token using
@@ -21,10 +23,15 @@ public class JwtTestUtil {
     private String secretKey;
 
     public String generateToken(Long userId) {
+        return generateToken(userId, List.of("ROLE_USER"));
+    }
+
+    public String generateToken(Long userId, List<String> roles) {
         byte[] decodeKey = Decoders.BASE64.decode(secretKey);
         SecretKey key = Keys.hmacShaKeyFor(decodeKey);
 
         return Jwts.builder()
+                .claim(JwtService.ROLES_CLAIM, roles)
                 .setSubject(userId.toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60))
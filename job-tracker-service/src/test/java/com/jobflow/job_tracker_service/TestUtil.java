@@ -98,6 +98,8 @@ public final class TestUtil {
                 .uniqueCompanies(1L)
                 .topCompany(new TopItem("Google", 1L))
                 .topPosition(new TopItem("Backend", 1L))
+                .topCompanies(List.of(new TopItem("Google", 1L)))
+                .topPositions(List.of(new TopItem("Backend", 1L)))
                 .byStatus(Map.of(Status.REJECTED, 1L, Status.OFFER, 1L, Status.APPLIED, 1L))
                 .build();
     }
@@ -0,0 +1,68 @@
+package com.jobflow.job_tracker_service.exchangeRate;
+
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateServiceTest {
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    @Mock
+    private ExchangeRateRepository exchangeRateRepository;
+
+    @InjectMocks
+    private ExchangeRateService exchangeRateService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void update_storesRatesAndServesThemFromMemory() {
+        Map<Currency, BigDecimal> rates = Map.of(Currency.USD, BigDecimal.ONE, Currency.EUR, new BigDecimal("1.1"));
+        when(exchangeRateProvider.getBase()).thenReturn(Currency.USD);
+        when(exchangeRateProvider.fetchRates()).thenReturn(rates);
+
+        exchangeRateService.update();
+        ExchangeRates result = exchangeRateService.getExchangeRates();
+
+        ArgumentCaptor<List<ExchangeRate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(exchangeRateRepository, times(1)).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+
+        assertEquals(Currency.USD, result.getBase());
+        assertEquals(rates, result.getRates());
+        assertNotNull(result.getUpdatedAt());
+        verify(exchangeRateRepository, never()).findAll();
+    }
+
+    @Test
+    public void update_providerFailed_keepsStoredRates() {
+        LocalDateTime updatedAt = LocalDateTime.now().minusDays(1);
+        when(exchangeRateProvider.fetchRates()).thenThrow(new RuntimeException("Provider unavailable"));
+        when(exchangeRateProvider.getBase()).thenReturn(Currency.USD);
+        when(exchangeRateRepository.findAll()).thenReturn(List.of(
+                new ExchangeRate(Currency.EUR, Currency.USD, new BigDecimal("1.1"), updatedAt),
+                new ExchangeRate(Currency.RUB, Currency.EUR, new BigDecimal("0.01"), updatedAt)
+        ));
+
+        exchangeRateService.update();
+        ExchangeRates result = exchangeRateService.getExchangeRates();
+
+        verify(exchangeRateRepository, never()).saveAll(any());
+        assertEquals(Map.of(Currency.EUR, new BigDecimal("1.1")), result.getRates());
+        assertEquals(updatedAt, result.getUpdatedAt());
+    }
+}
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
 import com.jobflow.job_tracker_service.exception.JobApplicationNotFoundException;
-import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
 import com.jobflow.job_tracker_service.exception.UserDontHavePermissionException;
 import com.jobflow.job_tracker_service.handler.GlobalHandler;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimitInterceptor;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimitResult;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
+import com.jobflow.job_tracker_service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +19,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.*;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -29,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +49,12 @@ class JobApplicationControllerTest {
     @Mock
     private JobApplicationService jobApplicationService;
 
+    @Mock
+    private RateLimiterValidator rateLimiterValidator;
+
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private JobApplicationController jobApplicationController;
 
@@ -60,8 +74,12 @@ class JobApplicationControllerTest {
     public void setup() throws JsonProcessingException {
         mockMvc = MockMvcBuilders.standaloneSetup(jobApplicationController)
                 .setControllerAdvice(new GlobalHandler())
+                .addInterceptors(new RateLimitInterceptor(rateLimiterValidator, userService, mock(ApplicationContext.class)))
                 .build();
 
+        lenient().when(userService.getCurrentUserId()).thenReturn(1L);
+        lenient().when(rateLimiterValidator.check(any(), anyString())).thenReturn(RateLimitResult.allowed(5, 4));
+
         createUpdateDto = TestUtil.createJobApplicationCreateUpdateDto();
         createUpdateDtoJson = objectMapper.writeValueAsString(createUpdateDto);
 
@@ -100,6 +118,61 @@ class JobApplicationControllerTest {
         assertEquals(Direction.DESC, sortOrder.getDirection());
     }
 
+    @Test
+    public void findMyByCursor_returnSlice() throws Exception {
+        var cursorPage = CursorPageDto.<JobApplicationDto>builder()
+                .content(List.of(firstJobApplicationDto, secondJobApplicationDto))
+                .size(2)
+                .hasNext(true)
+                .nextCursor("next-cursor")
+                .build();
+        when(jobApplicationService.findMyByCursor("some-cursor", 2, SortField.CREATED_AT, Direction.ASC)).thenReturn(cursorPage);
+
+        mockMvc.perform(get("/api/v1/job-applications/my/cursor")
+                        .param("cursor", "some-cursor")
+                        .param("pageSize", "2")
+                        .param("sortBy", "CREATED_AT")
+                        .param("direction", "ASC")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.content[0].id").value(firstJobApplicationDto.getId()))
+                .andExpect(jsonPath("$.content[1].id").value(secondJobApplicationDto.getId()));
+
+        verify(jobApplicationService, times(1)).findMyByCursor("some-cursor", 2, SortField.CREATED_AT, Direction.ASC);
+    }
+
+    @Test
+    public void findMyByCursor_withoutParams_useDefaults() throws Exception {
+        when(jobApplicationService.findMyByCursor(null, 10, SortField.UPDATED_AT, Direction.DESC))
+                .thenReturn(CursorPageDto.<JobApplicationDto>builder().content(List.of()).size(10).build());
+
+        mockMvc.perform(get("/api/v1/job-applications/my/cursor")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(jobApplicationService, times(1)).findMyByCursor(null, 10, SortField.UPDATED_AT, Direction.DESC);
+    }
+
+    @Test
+    public void findMyByCursor_invalidCursor_returnBadRequest() throws Exception {
+        var invalidCursorException = new InvalidCursorException("Invalid cursor: bad");
+        when(jobApplicationService.findMyByCursor("bad", 10, SortField.UPDATED_AT, Direction.DESC)).thenThrow(invalidCursorException);
+
+        mockMvc.perform(get("/api/v1/job-applications/my/cursor")
+                        .param("cursor", "bad")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(invalidCursorException.getMessage()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.time").exists());
+    }
+
     @Test
     public void findById_returnJobApplication() throws Exception {
         when(jobApplicationService.findById(1L)).thenReturn(firstJobApplicationDto);
@@ -320,19 +393,21 @@ class JobApplicationControllerTest {
 
     @Test
     public void create_tooManyRequests_returnTooManyRequests() throws Exception {
-        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
-        when(jobApplicationService.create(createUpdateDto)).thenThrow(tooManyRequestsException);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.CREATE, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
 
         mockMvc.perform(post("/api/v1/job-applications")
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON)
                         .content(createUpdateDtoJson))
                 .andExpect(status().isTooManyRequests())
-                .andExpect(jsonPath("$.message").value(tooManyRequestsException.getMessage()))
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationRateLimiterAction.CREATE.getMessage()))
                 .andExpect(jsonPath("$.time").exists())
                 .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()));
 
-        verify(jobApplicationService, times(1)).create(createUpdateDto);
+        verifyNoInteractions(jobApplicationService);
     }
 
     @Test
@@ -369,19 +444,21 @@ class JobApplicationControllerTest {
 
     @Test
     public void update_tooManyRequests_returnTooManyRequests() throws Exception {
-        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
-        doThrow(tooManyRequestsException).when(jobApplicationService).update(1L, createUpdateDto);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.UPDATE, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
 
         mockMvc.perform(put("/api/v1/job-applications/{id}", 1L)
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON)
                         .content(createUpdateDtoJson))
                 .andExpect(status().isTooManyRequests())
-                .andExpect(jsonPath("$.message").exists())
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationRateLimiterAction.UPDATE.getMessage()))
                 .andExpect(jsonPath("$.time").exists())
                 .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()));
 
-        verify(jobApplicationService, times(1)).update(1L, createUpdateDto);
+        verifyNoInteractions(jobApplicationService);
     }
 
     @Test
@@ -433,19 +510,21 @@ class JobApplicationControllerTest {
 
     @Test
     public void updateStatus_tooManyRequests_returnTooManyRequests() throws Exception {
-        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
-        doThrow(tooManyRequestsException).when(jobApplicationService).updateStatus(1L, Status.APPLIED);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.UPDATE_STATUS, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
 
         mockMvc.perform(patch("/api/v1/job-applications/{id}", 1L)
                         .param("status", Status.APPLIED.toString())
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON))
                 .andExpect(status().isTooManyRequests())
-                .andExpect(jsonPath("$.message").exists())
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationRateLimiterAction.UPDATE_STATUS.getMessage()))
                 .andExpect(jsonPath("$.time").exists())
                 .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()));
 
-        verify(jobApplicationService, times(1)).updateStatus(1L, Status.APPLIED);
+        verifyNoInteractions(jobApplicationService);
     }
 
     @Test
@@ -496,18 +575,20 @@ class JobApplicationControllerTest {
 
     @Test
     public void delete_tooManyRequests_returnTooManyRequests() throws Exception {
-        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
-        doThrow(tooManyRequestsException).when(jobApplicationService).delete(1L);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.DELETE, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
 
         mockMvc.perform(delete("/api/v1/job-applications/{id}", 1L)
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON))
                 .andExpect(status().isTooManyRequests())
-                .andExpect(jsonPath("$.message").exists())
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationRateLimiterAction.DELETE.getMessage()))
                 .andExpect(jsonPath("$.time").exists())
                 .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()));
 
-        verify(jobApplicationService, times(1)).delete(1L);
+        verifyNoInteractions(jobApplicationService);
     }
 
     @Test
@@ -0,0 +1,63 @@
+package com.jobflow.job_tracker_service.jobApplication;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobApplicationCursorUtilsTest {
+
+    @Test
+    public void encodeAndDecode_returnSamePosition() {
+        JobApplication jobApplication = TestUtil.createJobApplication();
+        jobApplication.setId(42L);
+        jobApplication.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123456000));
+        jobApplication.setUpdatedAt(LocalDateTime.of(2024, 2, 1, 10, 0, 0, 654321000));
+
+        String cursor = JobApplicationCursorUtils.encode(jobApplication, SortField.CREATED_AT, Direction.ASC);
+        JobApplicationCursor result = JobApplicationCursorUtils.decode(cursor);
+
+        assertNotNull(result);
+        assertEquals(SortField.CREATED_AT, result.getSortBy());
+        assertEquals(Direction.ASC, result.getDirection());
+        assertEquals(jobApplication.getCreatedAt(), result.getSortValue());
+        assertEquals(42L, result.getId());
+    }
+
+    @Test
+    public void encode_usesUpdatedAtForUpdatedAtSort() {
+        JobApplication jobApplication = TestUtil.createJobApplication();
+
+        String cursor = JobApplicationCursorUtils.encode(jobApplication, SortField.UPDATED_AT, Direction.DESC);
+        JobApplicationCursor result = JobApplicationCursorUtils.decode(cursor);
+
+        assertEquals(jobApplication.getUpdatedAt(), result.getSortValue());
+    }
+
+    @Test
+    public void decode_notBase64_throwExc() {
+        var invalidCursorException = assertThrows(InvalidCursorException.class, () -> JobApplicationCursorUtils.decode("%%%"));
+        assertEquals("Invalid cursor: %%%", invalidCursorException.getMessage());
+    }
+
+    @Test
+    public void decode_invalidFormat_throwExc() {
+        String cursor = Base64.getUrlEncoder().encodeToString("UPDATED_AT|DESC|not-a-date|1".getBytes(StandardCharsets.UTF_8));
+
+        var invalidCursorException = assertThrows(InvalidCursorException.class, () -> JobApplicationCursorUtils.decode(cursor));
+        assertEquals("Invalid cursor: " + cursor, invalidCursorException.getMessage());
+    }
+
+    @Test
+    public void decode_missingParts_throwExc() {
+        String cursor = Base64.getUrlEncoder().encodeToString("UPDATED_AT|DESC".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCursorException.class, () -> JobApplicationCursorUtils.decode(cursor));
+    }
+}
@@ -1,14 +1,17 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobflow.job_tracker_service.BaseIT;
 import com.jobflow.job_tracker_service.JwtTestUtil;
 import com.jobflow.job_tracker_service.TestPageResponse;
 import com.jobflow.job_tracker_service.TestUtil;
 import com.jobflow.job_tracker_service.handler.ResponseError;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsDto;
 import com.jobflow.job_tracker_service.jobApplication.stats.StatsCacheKeyUtils;
 import com.jobflow.job_tracker_service.notification.NotificationEvent;
 import com.jobflow.job_tracker_service.notification.NotificationType;
 import com.jobflow.job_tracker_service.rabbitMQ.RabbitProperties;
+import com.jobflow.job_tracker_service.rateLimiter.HybridRateLimiterService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.core.AmqpAdmin;
@@ -24,6 +27,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 public class JobApplicationIT extends BaseIT {
 
@@ -41,6 +45,9 @@ public class JobApplicationIT extends BaseIT {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private HybridRateLimiterService hybridRateLimiterService;
+
     @Autowired
     private AmqpTemplate amqpTemplate;
 
@@ -50,6 +57,9 @@ public class JobApplicationIT extends BaseIT {
     @Autowired
     private AmqpAdmin amqpAdmin;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private String token;
 
     private JobApplicationCreateUpdateDto createUpdateDto;
@@ -64,6 +74,7 @@ public class JobApplicationIT extends BaseIT {
         TestUtil.clearRabbit(amqpAdmin, rabbitProperties.getEmailQueueName());
         TestUtil.clearRabbit(amqpAdmin, rabbitProperties.getTelegramQueueName());
         TestUtil.clearKeys(redisTemplate, "rate_limiter:*");
+        hybridRateLimiterService.clear();
 
         createUpdateDto = TestUtil.createJobApplicationCreateUpdateDto();
         firstJobApplication = TestUtil.createJobApplication();
@@ -150,6 +161,81 @@ public class JobApplicationIT extends BaseIT {
         assertNotNull(error.getTime());
     }
 
+    @Test
+    public void findMyByCursor_scrollsAllJobApplicationsWithoutGaps() {
+        JobApplication thirdJobApplication = TestUtil.createJobApplication();
+        thirdJobApplication.setId(null);
+        firstJobApplication.setUserId(USER_ID);
+        secondJobApplication.setUserId(USER_ID);
+        thirdJobApplication.setUserId(USER_ID);
+        TestUtil.saveDataInDb(jobApplicationRepository, List.of(firstJobApplication, secondJobApplication, thirdJobApplication));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = TestUtil.createRequest(null, headers);
+
+        ResponseEntity<CursorPageDto<JobApplicationDto>> firstResponse = restTemplate.exchange(
+                "/api/v1/job-applications/my/cursor?pageSize=2&sortBy=CREATED_AT&direction=ASC",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        assertEquals(HttpStatus.OK, firstResponse.getStatusCode());
+
+        CursorPageDto<JobApplicationDto> firstSlice = firstResponse.getBody();
+        assertNotNull(firstSlice);
+        assertEquals(2, firstSlice.getContent().size());
+        assertTrue(firstSlice.isHasNext());
+        assertNotNull(firstSlice.getNextCursor());
+
+        ResponseEntity<CursorPageDto<JobApplicationDto>> secondResponse = restTemplate.exchange(
+                "/api/v1/job-applications/my/cursor?pageSize=2&sortBy=CREATED_AT&direction=ASC&cursor=" + firstSlice.getNextCursor(),
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+
+        assertEquals(HttpStatus.OK, secondResponse.getStatusCode());
+
+        CursorPageDto<JobApplicationDto> secondSlice = secondResponse.getBody();
+        assertNotNull(secondSlice);
+        assertEquals(1, secondSlice.getContent().size());
+        assertFalse(secondSlice.isHasNext());
+        assertNull(secondSlice.getNextCursor());
+
+        List<Long> ids = List.of(
+                firstSlice.getContent().get(0).getId(),
+                firstSlice.getContent().get(1).getId(),
+                secondSlice.getContent().get(0).getId()
+        );
+        assertEquals(List.of(firstJobApplication.getId(), secondJobApplication.getId(), thirdJobApplication.getId()), ids);
+    }
+
+    @Test
+    public void findMyByCursor_invalidCursor_returnBadRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = TestUtil.createRequest(null, headers);
+
+        ResponseEntity<ResponseError> response = restTemplate.exchange(
+                "/api/v1/job-applications/my/cursor?cursor=invalid",
+                HttpMethod.GET,
+                request,
+                ResponseError.class
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+
+        ResponseError error = response.getBody();
+        assertNotNull(error);
+        assertEquals("Invalid cursor: invalid", error.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), error.getStatus());
+        assertNotNull(error.getTime());
+    }
+
     @Test
     public void findById_returnJobApplication() {
         HttpHeaders headers = new HttpHeaders();
@@ -326,7 +412,7 @@ public class JobApplicationIT extends BaseIT {
     }
 
     @Test
-    public void create_deleteStatsFromRedisCorrectly() {
+    public void create_refreshStatsInRedisCorrectly() {
         saveStatsInRedis(USER_ID);
 
         HttpHeaders headers = new HttpHeaders();
@@ -342,7 +428,7 @@ public class JobApplicationIT extends BaseIT {
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
 
-        assertNull(redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(USER_ID)));
+        awaitStatsRefreshed(USER_ID);
     }
 
     @Test
@@ -465,7 +551,7 @@ public class JobApplicationIT extends BaseIT {
     }
 
     @Test
-    public void update_deleteStatsFromRedisCorrectly() {
+    public void update_refreshStatsInRedisCorrectly() {
         saveStatsInRedis(USER_ID);
 
         HttpHeaders headers = new HttpHeaders();
@@ -484,7 +570,7 @@ public class JobApplicationIT extends BaseIT {
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
 
-        assertNull(redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(USER_ID)));
+        awaitStatsRefreshed(USER_ID);
     }
 
     @Test
@@ -750,7 +836,7 @@ public class JobApplicationIT extends BaseIT {
     }
 
     @Test
-    public void updateStatus_deleteStatsFromRedisCorrectly() {
+    public void updateStatus_refreshStatsInRedisCorrectly() {
         saveStatsInRedis(USER_ID);
 
         HttpHeaders headers = new HttpHeaders();
@@ -769,7 +855,7 @@ public class JobApplicationIT extends BaseIT {
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
 
-        assertNull(redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(USER_ID)));
+        awaitStatsRefreshed(USER_ID);
     }
 
     @Test
@@ -899,7 +985,7 @@ public class JobApplicationIT extends BaseIT {
     }
 
     @Test
-    public void delete_deleteStatsFromRedisCorrectly() {
+    public void delete_refreshStatsInRedisCorrectly() {
         saveStatsInRedis(USER_ID);
 
         HttpHeaders headers = new HttpHeaders();
@@ -918,7 +1004,7 @@ public class JobApplicationIT extends BaseIT {
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
 
-        assertNull(redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(USER_ID)));
+        awaitStatsRefreshed(USER_ID);
     }
 
     @Test
@@ -986,6 +1072,15 @@ public class JobApplicationIT extends BaseIT {
         assertNotNull(error.getTime());
     }
 
+    private void awaitStatsRefreshed(Long userId) {
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> !"someStats".equals(redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(userId))));
+
+        String refreshedStats = redisTemplate.opsForValue().get(StatsCacheKeyUtils.keyForUser(userId));
+        assertNotNull(refreshedStats);
+        assertDoesNotThrow(() -> objectMapper.readValue(refreshedStats, JobApplicationStatsDto.class));
+    }
+
     private void saveStatsInRedis(Long userId) {
         redisTemplate.opsForValue().set(StatsCacheKeyUtils.keyForUser(userId), "someStats", Duration.ofHours(1L));
 
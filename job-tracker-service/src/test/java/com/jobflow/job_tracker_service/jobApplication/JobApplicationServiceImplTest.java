@@ -1,13 +1,17 @@
 package com.jobflow.job_tracker_service.jobApplication;
 
 import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.InvalidCursorException;
 import com.jobflow.job_tracker_service.exception.JobApplicationNotFoundException;
 import com.jobflow.job_tracker_service.exception.UserDontHavePermissionException;
-import com.jobflow.job_tracker_service.jobApplication.stats.StatsCacheKeyUtils;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistoryService;
+import com.jobflow.job_tracker_service.jobApplication.live.JobApplicationChangedEvent;
+import com.jobflow.job_tracker_service.jobApplication.live.LiveEventType;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsChangedEvent;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationUserStatsService;
 import com.jobflow.job_tracker_service.notification.EventPublisher;
 import com.jobflow.job_tracker_service.notification.NotificationEvent;
 import com.jobflow.job_tracker_service.notification.NotificationEventFactory;
-import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
 import com.jobflow.job_tracker_service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,17 +20,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +50,7 @@ class JobApplicationServiceImplTest {
     private JobApplicationRepository jobApplicationRepository;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Mock
     private NotificationEventFactory eventFactory;
@@ -51,7 +59,10 @@ class JobApplicationServiceImplTest {
     private EventPublisher<NotificationEvent> eventPublisher;
 
     @Mock
-    private RateLimiterValidator rateLimiterValidator;
+    private JobApplicationUserStatsService userStatsService;
+
+    @Mock
+    private JobApplicationStatusHistoryService statusHistoryService;
 
     @InjectMocks
     private JobApplicationServiceImpl jobApplicationService;
@@ -106,6 +117,77 @@ class JobApplicationServiceImplTest {
         verify(jobApplicationMapper, times(2)).toDto(any(JobApplication.class));
     }
 
+    @Test
+    public void findMyByCursor_withoutCursor_returnFirstSliceWithNextCursor() {
+        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        secondJobApplication.setId(2L);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(jobApplicationRepository.findAllByUserId(eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(firstJobApplication, secondJobApplication), PageRequest.of(0, 2), true));
+        when(jobApplicationMapper.toDto(firstJobApplication)).thenReturn(firstJobApplicationDto);
+        when(jobApplicationMapper.toDto(secondJobApplication)).thenReturn(secondJobApplicationDto);
+
+        CursorPageDto<JobApplicationDto> result = jobApplicationService.findMyByCursor(null, 2, SortField.UPDATED_AT, Direction.DESC);
+
+        assertNotNull(result);
+        assertEquals(2, result.getContent().size());
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(JobApplicationCursorUtils.encode(secondJobApplication, SortField.UPDATED_AT, Direction.DESC), result.getNextCursor());
+
+        verify(jobApplicationRepository, times(1)).findAllByUserId(eq(1L), pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        assertEquals(0, pageable.getPageNumber());
+        assertEquals(2, pageable.getPageSize());
+        assertEquals(Sort.by(Direction.DESC, "updatedAt", "id"), pageable.getSort());
+    }
+
+    @Test
+    public void findMyByCursor_withCursor_returnNextSliceWithoutNextCursor() {
+        String cursor = JobApplicationCursorUtils.encode(firstJobApplication, SortField.CREATED_AT, Direction.ASC);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(jobApplicationRepository.findNextByCreatedAtAsc(eq(1L), eq(firstJobApplication.getCreatedAt()), eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(secondJobApplication), PageRequest.of(0, 10), false));
+        when(jobApplicationMapper.toDto(secondJobApplication)).thenReturn(secondJobApplicationDto);
+
+        CursorPageDto<JobApplicationDto> result = jobApplicationService.findMyByCursor(cursor, 10, SortField.CREATED_AT, Direction.ASC);
+
+        assertNotNull(result);
+        assertEquals(1, result.getContent().size());
+        assertEquals(secondJobApplicationDto, result.getContent().get(0));
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+
+        verify(jobApplicationRepository, never()).findAllByUserId(anyLong(), any(Pageable.class));
+        verify(jobApplicationRepository, never()).findByUserId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    public void findMyByCursor_cursorForUpdatedAtDesc_usesMatchingQuery() {
+        String cursor = JobApplicationCursorUtils.encode(firstJobApplication, SortField.UPDATED_AT, Direction.DESC);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(jobApplicationRepository.findNextByUpdatedAtDesc(eq(1L), eq(firstJobApplication.getUpdatedAt()), eq(1L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        CursorPageDto<JobApplicationDto> result = jobApplicationService.findMyByCursor(cursor, 10, SortField.UPDATED_AT, Direction.DESC);
+
+        assertNotNull(result);
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    public void findMyByCursor_cursorDoesNotMatchSorting_throwExc() {
+        String cursor = JobApplicationCursorUtils.encode(firstJobApplication, SortField.UPDATED_AT, Direction.DESC);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+
+        var invalidCursorException = assertThrows(InvalidCursorException.class,
+                () -> jobApplicationService.findMyByCursor(cursor, 10, SortField.CREATED_AT, Direction.DESC));
+        assertEquals("Cursor was issued for sorting by: UPDATED_AT DESC, but requested: CREATED_AT DESC", invalidCursorException.getMessage());
+
+        verifyNoInteractions(jobApplicationRepository);
+    }
+
     @Test
     public void findById_returnJobApplication() {
         firstJobApplication.setUserId(1L);
@@ -155,10 +237,14 @@ class JobApplicationServiceImplTest {
         assertNotNull(result);
         assertEquals(firstJobApplicationDto, result);
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationRateLimiterAction.CREATE, "1");
         verify(eventPublisher, times(1)).publish(notificationEvent);
         verify(jobApplicationRepository, times(1)).save(firstJobApplication);
-        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(userStatsService, times(1)).onCreate(firstJobApplication);
+        verify(statusHistoryService, times(1)).onCreate(firstJobApplication);
+        verify(applicationEventPublisher, times(1)).publishEvent(new JobApplicationStatsChangedEvent(1L));
+        verify(applicationEventPublisher, times(1)).publishEvent(
+                new JobApplicationChangedEvent(1L, LiveEventType.JOB_APPLICATION_CREATED, firstJobApplication.getId(), firstJobApplicationDto)
+        );
     }
 
     @Test
@@ -181,13 +267,20 @@ class JobApplicationServiceImplTest {
         when(jobApplicationRepository.findById(1L)).thenReturn(Optional.of(firstJobApplication));
         when(eventFactory.buildForStatusUpdate(firstJobApplication)).thenReturn(notificationEvent);
 
+        var beforeCaptor = ArgumentCaptor.forClass(JobApplication.class);
+        String companyBefore = firstJobApplication.getCompany();
+
         jobApplicationService.update(1L, dataToUpdate);
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationRateLimiterAction.UPDATE, "1");
+        verify(userStatsService, times(1)).onUpdate(beforeCaptor.capture(), eq(firstJobApplication));
+        assertEquals(companyBefore, beforeCaptor.getValue().getCompany());
+        verify(statusHistoryService, times(1)).onUpdate(beforeCaptor.getValue(), firstJobApplication);
+        assertNotSame(firstJobApplication, beforeCaptor.getValue());
+
         verify(eventPublisher, times(1)).publish(notificationEvent);
         verify(jobApplicationRepository, times(1)).findById(1L);
         verify(jobApplicationRepository, times(1)).save(argumentCaptor.capture());
-        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(applicationEventPublisher, times(1)).publishEvent(new JobApplicationStatsChangedEvent(1L));
 
         JobApplication jobApplication = argumentCaptor.getValue();
         assertEquals(dataToUpdate.getCompany(), jobApplication.getCompany());
@@ -234,9 +327,14 @@ class JobApplicationServiceImplTest {
         when(eventFactory.buildForStatusUpdate(firstJobApplication)).thenReturn(notificationEvent);
         var argumentCaptor = ArgumentCaptor.forClass(JobApplication.class);
 
+        var beforeCaptor = ArgumentCaptor.forClass(JobApplication.class);
+
         jobApplicationService.updateStatus(1L, Status.REJECTED);
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationRateLimiterAction.UPDATE_STATUS, "1");
+        verify(userStatsService, times(1)).onUpdate(beforeCaptor.capture(), eq(firstJobApplication));
+        assertEquals(Status.APPLIED, beforeCaptor.getValue().getStatus());
+        verify(statusHistoryService, times(1)).onUpdate(beforeCaptor.getValue(), firstJobApplication);
+
         verify(eventPublisher, times(1)).publish(notificationEvent);
         verify(jobApplicationRepository, times(1)).findById(1L);
         verify(jobApplicationRepository, times(1)).save(argumentCaptor.capture());
@@ -244,7 +342,7 @@ class JobApplicationServiceImplTest {
         JobApplication jobApplication = argumentCaptor.getValue();
         assertEquals(Status.REJECTED, jobApplication.getStatus());
 
-        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(applicationEventPublisher, times(1)).publishEvent(new JobApplicationStatsChangedEvent(1L));
     }
 
     @Test
@@ -275,10 +373,14 @@ class JobApplicationServiceImplTest {
 
         jobApplicationService.delete(1L);
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationRateLimiterAction.DELETE, "1");
         verify(jobApplicationRepository, times(1)).findById(1L);
         verify(jobApplicationRepository, times(1)).delete(firstJobApplication);
-        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(userStatsService, times(1)).onDelete(firstJobApplication);
+        verify(statusHistoryService, times(1)).onDelete(firstJobApplication);
+        verify(applicationEventPublisher, times(1)).publishEvent(new JobApplicationStatsChangedEvent(1L));
+        verify(applicationEventPublisher, times(1)).publishEvent(
+                new JobApplicationChangedEvent(1L, LiveEventType.JOB_APPLICATION_DELETED, 1L, null)
+        );
     }
 
     @Test
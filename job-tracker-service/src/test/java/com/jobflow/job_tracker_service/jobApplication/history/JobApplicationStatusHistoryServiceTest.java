@@ -0,0 +1,127 @@
+package com.jobflow.job_tracker_service.jobApplication.history;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import com.jobflow.job_tracker_service.jobApplication.stats.FunnelContribution;
+import com.jobflow.job_tracker_service.jobApplication.stats.FunnelStage;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationFunnelStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationStatusHistoryServiceTest {
+
+    @Mock
+    private JobApplicationStatusHistoryRepository historyRepository;
+
+    @Mock
+    private JobApplicationFunnelStatsService funnelStatsService;
+
+    @InjectMocks
+    private JobApplicationStatusHistoryService statusHistoryService;
+
+    private JobApplication jobApplication;
+
+    @BeforeEach
+    public void setup() {
+        jobApplication = TestUtil.createJobApplication();
+    }
+
+    @Test
+    public void onCreate_recordsInitialStatusAndCountsFunnel() {
+        when(historyRepository.save(any(JobApplicationStatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        var historyCaptor = ArgumentCaptor.forClass(JobApplicationStatusHistory.class);
+
+        statusHistoryService.onCreate(jobApplication);
+
+        verify(historyRepository, times(1)).save(historyCaptor.capture());
+        JobApplicationStatusHistory entry = historyCaptor.getValue();
+        assertEquals(jobApplication.getId(), entry.getJobApplicationId());
+        assertEquals(jobApplication.getUserId(), entry.getUserId());
+        assertNull(entry.getFromStatus());
+        assertEquals(Status.APPLIED, entry.getToStatus());
+        assertNotNull(entry.getChangedAt());
+
+        verify(funnelStatsService, times(1)).onChange(
+                null,
+                new FunnelContribution(jobApplication.getUserId(), Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of())
+        );
+    }
+
+    @Test
+    public void onUpdate_statusChanged_appendsTransition() {
+        JobApplicationStatusHistory created = JobApplicationStatusHistory.builder()
+                .jobApplicationId(jobApplication.getId()).userId(jobApplication.getUserId())
+                .toStatus(Status.APPLIED).changedAt(LocalDateTime.now())
+                .build();
+        JobApplication updated = jobApplication.toBuilder().status(Status.VIEWED).build();
+        when(historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(jobApplication.getId())).thenReturn(List.of(created));
+        when(historyRepository.save(any(JobApplicationStatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        var historyCaptor = ArgumentCaptor.forClass(JobApplicationStatusHistory.class);
+
+        statusHistoryService.onUpdate(jobApplication, updated);
+
+        verify(historyRepository, times(1)).save(historyCaptor.capture());
+        assertEquals(Status.APPLIED, historyCaptor.getValue().getFromStatus());
+        assertEquals(Status.VIEWED, historyCaptor.getValue().getToStatus());
+
+        verify(funnelStatsService, times(1)).onChange(
+                new FunnelContribution(jobApplication.getUserId(), Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of()),
+                new FunnelContribution(jobApplication.getUserId(), Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED),
+                        Map.of(FunnelStage.VIEWED, 0L))
+        );
+    }
+
+    @Test
+    public void onUpdate_withoutHistory_recordsInitialStatusFirst() {
+        JobApplication updated = jobApplication.toBuilder().status(Status.VIEWED).build();
+        when(historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(jobApplication.getId())).thenReturn(List.of());
+        when(historyRepository.save(any(JobApplicationStatusHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        var historyCaptor = ArgumentCaptor.forClass(JobApplicationStatusHistory.class);
+
+        statusHistoryService.onUpdate(jobApplication, updated);
+
+        verify(historyRepository, times(2)).save(historyCaptor.capture());
+        assertNull(historyCaptor.getAllValues().get(0).getFromStatus());
+        assertEquals(Status.APPLIED, historyCaptor.getAllValues().get(0).getToStatus());
+        assertEquals(jobApplication.getCreatedAt(), historyCaptor.getAllValues().get(0).getChangedAt());
+        assertEquals(Status.VIEWED, historyCaptor.getAllValues().get(1).getToStatus());
+    }
+
+    @Test
+    public void onUpdate_noFunnelDimensionChanged_doNothing() {
+        JobApplication updated = jobApplication.toBuilder().company("Another company").build();
+
+        statusHistoryService.onUpdate(jobApplication, updated);
+
+        verifyNoInteractions(historyRepository, funnelStatsService);
+    }
+
+    @Test
+    public void onDelete_removesContributionFromFunnel() {
+        when(historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(jobApplication.getId())).thenReturn(List.of());
+
+        statusHistoryService.onDelete(jobApplication);
+
+        verify(funnelStatsService, times(1)).onChange(
+                new FunnelContribution(jobApplication.getUserId(), Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of()),
+                null
+        );
+        verify(historyRepository, never()).save(any());
+    }
+}
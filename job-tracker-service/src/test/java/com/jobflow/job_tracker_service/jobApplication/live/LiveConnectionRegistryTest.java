@@ -0,0 +1,67 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveConnectionRegistryTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private LiveConnectionRegistry connectionRegistry;
+
+    @BeforeEach
+    public void setup() {
+        LiveUpdatesProperties properties = new LiveUpdatesProperties();
+        properties.setTimeout(Duration.ofMinutes(30));
+        properties.setBufferSize(4);
+        properties.setMaxConnectionsPerUser(2);
+
+        connectionRegistry = new LiveConnectionRegistry(properties, tasks::add);
+    }
+
+    @Test
+    public void register_tooManyConnections_closesOldest() {
+        connectionRegistry.register(1L);
+        connectionRegistry.register(1L);
+        connectionRegistry.register(1L);
+
+        assertEquals(2, connectionRegistry.countConnections(1L));
+    }
+
+    @Test
+    public void dispatch_sendsOnlyToConnectionsOfUser() {
+        connectionRegistry.register(1L);
+        connectionRegistry.register(2L);
+
+        connectionRegistry.dispatch(LiveEvent.builder()
+                .userId(1L)
+                .type(LiveEventType.JOB_APPLICATION_DELETED)
+                .jobApplicationId(1L)
+                .build());
+
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void dispatch_noConnections_doNothing() {
+        connectionRegistry.dispatch(LiveEvent.builder().userId(1L).type(LiveEventType.STATS_UPDATED).build());
+
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void heartbeat_sendsToEveryConnection() {
+        connectionRegistry.register(1L);
+        connectionRegistry.register(2L);
+
+        connectionRegistry.heartbeat();
+
+        assertEquals(2, tasks.size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveConnectionTest {
+
+    @Mock
+    private SseEmitter emitter;
+
+    @Test
+    public void send_writesBufferedEventsOnExecutor() throws IOException {
+        List<Runnable> tasks = new ArrayList<>();
+        LiveConnection connection = new LiveConnection(1L, emitter, 4, tasks::add);
+        SseEmitter.SseEventBuilder first = SseEmitter.event().data("first");
+        SseEmitter.SseEventBuilder second = SseEmitter.event().data("second");
+
+        connection.send(first);
+        connection.send(second);
+
+        assertEquals(1, tasks.size());
+        verifyNoInteractions(emitter);
+
+        tasks.get(0).run();
+
+        verify(emitter, times(1)).send(first);
+        verify(emitter, times(1)).send(second);
+        assertFalse(connection.isClosed());
+    }
+
+    @Test
+    public void send_bufferFull_closesConnection() {
+        LiveConnection connection = new LiveConnection(1L, emitter, 2, task -> {
+        });
+
+        connection.send(SseEmitter.event().data("first"));
+        connection.send(SseEmitter.event().data("second"));
+        connection.send(SseEmitter.event().data("third"));
+
+        assertTrue(connection.isClosed());
+        verify(emitter, times(1)).complete();
+    }
+
+    @Test
+    public void send_clientGone_closesConnection() throws IOException {
+        LiveConnection connection = new LiveConnection(1L, emitter, 2, Runnable::run);
+        SseEmitter.SseEventBuilder event = SseEmitter.event().data("first");
+        doThrow(new IOException("Broken pipe")).when(emitter).send(event);
+
+        connection.send(event);
+
+        assertTrue(connection.isClosed());
+        verify(emitter, times(1)).complete();
+    }
+
+    @Test
+    public void send_executorRejected_closesConnection() {
+        Executor executor = task -> {
+            throw new RejectedExecutionException("Queue is full");
+        };
+        LiveConnection connection = new LiveConnection(1L, emitter, 2, executor);
+
+        connection.send(SseEmitter.event().data("first"));
+
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    public void send_closed_doNothing() {
+        List<Runnable> tasks = new ArrayList<>();
+        LiveConnection connection = new LiveConnection(1L, emitter, 2, tasks::add);
+        connection.close();
+
+        connection.send(SseEmitter.event().data("first"));
+
+        assertTrue(tasks.isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.jobflow.job_tracker_service.handler.GlobalHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class LiveUpdatesControllerTest {
+
+    @Mock
+    private LiveUpdatesService liveUpdatesService;
+
+    @InjectMocks
+    private LiveUpdatesController liveUpdatesController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(liveUpdatesController)
+                .setControllerAdvice(new GlobalHandler())
+                .build();
+    }
+
+    @Test
+    public void subscribe_opensEventStream() throws Exception {
+        when(liveUpdatesService.subscribe()).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/job-applications/live")
+                        .accept(TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+
+        verify(liveUpdatesService, times(1)).subscribe();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobflow.job_tracker_service.jobApplication.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationDto;
+import com.jobflow.job_tracker_service.jobApplication.stats.JobApplicationStatsDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveUpdatesPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private LiveUpdatesPublisher liveUpdatesPublisher;
+
+    @Test
+    public void onJobApplicationChanged_publishesToChannel() throws JsonProcessingException {
+        JobApplicationDto jobApplicationDto = TestUtil.createJobApplicationDto();
+        LiveEvent expected = LiveEvent.builder()
+                .userId(1L)
+                .type(LiveEventType.JOB_APPLICATION_UPDATED)
+                .jobApplicationId(1L)
+                .jobApplication(jobApplicationDto)
+                .build();
+        when(objectMapper.writeValueAsString(expected)).thenReturn("expectedJson");
+
+        liveUpdatesPublisher.onJobApplicationChanged(
+                new JobApplicationChangedEvent(1L, LiveEventType.JOB_APPLICATION_UPDATED, 1L, jobApplicationDto)
+        );
+
+        verify(redisTemplate, times(1)).convertAndSend(LiveUpdatesConfig.LIVE_UPDATES_CHANNEL, "expectedJson");
+    }
+
+    @Test
+    public void publishStats_publishesToChannel() throws JsonProcessingException {
+        JobApplicationStatsDto stats = TestUtil.createStatsDto();
+        LiveEvent expected = LiveEvent.builder()
+                .userId(1L)
+                .type(LiveEventType.STATS_UPDATED)
+                .stats(stats)
+                .build();
+        when(objectMapper.writeValueAsString(expected)).thenReturn("expectedJson");
+
+        liveUpdatesPublisher.publishStats(1L, stats);
+
+        verify(redisTemplate, times(1)).convertAndSend(LiveUpdatesConfig.LIVE_UPDATES_CHANNEL, "expectedJson");
+    }
+
+    @Test
+    public void publishStats_redisFailed_doNotThrow() throws JsonProcessingException {
+        when(objectMapper.writeValueAsString(any(LiveEvent.class))).thenReturn("expectedJson");
+        when(redisTemplate.convertAndSend(LiveUpdatesConfig.LIVE_UPDATES_CHANNEL, "expectedJson"))
+                .thenThrow(new RuntimeException("Redis is unavailable"));
+
+        liveUpdatesPublisher.publishStats(1L, TestUtil.createStatsDto());
+    }
+}
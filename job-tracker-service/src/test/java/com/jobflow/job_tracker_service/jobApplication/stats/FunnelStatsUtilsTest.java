@@ -0,0 +1,147 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunnelStatsUtilsTest {
+
+    private static final LocalDate APPLIED_AT = LocalDate.of(2025, 5, 1);
+
+    private JobApplication jobApplication;
+
+    @BeforeEach
+    public void setup() {
+        jobApplication = TestUtil.createJobApplication();
+        jobApplication.setAppliedAt(APPLIED_AT);
+    }
+
+    @Test
+    public void contribution_transitions_returnReachedStagesAndDays() {
+        jobApplication.setStatus(Status.INTERVIEW);
+        List<JobApplicationStatusHistory> history = List.of(
+                entry(null, Status.APPLIED, APPLIED_AT),
+                entry(Status.APPLIED, Status.VIEWED, APPLIED_AT.plusDays(3)),
+                entry(Status.VIEWED, Status.INTERVIEW, APPLIED_AT.plusDays(10))
+        );
+
+        FunnelContribution result = FunnelStatsUtils.contribution(jobApplication, history);
+
+        assertEquals(jobApplication.getUserId(), result.getUserId());
+        assertEquals(jobApplication.getSource(), result.getSource());
+        assertEquals(EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED, FunnelStage.INTERVIEW), result.getReached());
+        assertEquals(Map.of(FunnelStage.VIEWED, 3L, FunnelStage.INTERVIEW, 7L), result.getDaysToReach());
+    }
+
+    @Test
+    public void contribution_skippedStages_reachAllPreviousStages() {
+        jobApplication.setStatus(Status.ACCEPTED);
+        List<JobApplicationStatusHistory> history = List.of(
+                entry(null, Status.APPLIED, APPLIED_AT),
+                entry(Status.APPLIED, Status.ACCEPTED, APPLIED_AT.plusDays(20))
+        );
+
+        FunnelContribution result = FunnelStatsUtils.contribution(jobApplication, history);
+
+        assertEquals(EnumSet.allOf(FunnelStage.class), result.getReached());
+        assertEquals(Map.of(FunnelStage.OFFER, 20L), result.getDaysToReach());
+    }
+
+    @Test
+    public void contribution_movedBack_keepFurthestStage() {
+        jobApplication.setStatus(Status.REJECTED);
+        List<JobApplicationStatusHistory> history = List.of(
+                entry(null, Status.VIEWED, APPLIED_AT),
+                entry(Status.VIEWED, Status.INTERVIEW, APPLIED_AT.plusDays(5)),
+                entry(Status.INTERVIEW, Status.VIEWED, APPLIED_AT.plusDays(6)),
+                entry(Status.VIEWED, Status.REJECTED, APPLIED_AT.plusDays(7))
+        );
+
+        FunnelContribution result = FunnelStatsUtils.contribution(jobApplication, history);
+
+        assertEquals(EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED, FunnelStage.INTERVIEW), result.getReached());
+        assertEquals(Map.of(FunnelStage.INTERVIEW, 5L), result.getDaysToReach());
+    }
+
+    @Test
+    public void contribution_withoutHistory_useCurrentStatusWithoutDays() {
+        jobApplication.setStatus(Status.INTERVIEW);
+
+        FunnelContribution result = FunnelStatsUtils.contribution(jobApplication, List.of());
+
+        assertEquals(EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED, FunnelStage.INTERVIEW), result.getReached());
+        assertTrue(result.getDaysToReach().isEmpty());
+    }
+
+    @Test
+    public void median_oddAndEvenCount_returnMiddleValue() {
+        assertEquals(3.0, FunnelStatsUtils.median(new TreeMap<>(Map.of(1L, 1L, 3L, 1L, 10L, 1L))));
+        assertEquals(2.5, FunnelStatsUtils.median(new TreeMap<>(Map.of(2L, 1L, 3L, 1L))));
+        assertEquals(4.0, FunnelStatsUtils.median(new TreeMap<>(Map.of(4L, 5L, 9L, 2L))));
+        assertNull(FunnelStatsUtils.median(new TreeMap<>()));
+    }
+
+    @Test
+    public void buildFunnel_returnOverallAndPerSourceStages() {
+        List<JobApplicationFunnelStats> reachedRows = List.of(
+                new JobApplicationFunnelStats(1L, 1L, Source.LINKEDIN, FunnelStage.APPLIED, 4L),
+                new JobApplicationFunnelStats(2L, 1L, Source.LINKEDIN, FunnelStage.VIEWED, 2L),
+                new JobApplicationFunnelStats(3L, 1L, Source.REFERRAL, FunnelStage.APPLIED, 1L),
+                new JobApplicationFunnelStats(4L, 1L, Source.REFERRAL, FunnelStage.VIEWED, 1L)
+        );
+        List<JobApplicationFunnelDuration> durationRows = List.of(
+                new JobApplicationFunnelDuration(1L, 1L, Source.LINKEDIN, FunnelStage.VIEWED, 2L, 1L),
+                new JobApplicationFunnelDuration(2L, 1L, Source.LINKEDIN, FunnelStage.VIEWED, 6L, 1L),
+                new JobApplicationFunnelDuration(3L, 1L, Source.REFERRAL, FunnelStage.VIEWED, 1L, 1L)
+        );
+
+        JobApplicationFunnelDto result = FunnelStatsUtils.buildFunnel(reachedRows, durationRows);
+
+        assertEquals(4, result.getOverall().size());
+        FunnelStageDto overallApplied = result.getOverall().get(0);
+        assertEquals(FunnelStage.APPLIED, overallApplied.getStage());
+        assertEquals(5L, overallApplied.getReached());
+        assertNull(overallApplied.getConversionRate());
+        assertNull(overallApplied.getMedianDays());
+
+        FunnelStageDto overallViewed = result.getOverall().get(1);
+        assertEquals(3L, overallViewed.getReached());
+        assertEquals(0.6, overallViewed.getConversionRate());
+        assertEquals(2.0, overallViewed.getMedianDays());
+
+        FunnelStageDto overallInterview = result.getOverall().get(2);
+        assertEquals(0L, overallInterview.getReached());
+        assertEquals(0.0, overallInterview.getConversionRate());
+        assertNull(result.getOverall().get(3).getConversionRate());
+
+        assertEquals(2, result.getBySource().size());
+        SourceFunnelDto linkedin = result.getBySource().get(0);
+        assertEquals(Source.LINKEDIN, linkedin.getSource());
+        assertEquals(0.5, linkedin.getStages().get(1).getConversionRate());
+        assertEquals(4.0, linkedin.getStages().get(1).getMedianDays());
+        assertEquals(Source.REFERRAL, result.getBySource().get(1).getSource());
+    }
+
+    private JobApplicationStatusHistory entry(Status fromStatus, Status toStatus, LocalDate changedAt) {
+        return JobApplicationStatusHistory.builder()
+                .jobApplicationId(jobApplication.getId())
+                .userId(jobApplication.getUserId())
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .changedAt(changedAt.atTime(12, 0))
+                .build();
+    }
+}
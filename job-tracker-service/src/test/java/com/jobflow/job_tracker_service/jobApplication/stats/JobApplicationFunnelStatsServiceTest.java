@@ -0,0 +1,119 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistory;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationFunnelStatsServiceTest {
+
+    @Mock
+    private JobApplicationFunnelStatsRepository funnelStatsRepository;
+
+    @Mock
+    private JobApplicationFunnelDurationRepository funnelDurationRepository;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private JobApplicationStatusHistoryRepository historyRepository;
+
+    @InjectMocks
+    private JobApplicationFunnelStatsService funnelStatsService;
+
+    @Test
+    public void onChange_created_incrementsAllCountersOfContribution() {
+        var contribution = new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED), Map.of());
+
+        funnelStatsService.onChange(null, contribution);
+
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "LINKEDIN", "APPLIED", 1L);
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "LINKEDIN", "VIEWED", 1L);
+        verifyNoInteractions(funnelDurationRepository);
+    }
+
+    @Test
+    public void onChange_stageReached_touchesOnlyChangedCounters() {
+        var before = new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of());
+        var after = new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED),
+                Map.of(FunnelStage.VIEWED, 4L));
+
+        funnelStatsService.onChange(before, after);
+
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "LINKEDIN", "VIEWED", 1L);
+        verify(funnelDurationRepository, times(1)).applyDelta(1L, "LINKEDIN", "VIEWED", 4L, 1L);
+        verifyNoMoreInteractions(funnelStatsRepository, funnelDurationRepository);
+    }
+
+    @Test
+    public void onChange_sourceChanged_movesWholeContribution() {
+        var before = new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED),
+                Map.of(FunnelStage.VIEWED, 4L));
+        var after = new FunnelContribution(1L, Source.REFERRAL, EnumSet.of(FunnelStage.APPLIED, FunnelStage.VIEWED),
+                Map.of(FunnelStage.VIEWED, 4L));
+
+        funnelStatsService.onChange(before, after);
+
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "LINKEDIN", "APPLIED", -1L);
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "LINKEDIN", "VIEWED", -1L);
+        verify(funnelDurationRepository, times(1)).applyDelta(1L, "LINKEDIN", "VIEWED", 4L, -1L);
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "REFERRAL", "APPLIED", 1L);
+        verify(funnelStatsRepository, times(1)).applyDelta(1L, "REFERRAL", "VIEWED", 1L);
+        verify(funnelDurationRepository, times(1)).applyDelta(1L, "REFERRAL", "VIEWED", 4L, 1L);
+    }
+
+    @Test
+    public void onChange_sameContribution_doNothing() {
+        var contribution = new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of());
+
+        funnelStatsService.onChange(contribution, new FunnelContribution(1L, Source.LINKEDIN, EnumSet.of(FunnelStage.APPLIED), Map.of()));
+
+        verifyNoInteractions(funnelStatsRepository, funnelDurationRepository);
+    }
+
+    @Test
+    public void rebuild_replacesCountersWithSummedContributions() {
+        JobApplication first = TestUtil.createJobApplication();
+        first.setStatus(Status.VIEWED);
+        first.setAppliedAt(LocalDate.of(2025, 5, 1));
+        JobApplication second = TestUtil.createJobApplication();
+        second.setId(2L);
+        JobApplicationStatusHistory created = JobApplicationStatusHistory.builder()
+                .jobApplicationId(first.getId()).userId(1L).toStatus(Status.APPLIED).changedAt(LocalDate.of(2025, 5, 1).atStartOfDay())
+                .build();
+        JobApplicationStatusHistory viewed = JobApplicationStatusHistory.builder()
+                .jobApplicationId(first.getId()).userId(1L).fromStatus(Status.APPLIED).toStatus(Status.VIEWED).changedAt(LocalDate.of(2025, 5, 3).atStartOfDay())
+                .build();
+        when(historyRepository.findAllByUserIdOrderByChangedAtAscIdAsc(1L)).thenReturn(List.of(created, viewed));
+        when(jobApplicationRepository.findAllByUserId(1L)).thenReturn(List.of(first, second));
+
+        funnelStatsService.rebuild(1L);
+
+        InOrder inOrder = inOrder(funnelStatsRepository, funnelDurationRepository);
+        inOrder.verify(funnelStatsRepository).deleteAllByUserId(1L);
+        inOrder.verify(funnelDurationRepository).deleteAllByUserId(1L);
+        inOrder.verify(funnelStatsRepository).setReached(1L, "LINKEDIN", "APPLIED", 2L);
+        inOrder.verify(funnelStatsRepository).setReached(1L, "LINKEDIN", "VIEWED", 1L);
+        inOrder.verify(funnelDurationRepository).setTotal(1L, "LINKEDIN", "VIEWED", 2L, 1L);
+        verifyNoMoreInteractions(funnelStatsRepository, funnelDurationRepository);
+    }
+}
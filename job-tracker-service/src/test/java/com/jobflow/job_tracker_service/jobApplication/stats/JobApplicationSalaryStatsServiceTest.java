@@ -0,0 +1,107 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationSalaryStatsServiceTest {
+
+    @Mock
+    private JobApplicationSalarySketchRepository salarySketchRepository;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @InjectMocks
+    private JobApplicationSalaryStatsService salaryStatsService;
+
+    private JobApplication jobApplication;
+
+    @BeforeEach
+    public void setup() {
+        jobApplication = TestUtil.createJobApplication();
+    }
+
+    @Test
+    public void onCreate_incrementsSalaryBucket() {
+        salaryStatsService.onCreate(jobApplication);
+
+        verify(salarySketchRepository, times(1)).applyDelta(1L, "RUB", SalarySketch.bucketOf(200), 1L);
+    }
+
+    @Test
+    public void onCreate_noSalary_doNothing() {
+        JobApplication withoutSalary = jobApplication.toBuilder()
+                .salaryMin(null)
+                .salaryMax(null)
+                .currency(null)
+                .build();
+
+        salaryStatsService.onCreate(withoutSalary);
+
+        verifyNoInteractions(salarySketchRepository);
+    }
+
+    @Test
+    public void onDelete_decrementsSalaryBucket() {
+        salaryStatsService.onDelete(jobApplication);
+
+        verify(salarySketchRepository, times(1)).applyDelta(1L, "RUB", SalarySketch.bucketOf(200), -1L);
+    }
+
+    @Test
+    public void onUpdate_currencyChanged_movesSalary() {
+        JobApplication updated = jobApplication.toBuilder()
+                .currency(Currency.USD)
+                .build();
+
+        salaryStatsService.onUpdate(jobApplication, updated);
+
+        InOrder inOrder = inOrder(salarySketchRepository);
+        inOrder.verify(salarySketchRepository).applyDelta(1L, "RUB", SalarySketch.bucketOf(200), -1L);
+        inOrder.verify(salarySketchRepository).applyDelta(1L, "USD", SalarySketch.bucketOf(200), 1L);
+    }
+
+    @Test
+    public void onUpdate_salaryInSameBucket_doNothing() {
+        JobApplication updated = jobApplication.toBuilder()
+                .salaryMin(99)
+                .salaryMax(301)
+                .comment("another comment")
+                .build();
+
+        salaryStatsService.onUpdate(jobApplication, updated);
+
+        verifyNoInteractions(salarySketchRepository);
+    }
+
+    @Test
+    public void rebuild_aggregatesSalariesOfUser() {
+        JobApplication sameBucket = jobApplication.toBuilder().id(2L).build();
+        JobApplication otherCurrency = jobApplication.toBuilder().id(3L).currency(Currency.EUR).build();
+        when(jobApplicationRepository.findAllByUserId(1L)).thenReturn(List.of(jobApplication, sameBucket, otherCurrency));
+
+        salaryStatsService.rebuild(1L);
+
+        int bucket = SalaryStatsUtils.salaryBucket(jobApplication);
+        InOrder inOrder = inOrder(salarySketchRepository);
+        inOrder.verify(salarySketchRepository).deleteAllByUserId(1L);
+        inOrder.verify(salarySketchRepository).setTotal(1L, "RUB", bucket, 2L);
+        verify(salarySketchRepository, times(1)).setTotal(1L, "EUR", bucket, 1L);
+        verifyNoMoreInteractions(salarySketchRepository);
+    }
+}
@@ -1,23 +1,40 @@
 package com.jobflow.job_tracker_service.jobApplication.stats;
 
 import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.InvalidStatsRangeException;
 import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
 import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
 import com.jobflow.job_tracker_service.handler.GlobalHandler;
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimitInterceptor;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimitResult;
+import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
+import com.jobflow.job_tracker_service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -27,6 +44,12 @@ class JobApplicationStatsControllerTest {
     @Mock
     private JobApplicationStatsService jobApplicationStatsService;
 
+    @Mock
+    private RateLimiterValidator rateLimiterValidator;
+
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private JobApplicationStatsController jobApplicationStatsController;
 
@@ -38,8 +61,12 @@ class JobApplicationStatsControllerTest {
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(jobApplicationStatsController)
                 .setControllerAdvice(new GlobalHandler())
+                .addInterceptors(new RateLimitInterceptor(rateLimiterValidator, userService, mock(ApplicationContext.class)))
                 .build();
 
+        lenient().when(userService.getCurrentUserId()).thenReturn(1L);
+        lenient().when(rateLimiterValidator.check(any(), anyString())).thenReturn(RateLimitResult.allowed(5, 4));
+
         statsDto = TestUtil.createStatsDto();
     }
 
@@ -59,6 +86,8 @@ class JobApplicationStatsControllerTest {
                 .andExpect(jsonPath("$.topCompany.total").value(statsDto.getTopCompany().getTotal()))
                 .andExpect(jsonPath("$.topPosition.name").value(statsDto.getTopPosition().getName()))
                 .andExpect(jsonPath("$.topPosition.total").value(statsDto.getTopPosition().getTotal()))
+                .andExpect(jsonPath("$.topCompanies.size()").value(statsDto.getTopCompanies().size()))
+                .andExpect(jsonPath("$.topPositions[0].name").value(statsDto.getTopPositions().get(0).getName()))
                 .andExpect(jsonPath("$.byStatus.size()").value(statsDto.getByStatus().size()));
 
         verify(jobApplicationStatsService, times(1)).getStats();
@@ -66,18 +95,20 @@ class JobApplicationStatsControllerTest {
 
     @Test
     public void getStats_tooManyRequests_returnTooManyRequests() throws Exception {
-        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
-        when(jobApplicationStatsService.getStats()).thenThrow(tooManyRequestsException);
+        when(rateLimiterValidator.check(JobApplicationStatsRateLimiterAction.GET_STATS, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
 
         mockMvc.perform(get("/api/v1/job-applications/stats")
                         .contentType(APPLICATION_JSON)
                         .accept(APPLICATION_JSON))
                 .andExpect(status().isTooManyRequests())
-                .andExpect(jsonPath("$.message").value(tooManyRequestsException.getMessage()))
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationStatsRateLimiterAction.GET_STATS.getMessage()))
                 .andExpect(jsonPath("$.time").exists())
                 .andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()));
 
-        verify(jobApplicationStatsService, times(1)).getStats();
+        verifyNoInteractions(jobApplicationStatsService);
     }
 
     @Test
@@ -96,4 +127,124 @@ class JobApplicationStatsControllerTest {
         verify(jobApplicationStatsService, times(1)).getStats();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getTimeseries_returnTimeseries() throws Exception {
+        LocalDate from = LocalDate.of(2025, 5, 1);
+        LocalDate to = LocalDate.of(2025, 5, 31);
+        var timeseriesDto = JobApplicationTimeseriesDto.builder()
+                .from(from)
+                .to(to)
+                .granularity(StatsGranularity.MONTH)
+                .source(Source.LINKEDIN)
+                .points(List.of(new TimeseriesPointDto(from, 2L, Map.of(Status.APPLIED, 2L))))
+                .build();
+        when(jobApplicationStatsService.getTimeseries(from, to, StatsGranularity.MONTH, Source.LINKEDIN)).thenReturn(timeseriesDto);
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/timeseries")
+                        .param("from", "2025-05-01")
+                        .param("to", "2025-05-31")
+                        .param("granularity", "MONTH")
+                        .param("source", "LINKEDIN")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("MONTH"))
+                .andExpect(jsonPath("$.source").value("LINKEDIN"))
+                .andExpect(jsonPath("$.points.size()").value(1))
+                .andExpect(jsonPath("$.points[0].total").value(2))
+                .andExpect(jsonPath("$.points[0].byStatus.APPLIED").value(2));
+
+        verify(jobApplicationStatsService, times(1)).getTimeseries(from, to, StatsGranularity.MONTH, Source.LINKEDIN);
+    }
+
+    @Test
+    public void getTimeseries_withoutGranularity_useDay() throws Exception {
+        LocalDate from = LocalDate.of(2025, 5, 1);
+        LocalDate to = LocalDate.of(2025, 5, 2);
+        when(jobApplicationStatsService.getTimeseries(from, to, StatsGranularity.DAY, null)).thenReturn(new JobApplicationTimeseriesDto());
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/timeseries")
+                        .param("from", "2025-05-01")
+                        .param("to", "2025-05-02")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(jobApplicationStatsService, times(1)).getTimeseries(from, to, StatsGranularity.DAY, null);
+    }
+
+    @Test
+    public void getTimeseries_invalidRange_returnBadRequest() throws Exception {
+        var invalidStatsRangeException = new InvalidStatsRangeException("Invalid range");
+        when(jobApplicationStatsService.getTimeseries(any(), any(), any(), any())).thenThrow(invalidStatsRangeException);
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/timeseries")
+                        .param("from", "2025-05-02")
+                        .param("to", "2025-05-01")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(invalidStatsRangeException.getMessage()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.time").exists());
+    }
+
+    @Test
+    public void getFunnel_returnFunnel() throws Exception {
+        var stage = new FunnelStageDto(FunnelStage.APPLIED, 2L, null, null);
+        var funnelDto = new JobApplicationFunnelDto(List.of(stage), List.of(new SourceFunnelDto(Source.LINKEDIN, List.of(stage))));
+        when(jobApplicationStatsService.getFunnel()).thenReturn(funnelDto);
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/funnel")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overall[0].stage").value("APPLIED"))
+                .andExpect(jsonPath("$.overall[0].reached").value(2))
+                .andExpect(jsonPath("$.bySource[0].source").value("LINKEDIN"))
+                .andExpect(jsonPath("$.bySource[0].stages.size()").value(1));
+
+        verify(jobApplicationStatsService, times(1)).getFunnel();
+    }
+
+    @Test
+    public void getFunnel_tooManyRequests_returnTooManyRequests() throws Exception {
+        when(rateLimiterValidator.check(JobApplicationStatsRateLimiterAction.GET_FUNNEL, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1500)));
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/funnel")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(RateLimitInterceptor.LIMIT_HEADER, "5"))
+                .andExpect(header().string(RateLimitInterceptor.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value(JobApplicationStatsRateLimiterAction.GET_FUNNEL.getMessage()));
+
+        verifyNoInteractions(jobApplicationStatsService);
+    }
+
+    @Test
+    public void getSalaryStats_returnSalaryStats() throws Exception {
+        var currencyStats = new CurrencySalaryStatsDto(Currency.USD, 2L, 100L, 150L, 200L,
+                List.of(new SalaryHistogramBucketDto(100L, 200L, 2L)));
+        var salaryStatsDto = new JobApplicationSalaryStatsDto(List.of(currencyStats), currencyStats, LocalDateTime.now());
+        when(jobApplicationStatsService.getSalaryStats()).thenReturn(salaryStatsDto);
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/salary")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byCurrency[0].currency").value("USD"))
+                .andExpect(jsonPath("$.byCurrency[0].p50").value(150))
+                .andExpect(jsonPath("$.byCurrency[0].histogram[0].count").value(2))
+                .andExpect(jsonPath("$.normalized.count").value(2))
+                .andExpect(jsonPath("$.exchangeRatesUpdatedAt").exists());
+
+        verify(jobApplicationStatsService, times(1)).getSalaryStats();
+    }
+
+    @Test
+    public void getSalaryStats_tooManyRequests_returnTooManyRequests() throws Exception {
+        var tooManyRequestsException = new TooManyRequestsException("Too many requests");
+        when(jobApplicationStatsService.getSalaryStats()).thenThrow(tooManyRequestsException);
+
+        mockMvc.perform(get("/api/v1/job-applications/stats/salary")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value(tooManyRequestsException.getMessage()));
+    }
+}
@@ -7,6 +7,8 @@ import com.jobflow.job_tracker_service.JwtTestUtil;
 import com.jobflow.job_tracker_service.TestUtil;
 import com.jobflow.job_tracker_service.handler.ResponseError;
 import com.jobflow.job_tracker_service.jobApplication.*;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistory;
+import com.jobflow.job_tracker_service.jobApplication.history.JobApplicationStatusHistoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +41,27 @@ public class JobApplicationStatsIT extends BaseIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private JobApplicationDailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private JobApplicationFunnelStatsRepository funnelStatsRepository;
+
+    @Autowired
+    private JobApplicationFunnelDurationRepository funnelDurationRepository;
+
+    @Autowired
+    private JobApplicationStatusHistoryRepository historyRepository;
+
+    @Autowired
+    private JobApplicationSalarySketchRepository salarySketchRepository;
+
+    @Autowired
+    private JobApplicationUserStatsService userStatsService;
+
     private String token;
 
     private JobApplication firstJobApplication;
@@ -50,6 +73,12 @@ public class JobApplicationStatsIT extends BaseIT {
     @BeforeEach
     public void setup() {
         TestUtil.clearDb(jobApplicationRepository);
+        TestUtil.clearDb(statsRepository);
+        TestUtil.clearDb(dailyStatsRepository);
+        TestUtil.clearDb(funnelStatsRepository);
+        TestUtil.clearDb(funnelDurationRepository);
+        TestUtil.clearDb(historyRepository);
+        TestUtil.clearDb(salarySketchRepository);
         TestUtil.clearKeys(redisTemplate, "jobAppStats:*");
         TestUtil.clearKeys(redisTemplate, "rate_limiter:*");
 
@@ -84,6 +113,7 @@ public class JobApplicationStatsIT extends BaseIT {
         thirdJobApplication.setAppliedAt(LocalDate.now().minusDays(40));
 
         TestUtil.saveDataInDb(jobApplicationRepository, List.of(firstJobApplication, secondJobApplication, thirdJobApplication));
+        userStatsService.rebuild(USER_ID);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(token);
@@ -108,6 +138,8 @@ public class JobApplicationStatsIT extends BaseIT {
         assertEquals(2L, body.getTopCompany().getTotal());
         assertEquals("Software Engineer", body.getTopPosition().getName());
         assertEquals(2L, body.getTopPosition().getTotal());
+        assertEquals(List.of(new TopItem("Google", 2L), new TopItem("Amazon", 1L)), body.getTopCompanies());
+        assertEquals(List.of(new TopItem("Software Engineer", 2L), new TopItem("Backend Developer", 1L)), body.getTopPositions());
         assertEquals(1L, body.getByStatus().get(Status.VIEWED));
         assertEquals(1L, body.getByStatus().get(Status.REJECTED));
         assertEquals(1L, body.getByStatus().get(Status.ACCEPTED));
@@ -151,4 +183,262 @@ public class JobApplicationStatsIT extends BaseIT {
         assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), error.getStatus());
         assertNotNull(error.getTime());
     }
+
+    @Test
+    public void getStats_afterMutationsThroughApi_readsUpdatedCounters() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        JobApplicationCreateUpdateDto createDto = TestUtil.createJobApplicationCreateUpdateDto();
+        ResponseEntity<JobApplicationDto> created = restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertNotNull(created.getBody());
+
+        restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+
+        ResponseEntity<Void> statusUpdated = restTemplate.exchange(
+                "/api/v1/job-applications/" + created.getBody().getId() + "?status=OFFER",
+                HttpMethod.PATCH,
+                TestUtil.createRequest(null, headers),
+                Void.class
+        );
+        assertEquals(HttpStatus.NO_CONTENT, statusUpdated.getStatusCode());
+
+        ResponseEntity<JobApplicationStatsDto> response = restTemplate.exchange(
+                "/api/v1/job-applications/stats",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                JobApplicationStatsDto.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        JobApplicationStatsDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2L, body.getTotal());
+        assertEquals(2L, body.getLast7Days());
+        assertEquals(1L, body.getUniqueCompanies());
+        assertEquals("Google", body.getTopCompany().getName());
+        assertEquals(2L, body.getTopCompany().getTotal());
+        assertEquals(1L, body.getByStatus().get(Status.APPLIED));
+        assertEquals(1L, body.getByStatus().get(Status.OFFER));
+    }
+
+    @Test
+    public void getTimeseries_returnCorrectlyBucketsFromDailyRollup() {
+        firstJobApplication.setUserId(USER_ID);
+        firstJobApplication.setStatus(Status.APPLIED);
+        firstJobApplication.setSource(Source.LINKEDIN);
+        firstJobApplication.setAppliedAt(LocalDate.of(2025, 5, 5));
+
+        secondJobApplication.setUserId(USER_ID);
+        secondJobApplication.setStatus(Status.REJECTED);
+        secondJobApplication.setSource(Source.LINKEDIN);
+        secondJobApplication.setAppliedAt(LocalDate.of(2025, 5, 7));
+
+        thirdJobApplication.setUserId(USER_ID);
+        thirdJobApplication.setStatus(Status.APPLIED);
+        thirdJobApplication.setSource(Source.REFERRAL);
+        thirdJobApplication.setAppliedAt(LocalDate.of(2025, 5, 20));
+
+        TestUtil.saveDataInDb(jobApplicationRepository, List.of(firstJobApplication, secondJobApplication, thirdJobApplication));
+        userStatsService.rebuild(USER_ID);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = TestUtil.createRequest(null, headers);
+
+        ResponseEntity<JobApplicationTimeseriesDto> response = restTemplate.exchange(
+                "/api/v1/job-applications/stats/timeseries?from=2025-05-01&to=2025-05-31&granularity=WEEK",
+                HttpMethod.GET,
+                request,
+                JobApplicationTimeseriesDto.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        JobApplicationTimeseriesDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(5, body.getPoints().size());
+        assertEquals(LocalDate.of(2025, 4, 28), body.getPoints().get(0).getBucket());
+        assertEquals(0L, body.getPoints().get(0).getTotal());
+
+        TimeseriesPointDto firstWeek = body.getPoints().get(1);
+        assertEquals(LocalDate.of(2025, 5, 5), firstWeek.getBucket());
+        assertEquals(2L, firstWeek.getTotal());
+        assertEquals(1L, firstWeek.getByStatus().get(Status.APPLIED));
+        assertEquals(1L, firstWeek.getByStatus().get(Status.REJECTED));
+
+        TimeseriesPointDto thirdWeek = body.getPoints().get(3);
+        assertEquals(LocalDate.of(2025, 5, 19), thirdWeek.getBucket());
+        assertEquals(1L, thirdWeek.getTotal());
+
+        ResponseEntity<JobApplicationTimeseriesDto> bySource = restTemplate.exchange(
+                "/api/v1/job-applications/stats/timeseries?from=2025-05-01&to=2025-05-31&granularity=MONTH&source=REFERRAL",
+                HttpMethod.GET,
+                request,
+                JobApplicationTimeseriesDto.class
+        );
+
+        assertEquals(HttpStatus.OK, bySource.getStatusCode());
+        assertNotNull(bySource.getBody());
+        assertEquals(1, bySource.getBody().getPoints().size());
+        assertEquals(1L, bySource.getBody().getPoints().get(0).getTotal());
+    }
+
+    @Test
+    public void getTimeseries_fromAfterTo_returnBadRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        ResponseEntity<ResponseError> response = restTemplate.exchange(
+                "/api/v1/job-applications/stats/timeseries?from=2025-05-02&to=2025-05-01",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                ResponseError.class
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Start of the range: 2025-05-02 is after its end: 2025-05-01", response.getBody().getMessage());
+    }
+
+    @Test
+    public void getFunnel_afterStatusChangesThroughApi_returnFunnelAndHistory() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        JobApplicationCreateUpdateDto createDto = TestUtil.createJobApplicationCreateUpdateDto();
+        ResponseEntity<JobApplicationDto> created = restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertNotNull(created.getBody());
+        Long id = created.getBody().getId();
+
+        restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+
+        for (String status : List.of("VIEWED", "INTERVIEW")) {
+            ResponseEntity<Void> statusUpdated = restTemplate.exchange(
+                    "/api/v1/job-applications/" + id + "?status=" + status,
+                    HttpMethod.PATCH,
+                    TestUtil.createRequest(null, headers),
+                    Void.class
+            );
+            assertEquals(HttpStatus.NO_CONTENT, statusUpdated.getStatusCode());
+        }
+
+        List<JobApplicationStatusHistory> history = historyRepository.findAllByJobApplicationIdOrderByChangedAtAscIdAsc(id);
+        assertEquals(List.of(Status.APPLIED, Status.VIEWED, Status.INTERVIEW),
+                history.stream().map(JobApplicationStatusHistory::getToStatus).toList());
+
+        ResponseEntity<JobApplicationFunnelDto> response = restTemplate.exchange(
+                "/api/v1/job-applications/stats/funnel",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                JobApplicationFunnelDto.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        JobApplicationFunnelDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2L, body.getOverall().get(0).getReached());
+        assertEquals(1L, body.getOverall().get(1).getReached());
+        assertEquals(0.5, body.getOverall().get(1).getConversionRate());
+        assertEquals(0.0, body.getOverall().get(1).getMedianDays());
+        assertEquals(1L, body.getOverall().get(2).getReached());
+        assertEquals(0L, body.getOverall().get(3).getReached());
+        assertEquals(1, body.getBySource().size());
+        assertEquals(Source.LINKEDIN, body.getBySource().get(0).getSource());
+    }
+
+    @Test
+    public void getSalaryStats_afterCreateThroughApi_returnPercentilesAndNormalized() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+
+        JobApplicationCreateUpdateDto createDto = TestUtil.createJobApplicationCreateUpdateDto();
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<JobApplicationDto> created = restTemplate.exchange(
+                    "/api/v1/job-applications",
+                    HttpMethod.POST,
+                    TestUtil.createRequest(createDto, headers),
+                    JobApplicationDto.class
+            );
+            assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        }
+
+        ResponseEntity<JobApplicationSalaryStatsDto> response = restTemplate.exchange(
+                "/api/v1/job-applications/stats/salary",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                JobApplicationSalaryStatsDto.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        JobApplicationSalaryStatsDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.getByCurrency().size());
+
+        CurrencySalaryStatsDto rubStats = body.getByCurrency().get(0);
+        assertEquals(Currency.RUB, rubStats.getCurrency());
+        assertEquals(2L, rubStats.getCount());
+        assertEquals(200, rubStats.getP50(), 200 * SalarySketch.RELATIVE_ACCURACY + 1);
+        assertEquals(Currency.USD, body.getNormalized().getCurrency());
+        assertEquals(2L, body.getNormalized().getCount());
+        assertNotNull(body.getExchangeRatesUpdatedAt());
+    }
+
+    @Test
+    public void createThroughApi_topItemsLoaded_incrementTopItemsInRedis() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        JobApplicationCreateUpdateDto createDto = TestUtil.createJobApplicationCreateUpdateDto();
+
+        restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+        ResponseEntity<JobApplicationStatsDto> stats = restTemplate.exchange(
+                "/api/v1/job-applications/stats",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                JobApplicationStatsDto.class
+        );
+        assertEquals(HttpStatus.OK, stats.getStatusCode());
+
+        createDto.setCompany("Amazon");
+        restTemplate.exchange(
+                "/api/v1/job-applications",
+                HttpMethod.POST,
+                TestUtil.createRequest(createDto, headers),
+                JobApplicationDto.class
+        );
+
+        assertEquals(1.0, redisTemplate.opsForZSet().score(StatsCacheKeyUtils.topCompaniesKey(USER_ID), "google"));
+        assertEquals(1.0, redisTemplate.opsForZSet().score(StatsCacheKeyUtils.topCompaniesKey(USER_ID), "amazon"));
+        assertEquals(2.0, redisTemplate.opsForZSet().score(StatsCacheKeyUtils.topPositionsKey(USER_ID), "backend"));
+    }
 }
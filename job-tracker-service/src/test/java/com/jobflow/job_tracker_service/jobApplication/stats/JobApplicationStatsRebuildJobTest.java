@@ -0,0 +1,148 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationStatsRebuildJobTest {
+
+    @Mock
+    private JobApplicationStatsRepository statsRepository;
+
+    @Mock
+    private JobApplicationUserStatsService userStatsService;
+
+    @Mock
+    private JobApplicationFunnelStatsService funnelStatsService;
+
+    @Mock
+    private JobApplicationSalaryStatsService salaryStatsService;
+
+    @Mock
+    private JobApplicationTopItemsService topItemsService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StatsJobLock statsJobLock;
+
+    private JobApplicationStatsRebuildJob rebuildJob;
+
+    @BeforeEach
+    public void setup() {
+        rebuildJob = new JobApplicationStatsRebuildJob(
+                statsRepository,
+                userStatsService,
+                funnelStatsService,
+                salaryStatsService,
+                topItemsService,
+                redisTemplate,
+                statsJobLock,
+                Duration.ofHours(1L),
+                Runnable::run
+        );
+    }
+
+    @Test
+    public void rebuildAll_rebuildsEveryUserAndEvictsCache() {
+        when(statsRepository.findAllUserIds()).thenReturn(List.of(1L, 2L));
+
+        rebuildJob.rebuildAll();
+
+        verify(userStatsService, times(1)).rebuild(1L);
+        verify(userStatsService, times(1)).rebuild(2L);
+        verify(funnelStatsService, times(1)).rebuild(1L);
+        verify(funnelStatsService, times(1)).rebuild(2L);
+        verify(salaryStatsService, times(1)).rebuild(1L);
+        verify(salaryStatsService, times(1)).rebuild(2L);
+        verify(topItemsService, times(1)).evict(1L);
+        verify(topItemsService, times(1)).evict(2L);
+        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(2L));
+    }
+
+    @Test
+    public void rebuildAll_failedUser_continuesWithOthers() {
+        when(statsRepository.findAllUserIds()).thenReturn(List.of(1L, 2L));
+        doThrow(new RuntimeException("DB error")).when(userStatsService).rebuild(1L);
+
+        rebuildJob.rebuildAll();
+
+        verify(userStatsService, times(1)).rebuild(2L);
+        verify(redisTemplate, never()).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(2L));
+    }
+
+    @Test
+    public void rebuildAllExclusively_lockHeldElsewhere_doNothing() {
+        when(statsJobLock.runExclusively(eq("rebuild"), eq(Duration.ofHours(1L)), any())).thenReturn(false);
+
+        rebuildJob.rebuildAllExclusively();
+
+        verify(statsRepository, never()).findAllUserIds();
+        verifyNoInteractions(userStatsService);
+    }
+
+    @Test
+    public void backfillOnce_notDoneYet_rebuildsAllAndMarksDone() {
+        mockLockAcquired();
+        when(redisTemplate.hasKey("stats:backfill-done:v1")).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(statsRepository.findAllUserIds()).thenReturn(List.of(1L));
+
+        rebuildJob.backfillOnce();
+
+        verify(userStatsService, times(1)).rebuild(1L);
+        verify(valueOperations, times(1)).set(eq("stats:backfill-done:v1"), anyString());
+    }
+
+    @Test
+    public void backfillOnce_alreadyDone_doNothing() {
+        when(redisTemplate.hasKey("stats:backfill-done:v1")).thenReturn(true);
+
+        rebuildJob.backfillOnce();
+
+        verifyNoInteractions(statsRepository, userStatsService, statsJobLock);
+    }
+
+    @Test
+    public void backfillOnce_runningElsewhere_doNotMarkDone() {
+        when(redisTemplate.hasKey("stats:backfill-done:v1")).thenReturn(false);
+        when(statsJobLock.runExclusively(eq("rebuild"), eq(Duration.ofHours(1L)), any())).thenReturn(false);
+
+        rebuildJob.backfillOnce();
+
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    public void backfillOnce_redisUnavailable_doNotThrow() {
+        when(redisTemplate.hasKey("stats:backfill-done:v1")).thenThrow(new RuntimeException("Connection refused"));
+
+        assertDoesNotThrow(() -> rebuildJob.backfillOnce());
+
+        verifyNoInteractions(statsRepository, userStatsService);
+    }
+
+    private void mockLockAcquired() {
+        when(statsJobLock.runExclusively(eq("rebuild"), eq(Duration.ofHours(1L)), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.jobApplication.live.LiveUpdatesPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationStatsRefreshListenerTest {
+
+    @Mock
+    private JobApplicationStatsService statsService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private LiveUpdatesPublisher liveUpdatesPublisher;
+
+    @InjectMocks
+    private JobApplicationStatsRefreshListener refreshListener;
+
+    @Test
+    public void onStatsChanged_refreshesStats() {
+        JobApplicationStatsDto stats = TestUtil.createStatsDto();
+        when(statsService.refresh(1L)).thenReturn(stats);
+
+        refreshListener.onStatsChanged(new JobApplicationStatsChangedEvent(1L));
+
+        verify(statsService, times(1)).refresh(1L);
+        verify(liveUpdatesPublisher, times(1)).publishStats(1L, stats);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    public void onStatsChanged_refreshFailed_evictsCachedStats() {
+        doThrow(new JobApplicationServiceException("Failed to serialize job application stats")).when(statsService).refresh(1L);
+
+        refreshListener.onStatsChanged(new JobApplicationStatsChangedEvent(1L));
+
+        verify(redisTemplate, times(1)).delete(StatsCacheKeyUtils.keyForUser(1L));
+        verifyNoInteractions(liveUpdatesPublisher);
+    }
+}
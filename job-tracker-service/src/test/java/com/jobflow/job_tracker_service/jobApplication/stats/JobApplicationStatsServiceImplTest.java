@@ -3,9 +3,13 @@ package com.jobflow.job_tracker_service.jobApplication.stats;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exception.InvalidStatsRangeException;
 import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.exchangeRate.ExchangeRateService;
+import com.jobflow.job_tracker_service.exchangeRate.ExchangeRates;
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.Source;
 import com.jobflow.job_tracker_service.jobApplication.Status;
-import com.jobflow.job_tracker_service.rateLimiter.RateLimiterValidator;
 import com.jobflow.job_tracker_service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,10 +21,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +39,21 @@ class JobApplicationStatsServiceImplTest {
     @Mock
     private JobApplicationStatsRepository statsRepository;
 
+    @Mock
+    private JobApplicationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private JobApplicationFunnelStatsRepository funnelStatsRepository;
+
+    @Mock
+    private JobApplicationFunnelDurationRepository funnelDurationRepository;
+
+    @Mock
+    private JobApplicationSalarySketchRepository salarySketchRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
     @Mock
     private UserService userService;
 
@@ -44,16 +67,19 @@ class JobApplicationStatsServiceImplTest {
     private ObjectMapper objectMapper;
 
     @Mock
-    private PopularCompanyProjection popularCompanyProjection;
+    private StatsRowProjection summaryRow;
+
+    @Mock
+    private StatsRowProjection statusRow;
 
     @Mock
-    private PopularPositionProjection popularPositionProjection;
+    private TimeseriesRowProjection appliedRow;
 
     @Mock
-    private StatusCountProjection statusCountProjections;
+    private TimeseriesRowProjection rejectedRow;
 
     @Mock
-    private RateLimiterValidator rateLimiterValidator;
+    private JobApplicationTopItemsService topItemsService;
 
     @Spy
     @InjectMocks
@@ -78,7 +104,6 @@ class JobApplicationStatsServiceImplTest {
         assertNotNull(result);
         assertEquals(statsDto, result);
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationStatsRateLimiterAction.GET_STATS, "1");
         verify(objectMapper, times(1)).readValue("expectedJson", JobApplicationStatsDto.class);
         verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
         verifyNoInteractions(statsRepository);
@@ -104,19 +129,25 @@ class JobApplicationStatsServiceImplTest {
         when(valueOperations.get(StatsCacheKeyUtils.keyForUser(1L))).thenReturn(null);
         when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenReturn("expectedJson");
 
-        when(statsRepository.countAllByUserId(1L)).thenReturn(1L);
-        when(statsRepository.countSince(eq(1L), any(LocalDate.class))).thenReturn(1L);
-        when(statsRepository.countUniqueCompanies(1L)).thenReturn(1L);
-        when(statsRepository.findTopCompany(1L)).thenReturn(Optional.of(popularCompanyProjection));
-        when(statsRepository.findTopPosition(1L)).thenReturn(Optional.of(popularPositionProjection));
-        when(statsRepository.countByStatus(1L)).thenReturn(List.of(statusCountProjections));
-
-        when(popularCompanyProjection.getCompany()).thenReturn("Google");
-        when(popularCompanyProjection.getTotal()).thenReturn(1L);
-        when(popularPositionProjection.getPosition()).thenReturn("Backend");
-        when(popularPositionProjection.getTotal()).thenReturn(1L);
-        when(statusCountProjections.getStatus()).thenReturn(Status.REJECTED);
-        when(statusCountProjections.getTotal()).thenReturn(1L);
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(summaryRow, statusRow));
+        doAnswer(invocation -> {
+            JobApplicationStatsDto stats = invocation.getArgument(1);
+            stats.setTopCompanies(List.of(new TopItem("Google", 1L)));
+            stats.setTopPositions(List.of(new TopItem("Backend", 1L)));
+            stats.setTopCompany(new TopItem("Google", 1L));
+            stats.setTopPosition(new TopItem("Backend", 1L));
+            stats.setUniqueCompanies(1L);
+            return null;
+        }).when(topItemsService).fill(eq(1L), any(JobApplicationStatsDto.class));
+
+        when(summaryRow.getType()).thenReturn(StatsRowType.SUMMARY);
+        when(summaryRow.getTotal()).thenReturn(1L);
+        when(summaryRow.getLast7Days()).thenReturn(1L);
+        when(summaryRow.getLast30Days()).thenReturn(1L);
+        when(statusRow.getType()).thenReturn(StatsRowType.STATUS);
+        when(statusRow.getName()).thenReturn("REJECTED");
+        when(statusRow.getTotal()).thenReturn(1L);
 
         JobApplicationStatsDto result = statsService.getStats();
 
@@ -129,9 +160,13 @@ class JobApplicationStatsServiceImplTest {
         assertEquals(1L, result.getTopCompany().getTotal());
         assertEquals("Backend", result.getTopPosition().getName());
         assertEquals(1L, result.getTopPosition().getTotal());
+        assertEquals(1, result.getTopCompanies().size());
+        assertEquals(1, result.getTopPositions().size());
         assertEquals(1L, result.getByStatus().get(Status.REJECTED));
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationStatsRateLimiterAction.GET_STATS, "1");
+        assertInstanceOf(EnumMap.class, result.getByStatus());
+
+        verify(statsRepository, times(1)).findStatsRows(1L, LocalDate.now().minusDays(7L), LocalDate.now().minusDays(30L));
         verify(objectMapper, times(1)).writeValueAsString(any(JobApplicationStatsDto.class));
         verify(valueOperations, times(1)).set(
                 StatsCacheKeyUtils.keyForUser(1L),
@@ -160,12 +195,14 @@ class JobApplicationStatsServiceImplTest {
         when(valueOperations.get(StatsCacheKeyUtils.keyForUser(1L))).thenReturn(null);
         when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenReturn("expectedJson");
 
-        when(statsRepository.findTopCompany(1L)).thenReturn(Optional.empty());
-        when(statsRepository.findTopPosition(1L)).thenReturn(Optional.empty());
-        when(statsRepository.countByStatus(1L)).thenReturn(List.of(statusCountProjections));
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of(summaryRow, statusRow));
 
-        when(statusCountProjections.getStatus()).thenReturn(Status.REJECTED);
-        when(statusCountProjections.getTotal()).thenReturn(1L);
+        when(summaryRow.getType()).thenReturn(StatsRowType.SUMMARY);
+        when(summaryRow.getTotal()).thenReturn(1L);
+        when(statusRow.getType()).thenReturn(StatsRowType.STATUS);
+        when(statusRow.getName()).thenReturn("REJECTED");
+        when(statusRow.getTotal()).thenReturn(1L);
 
         JobApplicationStatsDto result = statsService.getStats();
 
@@ -174,7 +211,7 @@ class JobApplicationStatsServiceImplTest {
         assertNull(result.getTopPosition());
         assertEquals(1L, result.getByStatus().get(Status.REJECTED));
 
-        verify(rateLimiterValidator, times(1)).validate(JobApplicationStatsRateLimiterAction.GET_STATS, "1");
+        verify(topItemsService, times(1)).fill(1L, result);
         verify(objectMapper, times(1)).writeValueAsString(any(JobApplicationStatsDto.class));
         verify(valueOperations, times(1)).set(
                 StatsCacheKeyUtils.keyForUser(1L),
@@ -182,4 +219,204 @@ class JobApplicationStatsServiceImplTest {
                 Duration.ofHours(1L)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getStats_withoutJobApplications_returnZeroStats() throws JsonProcessingException {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(StatsCacheKeyUtils.keyForUser(1L))).thenReturn(null);
+        when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenReturn("expectedJson");
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+
+        JobApplicationStatsDto result = statsService.getStats();
+
+        assertNotNull(result);
+        assertEquals(0L, result.getTotal());
+        assertEquals(0L, result.getLast7Days());
+        assertEquals(0L, result.getLast30Days());
+        assertNull(result.getTopCompany());
+        assertNull(result.getTopPosition());
+        assertTrue(result.getByStatus().isEmpty());
+
+        verify(topItemsService, times(1)).fill(1L, result);
+    }
+
+    @Test
+    public void getStats_concurrentCacheMisses_computeStatsOnce() throws Exception {
+        var computationStarted = new CountDownLatch(1);
+        var releaseComputation = new CountDownLatch(1);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(StatsCacheKeyUtils.keyForUser(1L))).thenReturn(null);
+        when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenReturn("expectedJson");
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenAnswer(invocation -> {
+            computationStarted.countDown();
+            releaseComputation.await(5, TimeUnit.SECONDS);
+            return List.of(summaryRow);
+        });
+        when(summaryRow.getType()).thenReturn(StatsRowType.SUMMARY);
+        when(summaryRow.getTotal()).thenReturn(3L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JobApplicationStatsDto> first = executor.submit(() -> statsService.getStats());
+            assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+            Future<JobApplicationStatsDto> second = executor.submit(() -> statsService.getStats());
+
+            Thread.sleep(100L);
+            releaseComputation.countDown();
+
+            assertEquals(3L, first.get(5, TimeUnit.SECONDS).getTotal());
+            assertEquals(3L, second.get(5, TimeUnit.SECONDS).getTotal());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(statsRepository, times(1)).findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    public void refresh_recomputesStatsAndOverwritesCache() throws JsonProcessingException {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenReturn("expectedJson");
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+
+        JobApplicationStatsDto result = statsService.refresh(1L);
+
+        assertNotNull(result);
+        verify(valueOperations, never()).get(anyString());
+        verify(valueOperations, times(1)).set(
+                StatsCacheKeyUtils.keyForUser(1L),
+                "expectedJson",
+                Duration.ofHours(1L)
+        );
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void refresh_serializeFailed_throwExc() throws JsonProcessingException {
+        var jsonException = new JsonProcessingException("Json exception") {
+        };
+        when(objectMapper.writeValueAsString(any(JobApplicationStatsDto.class))).thenThrow(jsonException);
+        when(statsRepository.findStatsRows(eq(1L), any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+
+        var jobApplicationServiceException = assertThrows(JobApplicationServiceException.class, () -> statsService.refresh(1L));
+        assertEquals("Failed to serialize job application stats", jobApplicationServiceException.getMessage());
+    }
+
+    @Test
+    public void getTimeseries_weekGranularity_returnAllBucketsSplitByStatus() {
+        LocalDate from = LocalDate.of(2025, 5, 7);
+        LocalDate to = LocalDate.of(2025, 5, 20);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(appliedRow.getBucket()).thenReturn("2025-05-12");
+        when(appliedRow.getStatus()).thenReturn(Status.APPLIED);
+        when(appliedRow.getTotal()).thenReturn(2L);
+        when(rejectedRow.getBucket()).thenReturn("2025-05-12");
+        when(rejectedRow.getStatus()).thenReturn(Status.REJECTED);
+        when(rejectedRow.getTotal()).thenReturn(1L);
+        when(dailyStatsRepository.findTimeseriesRows(1L, from, to, "week", null)).thenReturn(List.of(appliedRow, rejectedRow));
+
+        JobApplicationTimeseriesDto result = statsService.getTimeseries(from, to, StatsGranularity.WEEK, null);
+
+        assertNotNull(result);
+        assertEquals(from, result.getFrom());
+        assertEquals(to, result.getTo());
+        assertEquals(StatsGranularity.WEEK, result.getGranularity());
+        assertNull(result.getSource());
+        assertEquals(3, result.getPoints().size());
+
+        TimeseriesPointDto emptyPoint = result.getPoints().get(0);
+        assertEquals(LocalDate.of(2025, 5, 5), emptyPoint.getBucket());
+        assertEquals(0L, emptyPoint.getTotal());
+        assertTrue(emptyPoint.getByStatus().isEmpty());
+
+        TimeseriesPointDto point = result.getPoints().get(1);
+        assertEquals(LocalDate.of(2025, 5, 12), point.getBucket());
+        assertEquals(3L, point.getTotal());
+        assertEquals(2L, point.getByStatus().get(Status.APPLIED));
+        assertEquals(1L, point.getByStatus().get(Status.REJECTED));
+
+        assertEquals(LocalDate.of(2025, 5, 19), result.getPoints().get(2).getBucket());
+    }
+
+    @Test
+    public void getTimeseries_withSource_filterBySource() {
+        LocalDate from = LocalDate.of(2025, 5, 1);
+        LocalDate to = LocalDate.of(2025, 7, 15);
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(dailyStatsRepository.findTimeseriesRows(1L, from, to, "month", Source.LINKEDIN.name())).thenReturn(List.of());
+
+        JobApplicationTimeseriesDto result = statsService.getTimeseries(from, to, StatsGranularity.MONTH, Source.LINKEDIN);
+
+        assertEquals(Source.LINKEDIN, result.getSource());
+        assertEquals(List.of(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 1)),
+                result.getPoints().stream().map(TimeseriesPointDto::getBucket).toList());
+    }
+
+    @Test
+    public void getTimeseries_fromAfterTo_throwExc() {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+
+        var invalidStatsRangeException = assertThrows(InvalidStatsRangeException.class, () -> statsService.getTimeseries(
+                LocalDate.of(2025, 5, 2), LocalDate.of(2025, 5, 1), StatsGranularity.DAY, null
+        ));
+        assertEquals("Start of the range: 2025-05-02 is after its end: 2025-05-01", invalidStatsRangeException.getMessage());
+
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    public void getTimeseries_rangeTooLong_throwExc() {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+
+        assertThrows(InvalidStatsRangeException.class, () -> statsService.getTimeseries(
+                LocalDate.of(2020, 1, 1), LocalDate.of(2025, 1, 1), StatsGranularity.DAY, null
+        ));
+
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    public void getFunnel_returnFunnelFromCounters() {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(funnelStatsRepository.findAllByUserId(1L)).thenReturn(List.of(
+                new JobApplicationFunnelStats(1L, 1L, Source.LINKEDIN, FunnelStage.APPLIED, 2L),
+                new JobApplicationFunnelStats(2L, 1L, Source.LINKEDIN, FunnelStage.VIEWED, 1L)
+        ));
+        when(funnelDurationRepository.findAllByUserId(1L)).thenReturn(List.of(
+                new JobApplicationFunnelDuration(1L, 1L, Source.LINKEDIN, FunnelStage.VIEWED, 3L, 1L)
+        ));
+
+        JobApplicationFunnelDto result = statsService.getFunnel();
+
+        assertNotNull(result);
+        assertEquals(2L, result.getOverall().get(0).getReached());
+        assertEquals(0.5, result.getOverall().get(1).getConversionRate());
+        assertEquals(3.0, result.getOverall().get(1).getMedianDays());
+        assertEquals(1, result.getBySource().size());
+        assertEquals(Source.LINKEDIN, result.getBySource().get(0).getSource());
+    }
+
+    @Test
+    public void getSalaryStats_returnSalaryStatsFromSketches() {
+        LocalDateTime ratesUpdatedAt = LocalDateTime.now();
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(salarySketchRepository.findAllByUserId(1L)).thenReturn(List.of(
+                new JobApplicationSalarySketch(1L, 1L, Currency.EUR, SalarySketch.bucketOf(1000), 2L)
+        ));
+        when(exchangeRateService.getExchangeRates()).thenReturn(new ExchangeRates(
+                Currency.USD, Map.of(Currency.USD, BigDecimal.ONE, Currency.EUR, BigDecimal.valueOf(2)), ratesUpdatedAt
+        ));
+
+        JobApplicationSalaryStatsDto result = statsService.getSalaryStats();
+
+        assertNotNull(result);
+        assertEquals(1, result.getByCurrency().size());
+        assertEquals(Currency.EUR, result.getByCurrency().get(0).getCurrency());
+        assertEquals(2L, result.getByCurrency().get(0).getCount());
+        assertEquals(Currency.USD, result.getNormalized().getCurrency());
+        assertEquals(2000, result.getNormalized().getP50(), 2000 * 2 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(ratesUpdatedAt, result.getExchangeRatesUpdatedAt());
+    }
+}
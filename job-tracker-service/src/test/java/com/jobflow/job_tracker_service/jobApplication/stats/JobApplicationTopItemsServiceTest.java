@@ -0,0 +1,175 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationTopItemsServiceTest {
+
+    private static final List<String> KEYS = List.of(
+            StatsCacheKeyUtils.topCompaniesKey(1L),
+            StatsCacheKeyUtils.topPositionsKey(1L),
+            StatsCacheKeyUtils.topItemsLoadingKey(1L)
+    );
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JobApplicationStatsRepository statsRepository;
+
+    private JobApplicationTopItemsService topItemsService;
+
+    @BeforeEach
+    public void setup() {
+        topItemsService = new JobApplicationTopItemsService(redisTemplate, statsRepository, 10);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void fill_setsPresent_returnTopItemsFromRedis() {
+        Set<TypedTuple<String>> companies = new LinkedHashSet<>(List.of(
+                TypedTuple.of("google", 3.0),
+                TypedTuple.of("jet brains", 1.0)
+        ));
+        Set<TypedTuple<String>> positions = new LinkedHashSet<>(List.of(TypedTuple.of("backend", 4.0)));
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(companies, positions, 2L));
+        var stats = new JobApplicationStatsDto();
+
+        topItemsService.fill(1L, stats);
+
+        assertEquals(List.of(new TopItem("Google", 3L), new TopItem("Jet Brains", 1L)), stats.getTopCompanies());
+        assertEquals(List.of(new TopItem("Backend", 4L)), stats.getTopPositions());
+        assertEquals(new TopItem("Google", 3L), stats.getTopCompany());
+        assertEquals(new TopItem("Backend", 4L), stats.getTopPosition());
+        assertEquals(2L, stats.getUniqueCompanies());
+
+        verifyNoInteractions(statsRepository);
+    }
+
+    @Test
+    public void fill_setsMissing_fillFromCountersAtomically() {
+        List<JobApplicationUserStats> counters = List.of(
+                new JobApplicationUserStats(1L, 1L, StatsDimension.COMPANY, "jet brains", 1L),
+                new JobApplicationUserStats(2L, 1L, StatsDimension.COMPANY, "google", 2L),
+                new JobApplicationUserStats(3L, 1L, StatsDimension.POSITION, "backend", 2L)
+        );
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(Set.of(), Set.of(), 0L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(statsRepository.findAllByUserIdAndDimensionInAndTotalGreaterThan(
+                1L, List.of(StatsDimension.COMPANY, StatsDimension.POSITION), 0L
+        )).thenReturn(counters);
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        var stats = new JobApplicationStatsDto();
+
+        topItemsService.fill(1L, stats);
+
+        assertEquals(List.of(new TopItem("Google", 2L), new TopItem("Jet Brains", 1L)), stats.getTopCompanies());
+        assertEquals(List.of(new TopItem("Backend", 2L)), stats.getTopPositions());
+        assertEquals(2L, stats.getUniqueCompanies());
+
+        verify(valueOperations, times(1)).set(eq(StatsCacheKeyUtils.topItemsLoadingKey(1L)), token.capture(), eq(Duration.ofSeconds(30L)));
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(KEYS),
+                eq(token.getValue()), eq("3600000"), eq("2"), eq("jet brains"), eq("1"), eq("google"), eq("2"), eq("backend"), eq("2"));
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    public void fill_loadCancelledByDelta_returnTopItemsFromCounters() {
+        List<JobApplicationUserStats> counters = List.of(
+                new JobApplicationUserStats(1L, 1L, StatsDimension.COMPANY, "google", 2L),
+                new JobApplicationUserStats(2L, 1L, StatsDimension.POSITION, "backend", 2L)
+        );
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(Set.of(), Set.of(), 0L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(statsRepository.findAllByUserIdAndDimensionInAndTotalGreaterThan(
+                1L, List.of(StatsDimension.COMPANY, StatsDimension.POSITION), 0L
+        )).thenReturn(counters);
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(Object[].class))).thenReturn(0L);
+        var stats = new JobApplicationStatsDto();
+
+        topItemsService.fill(1L, stats);
+
+        assertEquals(List.of(new TopItem("Google", 2L)), stats.getTopCompanies());
+        assertEquals(new TopItem("Backend", 2L), stats.getTopPosition());
+        assertEquals(1L, stats.getUniqueCompanies());
+    }
+
+    @Test
+    public void fill_withoutJobApplications_returnEmptyTopItems() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(Set.of(), Set.of(), 0L));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(statsRepository.findAllByUserIdAndDimensionInAndTotalGreaterThan(
+                1L, List.of(StatsDimension.COMPANY, StatsDimension.POSITION), 0L
+        )).thenReturn(List.of());
+        var stats = new JobApplicationStatsDto();
+
+        topItemsService.fill(1L, stats);
+
+        assertTrue(stats.getTopCompanies().isEmpty());
+        assertTrue(stats.getTopPositions().isEmpty());
+        assertNull(stats.getTopCompany());
+        assertNull(stats.getTopPosition());
+        assertEquals(0L, stats.getUniqueCompanies());
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    public void onDelta_afterCommit_incrementNormalizedMembers() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        topItemsService.onDelta(1L, " Google ", "Backend", -1L);
+
+        verifyNoInteractions(redisTemplate);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(KEYS), eq("-1"), eq("google"), eq("backend"));
+    }
+
+    @Test
+    public void onDelta_redisFailed_doNotThrow() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), any(), any(), any())).thenThrow(new RuntimeException("Redis error"));
+
+        topItemsService.onDelta(1L, "Google", "Backend", 1L);
+
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit));
+    }
+
+    @Test
+    public void evict_deletesTopItemsKeys() {
+        topItemsService.evict(1L);
+
+        verify(redisTemplate, times(1)).delete(KEYS);
+    }
+}
@@ -0,0 +1,192 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationUserStatsServiceTest {
+
+    @Mock
+    private JobApplicationStatsRepository statsRepository;
+
+    @Mock
+    private JobApplicationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private JobApplicationTopItemsService topItemsService;
+
+    @Mock
+    private JobApplicationSalaryStatsService salaryStatsService;
+
+    @InjectMocks
+    private JobApplicationUserStatsService userStatsService;
+
+    private JobApplication jobApplication;
+
+    @BeforeEach
+    public void setup() {
+        jobApplication = TestUtil.createJobApplication();
+    }
+
+    @Test
+    public void onCreate_incrementsCounters() {
+        userStatsService.onCreate(jobApplication);
+
+        verify(statsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getStatus().name(),
+                jobApplication.getCompany(),
+                jobApplication.getPosition(),
+                1L
+        );
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getAppliedAt(),
+                jobApplication.getStatus().name(),
+                jobApplication.getSource().name(),
+                1L
+        );
+    }
+
+    @Test
+    public void onCreate_incrementsTopItems() {
+        userStatsService.onCreate(jobApplication);
+
+        verify(topItemsService, times(1)).onDelta(jobApplication.getUserId(), jobApplication.getCompany(), jobApplication.getPosition(), 1L);
+    }
+
+    @Test
+    public void onCreate_updatesSalarySketch() {
+        userStatsService.onCreate(jobApplication);
+
+        verify(salaryStatsService, times(1)).onCreate(jobApplication);
+    }
+
+    @Test
+    public void onDelete_updatesSalarySketch() {
+        userStatsService.onDelete(jobApplication);
+
+        verify(salaryStatsService, times(1)).onDelete(jobApplication);
+    }
+
+    @Test
+    public void onDelete_decrementsTopItems() {
+        userStatsService.onDelete(jobApplication);
+
+        verify(topItemsService, times(1)).onDelta(jobApplication.getUserId(), jobApplication.getCompany(), jobApplication.getPosition(), -1L);
+    }
+
+    @Test
+    public void onUpdate_companyChanged_movesTopItems() {
+        JobApplication updated = jobApplication.toBuilder()
+                .company("Amazon")
+                .build();
+
+        userStatsService.onUpdate(jobApplication, updated);
+
+        verify(topItemsService, times(1)).onDelta(jobApplication.getUserId(), jobApplication.getCompany(), jobApplication.getPosition(), -1L);
+        verify(topItemsService, times(1)).onDelta(jobApplication.getUserId(), "Amazon", jobApplication.getPosition(), 1L);
+    }
+
+    @Test
+    public void onDelete_decrementsCounters() {
+        userStatsService.onDelete(jobApplication);
+
+        verify(statsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getStatus().name(),
+                jobApplication.getCompany(),
+                jobApplication.getPosition(),
+                -1L
+        );
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(),
+                jobApplication.getAppliedAt(),
+                jobApplication.getStatus().name(),
+                jobApplication.getSource().name(),
+                -1L
+        );
+    }
+
+    @Test
+    public void onUpdate_statsDimensionChanged_movesCounters() {
+        JobApplication updated = jobApplication.toBuilder()
+                .status(Status.OFFER)
+                .build();
+
+        userStatsService.onUpdate(jobApplication, updated);
+
+        verifyNoInteractions(topItemsService);
+
+        InOrder inOrder = inOrder(statsRepository);
+        inOrder.verify(statsRepository).applyDelta(
+                jobApplication.getUserId(), Status.APPLIED.name(), jobApplication.getCompany(),
+                jobApplication.getPosition(), -1L
+        );
+        inOrder.verify(statsRepository).applyDelta(
+                jobApplication.getUserId(), Status.OFFER.name(), jobApplication.getCompany(),
+                jobApplication.getPosition(), 1L
+        );
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(), jobApplication.getAppliedAt(), Status.APPLIED.name(),
+                jobApplication.getSource().name(), -1L
+        );
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(), jobApplication.getAppliedAt(), Status.OFFER.name(),
+                jobApplication.getSource().name(), 1L
+        );
+    }
+
+    @Test
+    public void onUpdate_sourceChanged_movesDailyRollup() {
+        JobApplication updated = jobApplication.toBuilder()
+                .source(Source.REFERRAL)
+                .build();
+
+        userStatsService.onUpdate(jobApplication, updated);
+
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(), jobApplication.getAppliedAt(), jobApplication.getStatus().name(),
+                jobApplication.getSource().name(), -1L
+        );
+        verify(dailyStatsRepository, times(1)).applyDelta(
+                jobApplication.getUserId(), jobApplication.getAppliedAt(), jobApplication.getStatus().name(),
+                Source.REFERRAL.name(), 1L
+        );
+    }
+
+    @Test
+    public void onUpdate_noStatsDimensionChanged_doNothing() {
+        JobApplication updated = jobApplication.toBuilder()
+                .comment("another comment")
+                .link("http://another-link")
+                .build();
+
+        userStatsService.onUpdate(jobApplication, updated);
+
+        verifyNoInteractions(statsRepository, dailyStatsRepository, topItemsService);
+        verify(salaryStatsService, times(1)).onUpdate(jobApplication, updated);
+    }
+
+    @Test
+    public void rebuild_replacesCountersOfUser() {
+        userStatsService.rebuild(1L);
+
+        InOrder inOrder = inOrder(statsRepository, dailyStatsRepository);
+        inOrder.verify(statsRepository).deleteAllByUserId(1L);
+        inOrder.verify(statsRepository).rebuildForUser(1L);
+        inOrder.verify(dailyStatsRepository).deleteAllByUserId(1L);
+        inOrder.verify(dailyStatsRepository).rebuildForUser(1L);
+    }
+}
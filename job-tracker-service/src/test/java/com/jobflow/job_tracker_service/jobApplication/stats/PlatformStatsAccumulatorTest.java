@@ -0,0 +1,61 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlatformStatsAccumulatorTest {
+
+    @Test
+    public void merge_sumsPartialAggregates() {
+        PlatformStatsAccumulator first = new PlatformStatsAccumulator();
+        first.add(row(Source.LINKEDIN, Status.APPLIED, "Google"));
+        first.add(row(Source.LINKEDIN, Status.REJECTED, " google "));
+        PlatformStatsAccumulator second = new PlatformStatsAccumulator();
+        second.add(row(Source.REFERRAL, Status.APPLIED, "Amazon"));
+
+        PlatformStatsAccumulator result = first.merge(second);
+
+        assertEquals(3L, result.getTotal());
+        assertEquals(Map.of(Source.LINKEDIN, 2L, Source.REFERRAL, 1L), result.getBySource());
+        assertEquals(Map.of(Status.APPLIED, 2L, Status.REJECTED, 1L), result.getByStatus());
+        assertEquals(Map.of("google", 2L, "amazon", 1L), result.getByCompany());
+    }
+
+    @Test
+    public void topCompanies_sortedByTotalThenName() {
+        PlatformStatsAccumulator accumulator = new PlatformStatsAccumulator();
+        accumulator.add(row(Source.LINKEDIN, Status.APPLIED, "yandex"));
+        accumulator.add(row(Source.LINKEDIN, Status.APPLIED, "amazon web services"));
+        accumulator.add(row(Source.LINKEDIN, Status.APPLIED, "Google"));
+        accumulator.add(row(Source.LINKEDIN, Status.APPLIED, "google"));
+
+        List<TopItem> result = accumulator.topCompanies(2);
+
+        assertEquals(List.of(new TopItem("Google", 2L), new TopItem("Amazon Web Services", 1L)), result);
+    }
+
+    private PlatformStatsRowProjection row(Source source, Status status, String company) {
+        return new PlatformStatsRowProjection() {
+            @Override
+            public Source getSource() {
+                return source;
+            }
+
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getCompany() {
+                return company;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.exception.PlatformStatsNotFoundException;
+import com.jobflow.job_tracker_service.handler.GlobalHandler;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformStatsControllerTest {
+
+    @Mock
+    private PlatformStatsService platformStatsService;
+
+    @InjectMocks
+    private PlatformStatsController platformStatsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(platformStatsController)
+                .setControllerAdvice(new GlobalHandler())
+                .build();
+    }
+
+    @Test
+    public void getPlatformStats_returnPlatformStats() throws Exception {
+        var platformStats = new PlatformStatsDto(
+                LocalDateTime.now(),
+                3L,
+                Map.of(Source.LINKEDIN, 3L),
+                Map.of(Status.APPLIED, 3L),
+                List.of(new TopItem("Google", 3L))
+        );
+        when(platformStatsService.getLatest()).thenReturn(platformStats);
+
+        mockMvc.perform(get("/api/v1/admin/job-applications/stats")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalApplications").value(3))
+                .andExpect(jsonPath("$.bySource.LINKEDIN").value(3))
+                .andExpect(jsonPath("$.byStatus.APPLIED").value(3))
+                .andExpect(jsonPath("$.topCompanies[0].name").value("Google"));
+
+        verify(platformStatsService, times(1)).getLatest();
+    }
+
+    @Test
+    public void getPlatformStats_notGenerated_returnNotFound() throws Exception {
+        var platformStatsNotFoundException = new PlatformStatsNotFoundException("Platform stats have not been generated yet");
+        when(platformStatsService.getLatest()).thenThrow(platformStatsNotFoundException);
+
+        mockMvc.perform(get("/api/v1/admin/job-applications/stats")
+                        .accept(APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(platformStatsNotFoundException.getMessage()))
+                .andExpect(jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()));
+    }
+}
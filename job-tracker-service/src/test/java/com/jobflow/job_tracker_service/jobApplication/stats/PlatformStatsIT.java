@@ -0,0 +1,91 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.BaseIT;
+import com.jobflow.job_tracker_service.JwtTestUtil;
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class PlatformStatsIT extends BaseIT {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private PlatformStatsSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private PlatformStatsJob platformStatsJob;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtTestUtil jwtTestUtil;
+
+    @BeforeEach
+    public void setup() {
+        TestUtil.clearDb(jobApplicationRepository);
+        TestUtil.clearDb(snapshotRepository);
+    }
+
+    @Test
+    public void getPlatformStats_admin_returnLatestSnapshot() {
+        JobApplication first = TestUtil.createJobApplication();
+        first.setId(null);
+        first.setUserId(1L);
+        JobApplication second = TestUtil.createJobApplication();
+        second.setId(null);
+        second.setUserId(2L);
+        second.setSource(Source.REFERRAL);
+        second.setStatus(Status.REJECTED);
+        jobApplicationRepository.saveAll(List.of(first, second));
+
+        platformStatsJob.generate();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtTestUtil.generateToken(1L, List.of("ROLE_ADMIN")));
+        ResponseEntity<PlatformStatsDto> response = restTemplate.exchange(
+                "/api/v1/admin/job-applications/stats",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                PlatformStatsDto.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        PlatformStatsDto body = response.getBody();
+        assertNotNull(body);
+        assertEquals(2L, body.getTotalApplications());
+        assertEquals(1L, body.getBySource().get(Source.REFERRAL));
+        assertEquals(1L, body.getByStatus().get(Status.REJECTED));
+        assertEquals(2L, body.getTopCompanies().get(0).getTotal());
+    }
+
+    @Test
+    public void getPlatformStats_notAdmin_returnForbidden() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtTestUtil.generateToken(1L));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/v1/admin/job-applications/stats",
+                HttpMethod.GET,
+                TestUtil.createRequest(null, headers),
+                String.class
+        );
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+}
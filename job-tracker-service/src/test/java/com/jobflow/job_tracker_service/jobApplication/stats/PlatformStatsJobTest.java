@@ -0,0 +1,142 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRepository;
+import com.jobflow.job_tracker_service.jobApplication.Source;
+import com.jobflow.job_tracker_service.jobApplication.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformStatsJobTest {
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private PlatformStatsSnapshotRepository snapshotRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StatsJobLock statsJobLock;
+
+    @Mock
+    private PlatformStatsRowProjection linkedinRow;
+
+    @Mock
+    private PlatformStatsRowProjection referralRow;
+
+    private PlatformStatsJob platformStatsJob;
+
+    @BeforeEach
+    public void setup() {
+        PlatformStatsProperties properties = new PlatformStatsProperties();
+        properties.setChunkSize(10);
+        properties.setParallelism(2);
+        properties.setTopCompaniesSize(5);
+        properties.setSnapshotsToKeep(3);
+        properties.setLockTtl(Duration.ofHours(1L));
+
+        platformStatsJob = new PlatformStatsJob(
+                jobApplicationRepository,
+                snapshotRepository,
+                properties,
+                objectMapper,
+                Runnable::run,
+                transactionManager,
+                statsJobLock,
+                Runnable::run
+        );
+    }
+
+    @Test
+    public void generate_aggregatesEveryChunkAndSavesSnapshot() throws JsonProcessingException {
+        when(jobApplicationRepository.findMinId()).thenReturn(1L);
+        when(jobApplicationRepository.findMaxId()).thenReturn(25L);
+        when(linkedinRow.getSource()).thenReturn(Source.LINKEDIN);
+        when(linkedinRow.getStatus()).thenReturn(Status.APPLIED);
+        when(linkedinRow.getCompany()).thenReturn("Google");
+        when(referralRow.getSource()).thenReturn(Source.REFERRAL);
+        when(referralRow.getStatus()).thenReturn(Status.OFFER);
+        when(referralRow.getCompany()).thenReturn("google");
+        when(jobApplicationRepository.streamPlatformStatsRows(1L, 11L)).thenReturn(Stream.of(linkedinRow, linkedinRow));
+        when(jobApplicationRepository.streamPlatformStatsRows(11L, 21L)).thenReturn(Stream.empty());
+        when(jobApplicationRepository.streamPlatformStatsRows(21L, 31L)).thenReturn(Stream.of(referralRow));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        platformStatsJob.generate();
+
+        ArgumentCaptor<PlatformStatsDto> statsCaptor = ArgumentCaptor.forClass(PlatformStatsDto.class);
+        verify(objectMapper, times(1)).writeValueAsString(statsCaptor.capture());
+        PlatformStatsDto stats = statsCaptor.getValue();
+        assertEquals(3L, stats.getTotalApplications());
+        assertEquals(2L, stats.getBySource().get(Source.LINKEDIN));
+        assertEquals(1L, stats.getByStatus().get(Status.OFFER));
+        assertEquals(new TopItem("Google", 3L), stats.getTopCompanies().get(0));
+
+        ArgumentCaptor<PlatformStatsSnapshot> snapshotCaptor = ArgumentCaptor.forClass(PlatformStatsSnapshot.class);
+        verify(snapshotRepository, times(1)).save(snapshotCaptor.capture());
+        assertEquals("{}", snapshotCaptor.getValue().getPayload());
+        assertEquals(stats.getGeneratedAt(), snapshotCaptor.getValue().getGeneratedAt());
+        verify(snapshotRepository, times(1)).deleteAllExceptLatest(3);
+    }
+
+    @Test
+    public void generate_noJobApplications_savesEmptySnapshot() throws JsonProcessingException {
+        when(jobApplicationRepository.findMinId()).thenReturn(null);
+        when(jobApplicationRepository.findMaxId()).thenReturn(null);
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+
+        platformStatsJob.generate();
+
+        verify(jobApplicationRepository, never()).streamPlatformStatsRows(any(), any());
+        verify(snapshotRepository, times(1)).save(any());
+    }
+
+    @Test
+    public void generate_chunkFailed_keepsPreviousSnapshot() {
+        when(jobApplicationRepository.findMinId()).thenReturn(1L);
+        when(jobApplicationRepository.findMaxId()).thenReturn(5L);
+        when(jobApplicationRepository.streamPlatformStatsRows(1L, 11L)).thenThrow(new RuntimeException("DB error"));
+
+        platformStatsJob.generate();
+
+        verify(snapshotRepository, never()).save(any());
+        verify(snapshotRepository, never()).deleteAllExceptLatest(anyInt());
+    }
+
+    @Test
+    public void generateExclusively_lockHeldElsewhere_doNothing() {
+        when(statsJobLock.runExclusively(eq("platform-stats"), eq(Duration.ofHours(1L)), any())).thenReturn(false);
+
+        platformStatsJob.generateExclusively();
+
+        verifyNoInteractions(jobApplicationRepository, snapshotRepository);
+    }
+
+    @Test
+    public void generateIfMissing_snapshotExists_doNothing() {
+        when(snapshotRepository.count()).thenReturn(1L);
+
+        platformStatsJob.generateIfMissing();
+
+        verifyNoInteractions(jobApplicationRepository);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobflow.job_tracker_service.exception.JobApplicationServiceException;
+import com.jobflow.job_tracker_service.exception.PlatformStatsNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformStatsServiceImplTest {
+
+    @Mock
+    private PlatformStatsSnapshotRepository snapshotRepository;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @InjectMocks
+    private PlatformStatsServiceImpl platformStatsService;
+
+    @Test
+    public void getLatest_returnLatestSnapshot() throws JsonProcessingException {
+        PlatformStatsDto platformStats = PlatformStatsDto.builder().totalApplications(3L).build();
+        when(snapshotRepository.findFirstByOrderByGeneratedAtDesc())
+                .thenReturn(Optional.of(new PlatformStatsSnapshot(1L, LocalDateTime.now(), "payload")));
+        when(objectMapper.readValue("payload", PlatformStatsDto.class)).thenReturn(platformStats);
+
+        PlatformStatsDto result = platformStatsService.getLatest();
+
+        assertEquals(platformStats, result);
+    }
+
+    @Test
+    public void getLatest_noSnapshot_throwExc() {
+        when(snapshotRepository.findFirstByOrderByGeneratedAtDesc()).thenReturn(Optional.empty());
+
+        var platformStatsNotFoundException = assertThrows(PlatformStatsNotFoundException.class, () -> platformStatsService.getLatest());
+        assertEquals("Platform stats have not been generated yet", platformStatsNotFoundException.getMessage());
+
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    public void getLatest_failedDeserialize_throwExc() throws JsonProcessingException {
+        var jsonProcessingException = new JsonProcessingException("Deserialize exception") {
+        };
+        when(snapshotRepository.findFirstByOrderByGeneratedAtDesc())
+                .thenReturn(Optional.of(new PlatformStatsSnapshot(1L, LocalDateTime.now(), "payload")));
+        when(objectMapper.readValue("payload", PlatformStatsDto.class)).thenThrow(jsonProcessingException);
+
+        var jobApplicationServiceException = assertThrows(JobApplicationServiceException.class, () -> platformStatsService.getLatest());
+        assertEquals("Failed to deserialize platform stats", jobApplicationServiceException.getMessage());
+        assertEquals(jsonProcessingException, jobApplicationServiceException.getCause());
+    }
+}
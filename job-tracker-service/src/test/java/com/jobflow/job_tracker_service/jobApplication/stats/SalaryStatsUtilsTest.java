@@ -0,0 +1,133 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import com.jobflow.job_tracker_service.TestUtil;
+import com.jobflow.job_tracker_service.exchangeRate.ExchangeRates;
+import com.jobflow.job_tracker_service.jobApplication.Currency;
+import com.jobflow.job_tracker_service.jobApplication.JobApplication;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryStatsUtilsTest {
+
+    @Test
+    public void salaryBucket_bothBounds_returnBucketOfMiddle() {
+        JobApplication jobApplication = TestUtil.createJobApplication();
+
+        assertEquals(SalarySketch.bucketOf(200), SalaryStatsUtils.salaryBucket(jobApplication));
+    }
+
+    @Test
+    public void salaryBucket_oneBound_returnBucketOfBound() {
+        JobApplication jobApplication = TestUtil.createJobApplication().toBuilder()
+                .salaryMin(null)
+                .build();
+
+        assertEquals(SalarySketch.bucketOf(300), SalaryStatsUtils.salaryBucket(jobApplication));
+    }
+
+    @Test
+    public void salaryBucket_noSalaryOrZero_returnNull() {
+        JobApplication withoutSalary = TestUtil.createJobApplication().toBuilder()
+                .salaryMin(null)
+                .salaryMax(null)
+                .currency(null)
+                .build();
+        JobApplication zeroSalary = TestUtil.createJobApplication().toBuilder()
+                .salaryMin(0)
+                .salaryMax(0)
+                .build();
+
+        assertNull(SalaryStatsUtils.salaryBucket(withoutSalary));
+        assertNull(SalaryStatsUtils.salaryBucket(zeroSalary));
+    }
+
+    @Test
+    public void quantile_isWithinRelativeAccuracy() {
+        SalarySketch sketch = new SalarySketch();
+        List<Integer> salaries = new ArrayList<>();
+        for (int salary = 1000; salary <= 100_000; salary += 1000) {
+            salaries.add(salary);
+            sketch.addValue(salary, 1L);
+        }
+
+        for (double quantile : new double[]{0.25, 0.5, 0.9}) {
+            int exact = salaries.get((int) Math.floor(quantile * (salaries.size() - 1)));
+            assertEquals(exact, sketch.quantile(quantile), exact * SalarySketch.RELATIVE_ACCURACY + 1);
+        }
+        assertEquals(100, sketch.getCount());
+    }
+
+    @Test
+    public void quantile_emptySketch_returnNull() {
+        assertNull(new SalarySketch().quantile(0.5));
+    }
+
+    @Test
+    public void histogram_splitsRangeIntoEqualBins() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.addValue(100, 3L);
+        sketch.addValue(1000, 1L);
+
+        List<SalaryHistogramBucketDto> histogram = SalaryStatsUtils.histogram(sketch, 10);
+
+        assertEquals(10, histogram.size());
+        assertEquals(3L, histogram.get(0).getCount());
+        assertEquals(1L, histogram.get(9).getCount());
+        assertEquals(4L, histogram.stream().mapToLong(SalaryHistogramBucketDto::getCount).sum());
+    }
+
+    @Test
+    public void histogram_singleValue_returnOneBin() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.addValue(500, 2L);
+
+        List<SalaryHistogramBucketDto> histogram = SalaryStatsUtils.histogram(sketch, 10);
+
+        assertEquals(1, histogram.size());
+        assertEquals(2L, histogram.get(0).getCount());
+    }
+
+    @Test
+    public void buildSalaryStats_normalizesByExchangeRatesAndSkipsUnknownCurrencies() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        ExchangeRates exchangeRates = new ExchangeRates(
+                Currency.USD,
+                Map.of(Currency.USD, BigDecimal.ONE, Currency.RUB, new BigDecimal("0.01")),
+                updatedAt
+        );
+        List<JobApplicationSalarySketch> rows = List.of(
+                new JobApplicationSalarySketch(1L, 1L, Currency.USD, SalarySketch.bucketOf(1000), 1L),
+                new JobApplicationSalarySketch(2L, 1L, Currency.RUB, SalarySketch.bucketOf(100_000), 1L),
+                new JobApplicationSalarySketch(3L, 1L, Currency.OTHER, SalarySketch.bucketOf(5), 4L)
+        );
+
+        JobApplicationSalaryStatsDto result = SalaryStatsUtils.buildSalaryStats(rows, exchangeRates);
+
+        assertEquals(3, result.getByCurrency().size());
+        assertEquals(Currency.OTHER, result.getByCurrency().get(2).getCurrency());
+        assertEquals(4L, result.getByCurrency().get(2).getCount());
+
+        CurrencySalaryStatsDto normalized = result.getNormalized();
+        assertEquals(Currency.USD, normalized.getCurrency());
+        assertEquals(2L, normalized.getCount());
+        assertEquals(1000, normalized.getP50(), 1000 * 2 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(updatedAt, result.getExchangeRatesUpdatedAt());
+    }
+
+    @Test
+    public void buildSalaryStats_noSalaries_returnEmpty() {
+        JobApplicationSalaryStatsDto result = SalaryStatsUtils.buildSalaryStats(
+                List.of(), new ExchangeRates(Currency.USD, Map.of(), null)
+        );
+
+        assertTrue(result.getByCurrency().isEmpty());
+        assertNull(result.getNormalized());
+    }
+}
@@ -15,4 +15,10 @@ class StatsCacheKeyUtilsTest {
         assertNotNull(result);
         assertEquals("jobAppStats:user:" + 1L, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void topItemsKeys_returnCorrectlyKeys() {
+        assertEquals("jobAppStats:user:1:topCompanies", StatsCacheKeyUtils.topCompaniesKey(1L));
+        assertEquals("jobAppStats:user:1:topPositions", StatsCacheKeyUtils.topPositionsKey(1L));
+    }
+}
@@ -0,0 +1,71 @@
+package com.jobflow.job_tracker_service.jobApplication.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsJobLockTest {
+
+    private static final String LOCK_KEY = "stats:job-lock:rebuild";
+    private static final Duration TTL = Duration.ofHours(1L);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Runnable job;
+
+    @InjectMocks
+    private StatsJobLock statsJobLock;
+
+    @BeforeEach
+    public void setup() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    public void runExclusively_lockAcquired_runJobAndRelease() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(TTL))).thenReturn(true);
+
+        assertTrue(statsJobLock.runExclusively("rebuild", TTL, job));
+
+        verify(job, times(1)).run();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+    }
+
+    @Test
+    public void runExclusively_jobFailed_releaseLock() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(TTL))).thenReturn(true);
+        doThrow(new RuntimeException("DB error")).when(job).run();
+
+        assertThrows(RuntimeException.class, () -> statsJobLock.runExclusively("rebuild", TTL, job));
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+    }
+
+    @Test
+    public void runExclusively_lockHeld_skipJob() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(TTL))).thenReturn(false);
+
+        assertFalse(statsJobLock.runExclusively("rebuild", TTL, job));
+
+        verifyNoInteractions(job);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+}
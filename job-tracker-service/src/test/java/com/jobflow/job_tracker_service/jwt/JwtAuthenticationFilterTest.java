@@ -1,5 +1,7 @@
 package com.jobflow.job_tracker_service.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,10 +13,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +38,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
     @InjectMocks
     private JwtAuthenticationFilter authenticationFilter;
 
@@ -67,7 +74,7 @@ class JwtAuthenticationFilterTest {
     @Test
     public void doFilterInternal_userIdIsNull_skipFilter() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
-        when(jwtService.extractUserId("token")).thenReturn(null);
+        when(jwtService.extractClaims("token")).thenReturn(Jwts.claims());
 
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -78,7 +85,7 @@ class JwtAuthenticationFilterTest {
     @Test
     public void doFilterInternal_userAlreadyAuthenticated_skipFilter() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
-        when(jwtService.extractUserId("token")).thenReturn("1");
+        when(jwtService.extractClaims("token")).thenReturn(Jwts.claims().setSubject("1"));
         Authentication authentication = mock(Authentication.class);
         SecurityContext securityContext = mock(SecurityContext.class);
         SecurityContextHolder.setContext(securityContext);
@@ -93,7 +100,7 @@ class JwtAuthenticationFilterTest {
     @Test
     public void doFilterInternal_tokenIsValid_setAuthentication() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
-        when(jwtService.extractUserId("token")).thenReturn("1");
+        when(jwtService.extractClaims("token")).thenReturn(Jwts.claims().setSubject("1"));
 
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -101,4 +108,47 @@ class JwtAuthenticationFilterTest {
         assertEquals(SecurityContextHolder.getContext().getAuthentication().getName(), "1");
         verify(filterChain, times(1)).doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void doFilterInternal_tokenWithRoles_setAuthorities() throws ServletException, IOException {
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put(JwtService.ROLES_CLAIM, List.of("ROLE_ADMIN"));
+        when(jwtService.extractClaims("token")).thenReturn(claims);
+
+        authenticationFilter.doFilterInternal(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals(List.of("ROLE_ADMIN"), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    public void doFilterInternal_olderTokenVersion_skipAuthentication() throws ServletException, IOException {
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put(JwtService.TOKEN_VERSION_CLAIM, 1);
+        when(jwtService.extractClaims("token")).thenReturn(claims);
+        when(tokenVersionCache.getVersion("1")).thenReturn(2L);
+
+        authenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    public void doFilterInternal_currentTokenVersion_setAuthentication() throws ServletException, IOException {
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + "token");
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put(JwtService.TOKEN_VERSION_CLAIM, 2);
+        when(jwtService.extractClaims("token")).thenReturn(claims);
+        when(tokenVersionCache.getVersion("1")).thenReturn(2L);
+
+        authenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+}
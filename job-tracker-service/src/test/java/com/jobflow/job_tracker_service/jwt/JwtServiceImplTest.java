@@ -4,15 +4,19 @@ import com.jobflow.job_tracker_service.TestUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.Key;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceImplTest {
@@ -20,13 +24,17 @@ class JwtServiceImplTest {
     private static final String SECRET_KEY = "d1V6OXhGSnR2TFlFN01mdVhnaHFrZTBSakh6QWRCWVE";
     private static final String USER_ID = "1";
 
-    private JwtServiceImpl jwtService;
+    private MeterRegistry meterRegistry;
 
+    private JwtServiceImpl jwtService;
 
     @BeforeEach
     public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
         jwtService = new JwtServiceImpl(
-                SECRET_KEY
+                SECRET_KEY,
+                new VerifiedTokenCache(100, meterRegistry),
+                meterRegistry
         );
     }
 
@@ -39,6 +47,28 @@ class JwtServiceImplTest {
         assertEquals(USER_ID, claims.getSubject());
     }
 
+    @Test
+    public void extractClaims_repeatedToken_returnCachedClaimsWithoutVerification() {
+        String token = generateToken(USER_ID, new Date(System.currentTimeMillis() + 300_000));
+
+        Claims first = jwtService.extractClaims(token);
+        Claims second = jwtService.extractClaims(token);
+
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.get("jwt.token.verification").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.token.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    public void extractClaims_tokenWithoutExpiration_verifyEveryTime() {
+        String token = generateToken(USER_ID);
+
+        jwtService.extractClaims(token);
+        jwtService.extractClaims(token);
+
+        assertEquals(2, meterRegistry.get("jwt.token.verification").timer().count());
+    }
+
     @Test
     public void extractUserId_returnExtractedUserId() {
         String token = generateToken(USER_ID);
@@ -56,8 +86,13 @@ class JwtServiceImplTest {
     }
 
     private String generateToken(String userId) {
+        return generateToken(userId, null);
+    }
+
+    private String generateToken(String userId, Date expiration) {
         return Jwts.builder()
                 .setSubject(userId)
+                .setExpiration(expiration)
                 .signWith(SignatureAlgorithm.HS256,  jwtService.getSecretKey())
                 .compact();
     }
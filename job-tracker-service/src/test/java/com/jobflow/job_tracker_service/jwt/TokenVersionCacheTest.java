@@ -0,0 +1,78 @@
+package com.jobflow.job_tracker_service.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionCacheTest {
+
+    private static final String USER_ID = "1";
+    private static final String TOKEN_VERSION_KEY = "token_version:" + USER_ID;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenVersionCache tokenVersionCache;
+
+    @BeforeEach
+    public void setup() {
+        tokenVersionCache = new TokenVersionCache(redisTemplate, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    public void getVersion_repeatedCall_readRedisOnce() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(TOKEN_VERSION_KEY)).thenReturn("2");
+
+        assertEquals(2L, tokenVersionCache.getVersion(USER_ID));
+        assertEquals(2L, tokenVersionCache.getVersion(USER_ID));
+
+        verify(valueOperations, times(1)).get(TOKEN_VERSION_KEY);
+    }
+
+    @Test
+    public void getVersion_noKey_returnZero() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(TOKEN_VERSION_KEY)).thenReturn(null);
+
+        assertEquals(0L, tokenVersionCache.getVersion(USER_ID));
+    }
+
+    @Test
+    public void getVersion_redisFailed_returnZero() {
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Connection refused"));
+
+        assertEquals(0L, tokenVersionCache.getVersion(USER_ID));
+    }
+
+    @Test
+    public void update_newerVersion_replaceCached() {
+        tokenVersionCache.update(USER_ID, 1L);
+        tokenVersionCache.update(USER_ID, 3L);
+
+        assertEquals(3L, tokenVersionCache.getVersion(USER_ID));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    public void update_olderVersion_keepNewer() {
+        tokenVersionCache.update(USER_ID, 5L);
+        tokenVersionCache.update(USER_ID, 3L);
+
+        assertEquals(5L, tokenVersionCache.getVersion(USER_ID));
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobflow.job_tracker_service.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private MeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(2, meterRegistry);
+    }
+
+    @Test
+    public void get_cachedToken_returnClaimsAndCountHit() {
+        Claims claims = claims(System.currentTimeMillis() + 60_000);
+        verifiedTokenCache.put(TOKEN, claims);
+
+        assertSame(claims, verifiedTokenCache.get(TOKEN));
+        assertEquals(1, meterRegistry.get("jwt.token.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("jwt.token.cache.size").gauge().value());
+    }
+
+    @Test
+    public void get_unknownToken_returnNullAndCountMiss() {
+        assertNull(verifiedTokenCache.get(TOKEN));
+        assertEquals(1, meterRegistry.get("jwt.token.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    public void put_tokenWithoutExpiration_doNotCache() {
+        verifiedTokenCache.put(TOKEN, Jwts.claims().setSubject("1"));
+
+        assertNull(verifiedTokenCache.get(TOKEN));
+    }
+
+    @Test
+    public void put_expiredToken_doNotCache() {
+        verifiedTokenCache.put(TOKEN, claims(System.currentTimeMillis() - 1));
+
+        assertNull(verifiedTokenCache.get(TOKEN));
+    }
+
+    @Test
+    public void put_cacheIsFull_doNotCache() {
+        long expiration = System.currentTimeMillis() + 60_000;
+        verifiedTokenCache.put("first", claims(expiration));
+        verifiedTokenCache.put("second", claims(expiration));
+        verifiedTokenCache.put(TOKEN, claims(expiration));
+
+        assertNull(verifiedTokenCache.get(TOKEN));
+        assertEquals(2, meterRegistry.get("jwt.token.cache.size").gauge().value());
+    }
+
+    private Claims claims(long expiration) {
+        return Jwts.claims()
+                .setSubject("1")
+                .setExpiration(new Date(expiration));
+    }
+}
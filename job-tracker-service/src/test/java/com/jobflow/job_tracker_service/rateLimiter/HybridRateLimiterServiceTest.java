@@ -0,0 +1,153 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimiterServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisRateLimiterService redisRateLimiterService;
+
+    @Mock
+    private HybridRateLimiterProperties properties;
+
+    @InjectMocks
+    private HybridRateLimiterService rateLimiterService;
+
+    @BeforeEach
+    public void setup() {
+        lenient().when(properties.getMaxKeys()).thenReturn(100);
+        lenient().when(properties.getBypassRetryInterval()).thenReturn(Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void validateOrThrow_ifLimitNotExceeded_doesNotCallRedis() {
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> rateLimiterService.validateOrThrow("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "test-message"));
+        }
+
+        verifyNoInteractions(redisTemplate, redisRateLimiterService);
+    }
+
+    @Test
+    public void validateOrThrow_ifLocalLimitExceeded_throwExc() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiterService.validateOrThrow("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "test-message");
+        }
+
+        var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET, "test-message"));
+        assertEquals("test-message", tooManyRequestsException.getMessage());
+    }
+
+    @Test
+    public void isLimitExceeded_otherAlgorithm_delegatesToRedis() {
+        when(redisRateLimiterService.check("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG)).thenReturn(RateLimitResult.exceeded(3, Duration.ofSeconds(1)));
+
+        assertTrue(rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG));
+    }
+
+    @Test
+    public void isLimitExceeded_ifMapIsFull_delegatesToRedis() {
+        when(properties.getMaxKeys()).thenReturn(1);
+        rateLimiterService.isLimitExceeded("first-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisRateLimiterService.check("second-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.TOKEN_BUCKET)).thenReturn(RateLimitResult.exceeded(3, Duration.ofSeconds(1)));
+
+        assertTrue(rateLimiterService.isLimitExceeded("second-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET));
+    }
+
+    @Test
+    public void sync_ifGlobalLimitReached_blocksKeyLocally() {
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(3L, true));
+
+        rateLimiterService.sync();
+
+        RateLimitResult result = rateLimiterService.check("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        assertTrue(result.isExceeded());
+        assertTrue(result.getRetryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(result.getRetryAfter().compareTo(Duration.ofMinutes(1)) <= 0);
+    }
+
+    @Test
+    public void check_returnRemainingTokens() {
+        assertEquals(2L, rateLimiterService.check("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET).getRemaining());
+        assertEquals(1L, rateLimiterService.check("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET).getRemaining());
+    }
+
+    @Test
+    public void sync_ifGlobalLimitNotReached_keepsKeyOpen() {
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(1L, true));
+
+        rateLimiterService.sync();
+
+        assertFalse(rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET));
+    }
+
+    @Test
+    public void sync_withoutPendingHits_doesNotCallRedis() {
+        rateLimiterService.sync();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    public void sync_ifRedisUnavailable_switchesToLocalOnly() {
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertDoesNotThrow(() -> rateLimiterService.sync());
+
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        rateLimiterService.sync();
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+
+        assertFalse(rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET));
+        assertTrue(rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET));
+    }
+
+    @Test
+    public void sync_whileBypassed_dropPendingHits() {
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        rateLimiterService.sync();
+
+        rateLimiterService.isLimitExceeded("test-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        rateLimiterService.sync();
+        ReflectionTestUtils.setField(rateLimiterService, "bypassUntil", 0L);
+        rateLimiterService.sync();
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    public void isLimitExceeded_ifMapIsFullAndRedisUnavailable_returnFalse() {
+        when(properties.getMaxKeys()).thenReturn(1);
+        rateLimiterService.isLimitExceeded("first-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RedisConnectionFailureException("Connection refused"));
+        rateLimiterService.sync();
+
+        assertFalse(rateLimiterService.isLimitExceeded("second-key", 3, Duration.ofMinutes(1), RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET));
+        verifyNoInteractions(redisRateLimiterService);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalTokenBucketTest {
+
+    @Test
+    public void tryAcquire_ifTokensLeft_returnTrue() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+
+        for (int i = 2; i >= 0; i--) {
+            RateLimitResult result = bucket.tryAcquire(0);
+            assertFalse(result.isExceeded());
+            assertEquals(i, result.getRemaining());
+        }
+        assertTrue(bucket.tryAcquire(0).isExceeded());
+        assertEquals(3, bucket.drainPending());
+        assertEquals(0, bucket.drainPending());
+    }
+
+    @Test
+    public void tryAcquire_refillsTokensOverTime() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        RateLimitResult result = bucket.tryAcquire(10_000);
+        assertTrue(result.isExceeded());
+        assertEquals(Duration.ofSeconds(10), result.getRetryAfter());
+
+        assertTrue(bucket.tryAcquire(19_999).isExceeded());
+        assertFalse(bucket.tryAcquire(20_000).isExceeded());
+        assertTrue(bucket.tryAcquire(20_000).isExceeded());
+    }
+
+    @Test
+    public void tryAcquire_ifBlocked_returnFalse() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+        bucket.blockUntil(60_000);
+
+        RateLimitResult result = bucket.tryAcquire(59_000);
+        assertTrue(result.isExceeded());
+        assertEquals(Duration.ofSeconds(1), result.getRetryAfter());
+        assertFalse(bucket.tryAcquire(60_000).isExceeded());
+    }
+
+    @Test
+    public void isIdle_afterWholeWindowWithoutHits_returnTrue() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+        bucket.tryAcquire(0);
+
+        assertFalse(bucket.isIdle(60_001));
+
+        bucket.drainPending();
+        assertFalse(bucket.isIdle(60_000));
+        assertTrue(bucket.isIdle(60_001));
+    }
+
+    @Test
+    public void retireIfIdle_idleBucket_rejectsFurtherHits() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+
+        assertFalse(bucket.retireIfIdle(60_000));
+        assertTrue(bucket.retireIfIdle(60_001));
+
+        assertNull(bucket.tryAcquire(60_002));
+        assertEquals(0, bucket.drainPending());
+        assertFalse(bucket.retireIfIdle(120_003));
+    }
+
+    @Test
+    public void retireIfIdle_unsyncedHits_keepsBucket() {
+        LocalTokenBucket bucket = new LocalTokenBucket(3, 60_000, 0);
+        bucket.tryAcquire(0);
+
+        assertFalse(bucket.retireIfIdle(60_001));
+        assertNotNull(bucket.tryAcquire(60_002));
+    }
+}
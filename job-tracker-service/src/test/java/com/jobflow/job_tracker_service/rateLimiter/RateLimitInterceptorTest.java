@@ -0,0 +1,136 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
+import com.jobflow.job_tracker_service.jobApplication.JobApplicationRateLimiterAction;
+import com.jobflow.job_tracker_service.user.UserService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitInterceptorTest {
+
+    @Mock
+    private RateLimiterValidator rateLimiterValidator;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @InjectMocks
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    public void preHandle_ifLimitNotExceeded_setHeadersAndReturnTrue() throws Exception {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.CREATE, "1")).thenReturn(RateLimitResult.allowed(5, 4));
+
+        assertTrue(rateLimitInterceptor.preHandle(request, response, handlerMethod("limited")));
+
+        assertEquals("5", response.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("4", response.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    public void preHandle_ifLimitExceeded_setRetryAfterAndThrowExc() throws Exception {
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.CREATE, "1")).thenReturn(RateLimitResult.exceeded(5, Duration.ofMillis(1200)));
+        HandlerMethod handlerMethod = handlerMethod("limited");
+
+        var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimitInterceptor.preHandle(request, response, handlerMethod));
+        assertEquals(JobApplicationRateLimiterAction.CREATE.getMessage(), tooManyRequestsException.getMessage());
+
+        assertEquals("5", response.getHeader(RateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("0", response.getHeader(RateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    public void preHandle_withoutAnnotation_returnTrue() throws Exception {
+        assertTrue(rateLimitInterceptor.preHandle(request, response, handlerMethod("notLimited")));
+        assertTrue(rateLimitInterceptor.preHandle(request, response, new Object()));
+
+        verifyNoInteractions(rateLimiterValidator, userService);
+    }
+
+    @Test
+    public void preHandle_unknownAction_throwExc() throws Exception {
+        HandlerMethod handlerMethod = handlerMethod("unknownAction");
+
+        assertThrows(IllegalStateException.class, () -> rateLimitInterceptor.preHandle(request, response, handlerMethod));
+        verifyNoInteractions(rateLimiterValidator);
+    }
+
+    @Test
+    public void afterSingletonsInstantiated_unknownAction_throwExc() throws Exception {
+        mockHandlerMethods(handlerMethod("limited"), handlerMethod("unknownAction"));
+
+        var illegalStateException = assertThrows(IllegalStateException.class, () -> rateLimitInterceptor.afterSingletonsInstantiated());
+        assertEquals("Unknown rate limiter action: JobApplicationRateLimiterAction.UNKNOWN", illegalStateException.getMessage());
+    }
+
+    @Test
+    public void afterSingletonsInstantiated_validActions_resolveOnStartup() throws Exception {
+        mockHandlerMethods(handlerMethod("limited"), handlerMethod("notLimited"));
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(rateLimiterValidator.check(JobApplicationRateLimiterAction.CREATE, "1")).thenReturn(RateLimitResult.allowed(5, 4));
+
+        assertDoesNotThrow(() -> rateLimitInterceptor.afterSingletonsInstantiated());
+
+        assertTrue(rateLimitInterceptor.preHandle(request, response, handlerMethod("limited")));
+    }
+
+    private void mockHandlerMethods(HandlerMethod... handlerMethods) {
+        Map<RequestMappingInfo, HandlerMethod> mappings = new LinkedHashMap<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            mappings.put(RequestMappingInfo.paths("/" + handlerMethod.getMethod().getName()).build(), handlerMethod);
+        }
+        when(applicationContext.getBeansOfType(RequestMappingHandlerMapping.class)).thenReturn(Map.of("requestMappingHandlerMapping", handlerMapping));
+        when(handlerMapping.getHandlerMethods()).thenReturn(mappings);
+    }
+
+    private HandlerMethod handlerMethod(String name) throws NoSuchMethodException {
+        TestController controller = new TestController();
+        return new HandlerMethod(controller, TestController.class.getMethod(name));
+    }
+
+    static class TestController {
+
+        @RateLimited(type = JobApplicationRateLimiterAction.class, action = "CREATE")
+        public void limited() {
+        }
+
+        public void notLimited() {
+        }
+
+        @RateLimited(type = JobApplicationRateLimiterAction.class, action = "UNKNOWN")
+        public void unknownAction() {
+        }
+    }
+}
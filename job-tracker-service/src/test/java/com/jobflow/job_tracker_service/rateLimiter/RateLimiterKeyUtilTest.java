@@ -14,6 +14,13 @@ class RateLimiterKeyUtilTest {
         String result = RateLimiterKeyUtil.generateKey("create", "1");
 
         assertNotNull(result);
-        assertEquals("rate_limiter:create:1", result);
+        assertEquals("create:1", result);
+    }
+
+    @Test
+    public void scriptKey_prefixKeyWithAlgorithm() {
+        String result = RateLimiterKeyUtil.scriptKey(RateLimiterAlgorithm.SLIDING_LOG, "create:1");
+
+        assertEquals("rate_limiter:sliding_log:create:1", result);
     }
 }
\ No newline at end of file
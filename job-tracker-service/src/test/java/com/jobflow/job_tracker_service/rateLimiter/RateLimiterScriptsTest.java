@@ -0,0 +1,49 @@
+package com.jobflow.job_tracker_service.rateLimiter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterScriptsTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    public void getScript_returnsScriptForEveryRedisAlgorithm() {
+        RateLimiterScripts rateLimiterScripts = new RateLimiterScripts(redisTemplate);
+
+        for (RateLimiterAlgorithm algorithm : RateLimiterAlgorithm.values()) {
+            if (algorithm == RateLimiterAlgorithm.HYBRID_TOKEN_BUCKET) {
+                assertNull(rateLimiterScripts.getScript(algorithm));
+                continue;
+            }
+
+            RedisScript<List> script = rateLimiterScripts.getScript(algorithm);
+
+            assertNotNull(script);
+            assertEquals(List.class, script.getResultType());
+            assertEquals(40, script.getSha1().length());
+            assertFalse(script.getScriptAsString().isBlank());
+        }
+    }
+
+    @Test
+    public void load_ifRedisUnavailable_doesNotThrowExc() {
+        RateLimiterScripts rateLimiterScripts = new RateLimiterScripts(redisTemplate);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new RuntimeException("Connection refused"));
+
+        assertDoesNotThrow(rateLimiterScripts::load);
+    }
+}
@@ -29,6 +29,7 @@ class RateLimiterValidatorTest {
         when(rateLimiterAction.getAction()).thenReturn("test-action");
         when(rateLimiterAction.getLimit()).thenReturn(5);
         when(rateLimiterAction.getTimeout()).thenReturn(Duration.ofMinutes(1L));
+        when(rateLimiterAction.getAlgorithm()).thenReturn(RateLimiterAlgorithm.SLIDING_LOG);
         when(rateLimiterAction.getMessage()).thenReturn("test-message");
 
         rateLimiterValidator.validate(rateLimiterAction, "test-identifier");
@@ -37,7 +38,25 @@ class RateLimiterValidatorTest {
                 RateLimiterKeyUtil.generateKey("test-action", "test-identifier"),
                 5,
                 Duration.ofMinutes(1),
+                RateLimiterAlgorithm.SLIDING_LOG,
                 "test-message"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void check_returnResultOfRateLimiter() {
+        RateLimitResult result = RateLimitResult.allowed(5, 4);
+        when(rateLimiterAction.getAction()).thenReturn("test-action");
+        when(rateLimiterAction.getLimit()).thenReturn(5);
+        when(rateLimiterAction.getTimeout()).thenReturn(Duration.ofMinutes(1L));
+        when(rateLimiterAction.getAlgorithm()).thenReturn(RateLimiterAlgorithm.SLIDING_LOG);
+        when(rateLimiterService.check(
+                RateLimiterKeyUtil.generateKey("test-action", "test-identifier"),
+                5,
+                Duration.ofMinutes(1),
+                RateLimiterAlgorithm.SLIDING_LOG
+        )).thenReturn(result);
+
+        assertSame(result, rateLimiterValidator.check(rateLimiterAction, "test-identifier"));
+    }
+}
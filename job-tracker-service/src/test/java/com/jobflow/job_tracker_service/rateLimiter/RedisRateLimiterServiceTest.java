@@ -1,20 +1,19 @@
 package com.jobflow.job_tracker_service.rateLimiter;
 
 import com.jobflow.job_tracker_service.exception.TooManyRequestsException;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class RedisRateLimiterServiceTest {
@@ -23,32 +22,58 @@ class RedisRateLimiterServiceTest {
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RateLimiterScripts rateLimiterScripts;
+
+    @Mock
+    private RedisScript<List> script;
 
     @InjectMocks
     private RedisRateLimiterService rateLimiterService;
 
-    @BeforeEach
-    public void setup() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-
     @Test
     public void validateOrThrow_ifLimitNotExceeded_doesNotThrowExc() {
-        when(valueOperations.increment("test-key")).thenReturn(1L);
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.FIXED_WINDOW)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000")).thenReturn(List.of(0L, 4L, 0L));
 
         assertDoesNotThrow(() -> rateLimiterService.validateOrThrow("test-key", 5, Duration.ofMinutes(1), "test-message"));
 
-        verify(redisTemplate, times(1)).expire("test-key", Duration.ofMinutes(1));
+        verify(redisTemplate, times(1)).execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000");
     }
 
     @Test
     public void validateOrThrow_ifLimitExceeded_throwExc() {
-        when(valueOperations.increment("test-key")).thenReturn(6L);
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.FIXED_WINDOW)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000")).thenReturn(List.of(1L, 0L, 1500L));
 
         var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", 5, Duration.ofMinutes(1), "test-message"));
         assertEquals("test-message", tooManyRequestsException.getMessage());
+    }
+
+    @Test
+    public void validateOrThrow_usesScriptOfGivenAlgorithm() {
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.TOKEN_BUCKET)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:token_bucket:test-key"), "10", "1000")).thenReturn(List.of(1L, 0L, 100L));
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", 10, Duration.ofSeconds(1), RateLimiterAlgorithm.TOKEN_BUCKET, "test-message"));
+
+        verify(rateLimiterScripts, never()).getScript(RateLimiterAlgorithm.FIXED_WINDOW);
+    }
+
+    @Test
+    public void check_returnRemainingAndRetryAfterFromScript() {
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.SLIDING_LOG)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:sliding_log:allowed-key"), "5", "60000")).thenReturn(List.of(0L, 3L, 0L));
+        when(redisTemplate.execute(script, List.of("rate_limiter:sliding_log:exceeded-key"), "5", "60000")).thenReturn(List.of(1L, 0L, 1500L));
+
+        RateLimitResult allowed = rateLimiterService.check("allowed-key", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG);
+        assertFalse(allowed.isExceeded());
+        assertEquals(5, allowed.getLimit());
+        assertEquals(3L, allowed.getRemaining());
+        assertEquals(Duration.ZERO, allowed.getRetryAfter());
 
-        verify(redisTemplate, never()).expire("test-key", Duration.ofMinutes(1));
+        RateLimitResult exceeded = rateLimiterService.check("exceeded-key", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG);
+        assertTrue(exceeded.isExceeded());
+        assertEquals(0L, exceeded.getRemaining());
+        assertEquals(Duration.ofMillis(1500), exceeded.getRetryAfter());
     }
-}
\ No newline at end of file
+}
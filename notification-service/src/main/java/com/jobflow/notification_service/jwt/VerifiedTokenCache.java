@@ -0,0 +1,71 @@
+package com.jobflow.notification_service.jwt;
+
+import com.jobflow.notification_service.cache.ExpiringCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Claims of already verified tokens, keyed by the SHA-256 of the token so raw tokens are not kept in memory.
+ * An entry lives until the token's "exp"; tokens without it are not cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private final ExpiringCache<String, Claims> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.max-size}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.entries = new ExpiringCache<>(maxSize);
+        this.hits = Counter.builder("jwt.token.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.token.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", entries, ExpiringCache::size).register(meterRegistry);
+    }
+
+    public Claims get(String token) {
+        Claims claims = entries.get(hash(token));
+        if (claims == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return claims;
+    }
+
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        long now = System.currentTimeMillis();
+        if (expiration == null || expiration.getTime() <= now) {
+            return;
+        }
+
+        if (!entries.put(hash(token), claims, expiration.getTime())) {
+            LOGGER.debug("Verified token cache is full, token of userId: {} is not cached", claims.getSubject());
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.jobflow.notification_service.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.Key;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,11 +22,14 @@ class JwtServiceImplTest {
     private static final String SECRET_KEY = "d1V6OXhGSnR2TFlFN01mdVhnaHFrZTBSakh6QWRCWVE";
     private static final String USER_ID = "1";
 
+    private MeterRegistry meterRegistry;
+
     private JwtServiceImpl jwtService;
 
     @BeforeEach
     public void setup() {
-        jwtService = new JwtServiceImpl(SECRET_KEY);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtServiceImpl(SECRET_KEY, new VerifiedTokenCache(100, meterRegistry), meterRegistry);
     }
 
     @Test
@@ -35,6 +41,28 @@ class JwtServiceImplTest {
         assertEquals(USER_ID, claims.getSubject());
     }
 
+    @Test
+    public void extractClaims_repeatedToken_returnCachedClaimsWithoutVerification() {
+        String token = generateToken(USER_ID, new Date(System.currentTimeMillis() + 300_000));
+
+        Claims first = jwtService.extractClaims(token);
+        Claims second = jwtService.extractClaims(token);
+
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.get("jwt.token.verification").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.token.cache.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    public void extractClaims_tokenWithoutExpiration_verifyEveryTime() {
+        String token = generateToken(USER_ID);
+
+        jwtService.extractClaims(token);
+        jwtService.extractClaims(token);
+
+        assertEquals(2, meterRegistry.get("jwt.token.verification").timer().count());
+    }
+
     @Test
     public void extractUserId_returnExtractedUserId() {
         String token = generateToken(USER_ID);
@@ -52,8 +80,13 @@ class JwtServiceImplTest {
     }
 
     private String generateToken(String userId) {
+        return generateToken(userId, null);
+    }
+
+    private String generateToken(String userId, Date expiration) {
         return Jwts.builder()
                 .setSubject(userId)
+                .setExpiration(expiration)
                 .signWith(SignatureAlgorithm.HS256,  jwtService.getSecretKey())
                 .compact();
     }
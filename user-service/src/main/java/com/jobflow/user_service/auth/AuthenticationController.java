@@ -102,6 +102,31 @@ public class AuthenticationController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(
+            summary = "Logout from all devices",
+            description = "Revokes all access and refresh tokens of the current user",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Logout successful",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = Void.class))),
+
+                    @ApiResponse(responseCode = "429", description = "Too many requests",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class))),
+
+                    @ApiResponse(responseCode = "401", description = "Authentication exception",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll() {
+        LOGGER.info("[POST] Logout from all devices request received");
+
+        authenticationService.logoutAll();
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(
             summary = "Refresh token",
             description = "Refreshes token and returns a new access token",
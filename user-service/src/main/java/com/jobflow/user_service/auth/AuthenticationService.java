@@ -6,5 +6,7 @@ public interface AuthenticationService {
 
     void logout(LogoutRequest logoutRequest);
 
+    void logoutAll();
+
     String refreshToken(RefreshTokenRequest refreshTokenRequest);
 }
@@ -4,16 +4,20 @@ import com.jobflow.user_service.exception.TokenRevokedException;
 import com.jobflow.user_service.exception.TooManyRequestsException;
 import com.jobflow.user_service.exception.UserNotFoundException;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.rateLimiter.LimitSpec;
+import com.jobflow.user_service.rateLimiter.RateLimiterAlgorithm;
 import com.jobflow.user_service.rateLimiter.RateLimiterKeyUtil;
 import com.jobflow.user_service.rateLimiter.RateLimiterService;
+import com.jobflow.user_service.tokenBlacklist.TokenBlacklistService;
+import com.jobflow.user_service.tokenVersion.TokenVersionService;
 import com.jobflow.user_service.user.User;
+import com.jobflow.user_service.user.UserPrincipal;
 import com.jobflow.user_service.user.UserRepository;
 import com.jobflow.user_service.user.UserService;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -22,13 +26,12 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
 
-    private static final String BLACKLIST_KEY = "blacklist:refresh:%s";
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationServiceImpl.class);
 
     private final AuthenticationManager authenticationManager;
@@ -36,7 +39,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final UserService userService;
     private final UserRepository userRepository;
     private final RateLimiterService rateLimiterService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final TokenVersionService tokenVersionService;
 
     @Override
     public AuthenticationResponse auth(AuthenticationRequest authenticationRequest, String clientIp) {
@@ -44,16 +48,37 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         authenticationRequest.setLogin(authenticationRequest.getLogin().toLowerCase());
 
+        String loginHash = RateLimiterKeyUtil.hashLogin(authenticationRequest.getLogin());
+
+        // Checked before any DB access, so spraying random logins from one IP or one login from many IPs is throttled
+        // whether or not the logins exist
+        rateLimiterService.validateAll(List.of(
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateIpKey("auth", clientIp),
+                        30,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many login attempts from this IP. Try again in a minute"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateIpKey("auth", loginHash, clientIp),
+                        5,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_LOG,
+                        "Too many login attempts. Try again in a minute"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateKey("auth", loginHash),
+                        20,
+                        Duration.ofMinutes(15),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many login attempts for this account. Try again later"
+                )
+        ));
+
         User userFromDb = userRepository.findByLogin(authenticationRequest.getLogin())
                 .orElseThrow(() -> new UserNotFoundException("User with login: " + authenticationRequest.getLogin() + " not found"));
 
-        rateLimiterService.validateOrThrow(
-                RateLimiterKeyUtil.generateIpKey("auth", authenticationRequest.getLogin(), clientIp),
-                5,
-                Duration.ofMinutes(1),
-                "Too many login attempts. Try again in a minute"
-        );
-
         Authentication authenticate = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
                 userFromDb.getId(),
                 authenticationRequest.getPassword()
@@ -70,7 +95,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     @Override
     public void logout(LogoutRequest logoutRequest) {
-        User currentUser = userService.getCurrentUser();
+        UserPrincipal currentUser = userService.getCurrentUser();
         LOGGER.debug("Starting logout process for user: {}", currentUser.displayInfo());
 
         String refreshToken = logoutRequest.getRefreshToken();
@@ -90,8 +115,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         long ttl = calculateTtl(expiration);
         if (ttl > 0) {
-            String key = String.format(BLACKLIST_KEY, tokenId);
-            redisTemplate.opsForValue().set(key, "true", ttl, TimeUnit.SECONDS);
+            tokenBlacklistService.revoke(tokenId, ttl);
 
             LOGGER.debug("Successfully revoked refresh token with jti: {} (TTL: {} seconds) for user: {}", tokenId, ttl, currentUser.displayInfo());
         } else {
@@ -99,6 +123,22 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         }
     }
 
+    @Override
+    public void logoutAll() {
+        UserPrincipal currentUser = userService.getCurrentUser();
+        LOGGER.debug("Starting logout from all devices for user: {}", currentUser.displayInfo());
+
+        rateLimiterService.validateOrThrow(
+                RateLimiterKeyUtil.generateKey("logout-all", String.valueOf(currentUser.getId())),
+                5,
+                Duration.ofMinutes(1),
+                "Too many logout attempts. Try again in a minute"
+        );
+
+        long version = tokenVersionService.increment(currentUser.getId());
+        LOGGER.debug("Successfully revoked all tokens of user: {}, token version: {}", currentUser.displayInfo(), version);
+    }
+
     @Override
     public String refreshToken(RefreshTokenRequest refreshTokenRequest) {
         LOGGER.debug("Starting refresh token process");
@@ -106,8 +146,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         String refreshToken = refreshTokenRequest.getRefreshToken();
         Claims claims = jwtService.extractClaims(refreshToken);
 
-        String tokenId = claims.getId();
-        validateIsTokenRevoked(tokenId);
+        validateIsTokenRevoked(claims);
 
         String userId = claims.getSubject();
 
@@ -125,11 +164,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         return jwtService.generateAccessToken(user);
     }
 
-    private void validateIsTokenRevoked(String tokenId) {
-        String key = String.format(BLACKLIST_KEY, tokenId);
-        Boolean isRevoked = redisTemplate.hasKey(key);
-
-        if (Boolean.TRUE.equals(isRevoked)) {
+    private void validateIsTokenRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        if (tokenBlacklistService.isRevoked(tokenId) || jwtService.isRevoked(claims)) {
             throw new TokenRevokedException("Token with id: " + tokenId + " revoked");
         }
     }
@@ -0,0 +1,28 @@
+package com.jobflow.user_service.avatar;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AvatarConfig {
+
+    public static final String AVATAR_EXECUTOR = "avatarExecutor";
+
+    @Bean(name = AVATAR_EXECUTOR)
+    public Executor avatarExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("avatar-");
+        // A dropped thumbnail is not an error: the original is served until it exists
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+}
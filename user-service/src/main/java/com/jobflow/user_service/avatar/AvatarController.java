@@ -0,0 +1,100 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.handler.ResponseError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/api/v1/avatars")
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AvatarController.class);
+
+    // Tomcat request attributes for sendfile: the connector copies the file to the socket itself
+    static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private final AvatarService avatarService;
+    private final AvatarProperties avatarProperties;
+
+    @Operation(
+            summary = "Get avatar",
+            description = "Streams the avatar image. Avatars are immutable, so responses are cacheable and " +
+                          "revalidated with ETag / If-None-Match. The original served in place of a thumbnail " +
+                          "that is not generated yet is sent with no-cache",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Avatar image"),
+
+                    @ApiResponse(responseCode = "304", description = "Avatar has not changed"),
+
+                    @ApiResponse(responseCode = "404", description = "Avatar not found",
+                            content = @Content(mediaType = "application/json", schema =
+                            @Schema(implementation = ResponseError.class)))
+            }
+    )
+    @GetMapping("/{avatarId}")
+    public void getAvatar(
+            @PathVariable("avatarId") @Parameter(description = "Avatar ID", required = true) String avatarId,
+            @RequestParam(value = "size", defaultValue = "ORIGINAL") @Parameter(description = "Avatar size") AvatarSize size,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        LOGGER.info("[GET] Request for get avatar: {}, size: {}", avatarId, size);
+
+        AvatarFile avatar = avatarService.getAvatar(avatarId, size);
+
+        response.setHeader(HttpHeaders.ETAG, avatar.getEtag());
+        // A stand-in must be revalidated, otherwise clients keep it after the real file appears
+        CacheControl cacheControl = avatar.isImmutable()
+                ? CacheControl.maxAge(avatarProperties.getCacheMaxAge()).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+
+        if (avatar.getEtag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(avatar.getContentType().toString());
+        response.setContentLengthLong(avatar.getLength());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, avatar.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, avatar.getLength());
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(avatar.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < avatar.getLength()) {
+                long transferred = file.transferTo(position, avatar.getLength() - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
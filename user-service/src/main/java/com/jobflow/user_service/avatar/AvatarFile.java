@@ -0,0 +1,20 @@
+package com.jobflow.user_service.avatar;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+@Getter
+@AllArgsConstructor
+public class AvatarFile {
+
+    private final Path path;
+    private final MediaType contentType;
+    private final long length;
+    private final String etag;
+
+    // False for a stand-in that is replaced later, e.g. the original served until its thumbnail exists
+    private final boolean immutable;
+}
@@ -0,0 +1,23 @@
+package com.jobflow.user_service.avatar;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "avatar")
+@Getter
+@Setter
+public class AvatarProperties {
+
+    private String storageDir;
+
+    private int thumbnailSize;
+
+    private Duration cacheMaxAge;
+
+    private Duration stagingTtl;
+}
@@ -0,0 +1,26 @@
+package com.jobflow.user_service.avatar;
+
+import java.io.InputStream;
+
+public interface AvatarService {
+
+    /**
+     * Stores the avatar and returns its id, or null when there is no content.
+     * The id is derived from the content, so storing the same image twice returns the same id.
+     */
+    String store(byte[] content);
+
+    /**
+     * Writes a pending avatar to the staging area and returns a token referencing it, or null when there is
+     * no content. Staged avatars that are not committed are removed after {@code avatar.staging-ttl}.
+     */
+    String stage(InputStream content);
+
+    /**
+     * Moves a staged avatar into the store and returns its id, or null if the token is null or the staged
+     * avatar no longer exists.
+     */
+    String commitStaged(String token);
+
+    AvatarFile getAvatar(String avatarId, AvatarSize size);
+}
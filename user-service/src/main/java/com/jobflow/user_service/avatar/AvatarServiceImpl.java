@@ -0,0 +1,287 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.exception.AvatarNotFoundException;
+import com.jobflow.user_service.exception.FileServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed avatar store on the local filesystem.
+ * <p>
+ * An avatar id is the SHA-256 of the image plus its format extension, e.g. {@code 3fa1...e2.png}, and the file
+ * lives in {@code <storage-dir>/<first two hex chars>/<id>}. Files are never modified once written, which makes
+ * the id a strong ETag. Thumbnails are generated in the background as PNG next to the original.
+ * <p>
+ * Avatars of pending registrations are staged under {@code <storage-dir>/staging/<token>} and moved into the
+ * store when the registration is confirmed; abandoned ones are removed by {@link #cleanUpStaging()}.
+ * <p>
+ * The storage dir must be shared by all instances: a staged avatar is committed by whichever instance confirms
+ * the registration, and any instance serves any avatar.
+ */
+@Service
+public class AvatarServiceImpl implements AvatarService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AvatarServiceImpl.class);
+
+    private static final Pattern AVATAR_ID_PATTERN = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{1,10}");
+    private static final String DEFAULT_EXTENSION = "bin";
+    private static final String THUMBNAIL_SUFFIX = "_thumb.png";
+    private static final String STAGING_DIR = "staging";
+    private static final Pattern STAGING_TOKEN_PATTERN = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}");
+
+    private final Path storageDir;
+    private final int thumbnailSize;
+    private final Duration stagingTtl;
+    private final Executor avatarExecutor;
+
+    public AvatarServiceImpl(AvatarProperties avatarProperties,
+                             @Qualifier(AvatarConfig.AVATAR_EXECUTOR) Executor avatarExecutor) {
+        this.storageDir = Paths.get(avatarProperties.getStorageDir());
+        this.thumbnailSize = avatarProperties.getThumbnailSize();
+        this.stagingTtl = avatarProperties.getStagingTtl();
+        this.avatarExecutor = avatarExecutor;
+    }
+
+    @Override
+    public String store(byte[] content) {
+        if (content == null || content.length == 0) {
+            return null;
+        }
+
+        return commitStaged(stage(new ByteArrayInputStream(content)));
+    }
+
+    @Override
+    public String stage(InputStream content) {
+        String token = UUID.randomUUID().toString();
+        Path staged = stagingPath(token);
+
+        try {
+            Files.createDirectories(staged.getParent());
+            if (Files.copy(content, staged) == 0) {
+                Files.delete(staged);
+                return null;
+            }
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new FileServiceException("Failed to stage avatar: " + e.getMessage(), e);
+        }
+
+        LOGGER.debug("Staged avatar with token: {}", token);
+        return token;
+    }
+
+    @Override
+    public String commitStaged(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        Path staged = STAGING_TOKEN_PATTERN.matcher(token).matches() ? stagingPath(token) : null;
+        if (staged == null || !Files.exists(staged)) {
+            LOGGER.warn("Staged avatar with token: {} not found, it may have expired", token);
+            return null;
+        }
+
+        try {
+            String avatarId = hash(staged) + "." + detectExtension(staged);
+            Path target = originalPath(avatarId);
+
+            if (Files.exists(target)) {
+                Files.delete(staged);
+                LOGGER.debug("Avatar: {} already stored", avatarId);
+                return avatarId;
+            }
+
+            // The staging area is inside the storage dir, so this is a rename rather than a copy
+            Files.createDirectories(target.getParent());
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+            avatarExecutor.execute(() -> generateThumbnail(avatarId));
+
+            LOGGER.debug("Stored avatar: {} from token: {}", avatarId, token);
+            return avatarId;
+        } catch (IOException e) {
+            throw new FileServiceException("Failed to store avatar: " + e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${avatar.staging-cleanup-interval}")
+    public void cleanUpStaging() {
+        Path stagingDir = storageDir.resolve(STAGING_DIR);
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+
+        Instant threshold = Instant.now().minus(stagingTtl);
+        try (Stream<Path> files = Files.list(stagingDir)) {
+            files.filter(file -> isModifiedBefore(file, threshold))
+                    .forEach(file -> {
+                        deleteQuietly(file);
+                        LOGGER.debug("Removed expired staged avatar: {}", file.getFileName());
+                    });
+        } catch (IOException e) {
+            LOGGER.warn("Failed to clean up staged avatars: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public AvatarFile getAvatar(String avatarId, AvatarSize size) {
+        if (avatarId == null || !AVATAR_ID_PATTERN.matcher(avatarId).matches()) {
+            throw new AvatarNotFoundException("Avatar: " + avatarId + " not found");
+        }
+
+        Path original = originalPath(avatarId);
+        if (size == AvatarSize.THUMBNAIL) {
+            Path thumbnail = thumbnailPath(avatarId);
+            if (Files.exists(thumbnail)) {
+                return toAvatarFile(thumbnail, MediaType.IMAGE_PNG, "\"" + avatarId + "-thumb\"", true);
+            }
+            // Not generated yet (or the original is not a readable image): serve the original
+            LOGGER.debug("Thumbnail for avatar: {} is not available, serving the original", avatarId);
+        }
+
+        if (!Files.exists(original)) {
+            throw new AvatarNotFoundException("Avatar: " + avatarId + " not found");
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(avatarId).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return toAvatarFile(original, contentType, "\"" + avatarId + "\"", size == AvatarSize.ORIGINAL);
+    }
+
+    void generateThumbnail(String avatarId) {
+        Path thumbnail = thumbnailPath(avatarId);
+        if (Files.exists(thumbnail)) {
+            return;
+        }
+
+        try {
+            BufferedImage image = ImageIO.read(originalPath(avatarId).toFile());
+            if (image == null) {
+                LOGGER.debug("Avatar: {} is not a readable image, thumbnail is skipped", avatarId);
+                return;
+            }
+
+            Path tempFile = Files.createTempFile(thumbnail.getParent(), avatarId, ".tmp");
+            try {
+                ImageIO.write(resize(image), "png", tempFile.toFile());
+                Files.move(tempFile, thumbnail, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+
+            LOGGER.debug("Generated thumbnail for avatar: {}", avatarId);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to generate thumbnail for avatar: {}: {}", avatarId, e.getMessage());
+        }
+    }
+
+    // Scales the longer side down to the thumbnail size, keeping the aspect ratio; smaller images are kept as is
+    private BufferedImage resize(BufferedImage image) {
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return resized;
+    }
+
+    private AvatarFile toAvatarFile(Path path, MediaType contentType, String etag, boolean immutable) {
+        try {
+            return new AvatarFile(path, contentType, Files.size(path), etag, immutable);
+        } catch (IOException e) {
+            throw new FileServiceException("Failed to read avatar: " + e.getMessage(), e);
+        }
+    }
+
+    private Path originalPath(String avatarId) {
+        return storageDir.resolve(avatarId.substring(0, 2)).resolve(avatarId);
+    }
+
+    private Path thumbnailPath(String avatarId) {
+        String hash = avatarId.substring(0, avatarId.indexOf('.'));
+        return storageDir.resolve(avatarId.substring(0, 2)).resolve(hash + THUMBNAIL_SUFFIX);
+    }
+
+    private Path stagingPath(String token) {
+        return storageDir.resolve(STAGING_DIR).resolve(token);
+    }
+
+    private static boolean isModifiedBefore(Path file, Instant threshold) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete file: {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String detectExtension(Path file) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (readers.hasNext()) {
+                String format = readers.next().getFormatName().toLowerCase(Locale.ROOT);
+                return "jpeg".equals(format) ? "jpg" : format;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to detect avatar format: {}", e.getMessage());
+        }
+
+        return DEFAULT_EXTENSION;
+    }
+
+    private static String hash(Path file) throws IOException {
+        try (DigestInputStream input = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+            input.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(input.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobflow.user_service.avatar;
+
+public enum AvatarSize {
+    ORIGINAL,
+    THUMBNAIL
+}
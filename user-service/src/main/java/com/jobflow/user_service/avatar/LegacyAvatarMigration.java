@@ -0,0 +1,73 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.user.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * One-off move of avatars kept in the old {@code users.avatar} bytea column into the avatar store.
+ * <p>
+ * Runs in the background after startup and does nothing once the column is empty or gone. The store is
+ * content-addressed, so instances starting at the same time only repeat each other's work. A user whose avatar
+ * fails to move keeps the bytes and is retried on the next start. The column itself is dropped manually once
+ * no row has bytes left in it.
+ */
+@Component
+public class LegacyAvatarMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegacyAvatarMigration.class);
+    private static final int BATCH_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final AvatarService avatarService;
+    private final Executor avatarExecutor;
+
+    public LegacyAvatarMigration(UserRepository userRepository,
+                                 AvatarService avatarService,
+                                 @Qualifier(AvatarConfig.AVATAR_EXECUTOR) Executor avatarExecutor) {
+        this.userRepository = userRepository;
+        this.avatarService = avatarService;
+        this.avatarExecutor = avatarExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAsync() {
+        avatarExecutor.execute(this::migrate);
+    }
+
+    public void migrate() {
+        if (!userRepository.hasLegacyAvatarColumn()) {
+            return;
+        }
+
+        int moved = 0;
+        int failed = 0;
+        long afterId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsWithLegacyAvatar(afterId, BATCH_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    String avatarId = avatarService.store(userRepository.findLegacyAvatar(userId));
+                    userRepository.moveLegacyAvatar(userId, avatarId);
+                    moved++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    LOGGER.warn("Failed to move legacy avatar of user with id: {}: {}", userId, e.getMessage());
+                }
+                afterId = userId;
+            }
+        } while (userIds.size() == BATCH_SIZE);
+
+        if (moved > 0 || failed > 0) {
+            LOGGER.info("Moved: {} legacy avatars into the avatar store, failed: {}", moved, failed);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobflow.user_service.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * Bounded in-process map whose entries expire at a given time. Expired entries are dropped once the map is full,
+ * and a value that does not fit is simply not cached, so callers always have to be able to load it again.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final long EVICTION_INTERVAL_MILLIS = 1000;
+
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private volatile long lastEviction;
+
+    public ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value if it has not expired yet, otherwise null.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.value : null;
+    }
+
+    /**
+     * Returns the value even if it has already expired, for callers that prefer a stale value to none.
+     */
+    public V getStale(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Caches the value until {@code expiresAt} (epoch millis). Returns false if the cache is full.
+     */
+    public boolean put(K key, V value, long expiresAt) {
+        if (!hasRoomFor(key, System.currentTimeMillis())) {
+            return false;
+        }
+
+        entries.put(key, new Entry<>(value, expiresAt));
+        return true;
+    }
+
+    /**
+     * Like {@link #put}, but if the key is already cached, even expired, the new value is combined with the current
+     * one by {@code remapping}. The entry gets the new expiration either way.
+     */
+    public boolean merge(K key, V value, long expiresAt, BinaryOperator<V> remapping) {
+        if (!hasRoomFor(key, System.currentTimeMillis())) {
+            return false;
+        }
+
+        entries.merge(key, new Entry<>(value, expiresAt),
+                (current, next) -> new Entry<>(remapping.apply(current.value, next.value), next.expiresAt));
+        return true;
+    }
+
+    public boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean hasRoomFor(K key, long now) {
+        return entries.containsKey(key) || entries.size() < maxSize || evictExpired(now);
+    }
+
+    // Scans the whole map, so it runs at most once per interval while the cache stays full
+    private boolean evictExpired(long now) {
+        if (now - lastEviction < EVICTION_INTERVAL_MILLIS) {
+            return false;
+        }
+
+        lastEviction = now;
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        return entries.size() < maxSize;
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -5,15 +5,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 @Configuration
 @RequiredArgsConstructor
 public class EmailConfig {
 
-    private static final int TIMEOUT_MILLIS = 10000;
+    public static final String EMAIL_EXECUTOR = "emailExecutor";
 
     private final EmailProperties emailProperties;
+    private final EmailDispatchProperties dispatchProperties;
 
     @Bean
     public JavaMailSender javaMailSender() {
@@ -30,10 +34,25 @@ public class EmailConfig {
         properties.put("mail.smtp.starttls.enable", true);
         properties.put("mail.smtp.starttls.required", true);
         properties.put("mail.smtp.ssl.trust", "smtp.gmail.com");
-        properties.put("mail.smtp.connectiontimeout", TIMEOUT_MILLIS);
-        properties.put("mail.smtp.timeout", TIMEOUT_MILLIS);
-        properties.put("mail.smtp.writetimeout", TIMEOUT_MILLIS);
+        int timeoutMillis = (int) dispatchProperties.getSmtpTimeout().toMillis();
+        properties.put("mail.smtp.connectiontimeout", timeoutMillis);
+        properties.put("mail.smtp.timeout", timeoutMillis);
+        properties.put("mail.smtp.writetimeout", timeoutMillis);
 
         return javaMailSender;
     }
+
+    @Bean(name = EMAIL_EXECUTOR)
+    public Executor emailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchProperties.getPoolSize());
+        executor.setMaxPoolSize(dispatchProperties.getPoolSize());
+        executor.setQueueCapacity(dispatchProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("email-");
+        // The queue is kept short so the send lease stays well below the code TTL. Rejected emails are already stored
+        // in pending_emails and get picked up by the retry job
+        executor.initialize();
+
+        return executor;
+    }
 }
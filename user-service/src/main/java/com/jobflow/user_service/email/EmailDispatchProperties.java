@@ -0,0 +1,37 @@
+package com.jobflow.user_service.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "email.dispatch")
+@Getter
+@Setter
+public class EmailDispatchProperties {
+
+    private int maxAttempts;
+
+    private Duration retryDelay;
+
+    private Duration maxAge;
+
+    private int batchSize;
+
+    private int poolSize;
+
+    private int queueCapacity;
+
+    private Duration smtpTimeout;
+
+    /**
+     * How long an email may stay in flight before another attempt is allowed: a full queue ahead of it plus its own
+     * send, each bounded by the connect, read and write timeouts.
+     */
+    public Duration getSendLease() {
+        return smtpTimeout.multipliedBy(3L * (queueCapacity / poolSize + 1));
+    }
+}
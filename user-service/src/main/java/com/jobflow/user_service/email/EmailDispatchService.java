@@ -0,0 +1,11 @@
+package com.jobflow.user_service.email;
+
+public interface EmailDispatchService {
+
+    /**
+     * Records the email and sends it in the background. Returns without waiting for SMTP;
+     * failed attempts are retried until {@code email.dispatch.max-attempts} or {@code email.dispatch.max-age}.
+     * Every attempt sends the code currently stored for the email, so a resent code replaces the previous one.
+     */
+    void dispatchCode(String email);
+}
@@ -0,0 +1,139 @@
+package com.jobflow.user_service.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Sends verification emails off the request thread.
+ * <p>
+ * Every email is first written to {@code pending_emails}, leased for {@link EmailDispatchProperties#getSendLease()}
+ * so no other attempt starts while it may still be queued or talking to SMTP, then handed to a bounded executor. A new code for
+ * the same email replaces the older row. The code is read from Redis right before sending, so only the latest one
+ * goes out and none is kept in the table. A sent email is deleted; a failed one is rescheduled with a linear backoff
+ * and, like one the executor had no room for, picked up by {@link #retryPending()} when its next attempt is due.
+ */
+@Service
+public class EmailDispatchServiceImpl implements EmailDispatchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmailDispatchServiceImpl.class);
+
+    private final EmailService emailService;
+    private final PendingEmailRepository pendingEmailRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailDispatchProperties properties;
+    private final Executor emailExecutor;
+
+    public EmailDispatchServiceImpl(EmailService emailService,
+                                    PendingEmailRepository pendingEmailRepository,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    EmailDispatchProperties properties,
+                                    @Qualifier(EmailConfig.EMAIL_EXECUTOR) Executor emailExecutor) {
+        this.emailService = emailService;
+        this.pendingEmailRepository = pendingEmailRepository;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.emailExecutor = emailExecutor;
+    }
+
+    @Override
+    public void dispatchCode(String email) {
+        Instant now = Instant.now();
+        int replaced = pendingEmailRepository.deleteByEmail(email);
+        if (replaced > 0) {
+            LOGGER.debug("Replaced {} pending verification emails to: {}", replaced, email);
+        }
+
+        PendingEmail pendingEmail = pendingEmailRepository.save(PendingEmail.builder()
+                .email(email)
+                .attempts(1)
+                .nextAttemptAt(leaseFrom(now))
+                .createdAt(now)
+                .build());
+
+        submit(pendingEmail);
+        LOGGER.debug("Queued verification code for email: {}", email);
+    }
+
+    @Scheduled(fixedDelayString = "${email.dispatch.retry-delay}")
+    public void retryPending() {
+        Instant now = Instant.now();
+        int expired = pendingEmailRepository.deleteCreatedBefore(now.minus(properties.getMaxAge()));
+        if (expired > 0) {
+            LOGGER.warn("Dropped {} verification emails that were not delivered before their codes expired", expired);
+        }
+
+        List<PendingEmail> due = pendingEmailRepository.findDue(now, PageRequest.of(0, properties.getBatchSize()));
+        for (PendingEmail pendingEmail : due) {
+            if (pendingEmail.getAttempts() >= properties.getMaxAttempts()) {
+                pendingEmailRepository.deleteById(pendingEmail.getId());
+                LOGGER.error("Giving up on verification email to: {} after {} attempts",
+                        pendingEmail.getEmail(), pendingEmail.getAttempts());
+                continue;
+            }
+
+            int attempt = pendingEmail.getAttempts() + 1;
+            Instant leaseUntil = leaseFrom(now);
+            if (pendingEmailRepository.claim(pendingEmail.getId(), pendingEmail.getNextAttemptAt(), leaseUntil) == 1) {
+                LOGGER.debug("Retrying verification email to: {}, attempt: {}", pendingEmail.getEmail(), attempt);
+                pendingEmail.setAttempts(attempt);
+                pendingEmail.setNextAttemptAt(leaseUntil);
+                submit(pendingEmail);
+            }
+        }
+    }
+
+    private void submit(PendingEmail pendingEmail) {
+        try {
+            emailExecutor.execute(() -> send(pendingEmail));
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Email queue is full, verification email to: {} will be retried", pendingEmail.getEmail());
+            reschedule(pendingEmail);
+        }
+    }
+
+    private void send(PendingEmail pendingEmail) {
+        // The row is gone if a newer code replaced it while this attempt was queued
+        if (!pendingEmailRepository.existsById(pendingEmail.getId())) {
+            LOGGER.debug("Skipping replaced verification email to: {}", pendingEmail.getEmail());
+            return;
+        }
+
+        String code = redisTemplate.opsForValue().get(EmailVerificationServiceImpl.buildVerifyKey(pendingEmail.getEmail()));
+        if (code == null) {
+            pendingEmailRepository.deleteById(pendingEmail.getId());
+            LOGGER.debug("Verification code for: {} expired or was confirmed, email dropped", pendingEmail.getEmail());
+            return;
+        }
+
+        try {
+            emailService.sendCodeToEmail(pendingEmail.getEmail(), Integer.parseInt(code));
+            pendingEmailRepository.deleteById(pendingEmail.getId());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to send verification email to: {}, it will be retried: {}",
+                    pendingEmail.getEmail(), e.getMessage());
+            reschedule(pendingEmail);
+        }
+    }
+
+    // Truncated to the column precision, the lease is later matched by equality
+    private Instant leaseFrom(Instant now) {
+        return now.plus(properties.getSendLease()).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // Linear backoff: after the n-th attempt the next one becomes due n retry delays later
+    private void reschedule(PendingEmail pendingEmail) {
+        Instant nextAttemptAt = Instant.now().plus(properties.getRetryDelay().multipliedBy(pendingEmail.getAttempts()));
+        pendingEmailRepository.reschedule(pendingEmail.getId(), pendingEmail.getNextAttemptAt(), nextAttemptAt);
+    }
+}
@@ -27,7 +27,7 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
     private static final Random RANDOM = new Random();
     private static final Logger LOGGER = LoggerFactory.getLogger(EmailVerificationServiceImpl.class);
 
-    private final EmailService emailService;
+    private final EmailDispatchService emailDispatchService;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
@@ -51,7 +51,7 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
             throw new EmailServiceException("Failed to serialize register request", e);
         }
 
-        emailService.sendCodeToEmail(email, code);
+        emailDispatchService.dispatchCode(email);
     }
 
     @Override
@@ -103,10 +103,10 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
         LOGGER.debug("Generated a new verification code [{}] for login: {}", newCode, email);
 
         redisTemplate.opsForValue().set(verifyKey, String.valueOf(newCode), TTL_MINUTES, TimeUnit.MINUTES);
-        redisTemplate.opsForValue().set(dataKey, dataFromRedis, TTL_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.expire(dataKey, TTL_MINUTES, TimeUnit.MINUTES);
 
-        emailService.sendCodeToEmail(email, newCode);
-        LOGGER.debug("Successfully stored in Redis and resent a new verification code for login: {}", email);
+        emailDispatchService.dispatchCode(email);
+        LOGGER.debug("Successfully stored in Redis and queued a new verification code for login: {}", email);
     }
 
     private void deleteVerificationData(String email) {
@@ -118,7 +118,7 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
         return RANDOM.nextInt(900000) + 100000;
     }
 
-    private String buildVerifyKey(String email) {
+    static String buildVerifyKey(String email) {
         return String.format(VERIFY_KEY, email);
     }
 
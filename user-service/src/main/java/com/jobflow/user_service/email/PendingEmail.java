@@ -0,0 +1,44 @@
+package com.jobflow.user_service.email;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * Verification email that has not been delivered yet. The row is removed once the email is sent,
+ * so the table only holds in-flight and retrying emails. The code itself is not stored: it is read from Redis
+ * when the email is sent.
+ */
+@Entity
+@Table(name = "pending_emails", indexes = {
+        @Index(name = "idx_pending_emails_next_attempt_at", columnList = "next_attempt_at"),
+        @Index(name = "idx_pending_emails_email", columnList = "email")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingEmail {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "email", length = 100, nullable = false)
+    private String email;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
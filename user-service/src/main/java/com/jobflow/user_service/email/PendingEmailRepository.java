@@ -0,0 +1,47 @@
+package com.jobflow.user_service.email;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface PendingEmailRepository extends JpaRepository<PendingEmail, Long> {
+
+    @Query("SELECT p FROM PendingEmail p WHERE p.nextAttemptAt <= :now ORDER BY p.nextAttemptAt")
+    List<PendingEmail> findDue(@Param("now") Instant now, Pageable pageable);
+
+    // Moves the next attempt forward only if nobody else has done it yet, so one instance sends each attempt
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE PendingEmail p SET p.nextAttemptAt = :leaseUntil, p.attempts = p.attempts + 1
+            WHERE p.id = :id AND p.nextAttemptAt = :nextAttemptAt
+            """)
+    int claim(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("leaseUntil") Instant leaseUntil);
+
+    // Brings a failed attempt forward from its lease to the backoff delay, unless the row was claimed again meanwhile
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE PendingEmail p SET p.nextAttemptAt = :nextAttemptAt
+            WHERE p.id = :id AND p.nextAttemptAt = :leaseUntil
+            """)
+    int reschedule(@Param("id") Long id, @Param("leaseUntil") Instant leaseUntil, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PendingEmail p WHERE p.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PendingEmail p WHERE p.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") Instant createdBefore);
+}
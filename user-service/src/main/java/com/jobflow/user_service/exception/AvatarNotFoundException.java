@@ -0,0 +1,7 @@
+package com.jobflow.user_service.exception;
+
+public class AvatarNotFoundException extends RuntimeException {
+    public AvatarNotFoundException(String message) {
+        super(message);
+    }
+}
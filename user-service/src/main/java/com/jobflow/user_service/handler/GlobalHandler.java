@@ -3,6 +3,7 @@ package com.jobflow.user_service.handler;
 import com.jobflow.user_service.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,6 +25,14 @@ public class GlobalHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseError);
     }
 
+    @ExceptionHandler(AvatarNotFoundException.class)
+    public ResponseEntity<ResponseError> avatarNotFoundExcHandler(AvatarNotFoundException exc) {
+        LOGGER.error("[Avatar Not Found Exception]: {}", exc.getMessage());
+        ResponseError responseError = ResponseError.buildResponseError(exc.getMessage(), HttpStatus.NOT_FOUND.value());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseError);
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<ResponseError> userAlreadyExistsExcHandler(UserAlreadyExistsException exc) {
         LOGGER.error("[User Already Exists Exception]: {}", exc.getMessage());
@@ -40,6 +49,16 @@ public class GlobalHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(responseError);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ResponseError> serviceUnavailableExcHandler(ServiceUnavailableException exc) {
+        LOGGER.error("[Service Unavailable Exception]: {}", exc.getMessage());
+        ResponseError responseError = ResponseError.buildResponseError(exc.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(responseError);
+    }
+
     @ExceptionHandler(TokenRevokedException.class)
     public ResponseEntity<ResponseError> tokenRevokedExcHandler(TokenRevokedException exc) {
         LOGGER.error("[Token Revoked Exception]: {}", exc.getMessage());
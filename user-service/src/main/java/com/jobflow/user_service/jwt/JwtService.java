@@ -9,6 +9,10 @@ import java.util.Map;
 
 public interface JwtService {
 
+    String ROLES_CLAIM = "roles";
+
+    String TOKEN_VERSION_CLAIM = "ver";
+
     String generateAccessToken(UserDetails userDetails);
 
     String generateRefreshToken(UserDetails userDetails);
@@ -25,5 +29,7 @@ public interface JwtService {
 
     boolean isValid(UserDetails user, String token);
 
+    boolean isRevoked(Claims claims);
+
     Key getSecretKey();
 }
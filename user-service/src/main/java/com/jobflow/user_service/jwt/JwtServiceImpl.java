@@ -1,5 +1,6 @@
 package com.jobflow.user_service.jwt;
 
+import com.jobflow.user_service.tokenVersion.TokenVersionService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -8,6 +9,7 @@ import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -25,13 +27,16 @@ public class JwtServiceImpl implements JwtService {
     private final String SECRET_KEY;
     private final long ACCESS_EXPIRATION_TIME;
     private final long REFRESH_EXPIRATION_TIME;
+    private final TokenVersionService tokenVersionService;
 
     public JwtServiceImpl(@Value("${jwt.secret-key}") String SECRET_KEY,
                           @Value("${jwt.access-expiration-time}") long ACCESS_EXPIRATION_TIME,
-                          @Value("${jwt.refresh-expiration-time}") long REFRESH_EXPIRATION_TIME) {
+                          @Value("${jwt.refresh-expiration-time}") long REFRESH_EXPIRATION_TIME,
+                          TokenVersionService tokenVersionService) {
         this.SECRET_KEY = SECRET_KEY;
         this.ACCESS_EXPIRATION_TIME = ACCESS_EXPIRATION_TIME;
         this.REFRESH_EXPIRATION_TIME = REFRESH_EXPIRATION_TIME;
+        this.tokenVersionService = tokenVersionService;
     }
 
     @Override
@@ -45,6 +50,7 @@ public class JwtServiceImpl implements JwtService {
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRATION_TIME))
                 .setId(tokenId)
+                .claim(TOKEN_VERSION_CLAIM, currentVersion(user.getUsername()))
                 .signWith(getSecretKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -60,13 +66,19 @@ public class JwtServiceImpl implements JwtService {
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_EXPIRATION_TIME))
                 .setId(tokenId)
+                .claim(TOKEN_VERSION_CLAIM, currentVersion(user.getUsername()))
                 .signWith(getSecretKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public String generateAccessToken(UserDetails user) {
-        return generateAccessToken(new HashMap<>(), user);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLES_CLAIM, user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+
+        return generateAccessToken(claims, user);
     }
 
     @Override
@@ -98,10 +110,20 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public boolean isValid(UserDetails user, String token) {
-        boolean matchesUserId = extractUserId(token).equals(user.getUsername());
+        Claims claims = extractClaims(token);
+        boolean matchesUserId = claims.getSubject().equals(user.getUsername());
+        boolean revoked = matchesUserId && isRevoked(claims);
 
-        LOGGER.debug("Validated token by userId: {}. matchesUserId: {}", user.getUsername(), matchesUserId);
-        return matchesUserId;
+        LOGGER.debug("Validated token by userId: {}. matchesUserId: {}, revoked: {}", user.getUsername(), matchesUserId, revoked);
+        return matchesUserId && !revoked;
+    }
+
+    // Tokens issued before the user's last logout-all carry an older version. Tokens without the claim count as version 0
+    @Override
+    public boolean isRevoked(Claims claims) {
+        Long tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Long.class);
+
+        return (tokenVersion == null ? 0L : tokenVersion) < currentVersion(claims.getSubject());
     }
 
     @Override
@@ -110,4 +132,8 @@ public class JwtServiceImpl implements JwtService {
 
         return Keys.hmacShaKeyFor(decodeKey);
     }
+
+    private long currentVersion(String userId) {
+        return tokenVersionService.getVersion(Long.valueOf(userId));
+    }
 }
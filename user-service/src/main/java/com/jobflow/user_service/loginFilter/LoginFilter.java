@@ -0,0 +1,97 @@
+package com.jobflow.user_service.loginFilter;
+
+import com.jobflow.user_service.bloomFilter.BloomFilter;
+import com.jobflow.user_service.user.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of existing logins, so registration of a definitely new login skips the DB query.
+ * <p>
+ * A negative answer is definite only as far as this instance has seen, so it is used where the DB is checked again
+ * later ({@code confirmCode}); a positive one has to be confirmed in the DB. New logins are added once the insert of
+ * a user commits and published to the other instances; the filter is periodically rebuilt from the table, which also
+ * covers missed messages and drops logins of removed users. Until the first build completes, every login is
+ * reported as possibly existing.
+ */
+@Component
+public class LoginFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginFilter.class);
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean loaded;
+
+    public LoginFilter(UserRepository userRepository,
+                       RedisTemplate<String, String> redisTemplate,
+                       @Value("${login-filter.expected-insertions}") long expectedInsertions,
+                       @Value("${login-filter.false-positive-rate}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean mightExist(String login) {
+        return !loaded || filter.mightContain(login);
+    }
+
+    public void add(String login) {
+        addLocally(login);
+
+        try {
+            redisTemplate.convertAndSend(LoginFilterConfig.LOGIN_ADDED_CHANNEL, login);
+        } catch (RuntimeException e) {
+            // Other instances pick the login up on their next rebuild, registration re-checks the DB on confirmation
+            LOGGER.warn("Failed to publish added login: {}: {}", login, e.getMessage());
+        }
+    }
+
+    public void addLocally(String login) {
+        filter.put(login);
+
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(login);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-filter.rebuild-interval}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        // Logins added while the table is read go into both filters
+        rebuilding = next;
+
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> logins = userRepository.streamAllLogins()) {
+            logins.forEach(login -> {
+                next.put(login);
+                count.incrementAndGet();
+            });
+
+            filter = next;
+            loaded = true;
+            LOGGER.debug("Rebuilt login filter with {} logins", count.get());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to rebuild login filter: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
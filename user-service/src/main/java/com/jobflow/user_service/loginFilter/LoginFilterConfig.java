@@ -0,0 +1,23 @@
+package com.jobflow.user_service.loginFilter;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class LoginFilterConfig {
+
+    public static final String LOGIN_ADDED_CHANNEL = "loginFilter:added";
+
+    @Bean
+    public RedisMessageListenerContainer loginFilterListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      LoginFilterSubscriber loginFilterSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(loginFilterSubscriber, new ChannelTopic(LOGIN_ADDED_CHANNEL));
+
+        return container;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobflow.user_service.loginFilter;
+
+import com.jobflow.user_service.user.User;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adds the login of every inserted user to the {@link LoginFilter}. Users of external OpenID providers may have
+ * no login and are skipped. Instantiated by Hibernate through the Spring bean container.
+ */
+@RequiredArgsConstructor
+public class LoginFilterListener {
+
+    private final LoginFilter loginFilter;
+
+    @PostPersist
+    public void add(User user) {
+        String login = user.getLogin();
+        if (login == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            loginFilter.add(login);
+            return;
+        }
+
+        // Only once the row is committed: a rolled back insert adds nothing, and a rebuild reading the table
+        // without the row yet still receives the login through its rebuilding filter
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                loginFilter.add(login);
+            }
+        });
+    }
+}
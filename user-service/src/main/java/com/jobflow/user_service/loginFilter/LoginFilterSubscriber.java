@@ -0,0 +1,30 @@
+package com.jobflow.user_service.loginFilter;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives logins of users created on any instance and adds them to the login filter of this one.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginFilterSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoginFilterSubscriber.class);
+
+    private final LoginFilter loginFilter;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String login = new String(message.getBody(), StandardCharsets.UTF_8);
+        LOGGER.debug("Received added login: {}", login);
+
+        loginFilter.addLocally(login);
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobflow.user_service.openId;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "openid.avatar")
+@Getter
+@Setter
+public class OpenIdAvatarProperties {
+
+    private DataSize maxSize;
+
+    private Duration connectTimeout;
+
+    private Duration readTimeout;
+}
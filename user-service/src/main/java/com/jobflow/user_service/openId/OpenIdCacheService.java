@@ -1,8 +1,10 @@
 package com.jobflow.user_service.openId;
 
-import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.JWSVerifier;
 
 public interface OpenIdCacheService {
 
-    JWKSet getJwkSet();
+    JWSVerifier getVerifier(String keyId);
+
+    void prefetch();
 }
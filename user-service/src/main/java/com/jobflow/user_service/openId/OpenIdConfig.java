@@ -0,0 +1,41 @@
+package com.jobflow.user_service.openId;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class OpenIdConfig {
+
+    public static final String AVATAR_EXECUTOR = "openIdAvatarExecutor";
+    public static final String AVATAR_REST_TEMPLATE = "openIdAvatarRestTemplate";
+
+    @Bean(name = AVATAR_EXECUTOR)
+    public Executor openIdAvatarExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("openid-avatar-");
+        // A dropped download only leaves the new user without an avatar
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    // Avatars are served by the providers' image hosts, a slow one must not hold a download thread forever
+    @Bean(name = AVATAR_REST_TEMPLATE)
+    public RestTemplate openIdAvatarRestTemplate(OpenIdAvatarProperties avatarProperties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(avatarProperties.getConnectTimeout());
+        requestFactory.setReadTimeout(avatarProperties.getReadTimeout());
+
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -1,38 +1,78 @@
 package com.jobflow.user_service.openId;
 
+import com.jobflow.user_service.avatar.AvatarService;
+import com.jobflow.user_service.exception.FileServiceException;
+import com.jobflow.user_service.exception.UserNotFoundException;
+import com.jobflow.user_service.user.AuthProvider;
 import com.jobflow.user_service.user.Role;
 import com.jobflow.user_service.user.User;
 import com.jobflow.user_service.user.UserRepository;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Matches OpenID logins to local users and creates the user on the first login.
+ * <p>
+ * A new user is inserted without an avatar, so the login only waits for the provider roundtrips. The avatar is
+ * downloaded in the background, limited by {@code openid.avatar.max-size} and the timeouts, and attached afterwards.
+ */
 @Service
-@RequiredArgsConstructor
 public class OpenIdUserService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenIdUserService.class);
 
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final RestTemplate avatarRestTemplate;
+    private final AvatarService avatarService;
+    private final OpenIdAvatarProperties avatarProperties;
+    private final Executor avatarExecutor;
+
+    public OpenIdUserService(UserRepository userRepository,
+                             @Qualifier(OpenIdConfig.AVATAR_REST_TEMPLATE) RestTemplate avatarRestTemplate,
+                             AvatarService avatarService,
+                             OpenIdAvatarProperties avatarProperties,
+                             @Qualifier(OpenIdConfig.AVATAR_EXECUTOR) Executor avatarExecutor) {
+        this.userRepository = userRepository;
+        this.avatarRestTemplate = avatarRestTemplate;
+        this.avatarService = avatarService;
+        this.avatarProperties = avatarProperties;
+        this.avatarExecutor = avatarExecutor;
+    }
 
     public User getOrCreateUser(OpenIdUserInfo userInfo) {
-        return userRepository.findByAuthProviderAndAuthProviderId(userInfo.getAuthProvider(), userInfo.getAuthProviderId())
-                .orElseGet(() -> {
-                    LOGGER.info("Creating new OpenID user with provider id: {}", userInfo.getAuthProviderId());
-
-                    return userRepository.save(User.builder()
-                            .firstname(userInfo.getFirstname())
-                            .lastname(userInfo.getLastname())
-                            .avatar(fetchAvatarFromUrl(userInfo.getAvatarUrl()))
-                            .role(Role.ROLE_USER)
-                            .authProvider(userInfo.getAuthProvider())
-                            .authProviderId(userInfo.getAuthProviderId())
-                            .build());
-                });
+        AuthProvider authProvider = userInfo.getAuthProvider();
+        String authProviderId = userInfo.getAuthProviderId();
+
+        Optional<User> user = userRepository.findByAuthProviderAndAuthProviderId(authProvider, authProviderId);
+        if (user.isPresent()) {
+            return user.get();
+        }
+
+        int inserted = userRepository.insertOpenIdUserIfAbsent(
+                userInfo.getFirstname(),
+                userInfo.getLastname(),
+                Role.ROLE_USER.name(),
+                authProvider.name(),
+                authProviderId
+        );
+        User createdUser = userRepository.findByAuthProviderAndAuthProviderId(authProvider, authProviderId)
+                .orElseThrow(() -> new UserNotFoundException("User with provider id: " + authProviderId + " not found"));
+
+        // Only the login that inserted the row downloads the avatar
+        if (inserted > 0) {
+            LOGGER.info("Created new OpenID user with provider id: {}", authProviderId);
+            downloadAvatarAsync(createdUser.getId(), userInfo.getAvatarUrl());
+        }
+
+        return createdUser;
     }
 
     public byte[] fetchAvatarFromUrl(String url) {
@@ -40,7 +80,39 @@ public class OpenIdUserService {
             return null;
         }
 
-        ResponseEntity<byte[]> response = restTemplate.getForEntity(url, byte[].class);
-        return response.getBody();
+        long maxSize = avatarProperties.getMaxSize().toBytes();
+        return avatarRestTemplate.execute(URI.create(url), HttpMethod.GET, null, response -> {
+            if (response.getHeaders().getContentLength() > maxSize) {
+                throw new FileServiceException("Avatar is larger than " + maxSize + " bytes");
+            }
+
+            // Content-Length may be missing, so the limit is also checked on the bytes actually read
+            byte[] content = response.getBody().readNBytes((int) maxSize + 1);
+            if (content.length > maxSize) {
+                throw new FileServiceException("Avatar is larger than " + maxSize + " bytes");
+            }
+
+            return content;
+        });
+    }
+
+    void downloadAvatar(Long userId, String avatarUrl) {
+        try {
+            String avatarId = avatarService.store(fetchAvatarFromUrl(avatarUrl));
+            if (avatarId != null) {
+                userRepository.updateAvatarId(userId, avatarId);
+                LOGGER.debug("Stored avatar: {} for OpenID user with id: {}", avatarId, userId);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to download avatar for OpenID user with id: {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void downloadAvatarAsync(Long userId, String avatarUrl) {
+        if (avatarUrl == null || avatarUrl.isBlank()) {
+            return;
+        }
+
+        avatarExecutor.execute(() -> downloadAvatar(userId, avatarUrl));
     }
 }
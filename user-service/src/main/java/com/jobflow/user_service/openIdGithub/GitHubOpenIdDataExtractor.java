@@ -24,15 +24,7 @@ public class GitHubOpenIdDataExtractor implements OpenIdDataExtractor<String> {
     public String extractData(String data, String key) {
         LOGGER.debug("Extracting value: {} from json", key);
         try {
-            JsonNode dataNode = objectMapper.readTree(data);
-            JsonNode keyNode = dataNode.get(key);
-
-            if (keyNode != null) {
-                LOGGER.debug("Successfully extracted value: {} from json", key);
-                return keyNode.asText();
-            }
-
-            return null;
+            return getText(objectMapper.readTree(data), key);
         } catch (JsonProcessingException e) {
             throw new OpenIdServiceException("Failed to extract value: " + key + " from json: " + e.getMessage(), e);
         }
@@ -41,14 +33,27 @@ public class GitHubOpenIdDataExtractor implements OpenIdDataExtractor<String> {
     @Override
     public OpenIdUserInfo extractUserInfo(String data) {
         LOGGER.debug("Extracting user info from json");
+        JsonNode dataNode;
+        try {
+            dataNode = objectMapper.readTree(data);
+        } catch (JsonProcessingException e) {
+            throw new OpenIdServiceException("Failed to extract user info from json: " + e.getMessage(), e);
+        }
+
         OpenIdUserInfo userInfo = OpenIdUserInfo.builder()
-                .firstname(extractData(data, "name"))
+                .firstname(getText(dataNode, "name"))
                 .authProvider(AuthProvider.GITHUB)
-                .authProviderId(extractData(data, "id"))
-                .avatarUrl(extractData(data, "avatar_url"))
+                .authProviderId(getText(dataNode, "id"))
+                .avatarUrl(getText(dataNode, "avatar_url"))
                 .build();
         LOGGER.debug("Successfully extracted user info from json. Provider id: {}", userInfo.getAuthProviderId());
 
         return userInfo;
     }
+
+    // GitHub returns null for unset fields, e.g. the name, which must not become the "null" string
+    private static String getText(JsonNode dataNode, String key) {
+        JsonNode keyNode = dataNode.get(key);
+        return keyNode != null && !keyNode.isNull() ? keyNode.asText() : null;
+    }
 }
@@ -0,0 +1,23 @@
+package com.jobflow.user_service.openIdGoogle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "openid.google.jwks")
+@Getter
+@Setter
+public class GoogleJwksProperties {
+
+    private Duration defaultMaxAge;
+
+    private Duration refreshAhead;
+
+    private Duration minRefetchInterval;
+
+    private Duration fetchTimeout;
+}
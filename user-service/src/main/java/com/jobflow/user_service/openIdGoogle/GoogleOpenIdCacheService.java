@@ -2,34 +2,195 @@ package com.jobflow.user_service.openIdGoogle;
 
 import com.jobflow.user_service.exception.OpenIdServiceException;
 import com.jobflow.user_service.openId.OpenIdCacheService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
-import java.net.URL;
 import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * In-process cache of Google's signing keys, kept as ready-made verifiers by key id.
+ * <p>
+ * The key set is refreshed in the background shortly before the {@code Cache-Control} max-age of the last
+ * response runs out. A token signed with an unknown key triggers one fetch that concurrent logins share, at most
+ * once per {@code min-refetch-interval}. If a fetch fails, the previously loaded keys stay in use. A fetch is bounded
+ * by {@code fetch-timeout} for connect and read, and stops being shared after twice that in any case.
+ */
 @Service
-@CacheConfig(cacheNames = "openid:google")
 public class GoogleOpenIdCacheService implements OpenIdCacheService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GoogleOpenIdCacheService.class);
 
+    static final String JWKS_URL = "https://www.googleapis.com/oauth2/v3/certs";
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private final RestTemplate restTemplate;
+    private final GoogleJwksProperties properties;
+    private final Executor jwksExecutor;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private volatile boolean loaded;
+    private volatile long refreshAt;
+    private volatile long lastFetchAt;
+
+    public GoogleOpenIdCacheService(@Qualifier(GoogleOpenIdConfig.JWKS_REST_TEMPLATE) RestTemplate restTemplate,
+                                    GoogleJwksProperties properties,
+                                    @Qualifier(GoogleOpenIdConfig.JWKS_EXECUTOR) Executor jwksExecutor) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.jwksExecutor = jwksExecutor;
+    }
+
+    @Override
+    public JWSVerifier getVerifier(String keyId) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null || keyId == null) {
+            return verifier;
+        }
+
+        CompletableFuture<Void> fetch = inFlight.get();
+        if (fetch == null) {
+            // Random key ids must not turn every login into a request to Google
+            if (loaded && System.currentTimeMillis() - lastFetchAt < properties.getMinRefetchInterval().toMillis()) {
+                LOGGER.debug("Unknown key id: {}, JWK set was fetched recently", keyId);
+                return null;
+            }
+            LOGGER.debug("Unknown key id: {}, fetching JWK set", keyId);
+            fetch = refreshAsync();
+        }
+
+        await(fetch);
+        return verifiers.get(keyId);
+    }
+
     @Override
-    @Cacheable(key = "'jwkset'")
-    public JWKSet getJwkSet() {
-        LOGGER.debug("Attempting to load JWK set from Google endpoint");
+    public void prefetch() {
+        if (System.currentTimeMillis() >= refreshAt) {
+            refreshAsync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${openid.google.jwks.refresh-check-interval}")
+    public void refresh() {
+        // Instances that never validated a Google token do not fetch the keys in the background
+        if (loaded) {
+            prefetch();
+        }
+    }
+
+    private CompletableFuture<Void> refreshAsync() {
+        while (true) {
+            CompletableFuture<Void> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<Void> fetch = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, fetch)) {
+                lastFetchAt = System.currentTimeMillis();
+                // Backstop for the request timeouts: a fetch that never finishes must not stay shared forever
+                fetch.orTimeout(properties.getFetchTimeout().multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS)
+                        .whenComplete((result, error) -> inFlight.compareAndSet(fetch, null));
+                try {
+                    jwksExecutor.execute(() -> load(fetch));
+                } catch (RejectedExecutionException e) {
+                    finish(fetch, new OpenIdServiceException("Jwk set load exception: " + e.getMessage(), e));
+                }
+                return fetch;
+            }
+        }
+    }
+
+    private void load(CompletableFuture<Void> fetch) {
         try {
-            JWKSet jwkSet = JWKSet.load(new URL("https://www.googleapis.com/oauth2/v3/certs"));
-            LOGGER.debug("Successfully loaded JWK set from Google endpoint");
+            ResponseEntity<String> response = restTemplate.getForEntity(JWKS_URL, String.class);
+            Map<String, JWSVerifier> loadedVerifiers = toVerifiers(JWKSet.parse(response.getBody()));
+            long maxAge = getMaxAge(response.getHeaders().getCacheControl());
+
+            verifiers = loadedVerifiers;
+            loaded = true;
+            refreshAt = System.currentTimeMillis() + Math.max(
+                    maxAge - properties.getRefreshAhead().toMillis(),
+                    properties.getMinRefetchInterval().toMillis()
+            );
+
+            LOGGER.debug("Loaded {} Google signing keys, max-age: {}s", loadedVerifiers.size(), maxAge / 1000);
+            finish(fetch, null);
+        } catch (ParseException | JOSEException | RuntimeException e) {
+            // Stale-on-error: the current keys stay in use, the next attempt waits for the min refetch interval
+            refreshAt = System.currentTimeMillis() + properties.getMinRefetchInterval().toMillis();
+            LOGGER.warn("Failed to load Google JWK set: {}", e.getMessage());
+            finish(fetch, new OpenIdServiceException("Jwk set load exception: " + e.getMessage(), e));
+        }
+    }
 
-            return jwkSet;
-        } catch (IOException | ParseException e) {
-            throw new OpenIdServiceException("Jwk set load exception: " + e.getMessage(), e);
+    private void finish(CompletableFuture<Void> fetch, OpenIdServiceException error) {
+        inFlight.compareAndSet(fetch, null);
+        if (error == null) {
+            fetch.complete(null);
+        } else {
+            fetch.completeExceptionally(error);
         }
     }
+
+    private void await(CompletableFuture<Void> fetch) {
+        try {
+            fetch.get(properties.getFetchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenIdServiceException("Jwk set load interrupted", e);
+        } catch (ExecutionException e) {
+            if (!loaded) {
+                throw e.getCause() instanceof OpenIdServiceException openIdServiceException
+                        ? openIdServiceException
+                        : new OpenIdServiceException("Jwk set load timed out", e.getCause());
+            }
+            LOGGER.warn("Using cached Google JWK set: {}", e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            if (!loaded) {
+                throw new OpenIdServiceException("Jwk set load timed out", e);
+            }
+            LOGGER.warn("Google JWK set load timed out, using cached keys");
+        }
+    }
+
+    private long getMaxAge(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (matcher.find()) {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(matcher.group(1)));
+            }
+        }
+
+        return properties.getDefaultMaxAge().toMillis();
+    }
+
+    private static Map<String, JWSVerifier> toVerifiers(JWKSet jwkSet) throws JOSEException {
+        Map<String, JWSVerifier> result = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk instanceof RSAKey rsaKey && rsaKey.getKeyID() != null) {
+                result.put(rsaKey.getKeyID(), new RSASSAVerifier(rsaKey));
+            }
+        }
+
+        return Map.copyOf(result);
+    }
 }
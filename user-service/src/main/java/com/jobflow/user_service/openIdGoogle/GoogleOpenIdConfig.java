@@ -0,0 +1,39 @@
+package com.jobflow.user_service.openIdGoogle;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class GoogleOpenIdConfig {
+
+    public static final String JWKS_EXECUTOR = "googleJwksExecutor";
+    public static final String JWKS_REST_TEMPLATE = "googleJwksRestTemplate";
+
+    @Bean(name = JWKS_EXECUTOR)
+    public Executor googleJwksExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // Fetches are single-flight, so one thread is enough
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("google-jwks-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // A hung fetch would keep every login waiting on the single-flight fetch, so it is bounded like the wait itself
+    @Bean(name = JWKS_REST_TEMPLATE)
+    public RestTemplate googleJwksRestTemplate(GoogleJwksProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getFetchTimeout());
+        requestFactory.setReadTimeout(properties.getFetchTimeout());
+
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -35,6 +35,7 @@ public class GoogleOpenIdService implements OpenIdService {
     private final OpenIdTokenValidator openIdTokenValidator;
     private final OpenIdDataExtractor<JWTClaimsSet> openIdDataExtractor;
     private final OpenIdUserService openIdUserService;
+    private final OpenIdCacheService openIdCacheService;
     private final GoogleOpenIdProperties openIdProperties;
     private final JwtService jwtService;
     private final RestTemplate restTemplate;
@@ -46,6 +47,7 @@ public class GoogleOpenIdService implements OpenIdService {
             @Qualifier("googleOpenIdTokenValidator") OpenIdTokenValidator openIdTokenValidator,
             @Qualifier("googleOpenIdDataExtractor") OpenIdDataExtractor<JWTClaimsSet> openIdDataExtractor,
             OpenIdUserService openIdUserService,
+            OpenIdCacheService openIdCacheService,
             GoogleOpenIdProperties openIdProperties,
             JwtService jwtService,
             RestTemplate restTemplate,
@@ -55,6 +57,7 @@ public class GoogleOpenIdService implements OpenIdService {
         this.openIdTokenValidator = openIdTokenValidator;
         this.openIdDataExtractor = openIdDataExtractor;
         this.openIdUserService = openIdUserService;
+        this.openIdCacheService = openIdCacheService;
         this.openIdProperties = openIdProperties;
         this.jwtService = jwtService;
         this.restTemplate = restTemplate;
@@ -77,6 +80,8 @@ public class GoogleOpenIdService implements OpenIdService {
 
         openIdStateValidator.validateState(state);
 
+        // Loads the signing keys while the auth code is exchanged, the validator then joins the same fetch
+        openIdCacheService.prefetch();
         String idToken = exchangeAuthCode(authCode);
 
         SignedJWT signedJWT = OpenIdJwtUtils.getJwt(idToken);
@@ -6,9 +6,7 @@ import com.jobflow.user_service.openId.OpenIdCacheService;
 import com.jobflow.user_service.openId.OpenIdJwtUtils;
 import com.jobflow.user_service.openId.OpenIdTokenValidator;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.RequiredArgsConstructor;
@@ -40,7 +38,7 @@ public class GoogleOpenIdTokenValidator implements OpenIdTokenValidator {
         validateIssuer(issuer);
         validateAudience(audience);
         validateExpirationTime(expirationTime);
-        validateJWKSet(idToken);
+        validateSignature(idToken);
 
         LOGGER.debug("Successfully id token validation");
     }
@@ -64,20 +62,14 @@ public class GoogleOpenIdTokenValidator implements OpenIdTokenValidator {
         }
     }
 
-    private void validateJWKSet(SignedJWT idToken) {
-        boolean isValid = false;
-        String keyId = idToken.getHeader().getKeyID();
-
-        JWKSet jwkSet = openIdCacheService.getJwkSet();
-        for (JWK jwk : jwkSet.getKeys()) {
-            if (jwk.getKeyID().equals(keyId)) {
-                try {
-                    RSASSAVerifier rsassaVerifier = new RSASSAVerifier(jwk.toRSAKey());
-                    isValid = idToken.verify(rsassaVerifier);
-                } catch (JOSEException e) {
-                    throw new OpenIdServiceException("JWK validate exception: " + e.getMessage(), e);
-                }
-            }
+    private void validateSignature(SignedJWT idToken) {
+        boolean isValid;
+        JWSVerifier verifier = openIdCacheService.getVerifier(idToken.getHeader().getKeyID());
+
+        try {
+            isValid = verifier != null && idToken.verify(verifier);
+        } catch (JOSEException e) {
+            throw new OpenIdServiceException("JWK validate exception: " + e.getMessage(), e);
         }
 
         if (!isValid) {
@@ -0,0 +1,50 @@
+package com.jobflow.user_service.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class PasswordHashingConfig {
+
+    public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    private final PasswordHashingProperties properties;
+
+    @Bean(name = PASSWORD_HASHING_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hashing-");
+        // Default AbortPolicy: a full queue is rejected right away and answered with 503
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Qualifier(PASSWORD_HASHING_EXECUTOR) ThreadPoolTaskExecutor executor,
+                                           MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+
+        // Hashes are stored with an "{id}" prefix. Older hashes have none and are plain bcrypt; they still match and
+        // are re-encoded on the next login, as are hashes with a lower cost than the configured one
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, executor, properties.getMaxWait(), meterRegistry);
+    }
+}
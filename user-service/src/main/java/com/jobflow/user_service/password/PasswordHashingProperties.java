@@ -0,0 +1,23 @@
+package com.jobflow.user_service.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    private int poolSize;
+
+    private int queueCapacity;
+
+    private Duration maxWait;
+
+    private int bcryptStrength;
+}
@@ -0,0 +1,21 @@
+package com.jobflow.user_service.rateLimiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@AllArgsConstructor
+public class LimitSpec {
+
+    private final String key;
+
+    private final int limit;
+
+    private final Duration timeout;
+
+    private final RateLimiterAlgorithm algorithm;
+
+    private final String message;
+}
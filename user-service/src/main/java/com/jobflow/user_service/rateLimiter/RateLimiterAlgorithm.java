@@ -0,0 +1,19 @@
+package com.jobflow.user_service.rateLimiter;
+
+public enum RateLimiterAlgorithm {
+
+    FIXED_WINDOW("scripts/rate-limiter/fixed_window.lua"),
+    SLIDING_WINDOW_COUNTER("scripts/rate-limiter/sliding_window_counter.lua"),
+    SLIDING_LOG("scripts/rate-limiter/sliding_log.lua"),
+    TOKEN_BUCKET("scripts/rate-limiter/token_bucket.lua");
+
+    private final String scriptPath;
+
+    RateLimiterAlgorithm(String scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public String getScriptPath() {
+        return scriptPath;
+    }
+}
@@ -1,5 +1,10 @@
 package com.jobflow.user_service.rateLimiter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 public final class RateLimiterKeyUtil {
 
     private RateLimiterKeyUtil() {
@@ -7,7 +12,13 @@ public final class RateLimiterKeyUtil {
     }
 
     public static String generateKey(String endpoint, String identifier) {
-        return String.format("rate_limiter:%s:%s", endpoint, identifier);
+        return endpoint + ":" + identifier;
+    }
+
+    // Every algorithm keeps a different Redis type under its key, so the algorithm is part of the prefix:
+    // switching an action to another algorithm never reads a key written by the previous one
+    public static String scriptKey(RateLimiterAlgorithm algorithm, String key) {
+        return String.format("rate_limiter:%s:%s", algorithm.name().toLowerCase(), key);
     }
 
     public static String generateIpKey(String endpoint, String identifier, String ip) {
@@ -18,4 +29,14 @@ public final class RateLimiterKeyUtil {
         return generateKey(endpoint, ip);
     }
 
+    // Logins are hashed so that raw emails do not end up in Redis keys
+    public static String hashLogin(String login) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(login.getBytes(StandardCharsets.UTF_8));
+            return "login-" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
 }
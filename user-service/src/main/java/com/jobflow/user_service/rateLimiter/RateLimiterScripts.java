@@ -0,0 +1,74 @@
+package com.jobflow.user_service.rateLimiter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class RateLimiterScripts {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimiterScripts.class);
+
+    private static final String MULTI_LIMIT_SCRIPT_PATH = "scripts/rate-limiter/multi_limit.lua";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<RateLimiterAlgorithm, RedisScript<Long>> scripts = new EnumMap<>(RateLimiterAlgorithm.class);
+    private final RedisScript<Long> multiLimitScript;
+
+    public RateLimiterScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+
+        for (RateLimiterAlgorithm algorithm : RateLimiterAlgorithm.values()) {
+            scripts.put(algorithm, createScript(algorithm.getScriptPath()));
+        }
+        this.multiLimitScript = createScript(MULTI_LIMIT_SCRIPT_PATH);
+    }
+
+    public RedisScript<Long> getScript(RateLimiterAlgorithm algorithm) {
+        return scripts.get(algorithm);
+    }
+
+    public RedisScript<Long> getMultiLimitScript() {
+        return multiLimitScript;
+    }
+
+    // Preloads the scripts so the first checks don't pay for the NOSCRIPT -> EVAL fallback.
+    // The fallback still covers a Redis restart or SCRIPT FLUSH later on.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scripts.forEach((algorithm, script) -> loadScript(connection, script));
+                loadScript(connection, multiLimitScript);
+                return null;
+            });
+            LOGGER.info("Loaded {} rate limiter scripts", scripts.size() + 1);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to load rate limiter scripts, they will be loaded on first use: {}", e.getMessage());
+        }
+    }
+
+    private static RedisScript<Long> createScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(Long.class);
+        script.getSha1(); // reads the script and caches its SHA, so every check goes straight to EVALSHA
+        return script;
+    }
+
+    private void loadScript(RedisConnection connection, RedisScript<Long> script) {
+        connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+}
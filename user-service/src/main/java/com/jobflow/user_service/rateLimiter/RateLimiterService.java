@@ -1,10 +1,21 @@
 package com.jobflow.user_service.rateLimiter;
 
 import java.time.Duration;
+import java.util.List;
 
 public interface RateLimiterService {
 
-    boolean isLimitExceeded(String key, int limit, Duration timeout);
+    boolean isLimitExceeded(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm);
 
-    void validateOrThrow(String key, int limit, Duration timeout, String message);
+    void validateOrThrow(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message);
+
+    void validateAll(List<LimitSpec> limits);
+
+    default boolean isLimitExceeded(String key, int limit, Duration timeout) {
+        return isLimitExceeded(key, limit, timeout, RateLimiterAlgorithm.FIXED_WINDOW);
+    }
+
+    default void validateOrThrow(String key, int limit, Duration timeout, String message) {
+        validateOrThrow(key, limit, timeout, RateLimiterAlgorithm.FIXED_WINDOW, message);
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -16,24 +18,43 @@ public class RedisRateLimiterService implements RateLimiterService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisRateLimiterService.class);
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiterScripts rateLimiterScripts;
 
     @Override
-    public boolean isLimitExceeded(String key, int limit, Duration timeout) {
-        Long count = redisTemplate.opsForValue().increment(key);
-        LOGGER.debug("Rate limiter checking for key [{}]: count = {}, limit = {}, timeout = {}s",
-                key, count, limit, timeout.getSeconds());
+    public boolean isLimitExceeded(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm) {
+        Long exceeded = redisTemplate.execute(
+                rateLimiterScripts.getScript(algorithm),
+                List.of(RateLimiterKeyUtil.scriptKey(algorithm, key)),
+                String.valueOf(limit),
+                String.valueOf(timeout.toMillis())
+        );
+        LOGGER.debug("Rate limiter checking for key [{}]: algorithm = {}, exceeded = {}, limit = {}, timeout = {}s",
+                key, algorithm, exceeded, limit, timeout.getSeconds());
+
+        return exceeded != null && exceeded == 1L;
+    }
 
-        if (count == 1) {
-            redisTemplate.expire(key, timeout);
+    @Override
+    public void validateOrThrow(String key, int limit, Duration timeout, RateLimiterAlgorithm algorithm, String message) {
+        if (isLimitExceeded(key, limit, timeout, algorithm)) {
+            throw new TooManyRequestsException(message);
         }
-
-        return count > limit;
     }
 
     @Override
-    public void validateOrThrow(String key, int limit, Duration timeout, String message) {
-        if (isLimitExceeded(key, limit, timeout)) {
-            throw new TooManyRequestsException(message);
+    public void validateAll(List<LimitSpec> limits) {
+        List<String> keys = limits.stream()
+                .map(limit -> RateLimiterKeyUtil.scriptKey(limit.getAlgorithm(), limit.getKey()))
+                .toList();
+        Object[] args = limits.stream()
+                .flatMap(limit -> Stream.of(limit.getAlgorithm().name(), String.valueOf(limit.getLimit()), String.valueOf(limit.getTimeout().toMillis())))
+                .toArray();
+
+        Long exceededIndex = redisTemplate.execute(rateLimiterScripts.getMultiLimitScript(), keys, args);
+        LOGGER.debug("Rate limiter checking for keys {}: exceeded index = {}", keys, exceededIndex);
+
+        if (exceededIndex != null && exceededIndex > 0) {
+            throw new TooManyRequestsException(limits.get(exceededIndex.intValue() - 1).getMessage());
         }
     }
 }
@@ -37,6 +37,6 @@ public class RegisterRequest {
     @Schema(description = "User password", example = "abcde")
     private String password;
 
-    @Schema(description = "User avatar as byte array. Set manually from MultipartFile", accessMode = READ_ONLY)
-    private byte[] avatar;
+    @Schema(description = "Token of the staged avatar. Set manually from MultipartFile", accessMode = READ_ONLY)
+    private String avatarToken;
 }
@@ -1,9 +1,13 @@
 package com.jobflow.user_service.register;
 
+import com.jobflow.user_service.avatar.AvatarService;
 import com.jobflow.user_service.email.EmailVerificationService;
 import com.jobflow.user_service.exception.FileServiceException;
 import com.jobflow.user_service.exception.UserAlreadyExistsException;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.loginFilter.LoginFilter;
+import com.jobflow.user_service.rateLimiter.LimitSpec;
+import com.jobflow.user_service.rateLimiter.RateLimiterAlgorithm;
 import com.jobflow.user_service.rateLimiter.RateLimiterKeyUtil;
 import com.jobflow.user_service.rateLimiter.RateLimiterService;
 import com.jobflow.user_service.user.AuthProvider;
@@ -18,7 +22,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -31,32 +37,38 @@ public class RegisterServiceImpl implements RegisterService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final RateLimiterService rateLimiterService;
+    private final AvatarService avatarService;
+    private final LoginFilter loginFilter;
 
     @Override
     public void register(RegisterRequest registerRequest, MultipartFile avatar, String clientIp) {
         LOGGER.debug("Starting user registration with login: {}", registerRequest.getLogin());
         registerRequest.setLogin(setLoginLowercase(registerRequest.getLogin()));
 
-        if (userRepository.existsByLogin(registerRequest.getLogin())) {
+        rateLimiterService.validateAll(List.of(
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateIpKey("register", clientIp),
+                        10,
+                        Duration.ofHours(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many register attempts from this IP"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateKey("register", RateLimiterKeyUtil.hashLogin(registerRequest.getLogin())),
+                        5,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many register attempts. Try again in a minute"
+                )
+        ));
+
+        // A login the filter has never seen is definitely new, so only possible matches are checked in the DB
+        if (loginFilter.mightExist(registerRequest.getLogin()) && userRepository.existsByLogin(registerRequest.getLogin())) {
             throw new UserAlreadyExistsException("User with login: " + registerRequest.getLogin() + " already exists");
         }
 
-        rateLimiterService.validateOrThrow(
-                RateLimiterKeyUtil.generateIpKey("register", clientIp),
-                10,
-                Duration.ofHours(1),
-                "Too many register attempts from this IP"
-        );
-
-        rateLimiterService.validateOrThrow(
-                RateLimiterKeyUtil.generateKey("register", registerRequest.getLogin()),
-                5,
-                Duration.ofMinutes(1),
-                "Too many register attempts. Try again in a minute"
-        );
-
         registerRequest.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-        registerRequest.setAvatar(getAvatarBytes(avatar));
+        registerRequest.setAvatarToken(stageAvatar(avatar));
 
         emailVerificationService.sendVerificationCode(registerRequest);
         LOGGER.debug("Successfully sent verification code to user with login: {} for registration", registerRequest.getLogin());
@@ -68,20 +80,27 @@ public class RegisterServiceImpl implements RegisterService {
         confirmCodeRequest.setLogin(setLoginLowercase(confirmCodeRequest.getLogin()));
 
         rateLimiterService.validateOrThrow(
-                RateLimiterKeyUtil.generateKey("confirmCode", confirmCodeRequest.getLogin()),
+                RateLimiterKeyUtil.generateKey("confirmCode", RateLimiterKeyUtil.hashLogin(confirmCodeRequest.getLogin())),
                 5,
                 Duration.ofMinutes(1),
+                RateLimiterAlgorithm.SLIDING_LOG,
                 "Too many incorrect code attempts. Try again in a minute"
         );
 
         RegisterRequest registerRequest = emailVerificationService.validateVerificationCode(confirmCodeRequest);
 
+        // The login may have been taken since the code was sent, e.g. by a parallel registration or while
+        // the login filter of the instance that accepted it was not up to date
+        if (userRepository.existsByLogin(registerRequest.getLogin())) {
+            throw new UserAlreadyExistsException("User with login: " + registerRequest.getLogin() + " already exists");
+        }
+
         User user = userRepository.save(User.builder()
                 .firstname(registerRequest.getFirstname())
                 .lastname(registerRequest.getLastname())
                 .login(registerRequest.getLogin())
                 .password(registerRequest.getPassword())
-                .avatar(registerRequest.getAvatar())
+                .avatarId(avatarService.commitStaged(registerRequest.getAvatarToken()))
                 .role(Role.ROLE_USER)
                 .authProvider(AuthProvider.LOCAL)
                 .build());
@@ -99,7 +118,7 @@ public class RegisterServiceImpl implements RegisterService {
         resendCodeRequest.setLogin(setLoginLowercase(resendCodeRequest.getLogin()));
 
         rateLimiterService.validateOrThrow(
-                RateLimiterKeyUtil.generateKey("resendCode", resendCodeRequest.getLogin()),
+                RateLimiterKeyUtil.generateKey("resendCode", RateLimiterKeyUtil.hashLogin(resendCodeRequest.getLogin())),
                 5,
                 Duration.ofMinutes(1),
                 "Too many resend code attempts. Try again in a minute"
@@ -113,17 +132,16 @@ public class RegisterServiceImpl implements RegisterService {
         return login.toLowerCase();
     }
 
-    private byte[] getAvatarBytes(MultipartFile avatar) {
-        byte[] avatarBytes = null;
-
-        if (avatar != null && !avatar.isEmpty()) {
-            try {
-                avatarBytes = avatar.getBytes();
-            } catch (IOException e) {
-                throw new FileServiceException("Failed to get bytes from avatar: " + e.getMessage(), e);
-            }
+    // The avatar is streamed to the staging area once; only its token goes into the pending registration
+    private String stageAvatar(MultipartFile avatar) {
+        if (avatar == null || avatar.isEmpty()) {
+            return null;
         }
 
-        return avatarBytes;
+        try (InputStream content = avatar.getInputStream()) {
+            return avatarService.stage(content);
+        } catch (IOException e) {
+            throw new FileServiceException("Failed to read avatar: " + e.getMessage(), e);
+        }
     }
 }
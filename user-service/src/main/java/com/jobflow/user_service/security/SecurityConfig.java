@@ -34,6 +34,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(httpReq -> httpReq
                         .requestMatchers("/api/v1/auth","/api/v1/auth/refresh", "/api/v1/register/**", "/api/v1/openid/**").permitAll()
                         .requestMatchers("/api/v1/users/info", "/api/v1/users/telegram").permitAll()
+                        .requestMatchers("/api/v1/avatars/**").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated())
@@ -0,0 +1,60 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import com.jobflow.user_service.bloomFilter.BloomFilter;
+
+/**
+ * Two {@link BloomFilter} generations, each covering one window of time. Values go into the current
+ * generation and are looked up in both; when a new window starts the older generation is dropped.
+ * A value therefore stays visible for at least one full window after it was added, which is enough for
+ * entries that expire within a window, while the filter stops growing.
+ */
+class TimePartitionedBloomFilter {
+
+    private final long windowMillis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile long currentWindow;
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    TimePartitionedBloomFilter(long windowMillis, long expectedInsertions, double falsePositiveRate, long now) {
+        this.windowMillis = windowMillis;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.currentWindow = now / windowMillis;
+        this.current = newGeneration();
+        this.previous = newGeneration();
+    }
+
+    void put(String value, long now) {
+        rotateIfNeeded(now);
+        current.put(value);
+    }
+
+    boolean mightContain(String value, long now) {
+        rotateIfNeeded(now);
+        return current.mightContain(value) || previous.mightContain(value);
+    }
+
+    private void rotateIfNeeded(long now) {
+        long window = now / windowMillis;
+        if (window == currentWindow) {
+            return;
+        }
+
+        synchronized (this) {
+            if (window <= currentWindow) {
+                return;
+            }
+            // After a gap longer than a window the current generation is too old to keep as well
+            previous = window == currentWindow + 1 ? current : newGeneration();
+            current = newGeneration();
+            currentWindow = window;
+        }
+    }
+
+    private BloomFilter newGeneration() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
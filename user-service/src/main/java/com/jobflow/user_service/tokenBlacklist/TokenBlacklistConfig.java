@@ -0,0 +1,23 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class TokenBlacklistConfig {
+
+    public static final String TOKEN_REVOKED_CHANNEL = "tokenBlacklist:revoked";
+
+    @Bean
+    public RedisMessageListenerContainer tokenBlacklistListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         TokenBlacklistSubscriber tokenBlacklistSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenBlacklistSubscriber, new ChannelTopic(TOKEN_REVOKED_CHANNEL));
+
+        return container;
+    }
+}
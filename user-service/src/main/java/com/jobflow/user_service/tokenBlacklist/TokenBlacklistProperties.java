@@ -0,0 +1,17 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "token-blacklist.bloom")
+@Getter
+@Setter
+public class TokenBlacklistProperties {
+
+    private long expectedInsertions;
+
+    private double falsePositiveRate;
+}
@@ -0,0 +1,10 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+public interface TokenBlacklistService {
+
+    void revoke(String tokenId, long ttlSeconds);
+
+    boolean isRevoked(String tokenId);
+
+    void addToFilter(String tokenId);
+}
@@ -0,0 +1,102 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh-token blacklist stored in Redis, with an in-memory Bloom filter in front of it.
+ * <p>
+ * Almost no refreshed token is revoked, so a negative answer from the filter skips the Redis lookup;
+ * only possible hits are confirmed in Redis. The filter is loaded from Redis on startup, receives new
+ * revocations from every instance through pub/sub and is periodically re-synced to cover missed messages.
+ * Until the first load succeeds every check goes to Redis.
+ */
+@Service
+public class TokenBlacklistServiceImpl implements TokenBlacklistService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenBlacklistServiceImpl.class);
+
+    private static final String BLACKLIST_KEY = "blacklist:refresh:%s";
+    private static final String BLACKLIST_KEY_PREFIX = "blacklist:refresh:";
+    private static final long SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TimePartitionedBloomFilter filter;
+
+    private volatile boolean loaded;
+
+    public TokenBlacklistServiceImpl(RedisTemplate<String, String> redisTemplate,
+                                     TokenBlacklistProperties properties,
+                                     @Value("${jwt.refresh-expiration-time}") long refreshExpirationTime) {
+        this.redisTemplate = redisTemplate;
+        // A revoked token stays blacklisted for at most its remaining lifetime, so one window per lifetime is enough
+        this.filter = new TimePartitionedBloomFilter(
+                refreshExpirationTime,
+                properties.getExpectedInsertions(),
+                properties.getFalsePositiveRate(),
+                System.currentTimeMillis()
+        );
+    }
+
+    @Override
+    public void revoke(String tokenId, long ttlSeconds) {
+        redisTemplate.opsForValue().set(String.format(BLACKLIST_KEY, tokenId), "true", ttlSeconds, TimeUnit.SECONDS);
+        addToFilter(tokenId);
+
+        try {
+            redisTemplate.convertAndSend(TokenBlacklistConfig.TOKEN_REVOKED_CHANNEL, tokenId);
+        } catch (RuntimeException e) {
+            // Other instances pick the token up on their next re-sync
+            LOGGER.warn("Failed to publish revoked refresh token with jti: {}: {}", tokenId, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (loaded && !filter.mightContain(tokenId, System.currentTimeMillis())) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.hasKey(String.format(BLACKLIST_KEY, tokenId)));
+    }
+
+    @Override
+    public void addToFilter(String tokenId) {
+        filter.put(tokenId, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${token-blacklist.resync-interval}", initialDelayString = "${token-blacklist.resync-interval}")
+    public void resync() {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                addToFilter(keys.next().substring(BLACKLIST_KEY_PREFIX.length()));
+                count++;
+            }
+            loaded = true;
+            LOGGER.debug("Synced {} revoked refresh tokens into the Bloom filter", count);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to sync revoked refresh tokens from Redis: {}", e.getMessage());
+        }
+    }
+}
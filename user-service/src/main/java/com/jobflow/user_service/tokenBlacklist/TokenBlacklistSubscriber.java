@@ -0,0 +1,30 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives ids of refresh tokens revoked on any instance and adds them to the Bloom filter of this one.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenBlacklistSubscriber.class);
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenId = new String(message.getBody(), StandardCharsets.UTF_8);
+        LOGGER.debug("Received revoked refresh token with jti: {}", tokenId);
+
+        tokenBlacklistService.addToFilter(tokenId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobflow.user_service.tokenVersion;
+
+public interface TokenVersionService {
+
+    long getVersion(Long userId);
+
+    long increment(Long userId);
+
+    void update(Long userId, long version);
+}
@@ -0,0 +1,109 @@
+package com.jobflow.user_service.tokenVersion;
+
+import com.jobflow.user_service.cache.ExpiringCache;
+import com.jobflow.user_service.exception.UserNotFoundException;
+import com.jobflow.user_service.user.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Per-user token version. Every issued token carries the version it was issued with, and logout-all bumps it,
+ * so all older tokens of the user are rejected at once.
+ * <p>
+ * The version lives in the {@code users} table and is mirrored in Redis under {@code token_version:<userId>}, which
+ * is what resource services read. Every instance keeps the versions in memory and receives bumps through pub/sub;
+ * the TTL bounds staleness if a message is missed. Users that never logged out everywhere have no Redis key.
+ */
+@Service
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenVersionServiceImpl.class);
+
+    private static final String TOKEN_VERSION_KEY = "token_version:%s";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final ExpiringCache<Long, Long> entries;
+
+    public TokenVersionServiceImpl(RedisTemplate<String, String> redisTemplate,
+                                   UserRepository userRepository,
+                                   @Value("${token-version.cache-ttl}") Duration ttl,
+                                   @Value("${token-version.cache-max-size}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    @Override
+    public long getVersion(Long userId) {
+        Long cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = load(userId);
+        update(userId, version);
+
+        return version;
+    }
+
+    @Override
+    public long increment(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new UserNotFoundException("User with id: " + userId + " not found");
+        }
+        long version = userRepository.findTokenVersionById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User with id: " + userId + " not found"));
+
+        redisTemplate.opsForValue().set(String.format(TOKEN_VERSION_KEY, userId), String.valueOf(version));
+        update(userId, version);
+
+        try {
+            redisTemplate.convertAndSend(TokenVersionConfig.TOKEN_VERSION_CHANNEL, userId + ":" + version);
+        } catch (RuntimeException e) {
+            // Other instances see the new version once their cached one expires
+            LOGGER.warn("Failed to publish token version: {} of userId: {}: {}", version, userId, e.getMessage());
+        }
+
+        LOGGER.debug("Incremented token version of userId: {} to {}", userId, version);
+        return version;
+    }
+
+    @Override
+    public void update(Long userId, long version) {
+        // Versions only grow, so a late message or a stale read never moves one back
+        entries.merge(userId, version, System.currentTimeMillis() + ttlMillis, Math::max);
+    }
+
+    private long load(Long userId) {
+        String key = String.format(TOKEN_VERSION_KEY, userId);
+        try {
+            String version = redisTemplate.opsForValue().get(key);
+            if (version != null) {
+                return Long.parseLong(version);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to read token version of userId: {} from Redis: {}", userId, e.getMessage());
+            return findVersion(userId);
+        }
+
+        long version = findVersion(userId);
+        if (version > 0) {
+            // The key was lost, e.g. Redis was flushed: restore it for resource services
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(version));
+        }
+
+        return version;
+    }
+
+    private long findVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(0L);
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobflow.user_service.tokenVersion;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Receives token versions bumped on any instance, published as {@code <userId>:<version>}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionSubscriber implements MessageListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenVersionSubscriber.class);
+
+    private final TokenVersionService tokenVersionService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+
+        try {
+            Long userId = Long.valueOf(body.substring(0, separator));
+            long version = Long.parseLong(body.substring(separator + 1));
+            LOGGER.debug("Received token version: {} of userId: {}", version, userId);
+
+            tokenVersionService.update(userId, version);
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to parse token version message: {}", body, e);
+        }
+    }
+}
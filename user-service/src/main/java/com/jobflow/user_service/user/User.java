@@ -1,5 +1,6 @@
 package com.jobflow.user_service.user;
 
+import com.jobflow.user_service.loginFilter.LoginFilterListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,7 +14,12 @@ import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "users")
+// The provider unique key is the ON CONFLICT target of UserRepository.insertOpenIdUserIfAbsent
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(
+        name = "uk_users_auth_provider_id",
+        columnNames = {"auth_provider", "auth_provider_id"}
+))
+@EntityListeners({UserPrincipalCacheListener.class, LoginFilterListener.class})
 @Data
 @Builder
 @NoArgsConstructor
@@ -36,8 +42,9 @@ public class User implements UserDetails {
     @Column(name = "password", length = 100)
     private String password;
 
-    @Column(name = "avatar", columnDefinition = "bytea")
-    private byte[] avatar;
+    // Reference into the avatar store, the image itself is not kept in this table
+    @Column(name = "avatar_id", length = 100)
+    private String avatarId;
 
     @Enumerated(value = STRING)
     @Column(name = "role", nullable = false)
@@ -53,6 +60,10 @@ public class User implements UserDetails {
     @Column(name = "telegram_chat_id", unique = true)
     private Long telegramChatId;
 
+    // Embedded in issued tokens and bumped by logout-all, see TokenVersionService
+    @Column(name = "token_version", nullable = false, columnDefinition = "bigint not null default 0")
+    private long tokenVersion;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.name()));
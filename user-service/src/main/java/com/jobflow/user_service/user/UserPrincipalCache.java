@@ -0,0 +1,54 @@
+package com.jobflow.user_service.user;
+
+import com.jobflow.user_service.cache.ExpiringCache;
+import com.jobflow.user_service.exception.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived in-process cache of {@link UserPrincipal} used by the JWT filter, so an authenticated request
+ * does not load the whole user row. Entries are evicted by {@link UserPrincipalCacheListener} when the user
+ * is updated or deleted; the TTL bounds staleness on other instances.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final ExpiringCache<Long, UserPrincipal> entries;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${user.principal-cache.ttl}") Duration ttl,
+                              @Value("${user.principal-cache.max-size}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    public UserPrincipal getPrincipal(Long userId) {
+        UserPrincipal cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserPrincipal principal = userRepository.findPrincipalById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User with id: " + userId + " not found"));
+        LOGGER.debug("Loaded principal: {}", principal.displayInfo());
+
+        entries.put(userId, principal, System.currentTimeMillis() + ttlMillis);
+
+        return principal;
+    }
+
+    public void evict(Long userId) {
+        if (entries.remove(userId)) {
+            LOGGER.debug("Evicted cached principal for userId: {}", userId);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jobflow.user_service.user;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts the cached principal whenever a user row changes (role, login, linked accounts) or is removed.
+ * Instantiated by Hibernate through the Spring bean container.
+ */
+@RequiredArgsConstructor
+public class UserPrincipalCacheListener {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        userPrincipalCache.evict(user.getId());
+    }
+}
@@ -1,9 +1,19 @@
 package com.jobflow.user_service.user;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -13,4 +23,64 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAuthProviderAndAuthProviderId(AuthProvider provider, String authProviderId);
 
     boolean existsByLogin(String login);
+
+    // Rows are read from the cursor in batches of the fetch size instead of being loaded at once.
+    // Must be consumed inside a transaction: PostgreSQL ignores the fetch size in autocommit mode.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.login FROM User u WHERE u.login IS NOT NULL")
+    Stream<String> streamAllLogins();
+
+    // Constructor projection: only the columns needed by the security context are selected
+    @Query("SELECT new com.jobflow.user_service.user.UserPrincipal(u.id, u.login, u.role) FROM User u WHERE u.id = :id")
+    Optional<UserPrincipal> findPrincipalById(@Param("id") Long id);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    // Concurrent first logins with the same account insert one row, the others get 0 instead of a constraint violation
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO users (firstname, lastname, role, auth_provider, auth_provider_id, token_version)
+            VALUES (:firstname, :lastname, :role, :authProvider, :authProviderId, 0)
+            ON CONFLICT (auth_provider, auth_provider_id) DO NOTHING
+            """)
+    int insertOpenIdUserIfAbsent(@Param("firstname") String firstname,
+                                 @Param("lastname") String lastname,
+                                 @Param("role") String role,
+                                 @Param("authProvider") String authProvider,
+                                 @Param("authProviderId") String authProviderId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.avatarId = :avatarId WHERE u.id = :id")
+    int updateAvatarId(@Param("id") Long id, @Param("avatarId") String avatarId);
+
+    // The avatar bytea column is no longer mapped; ddl-auto keeps it on databases created before the avatar store
+    @Query(nativeQuery = true, value = """
+            SELECT EXISTS (SELECT 1 FROM information_schema.columns WHERE table_name = 'users' AND column_name = 'avatar')
+            """)
+    boolean hasLegacyAvatarColumn();
+
+    @Query(nativeQuery = true, value = "SELECT id FROM users WHERE avatar IS NOT NULL AND id > :afterId ORDER BY id LIMIT :limit")
+    List<Long> findIdsWithLegacyAvatar(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = "SELECT avatar FROM users WHERE id = :id")
+    byte[] findLegacyAvatar(@Param("id") Long id);
+
+    // An avatar set since then is kept, the legacy bytes are cleared either way
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE users SET avatar_id = COALESCE(avatar_id, :avatarId), avatar = NULL WHERE id = :id")
+    int moveLegacyAvatar(@Param("id") Long id, @Param("avatarId") String avatarId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
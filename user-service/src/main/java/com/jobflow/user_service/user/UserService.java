@@ -2,7 +2,7 @@ package com.jobflow.user_service.user;
 
 public interface UserService {
 
-    User getCurrentUser();
+    UserPrincipal getCurrentUser();
 
     UserInfoDto getUserInfo(Long userId, String apiKey);
 
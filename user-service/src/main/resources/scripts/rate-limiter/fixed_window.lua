@@ -0,0 +1,11 @@
+-- KEYS[1] - counter key, ARGV[1] - limit, ARGV[2] - window in milliseconds.
+-- Returns 1 if the limit is exceeded, 0 otherwise.
+local count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+if count > tonumber(ARGV[1]) then
+    return 1
+end
+return 0
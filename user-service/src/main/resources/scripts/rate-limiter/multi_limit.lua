@@ -0,0 +1,85 @@
+-- KEYS - one key per limit, ARGV - {algorithm, limit, window in milliseconds} for every key.
+-- All limits are checked first and only then applied, so a request rejected by one limit
+-- does not consume the quota of the others. Each algorithm keeps the same state as its single-key
+-- script, but here a rejected request is never recorded: FIXED_WINDOW reads the counter with GET and
+-- only increments it once every limit has passed, while fixed_window.lua also counts rejected calls.
+-- Returns 0 if every limit passed, otherwise the 1-based index of the first exceeded limit.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local states = {}
+
+for i, key in ipairs(KEYS) do
+    local algorithm = ARGV[(i - 1) * 3 + 1]
+    local limit = tonumber(ARGV[(i - 1) * 3 + 2])
+    local window = tonumber(ARGV[(i - 1) * 3 + 3])
+    local state = {algorithm = algorithm, limit = limit, window = window}
+
+    if algorithm == 'FIXED_WINDOW' then
+        local count = tonumber(redis.call('GET', key)) or 0
+        if count + 1 > limit then
+            return i
+        end
+    elseif algorithm == 'SLIDING_WINDOW_COUNTER' then
+        local currentWindow = math.floor(now / window)
+        local data = redis.call('HMGET', key, 'window', 'current', 'previous')
+        local storedWindow = tonumber(data[1])
+        local current = tonumber(data[2]) or 0
+        local previous = tonumber(data[3]) or 0
+        if storedWindow ~= currentWindow then
+            if storedWindow == currentWindow - 1 then
+                previous = current
+            else
+                previous = 0
+            end
+            current = 0
+        end
+
+        local elapsed = (now - currentWindow * window) / window
+        if previous * (1 - elapsed) + current + 1 > limit then
+            return i
+        end
+        state.currentWindow = currentWindow
+        state.current = current
+        state.previous = previous
+    elseif algorithm == 'SLIDING_LOG' then
+        redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+        local count = redis.call('ZCARD', key)
+        if count >= limit then
+            return i
+        end
+        state.count = count
+    elseif algorithm == 'TOKEN_BUCKET' then
+        local data = redis.call('HMGET', key, 'tokens', 'timestamp')
+        local tokens = tonumber(data[1]) or limit
+        local timestamp = tonumber(data[2]) or now
+        tokens = math.min(limit, tokens + math.max(0, now - timestamp) * limit / window)
+        if tokens < 1 then
+            return i
+        end
+        state.tokens = tokens
+    else
+        return redis.error_reply('Unknown rate limiter algorithm: ' .. tostring(algorithm))
+    end
+
+    states[i] = state
+end
+
+for i, key in ipairs(KEYS) do
+    local state = states[i]
+    if state.algorithm == 'FIXED_WINDOW' then
+        if redis.call('INCR', key) == 1 then
+            redis.call('PEXPIRE', key, state.window)
+        end
+    elseif state.algorithm == 'SLIDING_WINDOW_COUNTER' then
+        redis.call('HSET', key, 'window', state.currentWindow, 'current', state.current + 1, 'previous', state.previous)
+        redis.call('PEXPIRE', key, state.window * 2)
+    elseif state.algorithm == 'SLIDING_LOG' then
+        redis.call('ZADD', key, now, time[1] .. '.' .. time[2] .. ':' .. state.count)
+        redis.call('PEXPIRE', key, state.window)
+    else
+        redis.call('HSET', key, 'tokens', tostring(state.tokens - 1), 'timestamp', now)
+        redis.call('PEXPIRE', key, state.window)
+    end
+end
+
+return 0
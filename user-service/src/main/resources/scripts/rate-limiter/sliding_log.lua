@@ -0,0 +1,18 @@
+-- KEYS[1] - sorted set key, ARGV[1] - limit, ARGV[2] - window in milliseconds.
+-- Keeps the timestamp of every accepted request of the last window. Exact, but stores
+-- up to "limit" entries per key, so it is meant for small limits.
+-- Rejected requests are not logged. Returns 1 if the limit is exceeded, 0 otherwise.
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+if count >= limit then
+    return 1
+end
+
+redis.call('ZADD', KEYS[1], now, time[1] .. '.' .. time[2] .. ':' .. count)
+redis.call('PEXPIRE', KEYS[1], window)
+return 0
@@ -114,6 +114,10 @@ public final class TestUtil {
                 .build();
     }
 
+    public static UserPrincipal createUserPrincipal() {
+        return new UserPrincipal(Long.valueOf(USER_ID), LOGIN, Role.ROLE_USER);
+    }
+
     public static UserInfoDto createUserInfo() {
         return UserInfoDto.builder()
                 .email(LOGIN)
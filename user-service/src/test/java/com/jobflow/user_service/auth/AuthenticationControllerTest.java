@@ -3,6 +3,7 @@ package com.jobflow.user_service.auth;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.exception.ServiceUnavailableException;
 import com.jobflow.user_service.exception.TokenRevokedException;
 import com.jobflow.user_service.exception.TooManyRequestsException;
 import com.jobflow.user_service.exception.UserNotFoundException;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -133,6 +135,24 @@ class AuthenticationControllerTest {
         verify(authenticationService, times(1)).auth(eq(authenticationRequest), any(String.class));
     }
 
+    @Test
+    public void auth_hashingPoolSaturated_returnServiceUnavailable() throws Exception {
+        var serviceUnavailableException = new ServiceUnavailableException("Server is busy. Try again later");
+        when(authenticationService.auth(eq(authenticationRequest), any(String.class))).thenThrow(serviceUnavailableException);
+
+        mockMvc.perform(post("/api/v1/auth")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(authenticationRequestJson))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.message").value(serviceUnavailableException.getMessage()))
+                .andExpect(jsonPath("$.time").exists())
+                .andExpect(jsonPath("$.status").value(HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+        verify(authenticationService, times(1)).auth(eq(authenticationRequest), any(String.class));
+    }
+
     @Test
     public void logout_successfullyRevokeToken() throws Exception {
         doNothing().when(authenticationService).logout(logoutRequest);
@@ -5,6 +5,7 @@ import com.jobflow.user_service.TestUtil;
 import com.jobflow.user_service.exception.UserNotFoundException;
 import com.jobflow.user_service.handler.ResponseError;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.tokenBlacklist.TokenBlacklistService;
 import com.jobflow.user_service.user.User;
 import com.jobflow.user_service.user.UserRepository;
 import io.jsonwebtoken.Jwts;
@@ -45,6 +46,9 @@ public class AuthenticationIT extends BaseIT {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenBlacklistService tokenBlacklistService;
+
     private AuthenticationRequest authenticationRequest;
 
     private User savedUser;
@@ -266,6 +270,43 @@ public class AuthenticationIT extends BaseIT {
         assertNotNull(error.getTime());
     }
 
+    @Test
+    public void logoutAll_revokeAllTokens() {
+        AuthenticationResponse firstSession = authenticateUser();
+        AuthenticationResponse secondSession = authenticateUser();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(firstSession.getAccessToken());
+
+        ResponseEntity<Void> response = restTemplate.exchange(
+                "/api/v1/auth/logout-all",
+                HttpMethod.POST,
+                new HttpEntity<>(headers),
+                Void.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1", redisTemplate.opsForValue().get("token_version:" + savedUser.getId()));
+
+        HttpHeaders secondHeaders = new HttpHeaders();
+        secondHeaders.setBearerAuth(secondSession.getAccessToken());
+        ResponseEntity<ResponseError> accessResponse = restTemplate.exchange(
+                "/api/v1/auth/logout-all",
+                HttpMethod.POST,
+                new HttpEntity<>(secondHeaders),
+                ResponseError.class
+        );
+        assertEquals(HttpStatus.UNAUTHORIZED, accessResponse.getStatusCode());
+
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(secondSession.getRefreshToken());
+        ResponseEntity<ResponseError> refreshResponse = restTemplate.exchange(
+                "/api/v1/auth/refresh",
+                HttpMethod.POST,
+                TestUtil.createRequest(refreshTokenRequest),
+                ResponseError.class
+        );
+        assertEquals(HttpStatus.UNAUTHORIZED, refreshResponse.getStatusCode());
+    }
+
     @Test
     public void refresh_returnAccessToken() {
         AuthenticationResponse authenticationResponse = authenticateUser();
@@ -403,10 +444,7 @@ public class AuthenticationIT extends BaseIT {
     }
 
     private void revokeToken(String refreshTokenId) {
-        redisTemplate.opsForValue().set(
-                "blacklist:refresh:" + refreshTokenId,
-                "true",
-                Duration.ofMinutes(1L));
+        tokenBlacklistService.revoke(refreshTokenId, Duration.ofMinutes(1L).toSeconds());
     }
 
     private void initDb() {
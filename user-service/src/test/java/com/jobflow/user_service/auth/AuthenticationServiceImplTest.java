@@ -5,9 +5,14 @@ import com.jobflow.user_service.exception.TokenRevokedException;
 import com.jobflow.user_service.exception.TooManyRequestsException;
 import com.jobflow.user_service.exception.UserNotFoundException;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.rateLimiter.LimitSpec;
+import com.jobflow.user_service.rateLimiter.RateLimiterAlgorithm;
 import com.jobflow.user_service.rateLimiter.RateLimiterKeyUtil;
 import com.jobflow.user_service.rateLimiter.RateLimiterService;
+import com.jobflow.user_service.tokenBlacklist.TokenBlacklistService;
+import com.jobflow.user_service.tokenVersion.TokenVersionService;
 import com.jobflow.user_service.user.User;
+import com.jobflow.user_service.user.UserPrincipal;
 import com.jobflow.user_service.user.UserRepository;
 import com.jobflow.user_service.user.UserService;
 import io.jsonwebtoken.Claims;
@@ -18,8 +23,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,8 +31,8 @@ import org.springframework.security.core.Authentication;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -55,10 +58,10 @@ class AuthenticationServiceImplTest {
     private Claims claims;
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private TokenBlacklistService tokenBlacklistService;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private TokenVersionService tokenVersionService;
 
     @Mock
     private UserRepository userRepository;
@@ -71,6 +74,8 @@ class AuthenticationServiceImplTest {
 
     private User user;
 
+    private UserPrincipal userPrincipal;
+
     private AuthenticationRequest authenticationRequest;
 
     private LogoutRequest logoutRequest;
@@ -89,6 +94,7 @@ class AuthenticationServiceImplTest {
         refreshTokenRequest = TestUtil.createRefreshRequest();
 
         user = TestUtil.createUser();
+        userPrincipal = TestUtil.createUserPrincipal();
 
         usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                 user.getId(),
@@ -141,18 +147,35 @@ class AuthenticationServiceImplTest {
     @Test
     public void auth_tooManyRequests_throwExc() {
         var tooManyRequestsException = new TooManyRequestsException("Too many login attempts. Try again in a minute");
-        when(userRepository.findByLogin(authenticationRequest.getLogin())).thenReturn(Optional.of(user));
-        doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateIpKey("auth", authenticationRequest.getLogin(), "test-ip"),
-                5,
-                Duration.ofMinutes(1),
-                "Too many login attempts. Try again in a minute"
-        );
+        String loginHash = RateLimiterKeyUtil.hashLogin(authenticationRequest.getLogin().toLowerCase());
+        doThrow(tooManyRequestsException).when(rateLimiterService).validateAll(List.of(
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateIpKey("auth", "test-ip"),
+                        30,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many login attempts from this IP. Try again in a minute"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateIpKey("auth", loginHash, "test-ip"),
+                        5,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_LOG,
+                        "Too many login attempts. Try again in a minute"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateKey("auth", loginHash),
+                        20,
+                        Duration.ofMinutes(15),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many login attempts for this account. Try again later"
+                )
+        ));
 
         var result = assertThrows(TooManyRequestsException.class, () -> authenticationService.auth(authenticationRequest, "test-ip"));
 
         assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
-        verifyNoInteractions(jwtService);
+        verifyNoInteractions(jwtService, userRepository);
     }
 
     @Test
@@ -160,21 +183,15 @@ class AuthenticationServiceImplTest {
         Date expiration = Date.from(Instant.now().plusSeconds(3600L));
         ArgumentCaptor<Long> ttlCaptor = ArgumentCaptor.forClass(Long.class);
 
-        when(userService.getCurrentUser()).thenReturn(user);
+        when(userService.getCurrentUser()).thenReturn(userPrincipal);
         when(jwtService.extractClaims(logoutRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getExpiration()).thenReturn(expiration);
         when(claims.getId()).thenReturn(TOKEN_ID);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         authenticationService.logout(logoutRequest);
 
         verify(jwtService, times(1)).extractClaims(logoutRequest.getRefreshToken());
-        verify(valueOperations, times(1)).set(
-                eq("blacklist:refresh:" + TOKEN_ID),
-                eq("true"),
-                ttlCaptor.capture(),
-                eq(TimeUnit.SECONDS)
-        );
+        verify(tokenBlacklistService, times(1)).revoke(eq(TOKEN_ID), ttlCaptor.capture());
 
         Long ttl = ttlCaptor.getValue();
         assertTrue(ttl >= 3595L && ttl <= 3600L);
@@ -184,20 +201,20 @@ class AuthenticationServiceImplTest {
     public void logout_expiredToken_skipBlacklist() {
         Date expiration = Date.from(Instant.now().minusSeconds(60L));
 
-        when(userService.getCurrentUser()).thenReturn(user);
+        when(userService.getCurrentUser()).thenReturn(userPrincipal);
         when(jwtService.extractClaims(logoutRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getExpiration()).thenReturn(expiration);
         when(claims.getId()).thenReturn(TOKEN_ID);
 
         authenticationService.logout(logoutRequest);
 
-        verifyNoInteractions(redisTemplate, valueOperations);
+        verifyNoInteractions(tokenBlacklistService);
     }
 
     @Test
     public void logout_tooManyRequests_throwExc() {
         var tooManyRequestsException = new TooManyRequestsException("Too many logout attempts. Try again in a minute");
-        when(userService.getCurrentUser()).thenReturn(user);
+        when(userService.getCurrentUser()).thenReturn(userPrincipal);
         when(jwtService.extractClaims(logoutRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getSubject()).thenReturn(TestUtil.USER_ID);
         doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
@@ -210,14 +227,41 @@ class AuthenticationServiceImplTest {
         var result = assertThrows(TooManyRequestsException.class, () -> authenticationService.logout(logoutRequest));
         assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
 
-        verifyNoInteractions(redisTemplate, valueOperations);
+        verifyNoInteractions(tokenBlacklistService);
+    }
+
+    @Test
+    public void logoutAll_incrementTokenVersion() {
+        when(userService.getCurrentUser()).thenReturn(userPrincipal);
+        when(tokenVersionService.increment(userPrincipal.getId())).thenReturn(1L);
+
+        authenticationService.logoutAll();
+
+        verify(tokenVersionService, times(1)).increment(userPrincipal.getId());
+    }
+
+    @Test
+    public void logoutAll_tooManyRequests_throwExc() {
+        var tooManyRequestsException = new TooManyRequestsException("Too many logout attempts. Try again in a minute");
+        when(userService.getCurrentUser()).thenReturn(userPrincipal);
+        doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
+                RateLimiterKeyUtil.generateKey("logout-all", TestUtil.USER_ID),
+                5,
+                Duration.ofMinutes(1),
+                "Too many logout attempts. Try again in a minute"
+        );
+
+        var result = assertThrows(TooManyRequestsException.class, () -> authenticationService.logoutAll());
+        assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
+
+        verifyNoInteractions(tokenVersionService);
     }
 
     @Test
     public void refresh_returnAccessToken() {
         when(jwtService.extractClaims(refreshTokenRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getId()).thenReturn(TOKEN_ID);
-        when(redisTemplate.hasKey("blacklist:refresh:" + TOKEN_ID)).thenReturn(Boolean.FALSE);
+        when(tokenBlacklistService.isRevoked(TOKEN_ID)).thenReturn(false);
         when(claims.getSubject()).thenReturn(TestUtil.USER_ID);
         when(userRepository.findById(Long.valueOf(TestUtil.USER_ID))).thenReturn(Optional.of(user));
         when(jwtService.generateAccessToken(user)).thenReturn(TestUtil.ACCESS_TOKEN);
@@ -234,7 +278,20 @@ class AuthenticationServiceImplTest {
     public void refresh_ifRevoked_throwExc() {
         when(jwtService.extractClaims(refreshTokenRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getId()).thenReturn(TOKEN_ID);
-        when(redisTemplate.hasKey("blacklist:refresh:" + TOKEN_ID)).thenReturn(Boolean.TRUE);
+        when(tokenBlacklistService.isRevoked(TOKEN_ID)).thenReturn(true);
+
+        var tokenRevokedException = assertThrows(TokenRevokedException.class, () -> authenticationService.refreshToken(refreshTokenRequest));
+        assertEquals("Token with id: " + TOKEN_ID + " revoked", tokenRevokedException.getMessage());
+
+        verify(jwtService, never()).generateAccessToken(user);
+    }
+
+    @Test
+    public void refresh_olderTokenVersion_throwExc() {
+        when(jwtService.extractClaims(refreshTokenRequest.getRefreshToken())).thenReturn(claims);
+        when(claims.getId()).thenReturn(TOKEN_ID);
+        when(tokenBlacklistService.isRevoked(TOKEN_ID)).thenReturn(false);
+        when(jwtService.isRevoked(claims)).thenReturn(true);
 
         var tokenRevokedException = assertThrows(TokenRevokedException.class, () -> authenticationService.refreshToken(refreshTokenRequest));
         assertEquals("Token with id: " + TOKEN_ID + " revoked", tokenRevokedException.getMessage());
@@ -246,7 +303,7 @@ class AuthenticationServiceImplTest {
     public void refresh_userNotFound_throwExc() {
         when(jwtService.extractClaims(refreshTokenRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getId()).thenReturn(TOKEN_ID);
-        when(redisTemplate.hasKey("blacklist:refresh:" + TOKEN_ID)).thenReturn(Boolean.FALSE);
+        when(tokenBlacklistService.isRevoked(TOKEN_ID)).thenReturn(false);
         when(claims.getSubject()).thenReturn(TestUtil.USER_ID);
         when(userRepository.findById(Long.valueOf(TestUtil.USER_ID))).thenReturn(Optional.empty());
 
@@ -261,7 +318,7 @@ class AuthenticationServiceImplTest {
         var tooManyRequestsException = new TooManyRequestsException("Too many token refresh attempts. Try again in a minute");
         when(jwtService.extractClaims(refreshTokenRequest.getRefreshToken())).thenReturn(claims);
         when(claims.getId()).thenReturn(TOKEN_ID);
-        when(redisTemplate.hasKey("blacklist:refresh:" + TOKEN_ID)).thenReturn(Boolean.FALSE);
+        when(tokenBlacklistService.isRevoked(TOKEN_ID)).thenReturn(false);
         when(claims.getSubject()).thenReturn(TestUtil.USER_ID);
         doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
                 RateLimiterKeyUtil.generateKey("refresh", TestUtil.USER_ID),
@@ -0,0 +1,126 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.exception.AvatarNotFoundException;
+import com.jobflow.user_service.handler.GlobalHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvatarControllerTest {
+
+    private static final String AVATAR_ID = "a".repeat(64) + ".png";
+    private static final String ETAG = "\"" + AVATAR_ID + "\"";
+    private static final byte[] CONTENT = {1, 2, 3, 4, 5};
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private AvatarService avatarService;
+
+    private MockMvc mockMvc;
+
+    private AvatarFile avatarFile;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        AvatarProperties avatarProperties = new AvatarProperties();
+        avatarProperties.setCacheMaxAge(Duration.ofDays(365));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new AvatarController(avatarService, avatarProperties))
+                .setControllerAdvice(new GlobalHandler())
+                .build();
+
+        Path path = Files.write(tempDir.resolve(AVATAR_ID), CONTENT);
+        avatarFile = new AvatarFile(path, MediaType.IMAGE_PNG, CONTENT.length, ETAG, true);
+    }
+
+    @Test
+    public void getAvatar_streamFileWithCacheHeaders() throws Exception {
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.ORIGINAL)).thenReturn(avatarFile);
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(CONTENT))
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().longValue("Content-Length", CONTENT.length));
+
+        verify(avatarService, times(1)).getAvatar(AVATAR_ID, AvatarSize.ORIGINAL);
+    }
+
+    @Test
+    public void getAvatar_thumbnail_passSize() throws Exception {
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.THUMBNAIL)).thenReturn(avatarFile);
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID)
+                        .param("size", "THUMBNAIL"))
+                .andExpect(status().isOk());
+
+        verify(avatarService, times(1)).getAvatar(AVATAR_ID, AvatarSize.THUMBNAIL);
+    }
+
+    @Test
+    public void getAvatar_thumbnailNotGenerated_sendNoCache() throws Exception {
+        AvatarFile original = new AvatarFile(avatarFile.getPath(), MediaType.IMAGE_PNG, CONTENT.length, ETAG, false);
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.THUMBNAIL)).thenReturn(original);
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID)
+                        .param("size", "THUMBNAIL"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    public void getAvatar_etagMatches_returnNotModified() throws Exception {
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.ORIGINAL)).thenReturn(avatarFile);
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID)
+                        .header("If-None-Match", ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void getAvatar_sendfileSupported_delegateToConnector() throws Exception {
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.ORIGINAL)).thenReturn(avatarFile);
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID)
+                        .requestAttr(AvatarController.SENDFILE_SUPPORTED_ATTRIBUTE, Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(AvatarController.SENDFILE_FILENAME_ATTRIBUTE,
+                        avatarFile.getPath().toAbsolutePath().toString()))
+                .andExpect(request().attribute(AvatarController.SENDFILE_END_ATTRIBUTE, (long) CONTENT.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void getAvatar_notFound_returnNotFound() throws Exception {
+        when(avatarService.getAvatar(AVATAR_ID, AvatarSize.ORIGINAL))
+                .thenThrow(new AvatarNotFoundException("Avatar: " + AVATAR_ID + " not found"));
+
+        mockMvc.perform(get("/api/v1/avatars/{avatarId}", AVATAR_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Avatar: " + AVATAR_ID + " not found"))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+}
@@ -0,0 +1,194 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.exception.AvatarNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvatarServiceImplTest {
+
+    @TempDir
+    private Path storageDir;
+
+    private List<Runnable> thumbnailTasks;
+
+    private AvatarServiceImpl avatarService;
+
+    @BeforeEach
+    public void setup() {
+        AvatarProperties avatarProperties = new AvatarProperties();
+        avatarProperties.setStorageDir(storageDir.toString());
+        avatarProperties.setThumbnailSize(32);
+        avatarProperties.setCacheMaxAge(Duration.ofDays(1));
+        avatarProperties.setStagingTtl(Duration.ofHours(1));
+
+        thumbnailTasks = new ArrayList<>();
+        avatarService = new AvatarServiceImpl(avatarProperties, thumbnailTasks::add);
+    }
+
+    @Test
+    public void store_image_writeContentAddressedFile() throws IOException {
+        byte[] image = createPng(100, 50);
+
+        String avatarId = avatarService.store(image);
+
+        assertTrue(avatarId.matches("[0-9a-f]{64}\\.png"));
+        Path stored = storageDir.resolve(avatarId.substring(0, 2)).resolve(avatarId);
+        assertArrayEquals(image, Files.readAllBytes(stored));
+        assertEquals(1, thumbnailTasks.size());
+    }
+
+    @Test
+    public void store_sameContentTwice_returnSameIdAndWriteOnce() throws IOException {
+        byte[] image = createPng(10, 10);
+
+        String first = avatarService.store(image);
+        String second = avatarService.store(image);
+
+        assertEquals(first, second);
+        assertEquals(1, thumbnailTasks.size());
+    }
+
+    @Test
+    public void store_notAnImage_storeAsBinary() {
+        String avatarId = avatarService.store(new byte[]{1, 2, 3});
+
+        assertTrue(avatarId.endsWith(".bin"));
+
+        AvatarFile avatar = avatarService.getAvatar(avatarId, AvatarSize.ORIGINAL);
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, avatar.getContentType());
+    }
+
+    @Test
+    public void store_emptyContent_returnNull() {
+        assertNull(avatarService.store(null));
+        assertNull(avatarService.store(new byte[0]));
+        assertTrue(thumbnailTasks.isEmpty());
+    }
+
+    @Test
+    public void stage_writeRawBytesToStaging() throws IOException {
+        byte[] image = createPng(10, 10);
+
+        String token = avatarService.stage(new ByteArrayInputStream(image));
+
+        assertNotNull(token);
+        assertArrayEquals(image, Files.readAllBytes(storageDir.resolve("staging").resolve(token)));
+        assertTrue(thumbnailTasks.isEmpty());
+    }
+
+    @Test
+    public void stage_emptyContent_returnNull() throws IOException {
+        assertNull(avatarService.stage(new ByteArrayInputStream(new byte[0])));
+
+        try (Stream<Path> files = Files.list(storageDir.resolve("staging"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void commitStaged_moveIntoStore() throws IOException {
+        byte[] image = createPng(10, 10);
+        String token = avatarService.stage(new ByteArrayInputStream(image));
+
+        String avatarId = avatarService.commitStaged(token);
+
+        assertEquals(avatarService.store(image), avatarId);
+        assertFalse(Files.exists(storageDir.resolve("staging").resolve(token)));
+        assertArrayEquals(image, Files.readAllBytes(avatarService.getAvatar(avatarId, AvatarSize.ORIGINAL).getPath()));
+        assertEquals(1, thumbnailTasks.size());
+    }
+
+    @Test
+    public void commitStaged_unknownToken_returnNull() {
+        assertNull(avatarService.commitStaged(null));
+        assertNull(avatarService.commitStaged("00000000-0000-0000-0000-000000000000"));
+        assertNull(avatarService.commitStaged("../../etc/passwd"));
+    }
+
+    @Test
+    public void cleanUpStaging_removeOnlyExpiredFiles() throws IOException {
+        String expired = avatarService.stage(new ByteArrayInputStream(new byte[]{1}));
+        String fresh = avatarService.stage(new ByteArrayInputStream(new byte[]{2}));
+        Path expiredPath = storageDir.resolve("staging").resolve(expired);
+        Files.setLastModifiedTime(expiredPath, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        avatarService.cleanUpStaging();
+
+        assertFalse(Files.exists(expiredPath));
+        assertTrue(Files.exists(storageDir.resolve("staging").resolve(fresh)));
+    }
+
+    @Test
+    public void getAvatar_original_returnFileWithEtag() throws IOException {
+        byte[] image = createPng(10, 10);
+        String avatarId = avatarService.store(image);
+
+        AvatarFile avatar = avatarService.getAvatar(avatarId, AvatarSize.ORIGINAL);
+
+        assertEquals(MediaType.IMAGE_PNG, avatar.getContentType());
+        assertEquals(image.length, avatar.getLength());
+        assertEquals("\"" + avatarId + "\"", avatar.getEtag());
+        assertTrue(avatar.isImmutable());
+    }
+
+    @Test
+    public void getAvatar_thumbnailGenerated_returnResizedThumbnail() throws IOException {
+        String avatarId = avatarService.store(createPng(100, 50));
+        thumbnailTasks.forEach(Runnable::run);
+
+        AvatarFile avatar = avatarService.getAvatar(avatarId, AvatarSize.THUMBNAIL);
+
+        assertEquals("\"" + avatarId + "-thumb\"", avatar.getEtag());
+        BufferedImage thumbnail = ImageIO.read(avatar.getPath().toFile());
+        assertEquals(32, thumbnail.getWidth());
+        assertEquals(16, thumbnail.getHeight());
+    }
+
+    @Test
+    public void getAvatar_thumbnailNotGenerated_returnOriginal() throws IOException {
+        String avatarId = avatarService.store(createPng(100, 50));
+
+        AvatarFile avatar = avatarService.getAvatar(avatarId, AvatarSize.THUMBNAIL);
+
+        assertEquals("\"" + avatarId + "\"", avatar.getEtag());
+        assertFalse(avatar.isImmutable());
+    }
+
+    @Test
+    public void getAvatar_unknownId_throwExc() {
+        String avatarId = "a".repeat(64) + ".png";
+
+        var avatarNotFoundException = assertThrows(AvatarNotFoundException.class, () -> avatarService.getAvatar(avatarId, AvatarSize.ORIGINAL));
+        assertEquals("Avatar: " + avatarId + " not found", avatarNotFoundException.getMessage());
+    }
+
+    @Test
+    public void getAvatar_invalidId_throwExc() {
+        assertThrows(AvatarNotFoundException.class, () -> avatarService.getAvatar("../../etc/passwd", AvatarSize.ORIGINAL));
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobflow.user_service.avatar;
+
+import com.jobflow.user_service.exception.FileServiceException;
+import com.jobflow.user_service.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LegacyAvatarMigrationTest {
+
+    private static final byte[] AVATAR = new byte[]{1, 2, 3};
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AvatarService avatarService;
+
+    private LegacyAvatarMigration legacyAvatarMigration;
+
+    @BeforeEach
+    public void setup() {
+        legacyAvatarMigration = new LegacyAvatarMigration(userRepository, avatarService, Runnable::run);
+    }
+
+    @Test
+    public void migrate_legacyAvatars_storeAndClearColumn() {
+        when(userRepository.hasLegacyAvatarColumn()).thenReturn(true);
+        when(userRepository.findIdsWithLegacyAvatar(0L, 100)).thenReturn(List.of(1L, 2L));
+        when(userRepository.findLegacyAvatar(anyLong())).thenReturn(AVATAR);
+        when(avatarService.store(AVATAR)).thenReturn("avatar-id");
+
+        legacyAvatarMigration.migrateAsync();
+
+        verify(userRepository, times(1)).moveLegacyAvatar(1L, "avatar-id");
+        verify(userRepository, times(1)).moveLegacyAvatar(2L, "avatar-id");
+    }
+
+    @Test
+    public void migrate_storeFailed_keepBytesAndContinue() {
+        when(userRepository.hasLegacyAvatarColumn()).thenReturn(true);
+        when(userRepository.findIdsWithLegacyAvatar(0L, 100)).thenReturn(List.of(1L, 2L));
+        when(userRepository.findLegacyAvatar(anyLong())).thenReturn(AVATAR);
+        when(avatarService.store(AVATAR))
+                .thenThrow(new FileServiceException("Disk is full"))
+                .thenReturn("avatar-id");
+
+        legacyAvatarMigration.migrate();
+
+        verify(userRepository, never()).moveLegacyAvatar(eq(1L), any());
+        verify(userRepository, times(1)).moveLegacyAvatar(2L, "avatar-id");
+    }
+
+    @Test
+    public void migrate_noLegacyColumn_doNothing() {
+        when(userRepository.hasLegacyAvatarColumn()).thenReturn(false);
+
+        legacyAvatarMigration.migrate();
+
+        verify(userRepository, never()).findIdsWithLegacyAvatar(any(), anyInt());
+        verifyNoInteractions(avatarService);
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobflow.user_service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringCacheTest {
+
+    private ExpiringCache<String, Long> expiringCache;
+
+    @BeforeEach
+    public void setup() {
+        expiringCache = new ExpiringCache<>(2);
+    }
+
+    @Test
+    public void get_liveEntry_returnValue() {
+        expiringCache.put("key", 1L, System.currentTimeMillis() + 60_000);
+
+        assertEquals(1L, expiringCache.get("key"));
+    }
+
+    @Test
+    public void get_expiredEntry_returnNullButKeepStaleValue() {
+        expiringCache.put("key", 1L, System.currentTimeMillis() - 1);
+
+        assertNull(expiringCache.get("key"));
+        assertEquals(1L, expiringCache.getStale("key"));
+    }
+
+    @Test
+    public void put_cacheIsFull_doNotCache() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        expiringCache.put("first", 1L, expiresAt);
+        expiringCache.put("second", 2L, expiresAt);
+
+        assertFalse(expiringCache.put("third", 3L, expiresAt));
+        assertTrue(expiringCache.put("first", 4L, expiresAt));
+        assertNull(expiringCache.get("third"));
+        assertEquals(4L, expiringCache.get("first"));
+        assertEquals(2, expiringCache.size());
+    }
+
+    @Test
+    public void put_cacheIsFullOfExpiredEntries_evictThemAndCache() {
+        long expired = System.currentTimeMillis() - 1;
+        expiringCache.put("first", 1L, expired);
+        expiringCache.put("second", 2L, expired);
+
+        assertTrue(expiringCache.put("third", 3L, System.currentTimeMillis() + 60_000));
+        assertEquals(3L, expiringCache.get("third"));
+        assertEquals(1, expiringCache.size());
+    }
+
+    @Test
+    public void merge_existingEntry_combineValuesAndRefreshExpiration() {
+        expiringCache.put("key", 5L, System.currentTimeMillis() - 1);
+
+        expiringCache.merge("key", 3L, System.currentTimeMillis() + 60_000, Math::max);
+
+        assertEquals(5L, expiringCache.get("key"));
+    }
+
+    @Test
+    public void remove_existingEntry_returnTrue() {
+        expiringCache.put("key", 1L, System.currentTimeMillis() + 60_000);
+
+        assertTrue(expiringCache.remove("key"));
+        assertFalse(expiringCache.remove("key"));
+    }
+}
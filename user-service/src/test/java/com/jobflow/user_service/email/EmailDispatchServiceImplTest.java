@@ -0,0 +1,193 @@
+package com.jobflow.user_service.email;
+
+import com.jobflow.user_service.TestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatchServiceImplTest {
+
+    private static final String EMAIL = "ivanivanov@gmail.com";
+    private static final String VERIFY_KEY = "email:verify:" + EMAIL;
+    private static final Long PENDING_EMAIL_ID = 1L;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PendingEmailRepository pendingEmailRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private EmailDispatchProperties properties;
+
+    private EmailDispatchServiceImpl emailDispatchService;
+
+    @BeforeEach
+    public void setup() {
+        properties = new EmailDispatchProperties();
+        properties.setMaxAttempts(3);
+        properties.setRetryDelay(Duration.ofSeconds(15));
+        properties.setMaxAge(Duration.ofMinutes(5));
+        properties.setBatchSize(100);
+        properties.setPoolSize(4);
+        properties.setQueueCapacity(8);
+        properties.setSmtpTimeout(Duration.ofSeconds(10));
+
+        emailDispatchService = createService(Runnable::run);
+    }
+
+    @Test
+    public void dispatchCode_replaceOlderEmailsStoreLeasedSendAndDelete() {
+        ArgumentCaptor<PendingEmail> pendingEmailCaptor = ArgumentCaptor.forClass(PendingEmail.class);
+        when(pendingEmailRepository.save(any(PendingEmail.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(pendingEmailRepository.existsById(PENDING_EMAIL_ID)).thenReturn(true);
+        mockStoredCode(String.valueOf(TestUtil.CODE));
+
+        emailDispatchService.dispatchCode(EMAIL);
+
+        verify(pendingEmailRepository, times(1)).deleteByEmail(EMAIL);
+        verify(pendingEmailRepository, times(1)).save(pendingEmailCaptor.capture());
+        PendingEmail pendingEmail = pendingEmailCaptor.getValue();
+        assertEquals(EMAIL, pendingEmail.getEmail());
+        assertEquals(1, pendingEmail.getAttempts());
+        assertFalse(pendingEmail.getNextAttemptAt().isBefore(pendingEmail.getCreatedAt().plus(Duration.ofSeconds(90)).minusMillis(1)));
+
+        verify(emailService, times(1)).sendCodeToEmail(EMAIL, TestUtil.CODE);
+        verify(pendingEmailRepository, times(1)).deleteById(PENDING_EMAIL_ID);
+    }
+
+    @Test
+    public void dispatchCode_sendFailed_keepPendingEmailAndReschedule() {
+        when(pendingEmailRepository.save(any(PendingEmail.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(pendingEmailRepository.existsById(PENDING_EMAIL_ID)).thenReturn(true);
+        mockStoredCode(String.valueOf(TestUtil.CODE));
+        doThrow(new MailSendException("SMTP is down")).when(emailService).sendCodeToEmail(EMAIL, TestUtil.CODE);
+
+        assertDoesNotThrow(() -> emailDispatchService.dispatchCode(EMAIL));
+
+        verify(pendingEmailRepository, never()).deleteById(any());
+        verify(pendingEmailRepository, times(1)).reschedule(eq(PENDING_EMAIL_ID), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    public void dispatchCode_executorRejected_keepPendingEmailAndReschedule() {
+        emailDispatchService = createService(task -> {
+            throw new TaskRejectedException("Queue is full");
+        });
+        when(pendingEmailRepository.save(any(PendingEmail.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+
+        assertDoesNotThrow(() -> emailDispatchService.dispatchCode(EMAIL));
+
+        verifyNoInteractions(emailService);
+        verify(pendingEmailRepository, never()).deleteById(any());
+        verify(pendingEmailRepository, times(1)).reschedule(eq(PENDING_EMAIL_ID), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    public void dispatchCode_codeExpired_deleteWithoutSending() {
+        when(pendingEmailRepository.save(any(PendingEmail.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(pendingEmailRepository.existsById(PENDING_EMAIL_ID)).thenReturn(true);
+        mockStoredCode(null);
+
+        emailDispatchService.dispatchCode(EMAIL);
+
+        verifyNoInteractions(emailService);
+        verify(pendingEmailRepository, times(1)).deleteById(PENDING_EMAIL_ID);
+    }
+
+    @Test
+    public void dispatchCode_replacedWhileQueued_skipEmail() {
+        when(pendingEmailRepository.save(any(PendingEmail.class))).thenAnswer(invocation -> withId(invocation.getArgument(0)));
+        when(pendingEmailRepository.existsById(PENDING_EMAIL_ID)).thenReturn(false);
+
+        emailDispatchService.dispatchCode(EMAIL);
+
+        verifyNoInteractions(emailService, redisTemplate);
+        verify(pendingEmailRepository, never()).deleteById(any());
+    }
+
+    @Test
+    public void retryPending_dueEmail_claimAndSendLatestCode() {
+        PendingEmail pendingEmail = createPendingEmail(1);
+        when(pendingEmailRepository.findDue(any(Instant.class), any(Pageable.class))).thenReturn(List.of(pendingEmail));
+        when(pendingEmailRepository.claim(eq(PENDING_EMAIL_ID), eq(pendingEmail.getNextAttemptAt()), any(Instant.class))).thenReturn(1);
+        when(pendingEmailRepository.existsById(PENDING_EMAIL_ID)).thenReturn(true);
+        mockStoredCode("222222");
+
+        emailDispatchService.retryPending();
+
+        verify(pendingEmailRepository, times(1)).deleteCreatedBefore(any(Instant.class));
+        verify(emailService, times(1)).sendCodeToEmail(EMAIL, 222222);
+        verify(pendingEmailRepository, times(1)).deleteById(PENDING_EMAIL_ID);
+    }
+
+    @Test
+    public void retryPending_claimedByAnotherInstance_skipEmail() {
+        PendingEmail pendingEmail = createPendingEmail(1);
+        when(pendingEmailRepository.findDue(any(Instant.class), any(Pageable.class))).thenReturn(List.of(pendingEmail));
+        when(pendingEmailRepository.claim(eq(PENDING_EMAIL_ID), eq(pendingEmail.getNextAttemptAt()), any(Instant.class))).thenReturn(0);
+
+        emailDispatchService.retryPending();
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    public void retryPending_maxAttemptsReached_deleteEmail() {
+        PendingEmail pendingEmail = createPendingEmail(3);
+        when(pendingEmailRepository.findDue(any(Instant.class), any(Pageable.class))).thenReturn(List.of(pendingEmail));
+
+        emailDispatchService.retryPending();
+
+        verify(pendingEmailRepository, times(1)).deleteById(PENDING_EMAIL_ID);
+        verify(pendingEmailRepository, never()).claim(any(), any(), any());
+        verifyNoInteractions(emailService);
+    }
+
+    private EmailDispatchServiceImpl createService(Executor executor) {
+        return new EmailDispatchServiceImpl(emailService, pendingEmailRepository, redisTemplate, properties, executor);
+    }
+
+    private void mockStoredCode(String code) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(VERIFY_KEY)).thenReturn(code);
+    }
+
+    private PendingEmail createPendingEmail(int attempts) {
+        Instant now = Instant.now();
+        return PendingEmail.builder()
+                .id(PENDING_EMAIL_ID)
+                .email(EMAIL)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .createdAt(now.minusSeconds(30))
+                .build();
+    }
+
+    private PendingEmail withId(PendingEmail pendingEmail) {
+        pendingEmail.setId(PENDING_EMAIL_ID);
+        return pendingEmail;
+    }
+}
@@ -30,7 +30,7 @@ class EmailVerificationServiceImplTest {
     private static final String DATA_KEY = "email:data:" + TestUtil.LOGIN;
 
     @Mock
-    private EmailService emailService;
+    private EmailDispatchService emailDispatchService;
 
     @Mock
     private RedisTemplate<String, String> redisTemplate;
@@ -63,13 +63,13 @@ class EmailVerificationServiceImplTest {
 
     @Test
     public void sendVerificationCode_sendCodeSuccessfullyAndSaveInRedis() throws JsonProcessingException {
-        doNothing().when(emailService).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
+        doNothing().when(emailDispatchService).dispatchCode(registerRequest.getLogin());
         when(objectMapper.writeValueAsString(registerRequest)).thenReturn(registerRequestJson);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         emailVerificationService.sendVerificationCode(registerRequest);
 
-        verify(emailService, times(1)).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
+        verify(emailDispatchService, times(1)).dispatchCode(registerRequest.getLogin());
         verify(valueOperations, times(1)).set(
                 eq(VERIFY_KEY),
                 anyString(),
@@ -91,7 +91,7 @@ class EmailVerificationServiceImplTest {
         var emailServiceException = assertThrows(EmailServiceException.class, () -> emailVerificationService.sendVerificationCode(registerRequest));
         assertEquals("Failed to serialize register request", emailServiceException.getMessage());
 
-        verifyNoInteractions(redisTemplate, valueOperations, emailService);
+        verifyNoInteractions(redisTemplate, valueOperations, emailDispatchService);
     }
 
     @Test
@@ -168,19 +168,15 @@ class EmailVerificationServiceImplTest {
 
         emailVerificationService.resendCode(resendCodeRequest);
 
-        verify(emailService, times(1)).sendCodeToEmail(eq(resendCodeRequest.getLogin()), anyInt());
+        verify(emailDispatchService, times(1)).dispatchCode(resendCodeRequest.getLogin());
         verify(valueOperations, times(1)).set(
                 eq(VERIFY_KEY),
                 anyString(),
                 eq(5L),
                 eq(TimeUnit.MINUTES)
         );
-        verify(valueOperations, times(1)).set(
-                eq(DATA_KEY),
-                eq(registerRequestJson),
-                eq(5L),
-                eq(TimeUnit.MINUTES)
-        );
+        verify(redisTemplate, times(1)).expire(DATA_KEY, 5L, TimeUnit.MINUTES);
+        verify(valueOperations, never()).set(eq(DATA_KEY), anyString(), anyLong(), any(TimeUnit.class));
     }
 
     @Test
@@ -192,7 +188,7 @@ class EmailVerificationServiceImplTest {
         var verificationCodeExpiredException = assertThrows(VerificationCodeExpiredException.class, () -> emailVerificationService.resendCode(resendCodeRequest));
         assertEquals("Verification code expired for user with login: " + resendCodeRequest.getLogin(), verificationCodeExpiredException.getMessage());
 
-        verifyNoInteractions(emailService);
+        verifyNoInteractions(emailDispatchService);
     }
 
     @Test
@@ -204,7 +200,7 @@ class EmailVerificationServiceImplTest {
         var verificationCodeExpiredException = assertThrows(VerificationCodeExpiredException.class, () -> emailVerificationService.resendCode(resendCodeRequest));
         assertEquals("Verification code expired for user with login: " + resendCodeRequest.getLogin(), verificationCodeExpiredException.getMessage());
 
-        verifyNoInteractions(emailService);
+        verifyNoInteractions(emailDispatchService);
     }
 
 }
\ No newline at end of file
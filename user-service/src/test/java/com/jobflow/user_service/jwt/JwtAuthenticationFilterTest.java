@@ -1,6 +1,8 @@
 package com.jobflow.user_service.jwt;
 
 import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.user.UserPrincipal;
+import com.jobflow.user_service.user.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,8 +16,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
 
@@ -38,9 +38,9 @@ class JwtAuthenticationFilterTest {
     private JwtService jwtService;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private UserPrincipalCache userPrincipalCache;
 
-    private UserDetails userDetails;
+    private UserPrincipal userDetails;
 
     @InjectMocks
     private JwtAuthenticationFilter authenticationFilter;
@@ -49,7 +49,7 @@ class JwtAuthenticationFilterTest {
     public void setup() {
         SecurityContextHolder.clearContext();
 
-        userDetails = TestUtil.createUser();
+        userDetails = TestUtil.createUserPrincipal();
     }
 
     @Test
@@ -59,7 +59,7 @@ class JwtAuthenticationFilterTest {
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verifyNoInteractions(jwtService, userDetailsService);
+        verifyNoInteractions(jwtService, userPrincipalCache);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -70,7 +70,7 @@ class JwtAuthenticationFilterTest {
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verifyNoInteractions(jwtService, userDetailsService);
+        verifyNoInteractions(jwtService, userPrincipalCache);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -82,7 +82,7 @@ class JwtAuthenticationFilterTest {
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
-        verifyNoInteractions(userDetailsService);
+        verifyNoInteractions(userPrincipalCache);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -98,7 +98,7 @@ class JwtAuthenticationFilterTest {
         authenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
-        verifyNoInteractions(userDetailsService);
+        verifyNoInteractions(userPrincipalCache);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -106,7 +106,7 @@ class JwtAuthenticationFilterTest {
     public void doFilterInternal_tokenNotValid_skipFilter() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + TestUtil.ACCESS_TOKEN);
         when(jwtService.extractUserId(TestUtil.ACCESS_TOKEN)).thenReturn(TestUtil.USER_ID);
-        when(userDetailsService.loadUserByUsername(TestUtil.USER_ID)).thenReturn(userDetails);
+        when(userPrincipalCache.getPrincipal(Long.valueOf(TestUtil.USER_ID))).thenReturn(userDetails);
         when(jwtService.isValid(userDetails, TestUtil.ACCESS_TOKEN)).thenReturn(false);
 
         authenticationFilter.doFilterInternal(request, response, filterChain);
@@ -119,7 +119,7 @@ class JwtAuthenticationFilterTest {
     public void doFilterInternal_tokenIsValid_setAuthentication() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer " + TestUtil.ACCESS_TOKEN);
         when(jwtService.extractUserId(TestUtil.ACCESS_TOKEN)).thenReturn(TestUtil.USER_ID);
-        when(userDetailsService.loadUserByUsername(TestUtil.USER_ID)).thenReturn(userDetails);
+        when(userPrincipalCache.getPrincipal(Long.valueOf(TestUtil.USER_ID))).thenReturn(userDetails);
         when(jwtService.isValid(userDetails, TestUtil.ACCESS_TOKEN)).thenReturn(true);
 
         authenticationFilter.doFilterInternal(request, response, filterChain);
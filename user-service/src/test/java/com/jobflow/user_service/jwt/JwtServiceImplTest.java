@@ -1,23 +1,33 @@
 package com.jobflow.user_service.jwt;
 
 import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.tokenVersion.TokenVersionService;
 import com.jobflow.user_service.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceImplTest {
 
+    private static final Long USER_ID = Long.valueOf(TestUtil.USER_ID);
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
     private JwtServiceImpl jwtService;
 
     private UserDetails userDetails;
@@ -30,8 +40,9 @@ class JwtServiceImplTest {
         jwtService = new JwtServiceImpl(
                 SECRET_KEY,
                 300000L,
-                604800000L
-        );;
+                604800000L,
+                tokenVersionService
+        );
     }
 
     @Test
@@ -48,6 +59,14 @@ class JwtServiceImplTest {
         assertNotNull(claims.getId());
     }
 
+    @Test
+    public void generateAccessToken_containsRolesOfUser() {
+        String token = jwtService.generateAccessToken(userDetails);
+
+        Claims claims = jwtService.extractClaims(token);
+        assertEquals(List.of("ROLE_USER"), claims.get(JwtService.ROLES_CLAIM, List.class));
+    }
+
     @Test
     public void generateAccessToken_withClaims_returnGeneratedTokenWithClaims() {
         String token = jwtService.generateAccessToken(Map.of("first-claim", "first-value", "second-claim", "second-value"), userDetails);
@@ -140,6 +159,54 @@ class JwtServiceImplTest {
         assertFalse(result);
     }
 
+    @Test
+    public void generateAccessToken_containsTokenVersion() {
+        when(tokenVersionService.getVersion(USER_ID)).thenReturn(3L);
+
+        String token = jwtService.generateAccessToken(userDetails);
+
+        Claims claims = jwtService.extractClaims(token);
+        assertEquals(3L, claims.get(JwtService.TOKEN_VERSION_CLAIM, Long.class));
+    }
+
+    @Test
+    public void generateRefreshToken_containsTokenVersion() {
+        when(tokenVersionService.getVersion(USER_ID)).thenReturn(3L);
+
+        String token = jwtService.generateRefreshToken(userDetails);
+
+        Claims claims = jwtService.extractClaims(token);
+        assertEquals(3L, claims.get(JwtService.TOKEN_VERSION_CLAIM, Long.class));
+    }
+
+    @Test
+    public void isValid_olderTokenVersion_returnFalse() {
+        String token = jwtService.generateAccessToken(userDetails);
+        when(tokenVersionService.getVersion(USER_ID)).thenReturn(1L);
+
+        boolean result = jwtService.isValid(userDetails, token);
+
+        assertFalse(result);
+    }
+
+    @Test
+    public void isRevoked_currentVersion_returnFalse() {
+        when(tokenVersionService.getVersion(USER_ID)).thenReturn(2L);
+        Claims claims = Jwts.claims().setSubject(TestUtil.USER_ID);
+        claims.put(JwtService.TOKEN_VERSION_CLAIM, 2);
+
+        assertFalse(jwtService.isRevoked(claims));
+    }
+
+    @Test
+    public void isRevoked_withoutVersionClaim_comparedAsZero() {
+        when(tokenVersionService.getVersion(USER_ID)).thenReturn(0L, 1L);
+        Claims claims = Jwts.claims().setSubject(TestUtil.USER_ID);
+
+        assertFalse(jwtService.isRevoked(claims));
+        assertTrue(jwtService.isRevoked(claims));
+    }
+
     @Test
     public void getSecretKey_returnSecretKey() {
         Key key = jwtService.getSecretKey();
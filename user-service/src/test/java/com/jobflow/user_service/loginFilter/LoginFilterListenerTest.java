@@ -0,0 +1,69 @@
+package com.jobflow.user_service.loginFilter;
+
+import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginFilterListenerTest {
+
+    @Mock
+    private LoginFilter loginFilter;
+
+    private LoginFilterListener loginFilterListener;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        loginFilterListener = new LoginFilterListener(loginFilter);
+        user = TestUtil.createUser();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void add_inTransaction_addLoginAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        loginFilterListener.add(user);
+        verifyNoInteractions(loginFilter);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(loginFilter, times(1)).add(user.getLogin());
+    }
+
+    @Test
+    public void add_rolledBack_doNotAddLogin() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        loginFilterListener.add(user);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(loginFilter);
+    }
+
+    @Test
+    public void add_withoutLogin_doNothing() {
+        user.setLogin(null);
+
+        loginFilterListener.add(user);
+
+        verifyNoInteractions(loginFilter);
+    }
+}
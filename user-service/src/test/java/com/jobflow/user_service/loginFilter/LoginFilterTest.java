@@ -0,0 +1,76 @@
+package com.jobflow.user_service.loginFilter;
+
+import com.jobflow.user_service.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginFilterTest {
+
+    private static final String LOGIN = "ivanivanov@gmail.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private LoginFilter loginFilter;
+
+    @BeforeEach
+    public void setup() {
+        loginFilter = new LoginFilter(userRepository, redisTemplate, 1000, 0.01);
+    }
+
+    @Test
+    public void mightExist_notBuilt_returnTrue() {
+        assertTrue(loginFilter.mightExist(LOGIN));
+    }
+
+    @Test
+    public void mightExist_afterRebuild_answerFromFilter() {
+        when(userRepository.streamAllLogins()).thenReturn(Stream.of(LOGIN));
+
+        loginFilter.rebuild();
+
+        assertTrue(loginFilter.mightExist(LOGIN));
+        assertFalse(loginFilter.mightExist("petrpetrov@gmail.com"));
+    }
+
+    @Test
+    public void rebuild_dbFailed_keepReportingPossibleMatches() {
+        when(userRepository.streamAllLogins()).thenThrow(new RuntimeException("Connection refused"));
+
+        loginFilter.rebuild();
+
+        assertTrue(loginFilter.mightExist(LOGIN));
+    }
+
+    @Test
+    public void add_addAndPublish() {
+        when(userRepository.streamAllLogins()).thenReturn(Stream.empty());
+        loginFilter.rebuild();
+
+        loginFilter.add(LOGIN);
+
+        assertTrue(loginFilter.mightExist(LOGIN));
+        verify(redisTemplate, times(1)).convertAndSend(LoginFilterConfig.LOGIN_ADDED_CHANNEL, LOGIN);
+    }
+
+    @Test
+    public void add_publishFailed_doNotThrow() {
+        doThrow(new RuntimeException("Connection refused")).when(redisTemplate).convertAndSend(any(), any());
+
+        assertDoesNotThrow(() -> loginFilter.add(LOGIN));
+    }
+}
@@ -1,6 +1,8 @@
 package com.jobflow.user_service.openId;
 
 import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.avatar.AvatarService;
+import com.jobflow.user_service.exception.FileServiceException;
 import com.jobflow.user_service.user.Role;
 import com.jobflow.user_service.user.User;
 import com.jobflow.user_service.user.UserRepository;
@@ -8,15 +10,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,14 +31,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class OpenIdUserServiceTest {
 
+    private static final String AVATAR_URL = "https://avatars.example.com/test";
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
-    private RestTemplate restTemplate;
+    private RestTemplate avatarRestTemplate;
+
+    @Mock
+    private AvatarService avatarService;
+
+    @Mock
+    private Executor avatarExecutor;
 
-    @Spy
-    @InjectMocks
     private OpenIdUserService openIdUserService;
 
     private OpenIdUserInfo openIdUserInfo;
@@ -40,13 +53,18 @@ class OpenIdUserServiceTest {
 
     @BeforeEach
     public void setup() {
+        OpenIdAvatarProperties avatarProperties = new OpenIdAvatarProperties();
+        avatarProperties.setMaxSize(DataSize.ofBytes(4));
+        openIdUserService = spy(new OpenIdUserService(userRepository, avatarRestTemplate, avatarService, avatarProperties, avatarExecutor));
+
         openIdUserInfo = TestUtil.createOpenIdUserInfo();
+        openIdUserInfo.setAvatarUrl(AVATAR_URL);
 
         user = TestUtil.createUser();
     }
 
     @Test
-    public void getOrCreateUser_ifExists_returnUserAndDoesNotSave() {
+    public void getOrCreateUser_ifExists_returnUserAndDoesNotInsert() {
         when(userRepository.findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId())).thenReturn(Optional.of(user));
 
         User result = openIdUserService.getOrCreateUser(openIdUserInfo);
@@ -55,49 +73,111 @@ class OpenIdUserServiceTest {
         assertEquals(user, result);
 
         verify(userRepository, times(1)).findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).insertOpenIdUserIfAbsent(any(), any(), any(), any(), any());
+        verifyNoInteractions(avatarExecutor);
     }
 
     @Test
-    public void getOrCreateUser_ifDoesNotExists_returnSavedUser() {
-        ArgumentCaptor<User> argumentCaptor = ArgumentCaptor.forClass(User.class);
-
-        byte[] mockAvatar = new byte[]{1, 2, 3};
-        when(userRepository.findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId())).thenReturn(Optional.empty());
-        doReturn(mockAvatar).when(openIdUserService).fetchAvatarFromUrl(openIdUserInfo.getAvatarUrl());
-        when(userRepository.save(any(User.class))).thenReturn(user);
+    public void getOrCreateUser_ifDoesNotExists_insertUserAndDownloadAvatarAsync() {
+        ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(userRepository.findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+        when(userRepository.insertOpenIdUserIfAbsent(
+                openIdUserInfo.getFirstname(),
+                openIdUserInfo.getLastname(),
+                Role.ROLE_USER.name(),
+                openIdUserInfo.getAuthProvider().name(),
+                openIdUserInfo.getAuthProviderId()
+        )).thenReturn(1);
 
         User result = openIdUserService.getOrCreateUser(openIdUserInfo);
 
         assertNotNull(result);
         assertEquals(user, result);
 
-        verify(userRepository, times(1)).findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId());
-        verify(userRepository, times(1)).save(argumentCaptor.capture());
-
-        User savedUser = argumentCaptor.getValue();
-        assertEquals(openIdUserInfo.getFirstname(), savedUser.getFirstname());
-        assertEquals(openIdUserInfo.getLastname(), savedUser.getLastname());
-        assertEquals(openIdUserInfo.getAuthProvider(), savedUser.getAuthProvider());
-        assertEquals(openIdUserInfo.getAuthProviderId(), savedUser.getAuthProviderId());
-        assertNull(savedUser.getPassword());
-        assertEquals(mockAvatar, savedUser.getAvatar());
-        assertEquals(Role.ROLE_USER, savedUser.getRole());
+        verify(avatarExecutor, times(1)).execute(argumentCaptor.capture());
+        verifyNoInteractions(avatarService, avatarRestTemplate);
+
+        doNothing().when(openIdUserService).downloadAvatar(user.getId(), AVATAR_URL);
+        argumentCaptor.getValue().run();
+        verify(openIdUserService, times(1)).downloadAvatar(user.getId(), AVATAR_URL);
+    }
+
+    @Test
+    public void getOrCreateUser_insertedConcurrently_returnUserAndDoesNotDownloadAvatar() {
+        when(userRepository.findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+        when(userRepository.insertOpenIdUserIfAbsent(any(), any(), any(), any(), any())).thenReturn(0);
+
+        User result = openIdUserService.getOrCreateUser(openIdUserInfo);
+
+        assertEquals(user, result);
+        verify(userRepository, times(2)).findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId());
+        verifyNoInteractions(avatarExecutor);
+    }
+
+    @Test
+    public void getOrCreateUser_withoutAvatarUrl_doesNotDownloadAvatar() {
+        openIdUserInfo.setAvatarUrl(null);
+        when(userRepository.findByAuthProviderAndAuthProviderId(openIdUserInfo.getAuthProvider(), openIdUserInfo.getAuthProviderId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+        when(userRepository.insertOpenIdUserIfAbsent(any(), any(), any(), any(), any())).thenReturn(1);
+
+        openIdUserService.getOrCreateUser(openIdUserInfo);
+
+        verifyNoInteractions(avatarExecutor);
+    }
+
+    @Test
+    public void downloadAvatar_storeAvatarAndUpdateUser() {
+        byte[] avatar = new byte[]{1, 2, 3};
+        doReturn(avatar).when(openIdUserService).fetchAvatarFromUrl(AVATAR_URL);
+        when(avatarService.store(avatar)).thenReturn("avatar-id");
+
+        openIdUserService.downloadAvatar(user.getId(), AVATAR_URL);
+
+        verify(userRepository, times(1)).updateAvatarId(user.getId(), "avatar-id");
+    }
+
+    @Test
+    public void downloadAvatar_failedFetch_doesNotUpdateUser() {
+        doThrow(new RestClientException("Read timed out")).when(openIdUserService).fetchAvatarFromUrl(AVATAR_URL);
+
+        assertDoesNotThrow(() -> openIdUserService.downloadAvatar(user.getId(), AVATAR_URL));
+
+        verify(userRepository, never()).updateAvatarId(any(), any());
+        verifyNoInteractions(avatarService);
     }
 
     @Test
     public void fetchAvatarFromUrl_returnAvatar() {
         byte[] avatar = new byte[]{1, 2, 3};
-        when(restTemplate.getForEntity("test-url", byte[].class)).thenReturn(
-                new ResponseEntity<>(avatar, HttpStatus.OK)
-        );
+        mockAvatarResponse(new MockClientHttpResponse(avatar, HttpStatus.OK));
 
-        byte[] result = openIdUserService.fetchAvatarFromUrl("test-url");
+        byte[] result = openIdUserService.fetchAvatarFromUrl(AVATAR_URL);
 
-        assertNotNull(result);
-        assertEquals(avatar, result);
+        assertArrayEquals(avatar, result);
+    }
+
+    @Test
+    public void fetchAvatarFromUrl_bodyTooLarge_throwExc() {
+        mockAvatarResponse(new MockClientHttpResponse(new byte[]{1, 2, 3, 4, 5}, HttpStatus.OK));
 
-        verify(restTemplate, times(1)).getForEntity("test-url", byte[].class);
+        var fileServiceException = assertThrows(FileServiceException.class, () -> openIdUserService.fetchAvatarFromUrl(AVATAR_URL));
+        assertEquals("Avatar is larger than 4 bytes", fileServiceException.getMessage());
+    }
+
+    @Test
+    public void fetchAvatarFromUrl_contentLengthTooLarge_throwExc() {
+        MockClientHttpResponse response = new MockClientHttpResponse(new byte[]{1}, HttpStatus.OK);
+        response.getHeaders().set(HttpHeaders.CONTENT_LENGTH, "1000");
+        mockAvatarResponse(response);
+
+        var fileServiceException = assertThrows(FileServiceException.class, () -> openIdUserService.fetchAvatarFromUrl(AVATAR_URL));
+        assertEquals("Avatar is larger than 4 bytes", fileServiceException.getMessage());
     }
 
     @Test
@@ -114,4 +194,9 @@ class OpenIdUserServiceTest {
         assertNull(result);
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    private void mockAvatarResponse(MockClientHttpResponse response) {
+        when(avatarRestTemplate.execute(eq(URI.create(AVATAR_URL)), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> ((ResponseExtractor<byte[]>) invocation.getArgument(3)).extractData(response));
+    }
+}
@@ -13,8 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GitHubOpenIdDataExtractorTest {
@@ -77,5 +76,29 @@ class GitHubOpenIdDataExtractorTest {
         assertEquals("123", result.getAvatarUrl());
         assertEquals("123", result.getAuthProviderId());
         assertEquals(AuthProvider.GITHUB, result.getAuthProvider());
+
+        verify(objectMapper, times(1)).readTree("data");
+    }
+
+    @Test
+    public void extractUserInfo_nullValue_returnNullField() throws JsonProcessingException {
+        when(objectMapper.readTree("data")).thenReturn(dataNode);
+        when(dataNode.get(anyString())).thenReturn(keyNode);
+        when(keyNode.isNull()).thenReturn(true);
+
+        OpenIdUserInfo result = openIdDataExtractor.extractUserInfo("data");
+
+        assertNull(result.getFirstname());
+        assertNull(result.getAvatarUrl());
+        assertNull(result.getAuthProviderId());
+    }
+
+    @Test
+    public void extractUserInfo_failedParse_throwExc() throws JsonProcessingException {
+        JsonProcessingException jsonProcessingException = new JsonProcessingException("Json exception"){};
+        when(objectMapper.readTree("data")).thenThrow(jsonProcessingException);
+
+        var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdDataExtractor.extractUserInfo("data"));
+        assertEquals("Failed to extract user info from json: " + jsonProcessingException.getMessage(), openIdServiceException.getMessage());
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.jobflow.user_service.auth.AuthenticationRequest;
 import com.jobflow.user_service.auth.AuthenticationResponse;
 import com.jobflow.user_service.handler.ResponseError;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.openId.OpenIdConfig;
 import com.jobflow.user_service.openId.OpenIdRequest;
 import com.jobflow.user_service.openId.OpenIdResponse;
 import com.jobflow.user_service.user.AuthProvider;
@@ -23,13 +24,18 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 public class OpenIdGitHubIT extends BaseIT {
@@ -54,6 +60,9 @@ public class OpenIdGitHubIT extends BaseIT {
     @MockitoBean
     private RestTemplate restTemplate;
 
+    @MockitoBean(name = OpenIdConfig.AVATAR_REST_TEMPLATE)
+    private RestTemplate avatarRestTemplate;
+
     private User user;
 
     private byte[] avatar;
@@ -89,9 +98,8 @@ public class OpenIdGitHubIT extends BaseIT {
                 eq(String.class)
         )).thenReturn(responseUserData);
 
-        ResponseEntity<byte[]> responseAvatar = ResponseEntity.ok(avatar);
-        when(restTemplate.getForEntity(eq("some_url"), eq(byte[].class)))
-                .thenReturn(responseAvatar);
+        when(avatarRestTemplate.execute(eq(URI.create("some_url")), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenReturn(avatar);
 
         HttpEntity<OpenIdRequest> request = TestUtil.createRequest(openIdRequest);
         ResponseEntity<OpenIdResponse> response = testRestTemplate.exchange(
@@ -122,7 +130,9 @@ public class OpenIdGitHubIT extends BaseIT {
         assertNull(savedUser.getPassword());
         assertNull(savedUser.getLogin());
         assertNull(savedUser.getLastname());
-        assertNotNull(savedUser.getAvatar());
+        // The avatar is downloaded after the login response
+        await().atMost(Duration.ofSeconds(5L))
+                .untilAsserted(() -> assertNotNull(userRepository.findById(savedUser.getId()).orElseThrow().getAvatarId()));
         assertEquals(Role.ROLE_USER, savedUser.getRole());
         assertEquals(AuthProvider.GITHUB, savedUser.getAuthProvider());
         assertEquals(TestUtil.AUTH_PROVIDER_ID, savedUser.getAuthProviderId());
@@ -153,9 +163,8 @@ public class OpenIdGitHubIT extends BaseIT {
                 eq(String.class)
         )).thenReturn(responseUserData);
 
-        ResponseEntity<byte[]> responseAvatar = ResponseEntity.ok(avatar);
-        when(restTemplate.getForEntity(eq("some_url"), eq(byte[].class)))
-                .thenReturn(responseAvatar);
+        when(avatarRestTemplate.execute(eq(URI.create("some_url")), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class)))
+                .thenReturn(avatar);
 
         HttpEntity<OpenIdRequest> request = TestUtil.createRequest(openIdRequest);
         ResponseEntity<OpenIdResponse> response = testRestTemplate.exchange(
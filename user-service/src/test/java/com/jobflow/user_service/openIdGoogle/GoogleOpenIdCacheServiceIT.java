@@ -1,7 +1,6 @@
 package com.jobflow.user_service.openIdGoogle;
 
 import com.jobflow.user_service.BaseIT;
-import com.nimbusds.jose.jwk.JWKSet;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -17,14 +16,9 @@ public class GoogleOpenIdCacheServiceIT extends BaseIT {
     private GoogleOpenIdCacheService openIdCacheService;
 
     @Test
-    public void getJwkSet_returnJwkSetAndCacheCorrectly() {
-        String firstCall = redisTemplate.opsForValue().get("openid:google::jwkset");
-        assertNull(firstCall);
+    public void getVerifier_unknownKeyId_loadJwkSetWithoutRedis() {
+        assertNull(openIdCacheService.getVerifier("unknown-key-id"));
 
-        JWKSet result = openIdCacheService.getJwkSet();
-        assertNotNull(result);
-
-        String secondCall = redisTemplate.opsForValue().get("openid:google::jwkset");
-        assertNotNull(secondCall);
+        assertNull(redisTemplate.opsForValue().get("openid:google::jwkset"));
     }
 }
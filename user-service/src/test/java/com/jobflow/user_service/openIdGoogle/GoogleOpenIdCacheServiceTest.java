@@ -1,78 +1,200 @@
 package com.jobflow.user_service.openIdGoogle;
 
 import com.jobflow.user_service.exception.OpenIdServiceException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
-import static org.mockito.Mockito.*;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GoogleOpenIdCacheServiceTest {
 
+    private static final String KEY_ID = "test-key-id";
+
+    private static RSAKey rsaKey;
+
     @Mock
-    private JWKSet jwkSet;
+    private RestTemplate restTemplate;
+
+    private GoogleJwksProperties properties;
+
+    private List<Runnable> tasks;
 
-    @InjectMocks
     private GoogleOpenIdCacheService openIdCacheService;
 
-    private URL url;
+    @BeforeAll
+    public static void generateKey() throws JOSEException {
+        rsaKey = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+    }
 
     @BeforeEach
-    public void setup() throws MalformedURLException {
-        url = new URL("https://www.googleapis.com/oauth2/v3/certs");
+    public void setup() {
+        properties = new GoogleJwksProperties();
+        properties.setDefaultMaxAge(Duration.ofHours(1L));
+        properties.setRefreshAhead(Duration.ofMinutes(5L));
+        properties.setMinRefetchInterval(Duration.ofSeconds(30L));
+        properties.setFetchTimeout(Duration.ofSeconds(5L));
+
+        tasks = new ArrayList<>();
+        openIdCacheService = new GoogleOpenIdCacheService(restTemplate, properties, Runnable::run);
+    }
+
+    @Test
+    public void getVerifier_knownKeyId_returnCachedVerifier() throws JOSEException {
+        mockJwksResponse("public, max-age=3600");
+
+        JWSVerifier first = openIdCacheService.getVerifier(KEY_ID);
+        JWSVerifier second = openIdCacheService.getVerifier(KEY_ID);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertTrue(signJwt().verify(first));
+
+        verify(restTemplate, times(1)).getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class);
     }
 
     @Test
-    public void getJwkSet_returnJwkSet() {
-        try (MockedStatic<JWKSet> mockedStatic = mockStatic(JWKSet.class)) {
-            mockedStatic.when(() -> JWKSet.load(url)).thenReturn(jwkSet);
+    public void getVerifier_unknownKeyIdFetchedRecently_returnNullWithoutFetch() {
+        mockJwksResponse("public, max-age=3600");
+        openIdCacheService.getVerifier(KEY_ID);
+
+        assertNull(openIdCacheService.getVerifier("unknown-key-id"));
 
-            JWKSet result = openIdCacheService.getJwkSet();
+        verify(restTemplate, times(1)).getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class);
+    }
+
+    @Test
+    public void getVerifier_fetchFailed_keepCachedKeys() {
+        properties.setMinRefetchInterval(Duration.ZERO);
+        when(restTemplate.getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class))
+                .thenReturn(jwksResponse("public, max-age=3600"))
+                .thenThrow(new RestClientException("Connection refused"));
+        openIdCacheService.getVerifier(KEY_ID);
 
-            assertNotNull(result);
-            assertEquals(jwkSet, result);
-            assertSame(jwkSet, result);
+        assertNull(openIdCacheService.getVerifier("unknown-key-id"));
+        assertNotNull(openIdCacheService.getVerifier(KEY_ID));
 
-            mockedStatic.verify(() -> JWKSet.load(url), times(1));
-        }
+        verify(restTemplate, times(2)).getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class);
     }
 
     @Test
-    public void getJwkSet_failedLoad_throwExc() {
-        try (MockedStatic<JWKSet> mockedStatic = mockStatic(JWKSet.class)) {
-            var ioException = new IOException("Load exception");
-            mockedStatic.when(() -> JWKSet.load(url)).thenThrow(ioException);
+    public void getVerifier_firstFetchFailed_throwExc() {
+        var restClientException = new RestClientException("Connection refused");
+        when(restTemplate.getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class)).thenThrow(restClientException);
 
-            var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdCacheService.getJwkSet());
-            assertEquals("Jwk set load exception: " + ioException.getMessage(), openIdServiceException.getMessage());
+        var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdCacheService.getVerifier(KEY_ID));
+        assertEquals("Jwk set load exception: " + restClientException.getMessage(), openIdServiceException.getMessage());
+    }
+
+    @Test
+    public void getVerifier_invalidJwkSet_throwExc() {
+        when(restTemplate.getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class))
+                .thenReturn(ResponseEntity.ok("not a jwk set"));
 
-            mockedStatic.verify(() -> JWKSet.load(url), times(1));
-        }
+        var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdCacheService.getVerifier(KEY_ID));
+        assertTrue(openIdServiceException.getMessage().startsWith("Jwk set load exception: "));
     }
 
     @Test
-    public void getJwkSet_failedParse_throwExc() {
-        try (MockedStatic<JWKSet> mockedStatic = mockStatic(JWKSet.class)) {
-            var parseException = new ParseException("Parse exception", 0);
-            mockedStatic.when(() -> JWKSet.load(url)).thenThrow(parseException);
+    public void prefetch_fetchInProgress_startOneFetch() {
+        mockJwksResponse("public, max-age=3600");
+        openIdCacheService = new GoogleOpenIdCacheService(restTemplate, properties, tasks::add);
 
-            var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdCacheService.getJwkSet());
-            assertEquals("Jwk set load exception: " + parseException.getMessage(), openIdServiceException.getMessage());
+        openIdCacheService.prefetch();
+        openIdCacheService.prefetch();
+        assertEquals(1, tasks.size());
 
-            mockedStatic.verify(() -> JWKSet.load(url), times(1));
-        }
+        tasks.get(0).run();
+        openIdCacheService.prefetch();
+
+        assertEquals(1, tasks.size());
+        assertNotNull(openIdCacheService.getVerifier(KEY_ID));
+        verify(restTemplate, times(1)).getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void prefetch_fetchHangs_startNewFetchAfterTimeout() {
+        properties.setFetchTimeout(Duration.ofMillis(50L));
+        openIdCacheService = new GoogleOpenIdCacheService(restTemplate, properties, tasks::add);
+
+        openIdCacheService.prefetch();
+        assertEquals(1, tasks.size());
+
+        await().atMost(Duration.ofSeconds(2L)).until(() -> {
+            openIdCacheService.prefetch();
+            return tasks.size() == 2;
+        });
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    public void getVerifier_firstFetchHangs_throwExc() {
+        properties.setFetchTimeout(Duration.ofMillis(50L));
+        openIdCacheService = new GoogleOpenIdCacheService(restTemplate, properties, tasks::add);
+
+        var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> openIdCacheService.getVerifier(KEY_ID));
+        assertEquals("Jwk set load timed out", openIdServiceException.getMessage());
+    }
+
+    @Test
+    public void prefetch_maxAgeExpired_refetch() {
+        properties.setMinRefetchInterval(Duration.ZERO);
+        mockJwksResponse("public, max-age=0");
+
+        openIdCacheService.prefetch();
+        openIdCacheService.prefetch();
+
+        verify(restTemplate, times(2)).getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class);
+    }
+
+    @Test
+    public void refresh_notLoaded_doNothing() {
+        openIdCacheService.refresh();
+
+        verifyNoInteractions(restTemplate);
+    }
+
+    private void mockJwksResponse(String cacheControl) {
+        when(restTemplate.getForEntity(GoogleOpenIdCacheService.JWKS_URL, String.class)).thenReturn(jwksResponse(cacheControl));
+    }
+
+    private ResponseEntity<String> jwksResponse(String cacheControl) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .body(new JWKSet(rsaKey).toString());
+    }
+
+    private SignedJWT signJwt() throws JOSEException {
+        SignedJWT signedJWT = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(),
+                new JWTClaimsSet.Builder().subject("test-subject").build()
+        );
+        signedJWT.sign(new RSASSASigner(rsaKey));
+
+        return signedJWT;
+    }
+}
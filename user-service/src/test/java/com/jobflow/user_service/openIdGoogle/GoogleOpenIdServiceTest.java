@@ -46,6 +46,9 @@ class GoogleOpenIdServiceTest {
     @Mock
     private OpenIdUserService openIdUserService;
 
+    @Mock
+    private OpenIdCacheService openIdCacheService;
+
     @Mock
     private OpenIdDataExtractor<JWTClaimsSet> openIdDataExtractor;
 
@@ -114,6 +117,10 @@ class GoogleOpenIdServiceTest {
             verify(openIdStateValidator, times(1)).validateState(openIdRequest.getState());
             verify(openIdTokenValidator, times(1)).validateIdToken(signedJWT);
             verify(openIdService, times(1)).exchangeAuthCode(openIdRequest.getAuthCode());
+
+            InOrder inOrder = inOrder(openIdCacheService, openIdService);
+            inOrder.verify(openIdCacheService).prefetch();
+            inOrder.verify(openIdService).exchangeAuthCode(openIdRequest.getAuthCode());
             verify(jwtService, times(1)).generateAccessToken(user);
             verify(jwtService, times(1)).generateRefreshToken(user);
         }
@@ -132,7 +139,7 @@ class GoogleOpenIdServiceTest {
         var result = assertThrows(TooManyRequestsException.class, () -> openIdService.getJwtTokens(openIdRequest, "test-ip"));
         assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
 
-        verifyNoInteractions(jwtService, openIdDataExtractor, openIdUserService);
+        verifyNoInteractions(jwtService, openIdDataExtractor, openIdUserService, openIdCacheService);
     }
 
     @Test
@@ -6,10 +6,7 @@ import com.jobflow.user_service.openId.OpenIdCacheService;
 import com.jobflow.user_service.openId.OpenIdJwtUtils;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.junit.jupiter.api.Test;
@@ -19,7 +16,6 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -50,16 +46,7 @@ class GoogleOpenIdTokenValidatorTest {
     private JWSHeader jwsHeader;
 
     @Mock
-    private JWKSet jwkSet;
-
-    @Mock
-    private JWK jwk;
-
-    @Mock
-    private RSAKey rsaKey;
-
-    @Mock
-    private RSAPublicKey rsaPublicKey;
+    private JWSVerifier verifier;
 
     @InjectMocks
     private GoogleOpenIdTokenValidator googleOpenIdTokenValidator;
@@ -76,17 +63,12 @@ class GoogleOpenIdTokenValidatorTest {
             when(idToken.getHeader()).thenReturn(jwsHeader);
             when(jwsHeader.getKeyID()).thenReturn(VALID_KEY_ID);
 
-            when(openIdCacheService.getJwkSet()).thenReturn(jwkSet);
-            when(jwkSet.getKeys()).thenReturn(List.of(jwk));
-
-            when(jwk.getKeyID()).thenReturn(VALID_KEY_ID);
-            when(jwk.toRSAKey()).thenReturn(rsaKey);
-            when(rsaKey.toRSAPublicKey()).thenReturn(rsaPublicKey);
-            when(idToken.verify(any(RSASSAVerifier.class))).thenReturn(true);
+            when(openIdCacheService.getVerifier(VALID_KEY_ID)).thenReturn(verifier);
+            when(idToken.verify(verifier)).thenReturn(true);
 
             assertDoesNotThrow(() -> googleOpenIdTokenValidator.validateIdToken(idToken));
-            verify(idToken, times(1)).verify(any(RSASSAVerifier.class));
-            verify(openIdCacheService, times(1)).getJwkSet();
+            verify(idToken, times(1)).verify(any(JWSVerifier.class));
+            verify(openIdCacheService, times(1)).getVerifier(VALID_KEY_ID);
         }
     }
 
@@ -143,15 +125,12 @@ class GoogleOpenIdTokenValidatorTest {
             when(idToken.getHeader()).thenReturn(jwsHeader);
             when(jwsHeader.getKeyID()).thenReturn("invalidKeyId");
 
-            when(openIdCacheService.getJwkSet()).thenReturn(jwkSet);
-            when(jwkSet.getKeys()).thenReturn(List.of(jwk));
-
-            when(jwk.getKeyID()).thenReturn(VALID_KEY_ID);
+            when(openIdCacheService.getVerifier("invalidKeyId")).thenReturn(null);
 
             var idTokenValidationException = assertThrows(IdTokenValidationException.class, () -> googleOpenIdTokenValidator.validateIdToken(idToken));
             assertEquals("Id token not valid", idTokenValidationException.getMessage());
-            verify(idToken, never()).verify(any(RSASSAVerifier.class));
-            verify(openIdCacheService, times(1)).getJwkSet();
+            verify(idToken, never()).verify(any(JWSVerifier.class));
+            verify(openIdCacheService, times(1)).getVerifier("invalidKeyId");
         }
     }
 
@@ -167,21 +146,16 @@ class GoogleOpenIdTokenValidatorTest {
             when(idToken.getHeader()).thenReturn(jwsHeader);
             when(jwsHeader.getKeyID()).thenReturn(VALID_KEY_ID);
 
-            when(openIdCacheService.getJwkSet()).thenReturn(jwkSet);
-            when(jwkSet.getKeys()).thenReturn(List.of(jwk));
-
-            when(jwk.getKeyID()).thenReturn(VALID_KEY_ID);
-            when(jwk.toRSAKey()).thenReturn(rsaKey);
-            when(rsaKey.toRSAPublicKey()).thenReturn(rsaPublicKey);
+            when(openIdCacheService.getVerifier(VALID_KEY_ID)).thenReturn(verifier);
 
             var joseException = new JOSEException("Verify exception");
-            when(idToken.verify(any(RSASSAVerifier.class))).thenThrow(joseException);
+            when(idToken.verify(verifier)).thenThrow(joseException);
 
             var openIdServiceException = assertThrows(OpenIdServiceException.class, () -> googleOpenIdTokenValidator.validateIdToken(idToken));
             assertEquals("JWK validate exception: " + joseException.getMessage(), openIdServiceException.getMessage());
 
-            verify(idToken, times(1)).verify(any(RSASSAVerifier.class));
-            verify(openIdCacheService, times(1)).getJwkSet();
+            verify(idToken, times(1)).verify(any(JWSVerifier.class));
+            verify(openIdCacheService, times(1)).getVerifier(VALID_KEY_ID);
         }
     }
 }
\ No newline at end of file
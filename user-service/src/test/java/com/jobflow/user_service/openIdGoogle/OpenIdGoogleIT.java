@@ -15,6 +15,7 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
@@ -77,14 +78,14 @@ public class OpenIdGoogleIT extends BaseIT {
     }
 
     @Test
-    public void getJwtTokens_returnOpenIdResponse() {
+    public void getJwtTokens_returnOpenIdResponse() throws JOSEException {
         ResponseEntity<String> mockResponse = ResponseEntity.ok("{\"id_token\": \"" + mockIdToken + "\"}");
         when(restTemplate.postForEntity(
                 eq("https://oauth2.googleapis.com/token"),
                 any(HttpEntity.class),
                 eq(String.class)
         )).thenReturn(mockResponse);
-        when(openIdCacheService.getJwkSet()).thenReturn(mockJwkSet);
+        when(openIdCacheService.getVerifier(mockRsaKey.getKeyID())).thenReturn(new RSASSAVerifier(mockRsaKey));
 
         HttpEntity<OpenIdRequest> request = TestUtil.createRequest(openIdRequest);
         ResponseEntity<OpenIdResponse> response = testRestTemplate.exchange(
@@ -115,7 +116,7 @@ public class OpenIdGoogleIT extends BaseIT {
         assertEquals("Ivanov", savedUser.getLastname());
         assertNull(savedUser.getLogin());
         assertNull(savedUser.getPassword());
-        assertNull(savedUser.getAvatar());
+        assertNull(savedUser.getAvatarId());
         assertEquals(Role.ROLE_USER, savedUser.getRole());
         assertEquals(AuthProvider.GOOGLE, savedUser.getAuthProvider());
         assertEquals(TestUtil.AUTH_PROVIDER_ID, savedUser.getAuthProviderId());
@@ -123,7 +124,7 @@ public class OpenIdGoogleIT extends BaseIT {
 
 
     @Test
-    public void getJwtTokens_userAlreadyExists_returnJwtTokenAndDoesNotCreateUser()  {
+    public void getJwtTokens_userAlreadyExists_returnJwtTokenAndDoesNotCreateUser() throws JOSEException {
         User user = TestUtil.createUser();
         user.setAuthProvider(AuthProvider.GOOGLE);
         user.setAuthProviderId(TestUtil.AUTH_PROVIDER_ID);
@@ -137,7 +138,7 @@ public class OpenIdGoogleIT extends BaseIT {
                 any(HttpEntity.class),
                 eq(String.class)
         )).thenReturn(mockResponse);
-        when(openIdCacheService.getJwkSet()).thenReturn(mockJwkSet);
+        when(openIdCacheService.getVerifier(mockRsaKey.getKeyID())).thenReturn(new RSASSAVerifier(mockRsaKey));
 
         HttpEntity<OpenIdRequest> request = TestUtil.createRequest(openIdRequest);
         ResponseEntity<OpenIdResponse> response = testRestTemplate.exchange(
@@ -196,7 +197,7 @@ public class OpenIdGoogleIT extends BaseIT {
                 any(HttpEntity.class),
                 eq(String.class)
         )).thenReturn(mockResponse);
-        when(openIdCacheService.getJwkSet()).thenReturn(mockJwkSet);
+        when(openIdCacheService.getVerifier(mockRsaKey.getKeyID())).thenReturn(new RSASSAVerifier(mockRsaKey));
 
         HttpEntity<OpenIdRequest> request = TestUtil.createRequest(openIdRequest);
         ResponseEntity<ResponseError> response = testRestTemplate.exchange(
@@ -0,0 +1,112 @@
+package com.jobflow.user_service.password;
+
+import com.jobflow.user_service.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private static final String PASSWORD = "password";
+
+    private ThreadPoolTaskExecutor executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BCryptPasswordEncoder bcrypt;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setup() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        bcrypt = new BCryptPasswordEncoder(4);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        passwordEncoder = new BoundedPasswordEncoder(delegatingPasswordEncoder, executor, Duration.ofMillis(500), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void encode_returnPrefixedHashThatMatches() {
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, encoded));
+        assertFalse(passwordEncoder.matches("wrong-password", encoded));
+        assertEquals(1L, meterRegistry.get("password.hashing.time").tag("operation", "encode").timer().count());
+        assertEquals(2L, meterRegistry.get("password.hashing.time").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    public void matches_legacyHashWithoutPrefix_matchAndRequireUpgrade() {
+        String legacy = bcrypt.encode(PASSWORD);
+
+        assertTrue(passwordEncoder.matches(PASSWORD, legacy));
+        assertTrue(passwordEncoder.upgradeEncoding(legacy));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD)));
+    }
+
+    @Test
+    public void upgradeEncoding_lowerCost_requireUpgrade() {
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        PasswordEncoder stronger = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(5)));
+
+        assertTrue(new BoundedPasswordEncoder(stronger, executor, Duration.ofMillis(500), meterRegistry).upgradeEncoding(weaker));
+    }
+
+    @Test
+    public void encode_queueFull_throwExc() {
+        // One task runs and one waits in the queue, so the next one is rejected
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        var serviceUnavailableException = assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode(PASSWORD));
+        assertEquals("Server is busy. Try again later", serviceUnavailableException.getMessage());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("password.hashing.queue.size").gauge().value());
+    }
+
+    @Test
+    public void encode_waitLongerThanMaxWait_throwExc() {
+        executor.execute(this::awaitRelease);
+
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode(PASSWORD));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -14,7 +14,7 @@ class RateLimiterKeyUtilTest {
         String result = RateLimiterKeyUtil.generateKey("auth", "IvanIvanov@gmail.com");
 
         assertNotNull(result);
-        assertEquals("rate_limiter:auth:IvanIvanov@gmail.com", result);
+        assertEquals("auth:IvanIvanov@gmail.com", result);
     }
 
     @Test
@@ -22,7 +22,7 @@ class RateLimiterKeyUtilTest {
         String result = RateLimiterKeyUtil.generateIpKey("auth", "IvanIvanov@gmail.com", "127.0.0.1");
 
         assertNotNull(result);
-        assertEquals("rate_limiter:auth:IvanIvanov@gmail.com:127.0.0.1", result);
+        assertEquals("auth:IvanIvanov@gmail.com:127.0.0.1", result);
     }
 
     @Test
@@ -30,7 +30,22 @@ class RateLimiterKeyUtilTest {
         String result = RateLimiterKeyUtil.generateIpKey("auth", "127.0.0.1");
 
         assertNotNull(result);
-        assertEquals("rate_limiter:auth:127.0.0.1", result);
+        assertEquals("auth:127.0.0.1", result);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void scriptKey_prefixKeyWithAlgorithm() {
+        String result = RateLimiterKeyUtil.scriptKey(RateLimiterAlgorithm.SLIDING_LOG, "auth:127.0.0.1");
+
+        assertEquals("rate_limiter:sliding_log:auth:127.0.0.1", result);
+    }
+
+    @Test
+    public void hashLogin_returnStableHashWithoutLogin() {
+        String result = RateLimiterKeyUtil.hashLogin("IvanIvanov@gmail.com");
+
+        assertEquals(result, RateLimiterKeyUtil.hashLogin("IvanIvanov@gmail.com"));
+        assertNotEquals(result, RateLimiterKeyUtil.hashLogin("PetrPetrov@gmail.com"));
+        assertTrue(result.matches("login-[0-9a-f]{32}"));
+    }
+}
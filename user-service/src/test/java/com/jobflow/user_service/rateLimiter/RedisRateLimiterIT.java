@@ -4,10 +4,13 @@ import com.jobflow.user_service.BaseIT;
 import com.jobflow.user_service.exception.TooManyRequestsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
@@ -68,4 +71,46 @@ public class RedisRateLimiterIT extends BaseIT {
         assertNotNull(key);
         assertEquals("1", key);
     }
+
+    @ParameterizedTest
+    @EnumSource(value = RateLimiterAlgorithm.class, names = {"SLIDING_WINDOW_COUNTER", "SLIDING_LOG", "TOKEN_BUCKET"})
+    public void validateOrThrow_ifLimitExceeded_throwExc(RateLimiterAlgorithm algorithm) {
+        int limit = 5;
+        for (int i = 0; i < limit; i++) {
+            assertDoesNotThrow(() -> rateLimiterService.validateOrThrow("test-key", limit, Duration.ofMinutes(1), algorithm, "test-message"));
+        }
+
+        var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", limit, Duration.ofMinutes(1), algorithm, "test-message"));
+        assertEquals("test-message", tooManyRequestsException.getMessage());
+        assertTrue(redisTemplate.getExpire("test-key") > 0);
+    }
+
+    @Test
+    public void validateOrThrow_tokenBucket_refillsTokensOverTime() {
+        int limit = 2;
+        Duration timeout = Duration.ofSeconds(2);
+
+        for (int i = 0; i < limit; i++) {
+            assertDoesNotThrow(() -> rateLimiterService.validateOrThrow("test-key", limit, timeout, RateLimiterAlgorithm.TOKEN_BUCKET, "test-message"));
+        }
+        assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", limit, timeout, RateLimiterAlgorithm.TOKEN_BUCKET, "test-message"));
+
+        await().atMost(timeout)
+                .until(() -> !rateLimiterService.isLimitExceeded("test-key", limit, timeout, RateLimiterAlgorithm.TOKEN_BUCKET));
+    }
+
+    @Test
+    public void validateAll_ifOneLimitExceeded_doesNotConsumeOtherLimits() {
+        redisTemplate.delete("second-key");
+        LimitSpec first = new LimitSpec("test-key", 1, Duration.ofMinutes(1), RateLimiterAlgorithm.FIXED_WINDOW, "first-message");
+        LimitSpec second = new LimitSpec("second-key", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.FIXED_WINDOW, "second-message");
+
+        assertDoesNotThrow(() -> rateLimiterService.validateAll(List.of(first, second)));
+
+        var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateAll(List.of(first, second)));
+        assertEquals("first-message", tooManyRequestsException.getMessage());
+
+        assertEquals("1", redisTemplate.opsForValue().get("test-key"));
+        assertEquals("1", redisTemplate.opsForValue().get("second-key"));
+    }
 }
@@ -1,20 +1,19 @@
 package com.jobflow.user_service.rateLimiter;
 
 import com.jobflow.user_service.exception.TooManyRequestsException;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.List;
 
-import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
-
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RedisRateLimiterServiceTest {
@@ -23,32 +22,63 @@ class RedisRateLimiterServiceTest {
     private RedisTemplate<String, String> redisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private RateLimiterScripts rateLimiterScripts;
+
+    @Mock
+    private RedisScript<Long> script;
 
     @InjectMocks
     private RedisRateLimiterService rateLimiterService;
 
-    @BeforeEach
-    public void setup() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-
     @Test
     public void validateOrThrow_ifLimitNotExceeded_doesNotThrowExc() {
-        when(valueOperations.increment("test-key")).thenReturn(1L);
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.FIXED_WINDOW)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000")).thenReturn(0L);
 
         assertDoesNotThrow(() -> rateLimiterService.validateOrThrow("test-key", 5, Duration.ofMinutes(1), "test-message"));
 
-        verify(redisTemplate, times(1)).expire("test-key", Duration.ofMinutes(1));
+        verify(redisTemplate, times(1)).execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000");
     }
 
     @Test
     public void validateOrThrow_ifLimitExceeded_throwExc() {
-        when(valueOperations.increment("test-key")).thenReturn(6L);
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.FIXED_WINDOW)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:fixed_window:test-key"), "5", "60000")).thenReturn(1L);
 
         var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", 5, Duration.ofMinutes(1), "test-message"));
         assertEquals("test-message", tooManyRequestsException.getMessage());
+    }
+
+    @Test
+    public void validateOrThrow_usesScriptOfGivenAlgorithm() {
+        when(rateLimiterScripts.getScript(RateLimiterAlgorithm.TOKEN_BUCKET)).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:token_bucket:test-key"), "10", "1000")).thenReturn(1L);
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateOrThrow("test-key", 10, Duration.ofSeconds(1), RateLimiterAlgorithm.TOKEN_BUCKET, "test-message"));
+
+        verify(rateLimiterScripts, never()).getScript(RateLimiterAlgorithm.FIXED_WINDOW);
+    }
+
+    @Test
+    public void validateAll_ifNoLimitExceeded_doesNotThrowExc() {
+        when(rateLimiterScripts.getMultiLimitScript()).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:sliding_log:first-key", "rate_limiter:token_bucket:second-key"), "SLIDING_LOG", "5", "60000", "TOKEN_BUCKET", "10", "1000")).thenReturn(0L);
+
+        assertDoesNotThrow(() -> rateLimiterService.validateAll(List.of(
+                new LimitSpec("first-key", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG, "first-message"),
+                new LimitSpec("second-key", 10, Duration.ofSeconds(1), RateLimiterAlgorithm.TOKEN_BUCKET, "second-message")
+        )));
+    }
+
+    @Test
+    public void validateAll_ifLimitExceeded_throwExcWithMessageOfExceededLimit() {
+        when(rateLimiterScripts.getMultiLimitScript()).thenReturn(script);
+        when(redisTemplate.execute(script, List.of("rate_limiter:sliding_log:first-key", "rate_limiter:token_bucket:second-key"), "SLIDING_LOG", "5", "60000", "TOKEN_BUCKET", "10", "1000")).thenReturn(2L);
 
-        verify(redisTemplate, never()).expire("test-key", Duration.ofMinutes(1));
+        var tooManyRequestsException = assertThrows(TooManyRequestsException.class, () -> rateLimiterService.validateAll(List.of(
+                new LimitSpec("first-key", 5, Duration.ofMinutes(1), RateLimiterAlgorithm.SLIDING_LOG, "first-message"),
+                new LimitSpec("second-key", 10, Duration.ofSeconds(1), RateLimiterAlgorithm.TOKEN_BUCKET, "second-message")
+        )));
+        assertEquals("second-message", tooManyRequestsException.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -106,12 +106,12 @@ public class RegisterIT extends BaseIT {
         assertEquals(registerRequest.getLastname(), savedRequest.getLastname());
         assertEquals(registerRequest.getLogin(), savedRequest.getLogin());
         assertTrue(passwordEncoder.matches("abcde", savedRequest.getPassword()));
-        assertNotNull(savedRequest.getAvatar());
+        assertNotNull(savedRequest.getAvatarToken());
 
         int code = Integer.parseInt(redisCodeJson);
         assertTrue(code >= 100_000 && code <= 999_999, "Verification code must be 6 digits");
 
-        verify(emailService, times(1)).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
+        verify(emailService, timeout(5000).times(1)).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
     }
 
     @Test
@@ -301,7 +301,7 @@ public class RegisterIT extends BaseIT {
         assertTrue(code != TestUtil.CODE);
         assertTrue(code >= 100_000 && code <= 999_999, "Verification code must be 6 digits");
 
-        verify(emailService, times(1)).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
+        verify(emailService, timeout(5000).times(1)).sendCodeToEmail(eq(registerRequest.getLogin()), anyInt());
     }
 
     @Test
@@ -1,11 +1,15 @@
 package com.jobflow.user_service.register;
 
 import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.avatar.AvatarService;
 import com.jobflow.user_service.email.EmailVerificationService;
 import com.jobflow.user_service.exception.FileServiceException;
 import com.jobflow.user_service.exception.TooManyRequestsException;
 import com.jobflow.user_service.exception.UserAlreadyExistsException;
 import com.jobflow.user_service.jwt.JwtService;
+import com.jobflow.user_service.loginFilter.LoginFilter;
+import com.jobflow.user_service.rateLimiter.LimitSpec;
+import com.jobflow.user_service.rateLimiter.RateLimiterAlgorithm;
 import com.jobflow.user_service.rateLimiter.RateLimiterKeyUtil;
 import com.jobflow.user_service.rateLimiter.RateLimiterService;
 import com.jobflow.user_service.user.AuthProvider;
@@ -23,7 +27,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,6 +52,12 @@ class RegisterServiceImplTest {
     @Mock
     private RateLimiterService rateLimiterService;
 
+    @Mock
+    private AvatarService avatarService;
+
+    @Mock
+    private LoginFilter loginFilter;
+
     @InjectMocks
     private RegisterServiceImpl registerService;
 
@@ -70,6 +82,7 @@ class RegisterServiceImplTest {
 
     @Test
     public void register_successfullySendCode() {
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(true);
         when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
         when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
         doNothing().when(emailVerificationService).sendVerificationCode(registerRequest);
@@ -78,32 +91,38 @@ class RegisterServiceImplTest {
 
         assertEquals(registerRequest.getLogin().toLowerCase(), registerRequest.getLogin());
         assertEquals("encodedPassword", registerRequest.getPassword());
-        assertNull(registerRequest.getAvatar());
+        assertNull(registerRequest.getAvatarToken());
 
         verify(emailVerificationService, times(1)).sendVerificationCode(registerRequest);
     }
 
     @Test
-    public void register_withAvatar_setAvatarCorrectly() {
+    public void register_withAvatar_stageAvatar() {
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(true);
         when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
+        when(avatarService.stage(any(InputStream.class))).thenReturn("avatar-token");
 
         registerService.register(registerRequest, avatar, "test-ip");
 
-        assertNotNull(registerRequest.getAvatar());
+        assertEquals("avatar-token", registerRequest.getAvatarToken());
+        verify(avatarService, times(1)).stage(any(InputStream.class));
     }
 
     @Test
     public void register_avatarIsEmpty_doesNotSetAvatar() {
         MultipartFile emptyAvatar = new MockMultipartFile("avatar", "".getBytes());
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(true);
         when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
 
         registerService.register(registerRequest, emptyAvatar, "test-ip");
 
-        assertNull(registerRequest.getAvatar());
+        assertNull(registerRequest.getAvatarToken());
+        verifyNoInteractions(avatarService);
     }
 
     @Test
     public void register_userAlreadyExists_throwExc() {
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(true);
         when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(true);
 
         var userAlreadyExistsException = assertThrows(UserAlreadyExistsException.class, () -> registerService.register(registerRequest, null, "test-ip"));
@@ -113,56 +132,53 @@ class RegisterServiceImplTest {
     }
 
     @Test
-    public void register_failedToGetBytesFromAvatar_throwExc() throws IOException {
-        IOException ioException = new IOException("IO Exception");
-        MultipartFile mockMultipartFile = mock(MultipartFile.class);
-        when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
-        when(mockMultipartFile.getBytes()).thenThrow(ioException);
+    public void register_loginNotInFilter_skipDbCheck() {
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(false);
 
-        var fileServiceException = assertThrows(FileServiceException.class, () -> registerService.register(registerRequest, mockMultipartFile, "test-ip"));
-        assertEquals("Failed to get bytes from avatar: " + ioException.getMessage(), fileServiceException.getMessage());
+        registerService.register(registerRequest, null, "test-ip");
 
-        verifyNoInteractions(emailVerificationService);
+        verify(userRepository, never()).existsByLogin(any());
+        verify(emailVerificationService, times(1)).sendVerificationCode(registerRequest);
     }
 
     @Test
-    public void register_tooManyRequests_throwExc() {
-        var tooManyRequestsException = new TooManyRequestsException("Too many register attempts. Try again in a minute");
+    public void register_failedToReadAvatar_throwExc() throws IOException {
+        IOException ioException = new IOException("IO Exception");
+        MultipartFile mockMultipartFile = mock(MultipartFile.class);
+        when(loginFilter.mightExist(registerRequest.getLogin().toLowerCase())).thenReturn(true);
         when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
-        doNothing().when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateKey("register", "test-ip"),
-                10,
-                Duration.ofHours(1),
-                "Too many register attempts from this IP"
-        );
-        doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateKey("register", registerRequest.getLogin()),
-                5,
-                Duration.ofMinutes(1),
-                "Too many register attempts. Try again in a minute"
-        );
+        when(mockMultipartFile.getInputStream()).thenThrow(ioException);
 
-        var result = assertThrows(TooManyRequestsException.class, () -> registerService.register(registerRequest, null, "test-ip"));
-        assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
+        var fileServiceException = assertThrows(FileServiceException.class, () -> registerService.register(registerRequest, mockMultipartFile, "test-ip"));
+        assertEquals("Failed to read avatar: " + ioException.getMessage(), fileServiceException.getMessage());
 
         verifyNoInteractions(emailVerificationService);
     }
 
     @Test
-    public void register_tooManyRequestsFromIp_throwExc() {
-        var tooManyRequestsException = new TooManyRequestsException("Too many register attempts from this IP");
-        when(userRepository.existsByLogin(registerRequest.getLogin().toLowerCase())).thenReturn(false);
-        doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateKey("register", "test-ip"),
-                10,
-                Duration.ofHours(1),
-                "Too many register attempts from this IP"
-        );
+    public void register_tooManyRequests_throwExc() {
+        var tooManyRequestsException = new TooManyRequestsException("Too many register attempts. Try again in a minute");
+        doThrow(tooManyRequestsException).when(rateLimiterService).validateAll(List.of(
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateKey("register", "test-ip"),
+                        10,
+                        Duration.ofHours(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many register attempts from this IP"
+                ),
+                new LimitSpec(
+                        RateLimiterKeyUtil.generateKey("register", RateLimiterKeyUtil.hashLogin(registerRequest.getLogin().toLowerCase())),
+                        5,
+                        Duration.ofMinutes(1),
+                        RateLimiterAlgorithm.SLIDING_WINDOW_COUNTER,
+                        "Too many register attempts. Try again in a minute"
+                )
+        ));
 
         var result = assertThrows(TooManyRequestsException.class, () -> registerService.register(registerRequest, null, "test-ip"));
         assertEquals(tooManyRequestsException.getMessage(), result.getMessage());
 
-        verifyNoInteractions(emailVerificationService);
+        verifyNoInteractions(emailVerificationService, userRepository);
     }
 
     @Test
@@ -176,6 +192,8 @@ class RegisterServiceImplTest {
                 .role(Role.ROLE_USER)
                 .build();
         when(emailVerificationService.validateVerificationCode(confirmCodeRequest)).thenReturn(registerRequest);
+        registerRequest.setAvatarToken("avatar-token");
+        when(avatarService.commitStaged("avatar-token")).thenReturn("avatar-id");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
         when(jwtService.generateAccessToken(savedUser)).thenReturn(TestUtil.ACCESS_TOKEN);
         when(jwtService.generateRefreshToken(savedUser)).thenReturn(TestUtil.REFRESH_TOKEN);
@@ -193,19 +211,32 @@ class RegisterServiceImplTest {
                         .lastname(registerRequest.getLastname())
                         .login(registerRequest.getLogin())
                         .password(registerRequest.getPassword())
-                        .avatar(registerRequest.getAvatar())
+                        .avatarId("avatar-id")
                         .role(Role.ROLE_USER)
                         .authProvider(AuthProvider.LOCAL)
                         .build());
     }
 
+    @Test
+    public void confirmCode_loginTakenMeanwhile_throwExc() {
+        when(emailVerificationService.validateVerificationCode(confirmCodeRequest)).thenReturn(registerRequest);
+        when(userRepository.existsByLogin(registerRequest.getLogin())).thenReturn(true);
+
+        var userAlreadyExistsException = assertThrows(UserAlreadyExistsException.class, () -> registerService.confirmCode(confirmCodeRequest));
+        assertEquals("User with login: " + registerRequest.getLogin() + " already exists", userAlreadyExistsException.getMessage());
+
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(avatarService);
+    }
+
     @Test
     public void confirmCode_tooManyRequests_throwExc() {
         var tooManyRequestsException = new TooManyRequestsException("Too many incorrect code attempts. Try again in a minute");
         doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateKey("confirmCode", confirmCodeRequest.getLogin()),
+                RateLimiterKeyUtil.generateKey("confirmCode", RateLimiterKeyUtil.hashLogin(confirmCodeRequest.getLogin())),
                 5,
                 Duration.ofMinutes(1),
+                RateLimiterAlgorithm.SLIDING_LOG,
                 "Too many incorrect code attempts. Try again in a minute"
         );
 
@@ -229,7 +260,7 @@ class RegisterServiceImplTest {
     public void resendCode_tooManyRequests_throwExc() {
         var tooManyRequestsException = new TooManyRequestsException("Too many resend code attempts. Try again in a minute");
         doThrow(tooManyRequestsException).when(rateLimiterService).validateOrThrow(
-                RateLimiterKeyUtil.generateKey("resendCode", resendCodeRequest.getLogin()),
+                RateLimiterKeyUtil.generateKey("resendCode", RateLimiterKeyUtil.hashLogin(resendCodeRequest.getLogin())),
                 5,
                 Duration.ofMinutes(1),
                 "Too many resend code attempts. Try again in a minute"
@@ -0,0 +1,63 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimePartitionedBloomFilterTest {
+
+    private static final long WINDOW = 1000L;
+    private static final long NOW = 10_000L;
+
+    private TimePartitionedBloomFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        filter = new TimePartitionedBloomFilter(WINDOW, 1000, 0.01, NOW);
+    }
+
+    @Test
+    public void mightContain_addedValues_returnTrue() {
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i, NOW));
+
+        assertTrue(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("token-" + i, NOW)));
+    }
+
+    @Test
+    public void mightContain_notAddedValues_rarelyReturnTrue() {
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i, NOW));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other-" + i, NOW))
+                .count();
+
+        assertTrue(falsePositives < 300, "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    public void mightContain_nextWindow_keepsValue() {
+        filter.put("token", NOW);
+
+        assertTrue(filter.mightContain("token", NOW + WINDOW));
+    }
+
+    @Test
+    public void mightContain_afterTwoWindows_dropsValue() {
+        filter.put("token", NOW);
+
+        filter.put("other", NOW + WINDOW);
+
+        assertFalse(filter.mightContain("token", NOW + 2 * WINDOW));
+        assertTrue(filter.mightContain("other", NOW + 2 * WINDOW));
+    }
+
+    @Test
+    public void mightContain_gapLongerThanWindow_dropsAll() {
+        filter.put("token", NOW);
+
+        assertFalse(filter.mightContain("token", NOW + 3 * WINDOW));
+    }
+}
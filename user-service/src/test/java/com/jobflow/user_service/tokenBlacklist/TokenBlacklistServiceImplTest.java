@@ -0,0 +1,122 @@
+package com.jobflow.user_service.tokenBlacklist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistServiceImplTest {
+
+    private static final String TOKEN_ID = "test-token-id";
+    private static final String BLACKLIST_KEY = "blacklist:refresh:" + TOKEN_ID;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenBlacklistServiceImpl tokenBlacklistService;
+
+    @BeforeEach
+    public void setup() {
+        TokenBlacklistProperties properties = new TokenBlacklistProperties();
+        properties.setExpectedInsertions(1000);
+        properties.setFalsePositiveRate(0.01);
+
+        tokenBlacklistService = new TokenBlacklistServiceImpl(redisTemplate, properties, 60_000L);
+    }
+
+    @Test
+    public void revoke_saveInRedisAndPublish() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        tokenBlacklistService.revoke(TOKEN_ID, 60L);
+
+        verify(valueOperations, times(1)).set(BLACKLIST_KEY, "true", 60L, TimeUnit.SECONDS);
+        verify(redisTemplate, times(1)).convertAndSend(TokenBlacklistConfig.TOKEN_REVOKED_CHANNEL, TOKEN_ID);
+    }
+
+    @Test
+    public void revoke_publishFailed_doNotThrow() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doThrow(new RuntimeException("Connection refused")).when(redisTemplate).convertAndSend(any(), any());
+
+        assertDoesNotThrow(() -> tokenBlacklistService.revoke(TOKEN_ID, 60L));
+    }
+
+    @Test
+    public void isRevoked_notLoaded_checkRedis() {
+        when(redisTemplate.hasKey(BLACKLIST_KEY)).thenReturn(true);
+
+        assertTrue(tokenBlacklistService.isRevoked(TOKEN_ID));
+
+        verify(redisTemplate, times(1)).hasKey(BLACKLIST_KEY);
+    }
+
+    @Test
+    public void isRevoked_loadedAndNotInFilter_skipRedis() {
+        mockScan();
+        tokenBlacklistService.resync();
+
+        assertFalse(tokenBlacklistService.isRevoked(TOKEN_ID));
+
+        verify(redisTemplate, never()).hasKey(any());
+    }
+
+    @Test
+    public void isRevoked_loadedAndInFilter_confirmInRedis() {
+        mockScan("blacklist:refresh:other-token-id", BLACKLIST_KEY);
+        when(redisTemplate.hasKey(BLACKLIST_KEY)).thenReturn(true);
+        tokenBlacklistService.resync();
+
+        assertTrue(tokenBlacklistService.isRevoked(TOKEN_ID));
+
+        verify(redisTemplate, times(1)).hasKey(BLACKLIST_KEY);
+    }
+
+    @Test
+    public void isRevoked_inFilterButExpiredInRedis_returnFalse() {
+        mockScan();
+        when(redisTemplate.hasKey(BLACKLIST_KEY)).thenReturn(false);
+        tokenBlacklistService.resync();
+        tokenBlacklistService.addToFilter(TOKEN_ID);
+
+        assertFalse(tokenBlacklistService.isRevoked(TOKEN_ID));
+    }
+
+    @Test
+    public void resync_redisFailed_keepCheckingRedis() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RuntimeException("Connection refused"));
+        when(redisTemplate.hasKey(BLACKLIST_KEY)).thenReturn(false);
+
+        tokenBlacklistService.resync();
+
+        assertFalse(tokenBlacklistService.isRevoked(TOKEN_ID));
+        verify(redisTemplate, times(1)).hasKey(BLACKLIST_KEY);
+    }
+
+    private void mockScan(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        lenient().when(cursor.next()).thenAnswer(invocation -> iterator.next());
+    }
+}
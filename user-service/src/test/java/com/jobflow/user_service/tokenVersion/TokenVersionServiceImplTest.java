@@ -0,0 +1,117 @@
+package com.jobflow.user_service.tokenVersion;
+
+import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.exception.UserNotFoundException;
+import com.jobflow.user_service.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceImplTest {
+
+    private static final Long USER_ID = Long.valueOf(TestUtil.USER_ID);
+    private static final String TOKEN_VERSION_KEY = "token_version:" + USER_ID;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @BeforeEach
+    public void setup() {
+        tokenVersionService = new TokenVersionServiceImpl(redisTemplate, userRepository, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    public void getVersion_repeatedCall_readRedisOnce() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(TOKEN_VERSION_KEY)).thenReturn("2");
+
+        assertEquals(2L, tokenVersionService.getVersion(USER_ID));
+        assertEquals(2L, tokenVersionService.getVersion(USER_ID));
+
+        verify(valueOperations, times(1)).get(TOKEN_VERSION_KEY);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void getVersion_notInRedis_loadFromDbAndRestoreKey() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(TOKEN_VERSION_KEY)).thenReturn(null);
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, tokenVersionService.getVersion(USER_ID));
+
+        verify(valueOperations, times(1)).setIfAbsent(TOKEN_VERSION_KEY, "3");
+    }
+
+    @Test
+    public void getVersion_neverIncremented_doNotCreateKey() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(TOKEN_VERSION_KEY)).thenReturn(null);
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(0L));
+
+        assertEquals(0L, tokenVersionService.getVersion(USER_ID));
+
+        verify(valueOperations, never()).setIfAbsent(any(), any());
+    }
+
+    @Test
+    public void getVersion_redisFailed_loadFromDb() {
+        when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Connection refused"));
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(1L));
+
+        assertEquals(1L, tokenVersionService.getVersion(USER_ID));
+    }
+
+    @Test
+    public void increment_saveInRedisAndPublish() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(userRepository.incrementTokenVersion(USER_ID)).thenReturn(1);
+        when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(4L));
+
+        long result = tokenVersionService.increment(USER_ID);
+
+        assertEquals(4L, result);
+        assertEquals(4L, tokenVersionService.getVersion(USER_ID));
+        verify(valueOperations, times(1)).set(TOKEN_VERSION_KEY, "4");
+        verify(redisTemplate, times(1)).convertAndSend(TokenVersionConfig.TOKEN_VERSION_CHANNEL, USER_ID + ":4");
+    }
+
+    @Test
+    public void increment_userNotFound_throwExc() {
+        when(userRepository.incrementTokenVersion(USER_ID)).thenReturn(0);
+
+        var userNotFoundException = assertThrows(UserNotFoundException.class, () -> tokenVersionService.increment(USER_ID));
+        assertEquals("User with id: " + USER_ID + " not found", userNotFoundException.getMessage());
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    public void update_olderVersion_keepNewer() {
+        tokenVersionService.update(USER_ID, 5L);
+        tokenVersionService.update(USER_ID, 3L);
+
+        assertEquals(5L, tokenVersionService.getVersion(USER_ID));
+        verifyNoInteractions(redisTemplate, userRepository);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobflow.user_service.user;
+
+import com.jobflow.user_service.TestUtil;
+import com.jobflow.user_service.exception.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final Long USER_ID = Long.valueOf(TestUtil.USER_ID);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache userPrincipalCache;
+
+    private UserPrincipal userPrincipal;
+
+    @BeforeEach
+    public void setup() {
+        userPrincipalCache = new UserPrincipalCache(userRepository, Duration.ofMinutes(1), 100);
+        userPrincipal = TestUtil.createUserPrincipal();
+    }
+
+    @Test
+    public void getPrincipal_repeatedCall_loadOnce() {
+        when(userRepository.findPrincipalById(USER_ID)).thenReturn(Optional.of(userPrincipal));
+
+        UserPrincipal first = userPrincipalCache.getPrincipal(USER_ID);
+        UserPrincipal second = userPrincipalCache.getPrincipal(USER_ID);
+
+        assertSame(userPrincipal, first);
+        assertSame(userPrincipal, second);
+        verify(userRepository, times(1)).findPrincipalById(USER_ID);
+    }
+
+    @Test
+    public void getPrincipal_expiredEntry_reload() {
+        userPrincipalCache = new UserPrincipalCache(userRepository, Duration.ZERO, 100);
+        when(userRepository.findPrincipalById(USER_ID)).thenReturn(Optional.of(userPrincipal));
+
+        userPrincipalCache.getPrincipal(USER_ID);
+        userPrincipalCache.getPrincipal(USER_ID);
+
+        verify(userRepository, times(2)).findPrincipalById(USER_ID);
+    }
+
+    @Test
+    public void getPrincipal_afterEvict_reload() {
+        when(userRepository.findPrincipalById(USER_ID)).thenReturn(Optional.of(userPrincipal));
+
+        userPrincipalCache.getPrincipal(USER_ID);
+        userPrincipalCache.evict(USER_ID);
+        userPrincipalCache.getPrincipal(USER_ID);
+
+        verify(userRepository, times(2)).findPrincipalById(USER_ID);
+    }
+
+    @Test
+    public void getPrincipal_cacheIsFull_doNotCache() {
+        userPrincipalCache = new UserPrincipalCache(userRepository, Duration.ofMinutes(1), 0);
+        when(userRepository.findPrincipalById(USER_ID)).thenReturn(Optional.of(userPrincipal));
+
+        userPrincipalCache.getPrincipal(USER_ID);
+        userPrincipalCache.getPrincipal(USER_ID);
+
+        verify(userRepository, times(2)).findPrincipalById(USER_ID);
+    }
+
+    @Test
+    public void getPrincipal_userNotFound_throwExc() {
+        when(userRepository.findPrincipalById(USER_ID)).thenReturn(Optional.empty());
+
+        var userNotFoundException = assertThrows(UserNotFoundException.class, () -> userPrincipalCache.getPrincipal(USER_ID));
+        assertEquals("User with id: 1 not found", userNotFoundException.getMessage());
+    }
+}
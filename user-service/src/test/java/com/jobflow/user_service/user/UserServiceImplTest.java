@@ -51,12 +51,13 @@ class UserServiceImplTest {
     public void getCurrentUser_returnCurrentUser() {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getPrincipal()).thenReturn(user);
+        UserPrincipal principal = TestUtil.createUserPrincipal();
+        when(authentication.getPrincipal()).thenReturn(principal);
 
-        User result = userService.getCurrentUser();
+        UserPrincipal result = userService.getCurrentUser();
 
         assertNotNull(result);
-        assertEquals(user, result);
+        assertEquals(principal, result);
 
         verify(authentication, times(1)).isAuthenticated();
         verify(authentication, times(1)).getPrincipal();